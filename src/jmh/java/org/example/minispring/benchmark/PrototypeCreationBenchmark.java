@@ -0,0 +1,92 @@
+package org.example.minispring.benchmark;
+
+import org.example.minispring.annotation.Autowired;
+import org.example.minispring.annotation.PostConstruct;
+import org.example.minispring.bean.BeanDefinition;
+import org.example.minispring.container.SimpleBeanFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * prototype 빈 생성 비용 측정
+ *
+ * 비교 대상:
+ *   - manualNew: 생성자 호출 + 필드 대입 + 초기화 메서드를 직접 작성한 코드 (하한선)
+ *   - prototypeGetBean: 컨테이너의 getBean() (컴파일된 생성 계획 사용)
+ *   - singletonGetBean: 캐시 조회만 하는 경우 (참고용)
+ *
+ * 실행: gradle jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PrototypeCreationBenchmark {
+
+    private SimpleBeanFactory beanFactory;
+    private Repository repository;
+    private Clock clock;
+
+    @Setup
+    public void setUp() {
+        // 스캐너는 디렉터리 기반이라 JMH jar에서는 동작하지 않으므로 정의를 직접 등록
+        beanFactory = new SimpleBeanFactory();
+        beanFactory.registerBeanDefinition(new BeanDefinition("repository", Repository.class));
+        beanFactory.registerBeanDefinition(new BeanDefinition("clock", Clock.class));
+        beanFactory.registerBeanDefinition(
+            new BeanDefinition("command", Command.class, BeanDefinition.SCOPE_PROTOTYPE)
+        );
+
+        repository = (Repository) beanFactory.getBean("repository");
+        clock = (Clock) beanFactory.getBean("clock");
+        beanFactory.getBean("command");  // 생성 계획 컴파일
+    }
+
+    @Benchmark
+    public Object manualNew() {
+        Command command = new Command(repository);
+        command.clock = clock;
+        command.init();
+        return command;
+    }
+
+    @Benchmark
+    public Object prototypeGetBean() {
+        return beanFactory.getBean("command");
+    }
+
+    @Benchmark
+    public Object singletonGetBean() {
+        return beanFactory.getBean("repository");
+    }
+
+    public static class Repository {
+    }
+
+    public static class Clock {
+    }
+
+    public static class Command {
+        private final Repository repository;
+
+        @Autowired
+        Clock clock;
+
+        private boolean initialized;
+
+        public Command(Repository repository) {
+            this.repository = repository;
+        }
+
+        @PostConstruct
+        public void init() {
+            initialized = true;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package org.example.minispring.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 스냅숏에서 복원된 빈에 대해 호출되는 메서드를 나타내는 어노테이션
+ *
+ * 특징:
+ *   - 복원 시에는 생성자 / 의존성 주입 / @PostConstruct가 실행되지 않고 이 메서드만 호출됨
+ *   - transient 자원(커넥션, 스레드, 시계 등)을 다시 준비하는 용도
+ *   - 파라미터가 없는 인스턴스 메서드, 부모 클래스의 콜백부터 호출 (@PostConstruct와 같은 규칙)
+ *   - 스냅숏 없이 일반 refresh로 시작한 경우에는 호출되지 않음
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface AfterRestore {
+}
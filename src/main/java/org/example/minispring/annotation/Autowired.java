@@ -5,7 +5,18 @@ import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
-@Target(ElementType.CONSTRUCTOR)
+/**
+ * 의존성 주입 지점을 나타내는 어노테이션
+ *
+ * 적용 대상:
+ *   - 생성자: 여러 생성자 중 주입에 사용할 생성자 지정
+ *   - 필드: 인스턴스 생성 후 필드에 직접 주입 (final 필드 불가)
+ *   - 메서드: 인스턴스 생성 후 세터/설정 메서드 호출 (파라미터 모두 주입)
+ *
+ * 주입 순서:
+ *   생성자 → 필드 → 메서드 → @PostConstruct
+ */
+@Target({ElementType.CONSTRUCTOR, ElementType.FIELD, ElementType.METHOD})
 @Retention(RetentionPolicy.RUNTIME)
 public @interface Autowired {
 }
@@ -0,0 +1,27 @@
+package org.example.minispring.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 지정한 클래스가 모두 클래스패스에 있을 때만 빈을 등록하는 어노테이션
+ *
+ * 클래스는 이름(문자열)으로 지정 → 없는 클래스를 참조해도 어노테이션 자체는 안전하게 읽힘
+ * 존재 여부는 클래스 로더의 리소스 조회로 확인 (대상 클래스를 로드하지 않음)
+ *
+ * 사용 예시:
+ *   @Component
+ *   @ConditionalOnClass("com.fasterxml.jackson.databind.ObjectMapper")
+ *   public class JsonMessageConverter { ... }
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ConditionalOnClass {
+
+    /**
+     * 필요한 클래스의 전체 이름
+     */
+    String[] value();
+}
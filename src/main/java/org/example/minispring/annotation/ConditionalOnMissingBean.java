@@ -0,0 +1,32 @@
+package org.example.minispring.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 같은 타입의 빈이 없을 때만 등록하는 어노테이션 (기본 구현 제공용)
+ *
+ * 규칙:
+ *   - value가 비어 있으면 빈 자신의 타입 (클래스 / @Bean 메서드의 반환 타입)
+ *   - 나열한 타입 중 하나라도 할당 가능한 빈이 이미 있으면 등록하지 않음
+ *
+ * 판단 시점:
+ *   - 컴포넌트: 조건 없는 컴포넌트를 모두 찾은 뒤, 클래스 이름순으로
+ *   - @Bean 메서드: 컴포넌트와 조건 없는 @Bean 메서드를 모두 등록한 뒤, 빈 이름순으로
+ *
+ * 사용 예시:
+ *   @Component
+ *   @ConditionalOnMissingBean(Clock.class)
+ *   public class SystemClock implements Clock { ... }
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ConditionalOnMissingBean {
+
+    /**
+     * 확인할 빈 타입 (비어 있으면 빈 자신의 타입)
+     */
+    Class<?>[] value() default {};
+}
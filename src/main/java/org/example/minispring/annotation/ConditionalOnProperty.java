@@ -0,0 +1,41 @@
+package org.example.minispring.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 프로퍼티 값에 따라 빈을 등록하는 어노테이션
+ *
+ * 프로퍼티 조회 순서: ContextOptions.property(...) → 시스템 프로퍼티
+ *
+ * 규칙:
+ *   - havingValue가 비어 있으면 값이 "false"가 아닐 때 일치
+ *   - havingValue가 있으면 값이 같을 때 일치 (대소문자 무시)
+ *   - 프로퍼티가 없으면 matchIfMissing 값을 따름
+ *
+ * 사용 예시:
+ *   @Service
+ *   @ConditionalOnProperty(name = "billing.audit.enabled", havingValue = "true")
+ *   public class BillingAuditor { ... }
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ConditionalOnProperty {
+
+    /**
+     * 프로퍼티 이름
+     */
+    String name();
+
+    /**
+     * 일치해야 하는 값 (비어 있으면 "false"가 아닌 모든 값)
+     */
+    String havingValue() default "";
+
+    /**
+     * 프로퍼티가 없을 때 일치로 볼지 여부
+     */
+    boolean matchIfMissing() default false;
+}
@@ -24,9 +24,22 @@ import java.lang.annotation.Target;
  * 특징:
  * - @Component를 포함하므로 자동으로 빈으로 등록됨
  * - @Bean 메서드들을 스캔하여 반환값을 빈으로 등록
+ * <p>
+ * Full 모드 / Lite 모드:
+ * - proxyBeanMethods = true (기본값, Full 모드)
+ *   설정 클래스를 상속한 서브클래스로 생성하여 @Bean 메서드끼리의 호출도
+ *   컨테이너의 싱글톤을 반환
+ * - proxyBeanMethods = false (Lite 모드)
+ *   서브클래스 생성을 생략하여 시작 속도를 높임
+ *   (@Bean 메서드를 직접 호출하면 새 인스턴스가 만들어지므로 파라미터 주입을 사용할 것)
  */
 @Target(ElementType.TYPE)
 @Retention(RetentionPolicy.RUNTIME)
 @Component
 public @interface Configuration {
+
+    /**
+     * @Bean 메서드 간 호출을 컨테이너로 라우팅할지 여부
+     */
+    boolean proxyBeanMethods() default true;
 }
@@ -0,0 +1,34 @@
+package org.example.minispring.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * evictable 스코프 빈의 보관 방식 설정
+ *
+ * @Scope("evictable")와 함께 사용 (생략하면 SoftReference 방식)
+ *
+ * 보관 방식:
+ *   - sizeBytes = 0 (기본값): SoftReference로 보관
+ *     → 메모리가 부족하면 GC가 회수, 다음 조회 시 재생성
+ *     → GC가 회수한 인스턴스는 이미 사라졌으므로 @PreDestroy 호출 불가
+ *   - sizeBytes > 0: 컨테이너의 바이트 예산(EvictableScope.setBudgetBytes) 안에서 보관
+ *     → 예산을 넘으면 가장 오래 사용하지 않은 빈부터 @PreDestroy 후 제거 (LRU)
+ *
+ * 사용 예시:
+ *   @Component
+ *   @Scope("evictable")
+ *   @Evictable(sizeBytes = 64 * 1024 * 1024)
+ *   public class ZipCodeTable { ... }
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Evictable {
+
+    /**
+     * 인스턴스 하나의 추정 크기 (0이면 SoftReference 방식)
+     */
+    long sizeBytes() default 0;
+}
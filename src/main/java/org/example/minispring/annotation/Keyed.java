@@ -0,0 +1,34 @@
+package org.example.minispring.annotation;
+
+import org.example.minispring.scope.ScopeKeyResolver;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * keyed 스코프 빈의 설정
+ *
+ * @Scope("keyed")와 함께 사용 (생략하면 기본값)
+ *
+ * 사용 예시:
+ *   @Component
+ *   @Scope("keyed")
+ *   @Keyed(resolver = TenantKeyResolver.class, maxSize = 500)
+ *   public class TenantRateLimiter { ... }
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Keyed {
+
+    /**
+     * 키를 제공할 리졸버 빈의 타입 (기본값: 유일한 ScopeKeyResolver 빈)
+     */
+    Class<? extends ScopeKeyResolver> resolver() default ScopeKeyResolver.class;
+
+    /**
+     * 동시에 유지할 최대 키 개수 (초과 시 가장 오래 사용하지 않은 키의 인스턴스를 @PreDestroy 후 제거)
+     */
+    int maxSize() default 256;
+}
@@ -0,0 +1,43 @@
+package org.example.minispring.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 의존성을 실제로 사용할 때까지 생성을 미루는 어노테이션
+ *
+ * 적용 위치:
+ *   - 클래스 / @Bean 메서드: 이 빈을 주입받는 모든 곳에 지연 프록시 주입
+ *   - 생성자 / @Autowired 메서드: 모든 파라미터를 지연 프록시로 주입
+ *   - 생성자 파라미터 / @Autowired 필드 / 메서드 파라미터: 해당 주입 지점만 지연 프록시로 주입
+ *
+ * 지연 프록시:
+ *   - 주입 시점에는 대상 빈을 만들지 않음 (의존성의 의존성도 해결하지 않음)
+ *   - 첫 메서드 호출 때 대상 빈을 조회/생성한 뒤 참조를 캐싱
+ *   - 이후 호출은 캐싱된 참조로 바로 위임 (빈 조회 없음)
+ *   → 가끔만 쓰는 무거운 의존성은 실제로 쓰일 때 비용을 지불
+ *   → 생성자 순환 참조도 한쪽을 @Lazy로 지정하면 해결됨
+ *
+ * 사용 예시:
+ *   @Controller
+ *   public class ReportController {
+ *       public ReportController(@Lazy PdfRenderer renderer) { ... }
+ *   }
+ *
+ * 제약:
+ *   - 프록시는 주입 지점의 타입으로 생성되므로 final 클래스에는 사용할 수 없음
+ *   - getBean()으로 직접 조회하면 프록시가 아닌 실제 인스턴스를 반환
+ *   - thread / task 등 스코프 프록시로 주입되는 빈은 이미 지연 조회되므로 영향 없음
+ */
+@Target({ElementType.TYPE, ElementType.METHOD, ElementType.CONSTRUCTOR,
+         ElementType.PARAMETER, ElementType.FIELD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Lazy {
+
+    /**
+     * 지연 주입 여부 (false면 클래스 수준 @Lazy를 주입 지점에서 해제)
+     */
+    boolean value() default true;
+}
@@ -0,0 +1,28 @@
+package org.example.minispring.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 같은 타입의 빈이 여러 개일 때 순서를 지정하는 어노테이션
+ *
+ * 사용처:
+ *   - ObjectProvider.orderedStream(): 값이 작은 빈부터 반환
+ *   - @Order가 없는 빈은 가장 뒤 (Integer.MAX_VALUE와 같음)
+ *
+ * 사용 예시:
+ *   @Component
+ *   @Order(1)
+ *   public class AuthFilter implements RequestFilter { ... }
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Order {
+
+    /**
+     * 순서 값 (작을수록 먼저)
+     */
+    int value();
+}
@@ -0,0 +1,51 @@
+package org.example.minispring.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * pooled 스코프 빈의 풀 설정
+ *
+ * @Scope("pooled")와 함께 사용 (생략하면 기본값으로 풀 생성)
+ *
+ * 사용 예시:
+ *   @Component
+ *   @Scope("pooled")
+ *   @Pooled(maxSize = 4, maxWaitMillis = 500, validate = "isReusable")
+ *   public class JsonParser {
+ *       boolean isReusable() { ... }
+ *   }
+ *
+ *   try (PooledBean<JsonParser> parser = context.getBeanPool(JsonParser.class).borrow()) {
+ *       parser.get().parse(text);
+ *   }
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Pooled {
+
+    /**
+     * 동시에 존재할 수 있는 최대 인스턴스 수
+     */
+    int maxSize() default 8;
+
+    /**
+     * 풀이 가득 찼을 때 반납을 기다리는 최대 시간 (초과 시 BeanPoolExhaustedException)
+     */
+    long maxWaitMillis() default 1000;
+
+    /**
+     * 유휴 인스턴스를 유지하는 최대 시간 (초과 시 @PreDestroy 후 제거, 0이면 제거하지 않음)
+     */
+    long maxIdleMillis() default 60_000;
+
+    /**
+     * 유휴 인스턴스를 다시 빌려주기 전에 호출할 검증 메서드 이름 (파라미터 없음, boolean 반환)
+     *
+     * false를 반환하거나 예외가 나면 @PreDestroy 후 폐기하고 다른 인스턴스를 빌려줌
+     * (예: 연결이 끊긴 클라이언트, 내부 버퍼가 깨진 코덱) / 비어 있으면 검증하지 않음
+     */
+    String validate() default "";
+}
@@ -28,6 +28,8 @@ import java.lang.annotation.Target;
  *   - 메서드 레벨 어노테이션
  *   - 파라미터가 없어야 함
  *   - void 반환 타입
+ *     (CompletionStage를 반환하면 비동기 초기화 - future가 완료되어야 빈이 준비된 것으로 봄,
+ *      singleton은 getBean()이 완료를 기다리고 getBeanAsync()는 기다리지 않고 조합 가능)
  *   - 빈당 한 번만 호출됨
  *   - 생성자 → 의존성 주입 → @PostConstruct 순서로 실행
  */
@@ -0,0 +1,36 @@
+package org.example.minispring.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 지정한 프로파일이 활성화된 경우에만 빈을 등록하는 어노테이션
+ *
+ * 활성 프로파일:
+ *   - ContextOptions.activeProfiles(...)
+ *   - 없으면 시스템 프로퍼티 "minispring.profiles.active" (쉼표로 구분)
+ *   - 둘 다 없으면 "default" 프로파일만 활성
+ *
+ * 규칙:
+ *   - 나열한 프로파일 중 하나라도 활성이면 등록
+ *   - "!이름"은 해당 프로파일이 활성이 아닐 때 일치
+ *
+ * 클래스에 붙이면 클래스 파일 메타데이터로 판단 → 조건이 맞지 않으면 클래스를 로드하지 않음
+ * (@Bean 메서드에도 사용 가능)
+ *
+ * 사용 예시:
+ *   @Repository
+ *   @Profile("dev")
+ *   public class InMemoryOrderRepository implements OrderRepository { ... }
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Profile {
+
+    /**
+     * 프로파일 이름 ("!"로 시작하면 부정)
+     */
+    String[] value();
+}
@@ -0,0 +1,47 @@
+package org.example.minispring.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 빈의 스코프(인스턴스 생성/공유 범위)를 지정하는 어노테이션
+ *
+ * 지원 스코프:
+ *   - "singleton" (기본값): 컨테이너당 인스턴스 1개, 최초 조회 시 생성 후 캐싱
+ *   - "prototype": getBean() / 의존성 주입마다 새 인스턴스 생성
+ *   - "pooled": getBeanPool()로 빌려 쓰고 반납 (설정은 @Pooled)
+ *   - "thread": 스레드마다 인스턴스 1개 (ThreadScope.end() 시 @PreDestroy)
+ *   - "task": TaskScope.run()/call()로 감싼 작업마다 인스턴스 1개 (작업 종료 시 @PreDestroy)
+ *   - "striped": 인스턴스 N개를 스레드 해시로 나눠 씀, 읽기는 getStripedBeans()로 결합 (설정은 @Striped)
+ *   - "evictable": 메모리 압박 / 바이트 예산 초과 시 내려놓고 다음 조회에서 재생성 (설정은 @Evictable)
+ *   - "keyed": ScopeKeyResolver가 주는 키(테넌트 등)마다 인스턴스 1개, 개수 제한 + LRU 제거 (설정은 @Keyed)
+ *
+ * thread / task / striped / evictable / keyed 빈을 singleton에 주입하면 스코프 프록시가 주입됨
+ *   → 프록시 메서드 호출마다 현재 스레드/작업의 인스턴스로 위임
+ *
+ * 사용 예시:
+ *   @Component
+ *   @Scope("prototype")
+ *   public class PlaceOrderCommand {
+ *       public PlaceOrderCommand(OrderRepository repository) { ... }
+ *   }
+ *
+ *   @Bean
+ *   @Scope("prototype")
+ *   public Request request() { ... }
+ *
+ * 특징:
+ *   - prototype 빈은 @PostConstruct는 호출되지만 @PreDestroy는 호출되지 않음
+ *     (컨테이너가 생성 이후의 인스턴스를 추적하지 않음 - Spring과 동일)
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Scope {
+
+    /**
+     * 스코프 이름 ("singleton", "prototype", "pooled", "thread", "task", "striped", "evictable", "keyed")
+     */
+    String value() default "singleton";
+}
@@ -0,0 +1,35 @@
+package org.example.minispring.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 초기화가 끝난 상태를 그대로 스냅숏 파일에 저장했다가 복원해도 되는 빈을 나타내는 어노테이션
+ *
+ * 용도:
+ *   - 짧게 실행되는 배치 JVM이 매번 같은 컨텍스트를 만드는 비용 제거
+ *   - ContextOptions.snapshot(파일)을 사용하면 다음 실행에서 생성자 / 주입 / @PostConstruct 없이 복원
+ *
+ * 요구 사항:
+ *   - 클래스가 java.io.Serializable을 구현해야 함
+ *   - 직렬화되는 필드가 참조하는 빈도 @SnapshotSafe여야 함
+ *     (같은 스냅숏 안에서는 참조 관계가 그대로 복원되지만, 대상이 아닌 빈은 별도 복사본이 됨)
+ *   - 파일 핸들, 소켓, 스레드 같은 자원은 transient로 두고 @AfterRestore에서 다시 연결
+ *
+ * 사용 예시:
+ *   @Component
+ *   @SnapshotSafe
+ *   public class TariffTable implements Serializable {
+ *       private final Map<String, BigDecimal> rates;   // @PostConstruct에서 무겁게 계산한 결과
+ *       private transient Clock clock;
+ *
+ *       @AfterRestore
+ *       void reconnect() { clock = Clock.systemUTC(); }
+ *   }
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface SnapshotSafe {
+}
@@ -0,0 +1,34 @@
+package org.example.minispring.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * striped 스코프 빈의 스트라이프 설정
+ *
+ * @Scope("striped")와 함께 사용 (생략하면 기본값)
+ *
+ * 사용 예시:
+ *   @Component
+ *   @Scope("striped")
+ *   @Striped(stripes = 16)
+ *   public class HitCounter {
+ *       private long hits;
+ *       public void hit() { hits++; }      // 스트라이프 하나는 사실상 한 코어만 씀
+ *       public long getHits() { return hits; }
+ *   }
+ *
+ *   long total = context.getStripedBeans(HitCounter.class)
+ *       .reduce(0L, (sum, counter) -> sum + counter.getHits());
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Striped {
+
+    /**
+     * 스트라이프(인스턴스) 개수 (0이면 Runtime.availableProcessors())
+     */
+    int stripes() default 0;
+}
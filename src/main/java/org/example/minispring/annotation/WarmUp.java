@@ -0,0 +1,42 @@
+package org.example.minispring.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 컨텍스트 준비 완료 전에 반복 호출해 JIT 컴파일을 유도할 메서드를 나타내는 어노테이션
+ *
+ * 문제:
+ *   - 배포 직후 첫 요청들은 인터프리터 / C1 컴파일 코드로 실행되어 지연 시간이 큼
+ *
+ * 해결:
+ *   - refresh()가 반환되기 전에 핫 경로를 iterations번 호출
+ *     → C2 컴파일 임계값을 넘겨 첫 요청부터 최적화된 코드로 실행
+ *
+ * 사용 예시:
+ *   @Service
+ *   public class PriceCalculator {
+ *       @WarmUp(iterations = 20_000)
+ *       void warmUp() {
+ *           calculate(SAMPLE_ORDER);   // 부수 효과 없는 대표 입력으로 핫 경로 실행
+ *       }
+ *   }
+ *
+ * 특징:
+ *   - 파라미터가 없는 인스턴스 메서드 (반환값은 무시)
+ *   - @Lazy가 아닌 singleton 빈에만 적용 (필요하면 빈을 먼저 생성)
+ *   - 빈끼리는 병렬, 한 빈 안의 여러 메서드는 차례로 실행
+ *   - 전체 시간 예산(ContextOptions.warmUpBudget)을 넘기면 남은 반복을 중단
+ *   - 실패해도 시작은 계속됨 (시작 리포트에 기록)
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface WarmUp {
+
+    /**
+     * @return 반복 호출 횟수 (기본값: 10,000 - HotSpot C2 컴파일 임계값 수준)
+     */
+    int iterations() default 10_000;
+}
@@ -4,12 +4,21 @@ package org.example.minispring.bean;
  * 빈의 메타데이터를 담는 불변 객체
  * <p>
  * 역할:
- * - 빈의 정의 정보(이름, 타입)를 보관
+ * - 빈의 정의 정보(이름, 타입, 스코프)를 보관
  * - 실제 빈 인스턴스와 분리된 설계 (메타데이터 vs 실제 객체)
  *
  */
 public class BeanDefinition {
 
+    public static final String SCOPE_SINGLETON = "singleton";
+    public static final String SCOPE_PROTOTYPE = "prototype";
+    public static final String SCOPE_POOLED = "pooled";
+    public static final String SCOPE_THREAD = "thread";
+    public static final String SCOPE_TASK = "task";
+    public static final String SCOPE_STRIPED = "striped";
+    public static final String SCOPE_EVICTABLE = "evictable";
+    public static final String SCOPE_KEYED = "keyed";
+
     // ================================================================
     // 빈의 고유 이름 (컨테이너 내에서 유일)
     // ================================================================
@@ -27,9 +36,37 @@ public class BeanDefinition {
     //   - 생성자 파라미터 타입 확인
     private final Class<?> beanClass;
 
+    // ================================================================
+    // 빈의 스코프
+    // ================================================================
+    // "singleton": 컨테이너가 인스턴스 1개를 캐싱
+    // "prototype": 조회할 때마다 새 인스턴스 생성
+    // "pooled": BeanPool에서 빌려 쓰고 반납
+    // "thread" / "task": 스레드 / 작업마다 인스턴스 1개 (다른 빈에는 스코프 프록시로 주입)
+    // "striped": 인스턴스 N개를 스레드 해시로 나눠 씀 (다른 빈에는 스코프 프록시로 주입)
+    // "evictable": 메모리 상황에 따라 내려놓고 다음 조회 시 재생성 (다른 빈에는 스코프 프록시로 주입)
+    // "keyed": 리졸버가 주는 키(테넌트 등)마다 인스턴스 1개 (다른 빈에는 스코프 프록시로 주입)
+    private final String scope;
+
+    // ================================================================
+    // 지연 주입 여부 (클래스 / @Bean 메서드의 @Lazy)
+    // ================================================================
+    // true: 이 빈을 주입받는 곳에는 첫 호출 때 생성하는 지연 프록시가 주입됨
+    private final boolean lazyInit;
+
     public BeanDefinition(String beanName, Class<?> beanClass) {
+        this(beanName, beanClass, SCOPE_SINGLETON);
+    }
+
+    public BeanDefinition(String beanName, Class<?> beanClass, String scope) {
+        this(beanName, beanClass, scope, false);
+    }
+
+    public BeanDefinition(String beanName, Class<?> beanClass, String scope, boolean lazyInit) {
         this.beanName = beanName;
         this.beanClass = beanClass;
+        this.scope = scope;
+        this.lazyInit = lazyInit;
     }
 
     public String getBeanName() {
@@ -39,4 +76,46 @@ public class BeanDefinition {
     public Class<?> getBeanClass() {
         return beanClass;
     }
+
+    public String getScope() {
+        return scope;
+    }
+
+    public boolean isLazyInit() {
+        return lazyInit;
+    }
+
+    public boolean isSingleton() {
+        return SCOPE_SINGLETON.equals(scope);
+    }
+
+    public boolean isPrototype() {
+        return SCOPE_PROTOTYPE.equals(scope);
+    }
+
+    public boolean isPooled() {
+        return SCOPE_POOLED.equals(scope);
+    }
+
+    public boolean isStriped() {
+        return SCOPE_STRIPED.equals(scope);
+    }
+
+    public boolean isEvictable() {
+        return SCOPE_EVICTABLE.equals(scope);
+    }
+
+    public boolean isKeyed() {
+        return SCOPE_KEYED.equals(scope);
+    }
+
+    /**
+     * @return 조회 시점마다 대상 인스턴스가 달라질 수 있는 스코프면 true
+     *         (thread, task, striped, evictable, keyed - 다른 빈에는 스코프 프록시로 주입)
+     */
+    public boolean requiresScopedProxy() {
+        return SCOPE_THREAD.equals(scope) || SCOPE_TASK.equals(scope)
+            || SCOPE_STRIPED.equals(scope) || SCOPE_EVICTABLE.equals(scope)
+            || SCOPE_KEYED.equals(scope);
+    }
 }
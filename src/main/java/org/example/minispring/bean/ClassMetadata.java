@@ -0,0 +1,192 @@
+package org.example.minispring.bean;
+
+import org.example.minispring.annotation.Bean;
+import org.example.minispring.annotation.WarmUp;
+import org.example.minispring.injector.ConstructorResolver;
+import org.example.minispring.injector.InjectionMetadata;
+import org.example.minispring.lifecycle.LifecycleMetadata;
+import org.example.minispring.proxy.ProxyObject;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 클래스 하나에 대한 리플렉션 결과를 모아 둔 캐시
+ *
+ * 문제:
+ *   - ConstructorResolver, BeanLifecycleManager, ConfigurationClassProcessor가
+ *     같은 클래스에 대해 getDeclaredConstructors() / getDeclaredMethods()를 각자 호출
+ *   - 호출할 때마다 리플렉션 배열이 복사됨 (빈 하나당 여러 번)
+ *
+ * 해결:
+ *   - 클래스당 ClassMetadata 하나를 만들어 모든 컴포넌트가 공유
+ *   - ClassValue에 저장 → 같은 JVM의 모든 컨텍스트가 공유하고,
+ *     클래스가 언로드되면 캐시 항목도 함께 수거됨 (Map<Class, ...>와 달리 누수 없음)
+ *
+ * 보관 정보:
+ *   - 선언된 어노테이션
+ *   - 주입에 사용할 생성자 (최초 사용 시 결정)
+ *   - @Autowired 필드/메서드 주입 메타데이터 (최초 사용 시 컴파일)
+ *   - @PostConstruct / @PreDestroy 콜백 메타데이터 (상속 계층 포함, 최초 사용 시 컴파일)
+ *   - @Bean 메서드 목록
+ *   - @WarmUp 메서드 목록
+ */
+public final class ClassMetadata {
+
+    private static final ConstructorResolver CONSTRUCTOR_RESOLVER = new ConstructorResolver();
+
+    private static final ClassValue<ClassMetadata> CACHE = new ClassValue<>() {
+        @Override
+        protected ClassMetadata computeValue(Class<?> type) {
+            return new ClassMetadata(type);
+        }
+    };
+
+    private final Class<?> type;
+    private final Annotation[] annotations;
+    private final List<Method> beanMethods;
+    private final List<Method> warmUpMethods;
+
+    // 빈이 아닌 클래스(@Bean 반환 타입 등)도 조회될 수 있으므로 필요할 때 계산
+    // 경쟁 상태에서 두 번 계산되어도 결과가 같으므로 volatile 읽기/쓰기로 충분
+    private volatile Constructor<?> constructor;
+    private volatile InjectionMetadata injectionMetadata;
+    private volatile LifecycleMetadata lifecycleMetadata;
+
+    private ClassMetadata(Class<?> type) {
+        this.type = type;
+        this.annotations = type.getDeclaredAnnotations();
+
+        // ================================================================
+        // getDeclaredMethods()는 클래스당 딱 한 번만 호출
+        // ================================================================
+        List<Method> beans = new ArrayList<>();
+        List<Method> warmUps = new ArrayList<>();
+        for (Method method : type.getDeclaredMethods()) {
+            if (method.isAnnotationPresent(Bean.class)) {
+                beans.add(method);
+            }
+            if (method.isAnnotationPresent(WarmUp.class)) {
+                warmUps.add(accessible(method));
+            }
+        }
+        this.beanMethods = List.copyOf(beans);
+        this.warmUpMethods = List.copyOf(warmUps);
+    }
+
+    /**
+     * 클래스의 메타데이터 조회 (없으면 생성)
+     *
+     * @param type 조회할 클래스
+     * @return 공유되는 메타데이터
+     */
+    public static ClassMetadata forClass(Class<?> type) {
+        return CACHE.get(type);
+    }
+
+    /**
+     * 인스턴스의 "사용자 클래스" 메타데이터 조회
+     *
+     * 컨테이너가 생성한 프록시(ProxyObject) 인스턴스라면 원래 클래스 기준으로 조회
+     * 예: AppConfig$$Enhanced$$1 → AppConfig
+     *
+     * @param instance 빈 인스턴스
+     * @return 사용자 클래스의 메타데이터
+     */
+    public static ClassMetadata forInstance(Object instance) {
+        Class<?> type = instance.getClass();
+        if (instance instanceof ProxyObject && type.isSynthetic()) {
+            type = type.getSuperclass();
+        }
+        return CACHE.get(type);
+    }
+
+    public Class<?> getType() {
+        return type;
+    }
+
+    public boolean isAnnotationPresent(Class<? extends Annotation> annotationType) {
+        return getAnnotation(annotationType) != null;
+    }
+
+    public <A extends Annotation> A getAnnotation(Class<A> annotationType) {
+        for (Annotation annotation : annotations) {
+            if (annotation.annotationType() == annotationType) {
+                return annotationType.cast(annotation);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 주입에 사용할 생성자 (setAccessible 처리 완료)
+     *
+     * @throws IllegalStateException 적합한 생성자를 찾을 수 없는 경우
+     */
+    public Constructor<?> getConstructor() {
+        Constructor<?> resolved = constructor;
+        if (resolved == null) {
+            resolved = CONSTRUCTOR_RESOLVER.resolve(type);
+            resolved.setAccessible(true);
+            constructor = resolved;
+        }
+        return resolved;
+    }
+
+    /**
+     * @Autowired 필드/메서드 주입 메타데이터
+     *
+     * @throws IllegalStateException 주입할 수 없는 필드/메서드가 있는 경우
+     */
+    public InjectionMetadata getInjectionMetadata() {
+        InjectionMetadata metadata = injectionMetadata;
+        if (metadata == null) {
+            metadata = InjectionMetadata.forClass(type);
+            injectionMetadata = metadata;
+        }
+        return metadata;
+    }
+
+    /**
+     * @PostConstruct / @PreDestroy 콜백 메타데이터 (상속 계층 전체, 부모 → 자식 순서)
+     *
+     * @throws IllegalStateException 콜백 메서드에 파라미터가 있거나 static인 경우
+     */
+    public LifecycleMetadata getLifecycleMetadata() {
+        LifecycleMetadata metadata = lifecycleMetadata;
+        if (metadata == null) {
+            metadata = LifecycleMetadata.forClass(type);
+            lifecycleMetadata = metadata;
+        }
+        return metadata;
+    }
+
+    /**
+     * @return CompletionStage를 반환하는 @PostConstruct가 있으면 true (비동기 초기화)
+     */
+    public boolean hasAsyncPostConstruct() {
+        return getLifecycleMetadata().hasAsyncPostConstruct();
+    }
+
+    /**
+     * @return 클래스에 선언된 @Bean 메서드 목록 (변경 불가)
+     */
+    public List<Method> getBeanMethods() {
+        return beanMethods;
+    }
+
+    /**
+     * @return 클래스에 선언된 @WarmUp 메서드 목록 (변경 불가)
+     */
+    public List<Method> getWarmUpMethods() {
+        return warmUpMethods;
+    }
+
+    private static Method accessible(Method method) {
+        method.setAccessible(true);  // private 메서드도 호출 가능
+        return method;
+    }
+}
@@ -0,0 +1,311 @@
+package org.example.minispring.condition;
+
+import org.example.minispring.annotation.ConditionalOnClass;
+import org.example.minispring.annotation.ConditionalOnMissingBean;
+import org.example.minispring.annotation.ConditionalOnProperty;
+import org.example.minispring.annotation.Profile;
+import org.example.minispring.scanner.ClassFileMetadata;
+
+import java.lang.reflect.AnnotatedElement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 조건부 등록 어노테이션(@Profile, @ConditionalOnProperty, @ConditionalOnClass,
+ * @ConditionalOnMissingBean) 평가기
+ *
+ * 역할:
+ *   - 클래스: ComponentScanner가 클래스 파일 메타데이터(ClassFileMetadata)로 평가
+ *     → 조건이 맞지 않으면 클래스 로드 / BeanDefinition 생성 / 타입 조회 대상 모두 없음
+ *   - @Bean 메서드: ConfigurationClassProcessor가 리플렉션 어노테이션으로 평가
+ *   두 경로 모두 "어노테이션 이름 → 명시된 속성" 형태로 바꿔 같은 규칙으로 판단
+ *
+ * 평가 입력 기록:
+ *   - 평가 중 조회한 프로퍼티 값과 활성 프로파일을 기록 (getConsultedInputs())
+ *   - 컨텍스트 스냅숏은 이 값이 바뀌면 복원하지 않고 다시 스캔
+ */
+public final class ConditionEvaluator {
+
+    public static final String PROFILES_PROPERTY = "minispring.profiles.active";
+    public static final String DEFAULT_PROFILE = "default";
+
+    private static final String PROFILE = Profile.class.getName();
+    private static final String ON_PROPERTY = ConditionalOnProperty.class.getName();
+    private static final String ON_CLASS = ConditionalOnClass.class.getName();
+    private static final String ON_MISSING_BEAN = ConditionalOnMissingBean.class.getName();
+
+    private static final String PROFILES_INPUT = "profiles";
+    private static final String PROPERTY_INPUT_PREFIX = "property:";
+
+    private final Map<String, String> properties;
+    private final Set<String> activeProfiles;
+    private final ClassLoader classLoader;
+
+    // 평가에 사용한 입력 (스캔은 한 스레드에서 진행되지만 안전하게 동기화)
+    private final Map<String, String> consulted = Collections.synchronizedMap(new LinkedHashMap<>());
+
+    /**
+     * @param properties 프로퍼티 (없는 이름은 시스템 프로퍼티에서 조회)
+     * @param activeProfiles 활성 프로파일 (비어 있으면 시스템 프로퍼티, 그것도 없으면 "default")
+     * @param classLoader @ConditionalOnClass 확인에 사용할 클래스 로더
+     */
+    public ConditionEvaluator(Map<String, String> properties, Collection<String> activeProfiles,
+                              ClassLoader classLoader) {
+        this.properties = Map.copyOf(properties);
+        this.activeProfiles = Collections.unmodifiableSet(resolveProfiles(activeProfiles));
+        this.classLoader = classLoader;
+    }
+
+    /**
+     * @return 시스템 프로퍼티만 사용하는 평가기 (컨텍스트 스레드의 클래스 로더 사용)
+     */
+    public static ConditionEvaluator fromSystemProperties() {
+        return new ConditionEvaluator(Map.of(), List.of(), Thread.currentThread().getContextClassLoader());
+    }
+
+    /**
+     * @return 활성 프로파일 (변경 불가)
+     */
+    public Set<String> getActiveProfiles() {
+        return activeProfiles;
+    }
+
+    /**
+     * 클래스 파일 메타데이터로 @Profile / @ConditionalOnProperty / @ConditionalOnClass 평가
+     *
+     * @param metadata 로드하지 않은 클래스의 메타데이터
+     * @return 모든 조건을 만족하면 true (@ConditionalOnMissingBean은 별도로 판단)
+     */
+    public boolean matches(ClassFileMetadata metadata) {
+        return matches(metadata.getAnnotations());
+    }
+
+    /**
+     * 리플렉션 어노테이션으로 @Profile / @ConditionalOnProperty / @ConditionalOnClass 평가
+     *
+     * @param element @Bean 메서드 등
+     * @return 모든 조건을 만족하면 true (@ConditionalOnMissingBean은 별도로 판단)
+     */
+    public boolean matches(AnnotatedElement element) {
+        return matches(attributesOf(element));
+    }
+
+    /**
+     * @ConditionalOnMissingBean이 확인할 타입 이름 (클래스 파일 메타데이터)
+     *
+     * @return 타입 이름 목록 (value가 비어 있으면 클래스 자신), 어노테이션이 없으면 null
+     */
+    public static List<String> missingBeanTypes(ClassFileMetadata metadata) {
+        return missingBeanTypes(metadata.getAnnotations(), metadata.getClassName());
+    }
+
+    /**
+     * @ConditionalOnMissingBean이 확인할 타입 이름 (리플렉션)
+     *
+     * @param element @Bean 메서드 등
+     * @param ownType value가 비어 있을 때 사용할 빈 자신의 타입
+     * @return 타입 이름 목록, 어노테이션이 없으면 null
+     */
+    public static List<String> missingBeanTypes(AnnotatedElement element, Class<?> ownType) {
+        return missingBeanTypes(attributesOf(element), ownType.getName());
+    }
+
+    /**
+     * @param typeNames @ConditionalOnMissingBean 타입 이름
+     * @param existingTypes 이미 등록된 빈의 클래스
+     * @return 어느 타입에도 할당 가능한 빈이 없으면 true
+     */
+    public static boolean isMissing(List<String> typeNames, Collection<Class<?>> existingTypes) {
+        for (Class<?> existing : existingTypes) {
+            for (String typeName : typeNames) {
+                if (isAssignable(existing, typeName)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 평가 중 조회한 입력 (프로파일, 프로퍼티 이름 → 값)
+     *
+     * @return 입력 복사본 (값이 없던 프로퍼티는 null)
+     */
+    public Map<String, String> getConsultedInputs() {
+        synchronized (consulted) {
+            return new LinkedHashMap<>(consulted);
+        }
+    }
+
+    /**
+     * 이전 평가의 입력이 지금도 같은지 확인 (스냅숏 유효성 검사용)
+     *
+     * @param inputs 이전 평가의 getConsultedInputs()
+     * @return 모든 입력 값이 같으면 true
+     */
+    public boolean hasSameInputs(Map<String, String> inputs) {
+        for (Map.Entry<String, String> input : inputs.entrySet()) {
+            String current = input.getKey().equals(PROFILES_INPUT)
+                ? String.join(",", activeProfiles)
+                : property(input.getKey().substring(PROPERTY_INPUT_PREFIX.length()));
+            if (!Objects.equals(current, input.getValue())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean matches(Map<String, Map<String, Object>> annotations) {
+        // ================================================================
+        // 1단계: @Profile
+        // ================================================================
+        Map<String, Object> profile = annotations.get(PROFILE);
+        if (profile != null && !matchesProfiles(strings(profile.get("value")))) {
+            return false;
+        }
+
+        // ================================================================
+        // 2단계: @ConditionalOnProperty
+        // ================================================================
+        Map<String, Object> onProperty = annotations.get(ON_PROPERTY);
+        if (onProperty != null && !matchesProperty(onProperty)) {
+            return false;
+        }
+
+        // ================================================================
+        // 3단계: @ConditionalOnClass (리소스 조회만, 대상 클래스를 로드하지 않음)
+        // ================================================================
+        Map<String, Object> onClass = annotations.get(ON_CLASS);
+        if (onClass != null) {
+            for (String className : strings(onClass.get("value"))) {
+                if (classLoader.getResource(className.replace('.', '/') + ".class") == null) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private boolean matchesProfiles(List<String> profiles) {
+        consulted.put(PROFILES_INPUT, String.join(",", activeProfiles));
+        for (String profile : profiles) {
+            boolean negated = profile.startsWith("!");
+            String name = negated ? profile.substring(1) : profile;
+            if (activeProfiles.contains(name) != negated) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean matchesProperty(Map<String, Object> attributes) {
+        String name = (String) attributes.get("name");
+        String havingValue = (String) attributes.getOrDefault("havingValue", "");
+        boolean matchIfMissing = (Boolean) attributes.getOrDefault("matchIfMissing", false);
+
+        String value = property(name);
+        consulted.put(PROPERTY_INPUT_PREFIX + name, value);
+        if (value == null) {
+            return matchIfMissing;
+        }
+        return havingValue.isEmpty() ? !"false".equalsIgnoreCase(value) : havingValue.equalsIgnoreCase(value);
+    }
+
+    private String property(String name) {
+        String value = properties.get(name);
+        return value != null ? value : System.getProperty(name);
+    }
+
+    private static List<String> missingBeanTypes(Map<String, Map<String, Object>> annotations, String ownType) {
+        Map<String, Object> onMissingBean = annotations.get(ON_MISSING_BEAN);
+        if (onMissingBean == null) {
+            return null;
+        }
+        List<String> types = strings(onMissingBean.get("value"));
+        return types.isEmpty() ? List.of(ownType) : types;
+    }
+
+    private static boolean isAssignable(Class<?> type, String typeName) {
+        if (type == null) {
+            return false;
+        }
+        if (type.getName().equals(typeName)) {
+            return true;
+        }
+        for (Class<?> parent : type.getInterfaces()) {
+            if (isAssignable(parent, typeName)) {
+                return true;
+            }
+        }
+        return isAssignable(type.getSuperclass(), typeName);
+    }
+
+    private static Set<String> resolveProfiles(Collection<String> configured) {
+        Set<String> profiles = new LinkedHashSet<>();
+        for (String profile : configured) {
+            profiles.add(profile.trim());
+        }
+        if (profiles.isEmpty()) {
+            String property = System.getProperty(PROFILES_PROPERTY, "");
+            for (String profile : property.split(",")) {
+                if (!profile.isBlank()) {
+                    profiles.add(profile.trim());
+                }
+            }
+        }
+        if (profiles.isEmpty()) {
+            profiles.add(DEFAULT_PROFILE);
+        }
+        return profiles;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<String> strings(Object value) {
+        if (value == null) {
+            return List.of();
+        }
+        if (value instanceof List) {
+            return (List<String>) value;
+        }
+        return List.of((String) value);  // 배열 속성에 값 하나만 쓴 경우도 클래스 파일에는 배열로 기록됨
+    }
+
+    /**
+     * 리플렉션 어노테이션 → 클래스 파일 메타데이터와 같은 형태 (조건 어노테이션만)
+     */
+    private static Map<String, Map<String, Object>> attributesOf(AnnotatedElement element) {
+        Map<String, Map<String, Object>> annotations = new LinkedHashMap<>();
+        Profile profile = element.getAnnotation(Profile.class);
+        if (profile != null) {
+            annotations.put(PROFILE, Map.of("value", List.of(profile.value())));
+        }
+        ConditionalOnProperty onProperty = element.getAnnotation(ConditionalOnProperty.class);
+        if (onProperty != null) {
+            annotations.put(ON_PROPERTY, Map.of(
+                "name", onProperty.name(),
+                "havingValue", onProperty.havingValue(),
+                "matchIfMissing", onProperty.matchIfMissing()
+            ));
+        }
+        ConditionalOnClass onClass = element.getAnnotation(ConditionalOnClass.class);
+        if (onClass != null) {
+            annotations.put(ON_CLASS, Map.of("value", List.of(onClass.value())));
+        }
+        ConditionalOnMissingBean onMissingBean = element.getAnnotation(ConditionalOnMissingBean.class);
+        if (onMissingBean != null) {
+            List<String> types = new ArrayList<>();
+            for (Class<?> type : onMissingBean.value()) {
+                types.add(type.getName());
+            }
+            annotations.put(ON_MISSING_BEAN, Map.of("value", types));
+        }
+        return annotations;
+    }
+}
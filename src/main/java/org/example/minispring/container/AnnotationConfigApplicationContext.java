@@ -1,11 +1,35 @@
 package org.example.minispring.container;
 
 import org.example.minispring.bean.BeanDefinition;
-import org.example.minispring.lifecycle.BeanLifecycleManager;
+import org.example.minispring.condition.ConditionEvaluator;
+import org.example.minispring.lifecycle.LifecycleProcessor;
+import org.example.minispring.log.ContainerLogger;
+import org.example.minispring.log.ContainerLogging;
+import org.example.minispring.pool.BeanPool;
 import org.example.minispring.processor.ConfigurationClassProcessor;
 import org.example.minispring.scanner.ComponentScanner;
+import org.example.minispring.scope.EvictableScope;
+import org.example.minispring.scope.KeyedBeans;
+import org.example.minispring.scope.StripedBeans;
+import org.example.minispring.scope.TaskScope;
+import org.example.minispring.scope.ThreadScope;
+import org.example.minispring.startup.SharedClassList;
+import org.example.minispring.startup.StartupProfile;
+import org.example.minispring.startup.StartupProfileRecorder;
+import org.example.minispring.startup.StartupRecorder;
+import org.example.minispring.startup.StartupReport;
+import org.example.minispring.startup.StartupStep;
+import org.example.minispring.startup.StartupTimeline;
+import org.example.minispring.startup.WarmStarter;
+import org.example.minispring.startup.WarmUpResult;
+import org.example.minispring.startup.WarmUpRunner;
 
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * 어노테이션 기반 스프링 컨테이너 구현체
@@ -20,6 +44,18 @@ import java.util.Set;
  *   2. ComponentScanner로 패키지 스캔 → BeanDefinition 수집
  *   3. BeanFactory에 모든 BeanDefinition 등록
  *   4. 이후 getBean() 호출 시 필요한 빈 생성
+ *      (ContextOptions.preInstantiateSingletons면 refresh 마지막에 singleton을 병렬로 미리 생성)
+ *      (ContextOptions.warmStartProfile이면 지난 실행에서 쓰인 빈만 백그라운드에서 미리 생성)
+ *   5. @WarmUp 메서드를 반복 실행해 JIT 컴파일 유도
+ *   6. Lifecycle 빈을 단계별로 시작한 뒤 생성자 반환 (준비 완료)
+ *
+ * 스냅숏 (ContextOptions.snapshot):
+ *   - 유효한 스냅숏이 있으면 2~3단계(스캔 / 등록) 대신 저장된 빈 정의와 singleton을 복원
+ *   - 없거나 클래스패스가 바뀌었으면 일반 refresh 후 웜업이 끝난 상태를 새로 저장
+ *
+ * CDS 학습 실행 (ContextOptions.sharedClassList):
+ *   - refresh 마지막에 컨테이너가 로드한 클래스를 AppCDS 클래스 목록으로 저장
+ *   - SharedClassList.createArchive()로 만든 아카이브를 다음 실행의 -XX:SharedArchiveFile로 사용
  *
  * 사용 예시:
  *   ApplicationContext context =
@@ -28,6 +64,8 @@ import java.util.Set;
  */
 public class AnnotationConfigApplicationContext implements ApplicationContext {
 
+    private static final ContainerLogger LOG = ContainerLogging.getLogger();
+
     // ================================================================
     // 실제 빈 생성/관리를 담당하는 팩토리
     // ================================================================
@@ -42,17 +80,83 @@ public class AnnotationConfigApplicationContext implements ApplicationContext {
     // 역할: 패키지에서 @Component 등 어노테이션이 붙은 클래스 찾기
     private final ComponentScanner componentScanner;
 
+    // @Profile / @ConditionalOn... 평가기 (스캐너, 설정 클래스 처리, 스냅숏 검사가 공유)
+    private final ConditionEvaluator conditionEvaluator;
+
+    private final ContextOptions options;
+
+    // Lifecycle 빈 시작 / 정지 담당 (시작한 빈을 기억해 종료 시 역순으로 정지)
+    private final LifecycleProcessor lifecycleProcessor;
+
+    // 시작 프로파일 기록기 (기록하지 않으면 null)
+    private final StartupProfileRecorder profileRecorder;
+
+    // 시작 단계 기록 (기록하지 않으면 null)
+    private final StartupTimeline startupTimeline;
+
+    // 진행 중인 웜 스타트 (웜 스타트를 하지 않으면 null, 종료 시 중단)
+    private WarmStarter warmStarter;
+
+    // refresh 측정 결과 (refresh가 끝나면 설정)
+    private StartupReport startupReport;
+
+    // 스냅숏에서 복원한 singleton 빈 이름 (복원하지 않았으면 빈 리스트)
+    private List<String> restoredSingletons = List.of();
+
+    // 컴포넌트 스캔 후보 클래스 (CDS 학습 실행일 때만 보관)
+    private Set<Class<?>> scannedClasses = Set.of();
+
     /**
-     * 애플리케이션 컨텍스트 생성 및 초기화
+     * 애플리케이션 컨텍스트 생성 및 초기화 (기본 옵션 - 지연 생성)
      *
      * @param basePackage 컴포넌트 스캔할 패키지 (예: "org.example.demo")
      */
     public AnnotationConfigApplicationContext(String basePackage) {
+        this(basePackage, ContextOptions.defaults());
+    }
+
+    /**
+     * 애플리케이션 컨텍스트 생성 및 초기화
+     *
+     * @param basePackage 컴포넌트 스캔할 패키지 (예: "org.example.demo")
+     * @param options 시작 옵션 (singleton 사전 생성, 병렬도 등)
+     */
+    public AnnotationConfigApplicationContext(String basePackage, ContextOptions options) {
         // ================================================================
         // 1단계: 핵심 컴포넌트 생성
         // ================================================================
         this.beanFactory = new SimpleBeanFactory();
-        this.componentScanner = new ComponentScanner();
+        this.conditionEvaluator = new ConditionEvaluator(
+            options.getProperties(), options.getActiveProfiles(), Thread.currentThread().getContextClassLoader()
+        );
+        this.componentScanner = new ComponentScanner(conditionEvaluator);
+        this.options = options;
+        this.lifecycleProcessor = new LifecycleProcessor(
+            beanFactory, options.getParallelism(), options.getLifecycleStopTimeout()
+        );
+
+        // ================================================================
+        // 1-1. 시작 프로파일 기록 시작 (refresh 중의 빈 요청부터 기록)
+        // ================================================================
+        if (options.getStartupProfileRecordFile() != null) {
+            this.profileRecorder = new StartupProfileRecorder(
+                options.getStartupProfileRecordFile(), options.getStartupProfileWindow()
+            );
+            beanFactory.addBeanAccessListener(profileRecorder);
+            profileRecorder.start();
+        } else {
+            this.profileRecorder = null;
+        }
+
+        // ================================================================
+        // 1-2. 시작 단계 기록기 연결 (기록하지 않으면 팩토리는 NONE 그대로)
+        // ================================================================
+        if (options.isRecordStartupSteps()) {
+            this.startupTimeline = new StartupTimeline();
+            beanFactory.setStartupRecorder(startupTimeline);
+        } else {
+            this.startupTimeline = null;
+        }
 
         // ================================================================
         // 2단계: 컨테이너 초기화 (refresh)
@@ -67,16 +171,123 @@ public class AnnotationConfigApplicationContext implements ApplicationContext {
     /**
      * 컨테이너 초기화 (컴포넌트 스캔 + 빈 등록)
      *
+     * 전체를 "refresh" 시작 단계로 기록 (기록하지 않으면 비용 없음)
+     *
      * @param basePackage 스캔할 패키지
      */
     private void refresh(String basePackage) {
+        StartupStep refreshStep = startupRecorder().start(StartupRecorder.REFRESH, basePackage);
+        try {
+            doRefresh(basePackage);
+        } finally {
+            refreshStep.end();
+        }
+    }
+
+    private void doRefresh(String basePackage) {
+        long refreshStart = System.nanoTime();
+
+        // ================================================================
+        // 1~4단계: 빈 정의 등록 (스냅숏이 유효하면 스캔 대신 복원)
+        // ================================================================
+        // 복원된 singleton은 캐시에 이미 있으므로 이후 단계에서 다시 생성되지 않음
+        Path snapshotFile = options.getSnapshotFile();
+        ContextSnapshot snapshot = snapshotFile != null ? ContextSnapshot.read(snapshotFile, basePackage, conditionEvaluator)
+            : null;
+        if (snapshot != null) {
+            restoredSingletons = snapshot.restoreInto(beanFactory);
+        } else {
+            registerBeanDefinitions(basePackage);
+        }
+
+        // ================================================================
+        // 5단계: 비동기 초기화 빈의 초기화 시작
+        // ================================================================
+        // CompletionStage를 반환하는 @Bean / @PostConstruct는 지금 바로 시작
+        // → 오래 걸리는 I/O 초기화가 첫 요청 전에 백그라운드에서 진행됨
+        // 완료를 기다리지 않음 (의존하는 빈만 해당 future를 기다림)
+        beanFactory.startAsyncInitializations();
+
+        // ================================================================
+        // 6단계: (선택) singleton 사전 생성
+        // ================================================================
+        // 첫 요청이 빈 생성 비용을 떠안지 않도록 지금 모두 생성
+        // 서로 의존하지 않는 빈은 최대 parallelism개까지 동시에 생성됨
+        if (options.isPreInstantiateSingletons()) {
+            beanFactory.preInstantiateSingletons(options.getParallelism());
+        }
+
+        // ================================================================
+        // 7단계: (선택) 프로파일 기반 웜 스타트
+        // ================================================================
+        // 지난 실행의 시작 / 초기 트래픽 구간에 쓰인 빈만 기록된 순서대로 백그라운드 생성
+        // → 트래픽에 필요한 빈은 첫 요청 전에 준비되고, 쓰이지 않은 빈은 계속 지연 생성
+        // 완료를 기다리지 않음 (같은 빈을 먼저 요청한 스레드는 기존처럼 직접 생성하거나 기다림)
+        if (options.getWarmStartProfileFile() != null) {
+            StartupProfile profile = StartupProfile.read(options.getWarmStartProfileFile());
+            warmStarter = WarmStarter.start(beanFactory, profile, options.getParallelism());
+        }
+
+        // ================================================================
+        // 8단계: @WarmUp 메서드 실행 (JIT 웜업)
+        // ================================================================
+        // 첫 요청이 인터프리터 / C1 코드로 실행되지 않도록 핫 경로를 미리 반복 호출
+        // 빈끼리는 병렬 실행, 전체 시간 예산을 넘기면 남은 반복은 건너뜀
+        List<WarmUpResult> warmUps = WarmUpRunner.run(
+            beanFactory, options.getWarmUpBudget(), options.getParallelism()
+        );
+        boolean budgetExceeded = false;
+        for (WarmUpResult warmUp : warmUps) {
+            budgetExceeded |= !warmUp.isCompleted() && warmUp.getFailure() == null;
+        }
+
+        // ================================================================
+        // 8-1. (선택) 스냅숏 저장
+        // ================================================================
+        // 웜업까지 끝난 상태를 저장, Lifecycle 시작 전이므로 실행 중인 자원은 포함되지 않음
+        // 저장 실패는 다음 시작이 일반 refresh가 될 뿐이므로 경고만 남기고 계속 진행
+        if (snapshotFile != null && snapshot == null) {
+            try {
+                ContextSnapshot.write(beanFactory, basePackage, snapshotFile, conditionEvaluator.getConsultedInputs());
+            } catch (RuntimeException e) {
+                LOG.warn("Failed to write context snapshot {}, continuing without it", snapshotFile, e);
+            }
+        }
+
+        // ================================================================
+        // 9단계: Lifecycle 빈 시작 (소비자, 스케줄러, 서버 등)
+        // ================================================================
+        // 전체 빈 그래프가 준비되고 웜업까지 끝난 뒤에 트래픽을 받기 시작
+        // 단계(phase) 오름차순, 같은 단계는 병렬
+        lifecycleProcessor.start();
+
+        // ================================================================
+        // 10단계: (선택) CDS 학습 실행 - 클래스 목록 저장
+        // ================================================================
+        // 스캔 후보, 빈 클래스, 주입 타입과 그 부모 타입을 -XX:SharedClassListFile 형식으로 기록
+        if (options.getSharedClassListFile() != null) {
+            SharedClassList.collect(beanFactory, scannedClasses).write(options.getSharedClassListFile());
+        }
+
+        startupReport = new StartupReport(
+            Duration.ofNanos(System.nanoTime() - refreshStart), warmUps, budgetExceeded
+        );
+    }
+
+    /**
+     * 컴포넌트 스캔 + 빈 정의 등록 (스냅숏을 복원하지 않는 경우)
+     *
+     * @param basePackage 스캔할 패키지
+     */
+    private void registerBeanDefinitions(String basePackage) {
         // ================================================================
         // 1단계: 컴포넌트 스캔 - BeanDefinition 수집
         // ================================================================
         // ComponentScanner가:
         //   1) ClassPathScanner로 모든 .class 파일 찾기
-        //   2) @Component 등 어노테이션 필터링
-        //   3) BeanDefinition 생성 (메타데이터만!)
+        //   2) 조건(@Profile 등)이 맞지 않는 클래스는 로드하지 않고 제외
+        //   3) @Component 등 어노테이션 필터링
+        //   4) BeanDefinition 생성 (메타데이터만!)
         //
         // 예시 결과:
         //   [
@@ -84,7 +295,18 @@ public class AnnotationConfigApplicationContext implements ApplicationContext {
         //     BeanDefinition("userRepository", UserRepository.class),
         //     BeanDefinition("orderService", OrderService.class)
         //   ]
-        Set<BeanDefinition> beanDefinitions = componentScanner.scan(basePackage);
+        StartupStep scanStep = startupRecorder().start(StartupRecorder.SCAN, basePackage);
+        ComponentScanner.Candidates candidates;
+        Set<BeanDefinition> beanDefinitions;
+        try {
+            candidates = componentScanner.findCandidates(basePackage);
+            beanDefinitions = componentScanner.createDefinitions(candidates.getComponents());
+        } finally {
+            scanStep.end();
+        }
+        if (options.getSharedClassListFile() != null) {
+            scannedClasses = candidates.getClasses();
+        }
 
         // ================================================================
         // 2단계: 일반 BeanDefinition 등록 (@Component, @Service 등)
@@ -101,9 +323,15 @@ public class AnnotationConfigApplicationContext implements ApplicationContext {
         // ConfigurationClassProcessor가:
         //   1) @Configuration 클래스 찾기
         //   2) @Bean 메서드 스캔
-        //   3) BeanMethodDefinition 생성
-        ConfigurationClassProcessor configProcessor = new ConfigurationClassProcessor(beanFactory);
-        Set<BeanDefinition> beanMethodDefinitions = configProcessor.process(beanDefinitions);
+        //   3) 조건이 맞는 @Bean 메서드만 BeanMethodDefinition 생성
+        ConfigurationClassProcessor configProcessor = new ConfigurationClassProcessor(beanFactory, conditionEvaluator);
+        StartupStep configurationStep = startupRecorder().start(StartupRecorder.CONFIGURATION_CLASSES, null);
+        Set<BeanDefinition> beanMethodDefinitions;
+        try {
+            beanMethodDefinitions = configProcessor.process(beanDefinitions);
+        } finally {
+            configurationStep.end();
+        }
 
         // ================================================================
         // 4단계: @Bean 메서드의 BeanDefinition 등록
@@ -112,6 +340,74 @@ public class AnnotationConfigApplicationContext implements ApplicationContext {
         for (BeanDefinition definition : beanMethodDefinitions) {
             beanFactory.registerBeanDefinition(definition);
         }
+
+        // ================================================================
+        // 5단계: @ConditionalOnMissingBean 컴포넌트 (모든 빈 정의 등록 후 평가)
+        // ================================================================
+        // 스캔된 컴포넌트뿐 아니라 @Bean 메서드가 등록한 빈도 "이미 있는 빈"으로 봄
+        // → 같은 타입을 @Bean이 제공하면 대체 컴포넌트는 등록하지 않음 (getBean(type) 모호성 방지)
+        List<Class<?>> registeredTypes = new ArrayList<>();
+        for (BeanDefinition definition : beanDefinitions) {
+            registeredTypes.add(definition.getBeanClass());
+        }
+        for (BeanDefinition definition : beanMethodDefinitions) {
+            registeredTypes.add(definition.getBeanClass());
+        }
+        List<Class<?>> conditional = componentScanner.resolveConditional(candidates, registeredTypes);
+        if (!conditional.isEmpty()) {
+            Set<BeanDefinition> conditionalDefinitions = componentScanner.createDefinitions(conditional);
+            for (BeanDefinition definition : conditionalDefinitions) {
+                beanFactory.registerBeanDefinition(definition);
+                registeredTypes.add(definition.getBeanClass());
+            }
+            // 대체 컴포넌트가 설정 클래스면 그 @Bean 메서드도 등록
+            for (BeanDefinition definition : configProcessor.process(conditionalDefinitions, registeredTypes)) {
+                beanFactory.registerBeanDefinition(definition);
+            }
+        }
+    }
+
+    /**
+     * 시작 리포트 조회
+     *
+     * @return refresh 소요 시간과 @WarmUp 메서드별 실행 결과
+     */
+    public StartupReport getStartupReport() {
+        return startupReport;
+    }
+
+    /**
+     * 시작 단계 기록 조회
+     *
+     * refresh → 스캔 / 설정 클래스 처리 / 빈 생성(→ 의존성 해결, @PostConstruct) 트리,
+     * 이후 지연 생성되는 빈의 단계는 별도의 최상위 단계로 추가됨
+     *
+     * @return 기록 (ContextOptions.recordStartupSteps(true)가 아니면 null)
+     */
+    public StartupTimeline getStartupTimeline() {
+        return startupTimeline;
+    }
+
+    private StartupRecorder startupRecorder() {
+        return startupTimeline != null ? startupTimeline : StartupRecorder.NONE;
+    }
+
+    /**
+     * 스냅숏에서 복원한 singleton 조회
+     *
+     * @return 복원한 빈 이름 (스냅숏을 사용하지 않았거나 일반 refresh를 했으면 빈 리스트)
+     */
+    public List<String> getRestoredSingletons() {
+        return restoredSingletons;
+    }
+
+    /**
+     * 프로파일 기반 웜 스타트 완료 future
+     *
+     * @return 기록된 빈의 미리 생성이 모두 끝나면 완료 (웜 스타트를 하지 않으면 이미 완료됨)
+     */
+    public CompletableFuture<Void> getWarmStart() {
+        return warmStarter != null ? warmStarter.getCompletion() : CompletableFuture.completedFuture(null);
     }
 
     /**
@@ -148,36 +444,144 @@ public class AnnotationConfigApplicationContext implements ApplicationContext {
         return beanFactory.containsBean(beanName);
     }
 
+    /**
+     * 이름으로 빈을 비동기 조회 (BeanFactory에 위임)
+     *
+     * @param beanName 빈 이름
+     * @return 준비된 빈으로 완료되는 future
+     */
+    @Override
+    public CompletableFuture<Object> getBeanAsync(String beanName) {
+        return beanFactory.getBeanAsync(beanName);
+    }
+
+    /**
+     * 타입으로 빈을 비동기 조회 (BeanFactory에 위임)
+     *
+     * @param type 빈 타입
+     * @param <T> 빈 타입
+     * @return 준비된 빈으로 완료되는 future
+     */
+    @Override
+    public <T> CompletableFuture<T> getBeanAsync(Class<T> type) {
+        return beanFactory.getBeanAsync(type);
+    }
+
+    /**
+     * 타입에 대한 ObjectProvider 조회 (BeanFactory에 위임)
+     *
+     * @param type 빈 타입
+     * @param <T> 빈 타입
+     * @return 필요한 시점에 빈을 조회하는 공급자
+     */
+    @Override
+    public <T> ObjectProvider<T> getBeanProvider(Class<T> type) {
+        return beanFactory.getBeanProvider(type);
+    }
+
+    /**
+     * pooled 빈의 풀 조회 (BeanFactory에 위임)
+     *
+     * @param type 빈 타입
+     * @param <T> 빈 타입
+     * @return 대여/반납에 사용할 풀
+     */
+    @Override
+    public <T> BeanPool<T> getBeanPool(Class<T> type) {
+        return beanFactory.getBeanPool(type);
+    }
+
+    /**
+     * striped 빈의 스트라이프 묶음 조회 (BeanFactory에 위임)
+     *
+     * @param type 빈 타입
+     * @param <T> 빈 타입
+     * @return 스트라이프 묶음
+     */
+    @Override
+    public <T> StripedBeans<T> getStripedBeans(Class<T> type) {
+        return beanFactory.getStripedBeans(type);
+    }
+
+    /**
+     * keyed 빈의 키별 캐시 조회 (BeanFactory에 위임)
+     *
+     * @param type 빈 타입
+     * @param <T> 빈 타입
+     * @return 키별 캐시
+     */
+    @Override
+    public <T> KeyedBeans<T> getKeyedBeans(Class<T> type) {
+        return beanFactory.getKeyedBeans(type);
+    }
+
+    @Override
+    public ThreadScope getThreadScope() {
+        return beanFactory.getThreadScope();
+    }
+
+    @Override
+    public TaskScope getTaskScope() {
+        return beanFactory.getTaskScope();
+    }
+
+    @Override
+    public EvictableScope getEvictableScope() {
+        return beanFactory.getEvictableScope();
+    }
+
     /**
      * 컨테이너 종료 및 모든 빈의 @PreDestroy 메서드 호출
      *
      * 동작:
-     *   1. BeanFactory에서 모든 빈 인스턴스 가져오기
-     *   2. 각 빈의 @PreDestroy 메서드 호출
-     *   3. 리소스 정리
+     *   0. 웜 스타트 중단 (남은 작업은 건너뛰고 생성 중인 빈이 끝나기를 기다림)
+     *   1. Lifecycle 빈을 단계 역순으로 정지 (처리 중인 작업을 먼저 비움)
+     *   2. 스코프 빈 정리 (풀의 유휴 인스턴스, 남아 있는 thread 스코프 인스턴스 등)
+     *   3. 새 singleton 생성을 막고, 진행 중인 생성이 끝나면 생성된 singleton을 의존성 역순으로 정리
+     *      - 빈을 사용하는 빈이 먼저 정리됨
+     *      - 서로 관계없는 빈은 병렬로 정리
+     *      - 빈별 / 전체 제한 시간을 넘기면 기다리지 않고 진행 (ContextOptions.shutdownTimeout)
      */
     public void close() {
         // ================================================================
-        // 1단계: BeanLifecycleManager 생성
+        // 0단계: 웜 스타트 중단
+        // ================================================================
+        // 백그라운드에서 만든 빈이 정리 대상 목록을 만든 뒤에 추가되면 @PreDestroy가 누락됨
+        // → 작업 스레드를 먼저 멈추고 생성 중인 빈이 끝나기를 기다림
+        if (warmStarter != null && !warmStarter.stop(options.getShutdownTimeout())) {
+            LOG.warn("Warm start did not stop within shutdown timeout: {}", options.getShutdownTimeout());
+        }
+
+        // ================================================================
+        // 1단계: Lifecycle 빈 정지 (@PreDestroy보다 먼저)
         // ================================================================
-        BeanLifecycleManager lifecycleManager = new BeanLifecycleManager();
+        // 단계 내림차순, 같은 단계는 병렬, 단계마다 stop 콜백을 제한 시간까지 기다림
+        lifecycleProcessor.stop();
+
+        // 기록 구간이 끝나기 전에 종료되면 지금까지의 기록을 저장
+        if (profileRecorder != null) {
+            profileRecorder.close();
+        }
 
         // ================================================================
-        // 2단계: 모든 싱글톤 빈 가져오기
+        // 2단계: singleton 이외 스코프 정리
         // ================================================================
-        // SimpleBeanFactory의 singletonCache에 저장된 모든 빈
-        for (Object bean : beanFactory.getAllBeans()) {
+        // 싱글톤이 스코프 빈을 사용하고 있을 수 있으므로 먼저 정리 (Spring과 동일)
+        beanFactory.destroyScopedBeans();
 
-            // ============================================================
-            // 3단계: 각 빈의 @PreDestroy 메서드 호출
-            // ============================================================
-            // BeanLifecycleManager가:
-            //   1) @PreDestroy 어노테이션이 있는 메서드 찾기
-            //   2) 메서드 호출
-            //   3) 실패 시 로그만 남기고 계속 진행
-            lifecycleManager.invokePreDestroy(bean);
+        // ================================================================
+        // 3단계: singleton 정리 (의존성 역순, 병렬, 제한 시간)
+        // ================================================================
+        // 이후의 새 singleton 생성은 거부됨 (진행 중인 생성은 끝날 때까지 기다린 뒤 정리)
+        // 실패한 @PreDestroy는 로그만 남기고 계속 진행 (BeanLifecycleManager)
+        // 제한 시간 안에 끝나지 않은 빈은 결과로 돌려받아 경고만 출력
+        List<String> notDestroyed = beanFactory.destroySingletons(
+            options.getShutdownTimeout(), options.getDestroyTimeout(), options.getParallelism()
+        );
+        if (!notDestroyed.isEmpty()) {
+            LOG.warn("Beans not destroyed within shutdown timeout: {}", notDestroyed);
         }
 
-        System.out.println("ApplicationContext closed");
+        LOG.info("ApplicationContext closed");
     }
 }
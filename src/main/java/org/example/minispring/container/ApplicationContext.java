@@ -1,5 +1,14 @@
 package org.example.minispring.container;
 
+import org.example.minispring.pool.BeanPool;
+import org.example.minispring.scope.EvictableScope;
+import org.example.minispring.scope.KeyedBeans;
+import org.example.minispring.scope.StripedBeans;
+import org.example.minispring.scope.TaskScope;
+import org.example.minispring.scope.ThreadScope;
+
+import java.util.concurrent.CompletableFuture;
+
 /**
  * 스프링 컨테이너의 최상위 인터페이스
  *
@@ -42,4 +51,81 @@ public interface ApplicationContext {
      * @return 빈이 존재하면 true
      */
     boolean containsBean(String beanName);
+
+    /**
+     * 이름으로 빈을 비동기 조회
+     *
+     * 비동기 초기화(CompletionStage를 반환하는 @Bean / @PostConstruct)가 끝나면 완료되는 future
+     * → 스레드를 막지 않고 준비 시점에 이어서 작업 가능
+     *
+     * @param beanName 빈 이름
+     * @return 준비된 빈으로 완료되는 future
+     */
+    CompletableFuture<Object> getBeanAsync(String beanName);
+
+    /**
+     * 타입으로 빈을 비동기 조회
+     *
+     * 사용 예시:
+     *   context.getBeanAsync(SearchIndex.class)
+     *       .thenAccept(index -> router.enable("/search"));
+     *
+     * @param type 빈 타입
+     * @param <T> 빈 타입
+     * @return 준비된 빈으로 완료되는 future
+     */
+    <T> CompletableFuture<T> getBeanAsync(Class<T> type);
+
+    /**
+     * 타입에 대한 ObjectProvider 조회
+     *
+     * 같은 타입을 반복 조회할 때 getBean(Class)처럼 매번 빈 정의를 순회하지 않음
+     *
+     * @param type 빈 타입
+     * @param <T> 빈 타입
+     * @return 선택적 조회 / 전체 순회가 가능한 공급자
+     */
+    <T> ObjectProvider<T> getBeanProvider(Class<T> type);
+
+    /**
+     * pooled 스코프 빈의 풀 조회
+     *
+     * @param type 빈 타입
+     * @param <T> 빈 타입
+     * @return 대여/반납에 사용할 풀
+     */
+    <T> BeanPool<T> getBeanPool(Class<T> type);
+
+    /**
+     * striped 스코프 빈의 스트라이프 묶음 조회
+     *
+     * @param type 빈 타입
+     * @param <T> 빈 타입
+     * @return 모든 스트라이프를 순회 / 결합할 수 있는 묶음
+     */
+    <T> StripedBeans<T> getStripedBeans(Class<T> type);
+
+    /**
+     * keyed 스코프 빈의 키별 인스턴스 캐시 조회
+     *
+     * @param type 빈 타입
+     * @param <T> 빈 타입
+     * @return 키별 캐시 (크기, 생성/제거 횟수, 키 단위 제거)
+     */
+    <T> KeyedBeans<T> getKeyedBeans(Class<T> type);
+
+    /**
+     * @return "thread" 스코프 (end()로 현재 스레드의 스코프 빈 정리)
+     */
+    ThreadScope getThreadScope();
+
+    /**
+     * @return "task" 스코프 (run()/call()로 작업 단위 실행)
+     */
+    TaskScope getTaskScope();
+
+    /**
+     * @return "evictable" 스코프 (바이트 예산 설정, 제거/재생성 통계)
+     */
+    EvictableScope getEvictableScope();
 }
@@ -0,0 +1,30 @@
+package org.example.minispring.container;
+
+/**
+ * 빈 조회 / 생성 이벤트를 받는 리스너
+ *
+ * 용도:
+ *   - 시작 프로파일 기록 (어떤 빈이 어떤 순서로 쓰였는지)
+ *   - 빈 생성 시간 측정
+ *
+ * 주의:
+ *   - getBean() 경로에서 동기적으로 호출됨 → 가볍게 구현해야 함
+ *   - 여러 스레드에서 동시에 호출될 수 있음
+ */
+public interface BeanAccessListener {
+
+    /**
+     * getBean(이름 / 타입)으로 빈이 요청됨 (캐시 히트 포함)
+     *
+     * @param beanName 요청된 빈 이름
+     */
+    void beanRequested(String beanName);
+
+    /**
+     * singleton 빈 생성이 끝남 (@PostConstruct 포함, 함께 생성된 의존성 시간 포함)
+     *
+     * @param beanName 생성된 빈 이름
+     * @param creationNanos 생성에 걸린 시간 (비동기 초기화 빈은 초기화 완료까지)
+     */
+    void beanCreated(String beanName, long creationNanos);
+}
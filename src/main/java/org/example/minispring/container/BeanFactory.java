@@ -1,6 +1,13 @@
 package org.example.minispring.container;
 
 import org.example.minispring.bean.BeanDefinition;
+import org.example.minispring.pool.BeanPool;
+import org.example.minispring.scope.EvictableScope;
+import org.example.minispring.scope.KeyedBeans;
+import org.example.minispring.scope.StripedBeans;
+import org.example.minispring.scope.TaskScope;
+import org.example.minispring.scope.ThreadScope;
+import org.example.minispring.startup.StartupRecorder;
 
 /**
  * 빈 생성 및 관리를 담당하는 핵심 인터페이스
@@ -12,9 +19,18 @@ import org.example.minispring.bean.BeanDefinition;
  * 구현체:
  *   - SimpleBeanFactory: 기본 구현체 (싱글톤 + 의존성 주입)
  *
- * Spring의 BeanFactory와의 차이:
- *   - Spring: 다양한 스코프 지원 (singleton, prototype, request, session 등)
- *   - 여기서는: 싱글톤만 지원 (단순화)
+ * 지원 스코프:
+ *   - singleton: 최초 조회 시 생성 후 캐싱
+ *   - prototype: 조회할 때마다 미리 컴파일된 생성 계획으로 새 인스턴스 생성
+ *   - pooled: getBeanPool()로 얻은 풀에서 대여/반납 (getBean()으로는 조회 불가)
+ *   - thread / task: 현재 스레드 / 작업에 묶인 인스턴스 (주입 시 스코프 프록시)
+ *   - striped: 스레드 해시로 고른 스트라이프 인스턴스 (주입 시 스코프 프록시)
+ *   - evictable: 제거되었으면 재생성해서 반환 (주입 시 스코프 프록시)
+ *   - keyed: 현재 키(테넌트 등)의 인스턴스 (주입 시 스코프 프록시)
+ *
+ * 비동기 초기화:
+ *   - CompletionStage를 반환하는 @Bean / @PostConstruct는 초기화가 끝나야 준비된 것으로 봄
+ *   - getBean()은 완료를 기다리고, getBeanAsync()는 기다리지 않고 future로 조합
  */
 public interface BeanFactory {
 
@@ -25,6 +41,17 @@ public interface BeanFactory {
      */
     void registerBeanDefinition(BeanDefinition definition);
 
+    /**
+     * 이미 준비된 singleton 인스턴스를 그대로 등록 (생성자 / 주입 / @PostConstruct 없음)
+     *
+     * 스냅숏 복원에 사용
+     *
+     * @param beanName 등록된 singleton 빈 이름
+     * @param instance 준비된 인스턴스
+     * @throws IllegalStateException 빈 정의가 없거나 singleton이 아니거나 이미 생성된 경우
+     */
+    void registerSingleton(String beanName, Object instance);
+
     /**
      * 특정 이름의 빈이 등록되어 있는지 확인
      *
@@ -33,6 +60,23 @@ public interface BeanFactory {
      */
     boolean containsBean(String beanName);
 
+    /**
+     * 이름으로 빈 정의 조회
+     *
+     * @param beanName 조회할 빈 이름
+     * @return 등록된 빈 정의
+     * @throws org.example.minispring.exception.NoSuchBeanException 빈이 없는 경우
+     */
+    BeanDefinition getBeanDefinition(String beanName);
+
+    /**
+     * 타입에 할당 가능한 모든 빈 이름 조회
+     *
+     * @param type 조회할 타입 (인터페이스/부모 클래스 포함)
+     * @return 매칭되는 빈 이름 목록 (없으면 빈 리스트)
+     */
+    java.util.List<String> getBeanNamesForType(Class<?> type);
+
     /**
      * 이름으로 빈 조회 (싱글톤 보장)
      *
@@ -53,6 +97,154 @@ public interface BeanFactory {
      */
     <T> T getBean(Class<T> type);
 
+    /**
+     * 이름으로 빈을 비동기 조회 (스레드를 막지 않음)
+     *
+     * 비동기 초기화 빈(CompletionStage를 반환하는 @Bean / @PostConstruct)이나
+     * 그런 빈에 의존하는 빈은 해당 초기화가 끝난 뒤에 완료됨
+     *
+     * @param beanName 조회할 빈 이름
+     * @return 준비된 빈으로 완료되는 future (빈이 없거나 생성 실패 시 예외로 완료)
+     */
+    java.util.concurrent.CompletableFuture<Object> getBeanAsync(String beanName);
+
+    /**
+     * 타입으로 빈을 비동기 조회 (스레드를 막지 않음)
+     *
+     * @param type 조회할 빈의 타입
+     * @param <T> 빈 타입
+     * @return 준비된 빈으로 완료되는 future
+     */
+    <T> java.util.concurrent.CompletableFuture<T> getBeanAsync(Class<T> type);
+
+    /**
+     * @Lazy가 아닌 비동기 초기화 singleton의 초기화를 모두 시작 (완료를 기다리지 않음)
+     *
+     * @return 초기화를 시작한 빈 이름 목록
+     */
+    java.util.List<String> startAsyncInitializations();
+
+    /**
+     * 타입에 대한 ObjectProvider 생성 (후보 빈 이름은 지금 한 번만 결정)
+     *
+     * @param type 조회할 빈 타입
+     * @param <T> 빈 타입
+     * @return 필요한 시점에 빈을 조회하는 공급자 (후보가 없어도 예외 없음)
+     */
+    <T> ObjectProvider<T> getBeanProvider(Class<T> type);
+
+    /**
+     * 타입으로 pooled 빈의 풀 조회
+     *
+     * @param type 풀링된 빈의 타입
+     * @param <T> 빈 타입
+     * @return 해당 빈의 풀 (최초 조회 시 생성)
+     * @throws IllegalStateException 빈이 pooled 스코프가 아닌 경우
+     */
+    <T> BeanPool<T> getBeanPool(Class<T> type);
+
+    /**
+     * 타입으로 striped 빈의 스트라이프 묶음 조회 (읽기 시 순회 / 결합용)
+     *
+     * @param type striped 빈의 타입
+     * @param <T> 빈 타입
+     * @return 해당 빈의 스트라이프 묶음
+     * @throws IllegalStateException 빈이 striped 스코프가 아닌 경우
+     */
+    <T> StripedBeans<T> getStripedBeans(Class<T> type);
+
+    /**
+     * 타입으로 keyed 빈의 키별 인스턴스 캐시 조회 (통계, 키 단위 제거용)
+     *
+     * @param type keyed 빈의 타입
+     * @param <T> 빈 타입
+     * @return 해당 빈의 키별 캐시
+     * @throws IllegalStateException 빈이 keyed 스코프가 아닌 경우
+     */
+    <T> KeyedBeans<T> getKeyedBeans(Class<T> type);
+
+    /**
+     * 스코프 프록시 조회 (빈마다 1개, 최초 조회 시 생성)
+     *
+     * @param beanName thread / task / striped / evictable / keyed 스코프 빈 이름
+     * @return 호출마다 현재 대상 인스턴스로 위임하는 프록시
+     * @throws IllegalStateException 스코프 프록시가 필요한 스코프가 아닌 경우
+     */
+    Object getScopedProxy(String beanName);
+
+    /**
+     * @return "thread" 스코프 (현재 스레드의 스코프 종료 등에 사용)
+     */
+    ThreadScope getThreadScope();
+
+    /**
+     * @return "task" 스코프 (작업 단위 실행에 사용)
+     */
+    TaskScope getTaskScope();
+
+    /**
+     * @return "evictable" 스코프 (바이트 예산 설정, 제거/재생성 통계)
+     */
+    EvictableScope getEvictableScope();
+
+    /**
+     * @Lazy가 아닌 모든 singleton을 의존성 그래프 단계(wave)별로 미리 생성
+     *
+     * 같은 단계의 빈은 서로 의존하지 않으므로 최대 parallelism개까지 동시에 생성됨
+     * (생성자와 @PostConstruct 모두 병렬 실행)
+     *
+     * @param parallelism 동시에 생성할 최대 빈 개수 (1이면 호출 스레드에서 순서대로)
+     * @return 실행한 단계 목록 (단계마다 빈 이름)
+     * @throws IllegalArgumentException parallelism이 1보다 작은 경우
+     */
+    java.util.List<java.util.List<String>> preInstantiateSingletons(int parallelism);
+
+    /**
+     * 빈 조회 / 생성 이벤트 리스너 등록
+     *
+     * 리스너가 없으면 getBean() 경로에 추가 비용 없음 (배열 길이 확인만)
+     *
+     * @param listener 등록할 리스너
+     */
+    void addBeanAccessListener(BeanAccessListener listener);
+
+    /**
+     * 빈 생성 단계(bean.create / bean.dependencies / bean.post-construct) 기록기 설정
+     *
+     * 기본값은 StartupRecorder.NONE (기록 비용 없음)
+     *
+     * @param recorder 사용할 기록기
+     */
+    void setStartupRecorder(StartupRecorder recorder);
+
+    /**
+     * singleton 이외의 스코프가 보유한 인스턴스 정리 (@PreDestroy 호출)
+     *
+     * 컨테이너 종료 시 싱글톤 정리 전에 호출됨
+     */
+    void destroyScopedBeans();
+
+    /**
+     * 생성된 singleton을 의존성 역순으로 정리 (@PreDestroy 호출)
+     *
+     * 빈을 사용하는 빈이 먼저 정리되고, 서로 관계없는 빈은 최대 parallelism개까지 동시에 정리됨
+     * 호출 이후 새 singleton 생성은 IllegalStateException (진행 중인 생성은 끝날 때까지 기다린 뒤 정리)
+     *
+     * @param timeout 전체 제한 시간 (지나면 남은 빈은 건너뜀)
+     * @param beanTimeout 빈 하나의 @PreDestroy 제한 시간 (지나면 인터럽트 후 다음 빈 진행)
+     * @param parallelism 동시에 정리할 최대 빈 개수
+     * @return 제한 시간 안에 정리되지 않은 빈 이름 (모두 정리되었으면 빈 리스트)
+     */
+    java.util.List<String> destroySingletons(java.time.Duration timeout, java.time.Duration beanTimeout,
+                                             int parallelism);
+
+    /**
+     * 생성이 끝난 singleton 조회
+     *
+     * @return 빈 이름 → 인스턴스 (호출 시점의 복사본)
+     */
+    java.util.Map<String, Object> getSingletons();
+
     /**
      * 모든 싱글톤 빈 인스턴스 조회
      *
@@ -0,0 +1,353 @@
+package org.example.minispring.container;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * AnnotationConfigApplicationContext의 시작 옵션
+ *
+ * 기본값 (defaults()):
+ *   - 빈은 최초 getBean() 시점에 생성 (지연 생성)
+ *
+ * 사용 예시:
+ *   ContextOptions options = ContextOptions.builder()
+ *       .preInstantiateSingletons(true)   // refresh 마지막에 singleton 미리 생성
+ *       .parallelism(4)                   // 동시에 최대 4개까지
+ *       .build();
+ *   new AnnotationConfigApplicationContext("org.example.demo", options);
+ *
+ * 프로파일 기반 웜 스타트:
+ *   ContextOptions options = ContextOptions.builder()
+ *       .recordStartupProfile(profile, Duration.ofSeconds(30))  // 이번 실행의 사용 순서 기록
+ *       .warmStartProfile(profile)                              // 지난 실행의 기록대로 미리 생성
+ *       .build();
+ *
+ * 컨텍스트 스냅숏:
+ *   ContextOptions options = ContextOptions.builder()
+ *       .snapshot(Path.of("build/context.snapshot"))  // 있으면 복원, 없거나 오래되었으면 refresh 후 저장
+ *       .build();
+ *
+ * CDS 학습 실행:
+ *   ContextOptions options = ContextOptions.builder()
+ *       .preInstantiateSingletons(true)                   // 모든 singleton 클래스까지 로드
+ *       .sharedClassList(Path.of("build/app.classlist"))  // refresh 후 AppCDS 클래스 목록 저장
+ *       .build();
+ *
+ * 조건부 등록:
+ *   ContextOptions options = ContextOptions.builder()
+ *       .activeProfiles("prod")                  // @Profile (없으면 minispring.profiles.active, 그다음 "default")
+ *       .property("cache.enabled", "true")       // @ConditionalOnProperty (없는 이름은 시스템 프로퍼티)
+ *       .build();
+ *
+ * 시작 단계 기록:
+ *   ContextOptions options = ContextOptions.builder()
+ *       .recordStartupSteps(true)   // refresh / 스캔 / 빈 생성 단계별 시간, CPU, 할당 바이트
+ *       .build();
+ *   context.getStartupTimeline().getSlowestBeans(10);
+ */
+public final class ContextOptions {
+
+    private static final ContextOptions DEFAULTS = builder().build();
+
+    private final boolean preInstantiateSingletons;
+    private final int parallelism;
+    private final Path startupProfileRecordFile;
+    private final Duration startupProfileWindow;
+    private final Path warmStartProfileFile;
+    private final Duration warmUpBudget;
+    private final Duration shutdownTimeout;
+    private final Duration destroyTimeout;
+    private final Duration lifecycleStopTimeout;
+    private final Path snapshotFile;
+    private final Path sharedClassListFile;
+    private final Map<String, String> properties;
+    private final List<String> activeProfiles;
+    private final boolean recordStartupSteps;
+
+    private ContextOptions(Builder builder) {
+        this.preInstantiateSingletons = builder.preInstantiateSingletons;
+        this.parallelism = builder.parallelism;
+        this.startupProfileRecordFile = builder.startupProfileRecordFile;
+        this.startupProfileWindow = builder.startupProfileWindow;
+        this.warmStartProfileFile = builder.warmStartProfileFile;
+        this.warmUpBudget = builder.warmUpBudget;
+        this.shutdownTimeout = builder.shutdownTimeout;
+        this.destroyTimeout = builder.destroyTimeout;
+        this.lifecycleStopTimeout = builder.lifecycleStopTimeout;
+        this.snapshotFile = builder.snapshotFile;
+        this.sharedClassListFile = builder.sharedClassListFile;
+        this.properties = Map.copyOf(builder.properties);
+        this.activeProfiles = List.copyOf(builder.activeProfiles);
+        this.recordStartupSteps = builder.recordStartupSteps;
+    }
+
+    /**
+     * @return 기본 옵션 (지연 생성)
+     */
+    public static ContextOptions defaults() {
+        return DEFAULTS;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * @return refresh 마지막에 @Lazy가 아닌 singleton을 미리 생성하면 true
+     */
+    public boolean isPreInstantiateSingletons() {
+        return preInstantiateSingletons;
+    }
+
+    /**
+     * @return 사전 생성 시 동시에 생성할 최대 빈 개수
+     */
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * @return 시작 프로파일을 기록할 파일 (기록하지 않으면 null)
+     */
+    public Path getStartupProfileRecordFile() {
+        return startupProfileRecordFile;
+    }
+
+    /**
+     * @return 시작 프로파일 기록 구간 (컨텍스트 생성부터)
+     */
+    public Duration getStartupProfileWindow() {
+        return startupProfileWindow;
+    }
+
+    /**
+     * @return 웜 스타트에 사용할 프로파일 파일 (사용하지 않으면 null)
+     */
+    public Path getWarmStartProfileFile() {
+        return warmStartProfileFile;
+    }
+
+    /**
+     * @return refresh 중 @WarmUp 메서드 실행에 쓸 수 있는 최대 시간
+     */
+    public Duration getWarmUpBudget() {
+        return warmUpBudget;
+    }
+
+    /**
+     * @return close() 시 singleton 정리 전체에 쓸 수 있는 최대 시간
+     */
+    public Duration getShutdownTimeout() {
+        return shutdownTimeout;
+    }
+
+    /**
+     * @return 빈 하나의 @PreDestroy에 쓸 수 있는 최대 시간
+     */
+    public Duration getDestroyTimeout() {
+        return destroyTimeout;
+    }
+
+    /**
+     * @return Lifecycle 단계 하나의 정지를 기다릴 최대 시간
+     */
+    public Duration getLifecycleStopTimeout() {
+        return lifecycleStopTimeout;
+    }
+
+    /**
+     * @return 컨텍스트 스냅숏 파일 (사용하지 않으면 null)
+     */
+    public Path getSnapshotFile() {
+        return snapshotFile;
+    }
+
+    /**
+     * @return refresh 후 AppCDS 클래스 목록을 저장할 파일 (학습 실행이 아니면 null)
+     */
+    public Path getSharedClassListFile() {
+        return sharedClassListFile;
+    }
+
+    /**
+     * @return 조건 평가용 프로퍼티 (변경 불가)
+     */
+    public Map<String, String> getProperties() {
+        return properties;
+    }
+
+    /**
+     * @return 활성 프로파일 (비어 있으면 minispring.profiles.active 시스템 프로퍼티 사용)
+     */
+    public List<String> getActiveProfiles() {
+        return activeProfiles;
+    }
+
+    /**
+     * @return 시작 단계(refresh, 스캔, 빈 생성 등)를 StartupTimeline에 기록하면 true
+     */
+    public boolean isRecordStartupSteps() {
+        return recordStartupSteps;
+    }
+
+    public static final class Builder {
+        private boolean preInstantiateSingletons;
+        private int parallelism = Runtime.getRuntime().availableProcessors();
+        private Path startupProfileRecordFile;
+        private Duration startupProfileWindow;
+        private Path warmStartProfileFile;
+        private Duration warmUpBudget = Duration.ofSeconds(30);
+        private Duration shutdownTimeout = Duration.ofSeconds(30);
+        private Duration destroyTimeout = Duration.ofSeconds(10);
+        private Duration lifecycleStopTimeout = Duration.ofSeconds(30);
+        private Path snapshotFile;
+        private Path sharedClassListFile;
+        private final Map<String, String> properties = new LinkedHashMap<>();
+        private final List<String> activeProfiles = new ArrayList<>();
+        private boolean recordStartupSteps;
+
+        private Builder() {
+        }
+
+        /**
+         * @param preInstantiateSingletons true면 refresh 마지막에 singleton을 의존성 단계별로 병렬 생성
+         */
+        public Builder preInstantiateSingletons(boolean preInstantiateSingletons) {
+            this.preInstantiateSingletons = preInstantiateSingletons;
+            return this;
+        }
+
+        /**
+         * @param parallelism 동시에 생성할 최대 빈 개수 (기본값: CPU 코어 수)
+         * @throws IllegalArgumentException 1보다 작은 경우
+         */
+        public Builder parallelism(int parallelism) {
+            if (parallelism < 1) {
+                throw new IllegalArgumentException("parallelism must be positive: " + parallelism);
+            }
+            this.parallelism = parallelism;
+            return this;
+        }
+
+        /**
+         * @param file 빈 요청 순서 / 생성 시간을 저장할 파일
+         * @param window 기록 구간 (시작 + 초기 트래픽, 끝나면 파일 저장)
+         * @throws IllegalArgumentException 기록 구간이 0 이하인 경우
+         */
+        public Builder recordStartupProfile(Path file, Duration window) {
+            if (window.isNegative() || window.isZero()) {
+                throw new IllegalArgumentException("startup profile window must be positive: " + window);
+            }
+            this.startupProfileRecordFile = file;
+            this.startupProfileWindow = window;
+            return this;
+        }
+
+        /**
+         * @param file 지난 실행에서 기록한 프로파일 (파일이 없으면 웜 스타트 생략)
+         */
+        public Builder warmStartProfile(Path file) {
+            this.warmStartProfileFile = file;
+            return this;
+        }
+
+        /**
+         * @param warmUpBudget @WarmUp 메서드 전체의 시간 예산 (기본값: 30초, 넘기면 남은 반복 중단)
+         * @throws IllegalArgumentException 음수인 경우
+         */
+        public Builder warmUpBudget(Duration warmUpBudget) {
+            if (warmUpBudget.isNegative()) {
+                throw new IllegalArgumentException("warm-up budget must not be negative: " + warmUpBudget);
+            }
+            this.warmUpBudget = warmUpBudget;
+            return this;
+        }
+
+        /**
+         * @param shutdownTimeout singleton 정리 전체 제한 시간 (기본값: 30초, 지나면 남은 빈은 건너뜀)
+         * @param destroyTimeout 빈 하나의 @PreDestroy 제한 시간 (기본값: 10초, 지나면 인터럽트 후 진행)
+         * @throws IllegalArgumentException 0 이하인 경우
+         */
+        public Builder shutdownTimeout(Duration shutdownTimeout, Duration destroyTimeout) {
+            if (shutdownTimeout.isNegative() || shutdownTimeout.isZero()
+                || destroyTimeout.isNegative() || destroyTimeout.isZero()) {
+                throw new IllegalArgumentException(
+                    "shutdown timeouts must be positive: " + shutdownTimeout + ", " + destroyTimeout
+                );
+            }
+            this.shutdownTimeout = shutdownTimeout;
+            this.destroyTimeout = destroyTimeout;
+            return this;
+        }
+
+        /**
+         * @param lifecycleStopTimeout Lifecycle 단계 하나의 정지 제한 시간 (기본값: 30초, 지나면 다음 단계 진행)
+         * @throws IllegalArgumentException 0 이하인 경우
+         */
+        public Builder lifecycleStopTimeout(Duration lifecycleStopTimeout) {
+            if (lifecycleStopTimeout.isNegative() || lifecycleStopTimeout.isZero()) {
+                throw new IllegalArgumentException("lifecycle stop timeout must be positive: " + lifecycleStopTimeout);
+            }
+            this.lifecycleStopTimeout = lifecycleStopTimeout;
+            return this;
+        }
+
+        /**
+         * @param file 컨텍스트 스냅숏 파일
+         *             (유효하면 스캔 / 생성 없이 복원, 없거나 클래스패스가 바뀌었으면 refresh 후 새로 저장)
+         */
+        public Builder snapshot(Path file) {
+            this.snapshotFile = file;
+            return this;
+        }
+
+        /**
+         * @param file refresh 후 컨테이너가 로드한 클래스를 -XX:SharedClassListFile 형식으로 저장할 파일
+         *             (SharedClassList.createArchive()로 AppCDS 아카이브 생성)
+         */
+        public Builder sharedClassList(Path file) {
+            this.sharedClassListFile = file;
+            return this;
+        }
+
+        /**
+         * @param name @ConditionalOnProperty가 조회할 프로퍼티 이름 (시스템 프로퍼티보다 우선)
+         * @param value 프로퍼티 값
+         */
+        public Builder property(String name, String value) {
+            this.properties.put(name, value);
+            return this;
+        }
+
+        /**
+         * @param profiles @Profile 평가에 사용할 활성 프로파일
+         * @throws IllegalArgumentException 비어 있는 프로파일 이름이 있는 경우
+         */
+        public Builder activeProfiles(String... profiles) {
+            for (String profile : profiles) {
+                if (profile.isBlank()) {
+                    throw new IllegalArgumentException("profile name must not be blank");
+                }
+                this.activeProfiles.add(profile.trim());
+            }
+            return this;
+        }
+
+        /**
+         * @param recordStartupSteps true면 시작 단계별 경과 시간 / CPU 시간 / 할당 바이트 기록
+         *                           (false면 기록 비용 없음)
+         */
+        public Builder recordStartupSteps(boolean recordStartupSteps) {
+            this.recordStartupSteps = recordStartupSteps;
+            return this;
+        }
+
+        public ContextOptions build() {
+            return new ContextOptions(this);
+        }
+    }
+}
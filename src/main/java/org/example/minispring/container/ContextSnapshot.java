@@ -0,0 +1,579 @@
+package org.example.minispring.container;
+
+import org.example.minispring.annotation.SnapshotSafe;
+import org.example.minispring.bean.BeanDefinition;
+import org.example.minispring.bean.ClassMetadata;
+import org.example.minispring.condition.ConditionEvaluator;
+import org.example.minispring.lifecycle.BeanLifecycleManager;
+import org.example.minispring.log.ContainerLogger;
+import org.example.minispring.log.ContainerLogging;
+import org.example.minispring.processor.ConfigurationClassEnhancer;
+import org.example.minispring.processor.ConfigurationClassProcessor.BeanMethodDefinition;
+import org.example.minispring.processor.ConfigurationClassProcessor.ConfigurationClassDefinition;
+import org.example.minispring.proxy.ProxyObject;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * 초기화가 끝난 singleton 그래프와 빈 정의 목록을 파일로 저장 / 복원
+ *
+ * 문제:
+ *   - 짧게 실행되는 배치 JVM은 매번 같은 컨텍스트를 처음부터 만듦
+ *     (컴포넌트 스캔, 생성자 선택, 주입, @PostConstruct의 무거운 계산)
+ *
+ * 해결:
+ *   - 저장: refresh 후 빈 정의 목록 + @SnapshotSafe singleton 인스턴스를 한 스트림에 직렬화
+ *     → 같은 스트림 안의 참조 관계(빈 A가 빈 B를 참조)가 그대로 보존됨
+ *   - 복원: 스캔 없이 빈 정의를 등록하고, 인스턴스를 캐시에 바로 넣은 뒤 @AfterRestore만 호출
+ *     → 생성자 / 주입 / @PostConstruct를 다시 실행하지 않음
+ *     → 스냅숏 대상이 아닌 빈은 평소처럼 필요할 때 생성
+ *
+ * 무효화:
+ *   - 클래스패스 지문(각 항목의 경로 / 크기 / 수정 시각)이 저장 당시와 다르면 복원하지 않음
+ *   - 조건부 등록(@Profile, @ConditionalOnProperty)이 참고한 입력 값이 바뀐 경우도 복원하지 않음
+ *   - 기준 패키지가 다르거나 파일이 손상된 경우도 복원하지 않음
+ *   → 호출자(AnnotationConfigApplicationContext)는 일반 refresh로 대체
+ *
+ * 스냅숏 밖의 빈 참조:
+ *   - @SnapshotSafe 빈이 스냅숏 대상이 아닌 singleton을 (필드로) 참조하면 그 빈은 저장하지 않음
+ *     → 같이 직렬화하면 복원 시 컨테이너가 만든 인스턴스와 별개의 복사본이 생기기 때문
+ *   - 제외된 빈은 경고만 남기고, 복원 후 평소처럼 필요할 때 생성됨
+ *
+ * 읽기 제한:
+ *   - 저장할 때 singleton 구간에 실제로 쓰인 클래스 이름을 함께 기록
+ *   - 읽을 때 ObjectInputFilter로 기록된 클래스만 허용 → 파일이 바뀌어도 다른 클래스는 역직렬화되지 않음
+ *
+ * 파일 형식 (ObjectOutputStream):
+ *   형식 문자열, 클래스패스 지문, 기준 패키지, singleton 구간의 클래스 이름 배열,
+ *   조건 평가 입력 맵, 빈 정의 목록, singleton 구간 (개수 + (빈 이름, 인스턴스) 쌍을 직렬화한 바이트 배열)
+ */
+public final class ContextSnapshot {
+
+    private static final String FORMAT = "minispring-context-snapshot-v3";
+
+    // singleton 구간 바깥(헤더, 정의 목록)에 쓰이는 클래스
+    private static final Set<String> FORMAT_CLASSES = Set.of(
+        LinkedHashMap.class.getName(), HashMap.class.getName(), ArrayList.class.getName(),
+        DefinitionRecord.class.getName()
+    );
+
+    private static final ContainerLogger LOG = ContainerLogging.getLogger();
+
+    private final List<DefinitionRecord> definitions;
+    private final Map<String, Object> singletons;
+
+    private ContextSnapshot(List<DefinitionRecord> definitions, Map<String, Object> singletons) {
+        this.definitions = definitions;
+        this.singletons = singletons;
+    }
+
+    /**
+     * 스냅숏 파일 쓰기
+     *
+     * @SnapshotSafe singleton 중 아직 생성되지 않은 빈(@Lazy 제외)은 먼저 생성해서 포함
+     * 스냅숏 대상이 아닌 singleton을 참조하는 빈은 경고 후 제외
+     *
+     * @param beanFactory refresh가 끝난 빈 팩토리
+     * @param basePackage 컨텍스트의 기준 패키지 (복원 시 일치 여부 확인)
+     * @param file 스냅숏 파일
+     * @return 저장한 singleton 빈 이름
+     * @throws IllegalStateException @SnapshotSafe 빈이 Serializable이 아니거나 직렬화에 실패한 경우
+     */
+    public static List<String> write(BeanFactory beanFactory, String basePackage, Path file) {
+        return write(beanFactory, basePackage, file, Map.of());
+    }
+
+    /**
+     * 스냅숏 파일 쓰기 (조건 평가 입력 포함)
+     *
+     * @param beanFactory refresh가 끝난 빈 팩토리
+     * @param basePackage 컨텍스트의 기준 패키지
+     * @param file 스냅숏 파일
+     * @param conditionInputs 스캔 중 ConditionEvaluator가 참고한 입력 (getConsultedInputs())
+     * @return 저장한 singleton 빈 이름
+     * @throws IllegalStateException @SnapshotSafe 빈이 Serializable이 아니거나 직렬화에 실패한 경우
+     */
+    public static List<String> write(BeanFactory beanFactory, String basePackage, Path file,
+                                     Map<String, String> conditionInputs) {
+        // ================================================================
+        // 1단계: 빈 정의 목록 + 스냅숏 대상 singleton 수집
+        // ================================================================
+        List<DefinitionRecord> definitions = new ArrayList<>();
+        Map<String, Object> singletons = new LinkedHashMap<>();
+        for (String beanName : beanFactory.getBeanNamesForType(Object.class)) {
+            BeanDefinition definition = beanFactory.getBeanDefinition(beanName);
+            definitions.add(DefinitionRecord.of(definition));
+
+            if (!definition.isSingleton() || !isSnapshotSafe(definition)) {
+                continue;
+            }
+            Object bean = definition.isLazyInit()
+                ? beanFactory.getSingletons().get(beanName)
+                : beanFactory.getBean(beanName);
+            if (bean == null || bean instanceof ProxyObject) {
+                continue;  // 생성되지 않은 @Lazy 빈, 팩토리에 바인딩된 설정 프록시는 제외
+            }
+            if (!(bean instanceof Serializable)) {
+                throw new IllegalStateException(
+                    "@SnapshotSafe bean must implement java.io.Serializable: " + beanName
+                );
+            }
+            singletons.put(beanName, bean);
+        }
+
+        // ================================================================
+        // 2단계: singleton 구간 직렬화 (스냅숏 밖의 빈을 참조하는 빈은 제외)
+        // ================================================================
+        SingletonSection section = serializeSingletons(beanFactory, singletons);
+
+        // ================================================================
+        // 3단계: 파일 쓰기 (임시 파일에 쓴 뒤 교체)
+        // ================================================================
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            Path temp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(temp));
+                 ObjectOutputStream objects = new ObjectOutputStream(out)) {
+                objects.writeUTF(FORMAT);
+                objects.writeUTF(classpathFingerprint());
+                objects.writeUTF(basePackage);
+                objects.writeObject(section.classNames);
+                objects.writeObject(new LinkedHashMap<>(conditionInputs));
+                objects.writeObject(new ArrayList<>(definitions));
+                objects.writeObject(section.bytes);
+            } catch (IOException e) {
+                Files.deleteIfExists(temp);
+                throw new IllegalStateException("Failed to write context snapshot: " + file, e);
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write context snapshot: " + file, e);
+        }
+        return List.copyOf(singletons.keySet());
+    }
+
+    /**
+     * singleton 구간 직렬화
+     *
+     * 스냅숏 대상이 아닌 singleton에 닿은 빈은 목록에서 빼고 처음부터 다시 직렬화
+     * (뺀 빈을 참조하던 다른 빈도 다음 시도에서 걸러짐)
+     *
+     * @param singletons 스냅숏 대상 (제외된 빈은 여기서 제거됨)
+     */
+    private static SingletonSection serializeSingletons(BeanFactory beanFactory, Map<String, Object> singletons) {
+        Map<Object, String> containerBeans = new IdentityHashMap<>();
+        for (Map.Entry<String, Object> singleton : beanFactory.getSingletons().entrySet()) {
+            containerBeans.put(singleton.getValue(), singleton.getKey());
+        }
+
+        while (true) {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            SingletonOutputStream objects = null;
+            try {
+                objects = new SingletonOutputStream(bytes, containerBeans, singletons);
+                objects.writeInt(singletons.size());
+                for (Map.Entry<String, Object> singleton : singletons.entrySet()) {
+                    objects.root = singleton.getKey();
+                    objects.writeUTF(singleton.getKey());
+                    objects.writeObject(singleton.getValue());
+                }
+                objects.close();
+            } catch (ForeignBeanReference e) {
+                LOG.warn("Excluding @SnapshotSafe bean '{}' from context snapshot: it references non-snapshot bean '{}'",
+                    e.root, e.beanName);
+                singletons.remove(e.root);
+                continue;
+            } catch (IOException e) {
+                throw new IllegalStateException("Failed to serialize context snapshot singletons", e);
+            }
+            return new SingletonSection(objects.classNames.toArray(new String[0]), bytes.toByteArray());
+        }
+    }
+
+    /**
+     * 스냅숏 파일 읽기
+     *
+     * @param file 스냅숏 파일
+     * @param basePackage 복원할 컨텍스트의 기준 패키지
+     * @return 읽은 스냅숏 (파일이 없거나, 클래스패스가 바뀌었거나, 읽을 수 없으면 null)
+     */
+    public static ContextSnapshot read(Path file, String basePackage) {
+        return read(file, basePackage, ConditionEvaluator.fromSystemProperties());
+    }
+
+    /**
+     * 스냅숏 파일 읽기 (조건 평가 입력 확인 포함)
+     *
+     * @param file 스냅숏 파일
+     * @param basePackage 복원할 컨텍스트의 기준 패키지
+     * @param conditionEvaluator 이번 실행의 평가기 (저장 당시 입력과 같아야 복원)
+     * @return 읽은 스냅숏 (무효하면 null)
+     */
+    public static ContextSnapshot read(Path file, String basePackage, ConditionEvaluator conditionEvaluator) {
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(file));
+             ObjectInputStream objects = new ContextClassLoaderObjectInputStream(in, FORMAT_CLASSES)) {
+            if (!FORMAT.equals(objects.readUTF())) {
+                return null;
+            }
+            if (!classpathFingerprint().equals(objects.readUTF())) {
+                LOG.info("Context snapshot is stale (classpath changed): {}", file);
+                return null;
+            }
+            if (!basePackage.equals(objects.readUTF())) {
+                return null;
+            }
+            String[] classNames = (String[]) objects.readObject();
+            @SuppressWarnings("unchecked")
+            Map<String, String> conditionInputs = (Map<String, String>) objects.readObject();
+            if (!conditionEvaluator.hasSameInputs(conditionInputs)) {
+                LOG.info("Context snapshot is stale (condition inputs changed): {}", file);
+                return null;
+            }
+            @SuppressWarnings("unchecked")
+            List<DefinitionRecord> definitions = (List<DefinitionRecord>) objects.readObject();
+            byte[] section = (byte[]) objects.readObject();
+            return new ContextSnapshot(definitions, readSingletons(section, classNames));
+        } catch (IOException | ClassNotFoundException | ClassCastException e) {
+            LOG.warn("Ignoring unreadable context snapshot {}: {}", file, e.toString());
+            return null;
+        }
+    }
+
+    /**
+     * singleton 구간 역직렬화 (저장 당시 기록된 클래스만 허용)
+     */
+    private static Map<String, Object> readSingletons(byte[] section, String[] classNames)
+        throws IOException, ClassNotFoundException {
+        try (ObjectInputStream objects = new ContextClassLoaderObjectInputStream(
+            new ByteArrayInputStream(section), Set.of(classNames))) {
+            int count = objects.readInt();
+            Map<String, Object> singletons = new LinkedHashMap<>();
+            for (int i = 0; i < count; i++) {
+                String beanName = objects.readUTF();
+                singletons.put(beanName, objects.readObject());
+            }
+            return singletons;
+        }
+    }
+
+    /**
+     * 빈 팩토리에 스냅숏 복원 (컴포넌트 스캔 대신)
+     *
+     * 동작 흐름:
+     *   1. 저장된 빈 정의 등록 (Full 모드 설정 클래스는 서브클래스만 다시 연결)
+     *   2. 저장된 singleton 인스턴스를 캐시에 등록
+     *   3. 복원된 빈의 @AfterRestore 호출 (저장 순서대로)
+     *
+     * @param beanFactory 비어 있는 빈 팩토리
+     * @return 복원한 singleton 빈 이름
+     * @throws IllegalStateException 저장된 정의의 클래스 / 메서드를 찾을 수 없는 경우
+     */
+    public List<String> restoreInto(BeanFactory beanFactory) {
+        for (DefinitionRecord record : definitions) {
+            beanFactory.registerBeanDefinition(record.toDefinition());
+        }
+        for (Map.Entry<String, Object> singleton : singletons.entrySet()) {
+            beanFactory.registerSingleton(singleton.getKey(), singleton.getValue());
+        }
+        BeanLifecycleManager lifecycleManager = new BeanLifecycleManager();
+        for (Object bean : singletons.values()) {
+            lifecycleManager.invokeAfterRestore(bean);
+        }
+        return List.copyOf(singletons.keySet());
+    }
+
+    /**
+     * @return 저장된 빈 정의 개수
+     */
+    public int getDefinitionCount() {
+        return definitions.size();
+    }
+
+    /**
+     * @return 저장된 singleton 빈 이름
+     */
+    public List<String> getSingletonNames() {
+        return List.copyOf(singletons.keySet());
+    }
+
+    private static boolean isSnapshotSafe(BeanDefinition definition) {
+        Class<?> type = definition instanceof ConfigurationClassDefinition
+            ? ((ConfigurationClassDefinition) definition).getConfigClass()
+            : definition.getBeanClass();
+        return ClassMetadata.forClass(type).isAnnotationPresent(SnapshotSafe.class);
+    }
+
+    /**
+     * 클래스패스 지문 (SHA-256)
+     *
+     * 항목마다 경로 / 크기 / 수정 시각을 반영, 디렉터리는 안의 .class 파일까지 반영
+     * → 클래스가 다시 컴파일되거나 jar가 교체되면 값이 바뀜
+     */
+    static String classpathFingerprint() {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (String entry : System.getProperty("java.class.path", "").split(File.pathSeparator)) {
+                if (entry.isEmpty()) {
+                    continue;
+                }
+                Path path = Paths.get(entry);
+                if (Files.isDirectory(path)) {
+                    try (Stream<Path> files = Files.walk(path)) {
+                        for (Path classFile : files.filter(Files::isRegularFile).sorted().toList()) {
+                            update(digest, classFile);
+                        }
+                    }
+                } else if (Files.exists(path)) {
+                    update(digest, path);
+                }
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to fingerprint classpath", e);
+        }
+    }
+
+    private static void update(MessageDigest digest, Path file) throws IOException {
+        String entry = file.toAbsolutePath() + "|" + Files.size(file) + "|" + Files.getLastModifiedTime(file).toMillis();
+        digest.update(entry.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 직렬화 가능한 빈 정의 (Class / Method 대신 이름으로 저장)
+     */
+    private static final class DefinitionRecord implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private final String beanName;
+        private final String className;
+        private final String scope;
+        private final boolean lazyInit;
+        private final boolean configuration;  // Full 모드 설정 클래스 (className은 원래 클래스)
+        private final String configBeanName;  // @Bean 메서드면 설정 빈 이름, 아니면 null
+        private final String methodName;
+        private final String[] parameterTypeNames;
+        private final String declaringClassName;
+
+        private DefinitionRecord(String beanName, String className, String scope, boolean lazyInit,
+                                 boolean configuration, String configBeanName, Method method) {
+            this.beanName = beanName;
+            this.className = className;
+            this.scope = scope;
+            this.lazyInit = lazyInit;
+            this.configuration = configuration;
+            this.configBeanName = configBeanName;
+            this.methodName = method != null ? method.getName() : null;
+            this.declaringClassName = method != null ? method.getDeclaringClass().getName() : null;
+            this.parameterTypeNames = method != null
+                ? Stream.of(method.getParameterTypes()).map(Class::getName).toArray(String[]::new)
+                : null;
+        }
+
+        static DefinitionRecord of(BeanDefinition definition) {
+            if (definition instanceof ConfigurationClassDefinition) {
+                return new DefinitionRecord(definition.getBeanName(),
+                    ((ConfigurationClassDefinition) definition).getConfigClass().getName(),
+                    definition.getScope(), definition.isLazyInit(), true, null, null);
+            }
+            if (definition instanceof BeanMethodDefinition) {
+                BeanMethodDefinition methodDefinition = (BeanMethodDefinition) definition;
+                return new DefinitionRecord(definition.getBeanName(), definition.getBeanClass().getName(),
+                    definition.getScope(), definition.isLazyInit(), false,
+                    methodDefinition.getConfigBeanName(), methodDefinition.getMethod());
+            }
+            return new DefinitionRecord(definition.getBeanName(), definition.getBeanClass().getName(),
+                definition.getScope(), definition.isLazyInit(), false, null, null);
+        }
+
+        BeanDefinition toDefinition() {
+            try {
+                Class<?> beanClass = load(className);
+                if (configuration) {
+                    return new ConfigurationClassDefinition(
+                        beanName, ConfigurationClassEnhancer.enhance(beanClass), beanClass
+                    );
+                }
+                if (configBeanName != null) {
+                    Class<?>[] parameterTypes = new Class<?>[parameterTypeNames.length];
+                    for (int i = 0; i < parameterTypes.length; i++) {
+                        parameterTypes[i] = load(parameterTypeNames[i]);
+                    }
+                    Method method = load(declaringClassName).getDeclaredMethod(methodName, parameterTypes);
+                    return new BeanMethodDefinition(beanName, beanClass, configBeanName, method, scope, lazyInit);
+                }
+                return new BeanDefinition(beanName, beanClass, scope, lazyInit);
+            } catch (ClassNotFoundException | NoSuchMethodException e) {
+                throw new IllegalStateException("Cannot restore bean definition: " + beanName, e);
+            }
+        }
+
+        private static Class<?> load(String name) throws ClassNotFoundException {
+            return ContextClassLoaderObjectInputStream.loadClass(name);
+        }
+    }
+
+    /**
+     * 직렬화된 singleton 구간 + 그 안에 쓰인 클래스 이름
+     */
+    private static final class SingletonSection {
+        private final String[] classNames;
+        private final byte[] bytes;
+
+        SingletonSection(String[] classNames, byte[] bytes) {
+            this.classNames = classNames;
+            this.bytes = bytes;
+        }
+    }
+
+    /**
+     * singleton 구간용 ObjectOutputStream
+     *
+     *   - 쓰인 클래스 이름 기록 (annotateClass는 클래스 설명자마다 한 번 호출됨)
+     *   - 스냅숏 대상이 아닌 컨테이너 singleton에 닿으면 ForeignBeanReference
+     */
+    private static final class SingletonOutputStream extends ObjectOutputStream {
+        private final Map<Object, String> containerBeans;
+        private final Map<String, Object> snapshotBeans;
+        private final Set<String> classNames = new LinkedHashSet<>();
+        private String root;  // 지금 쓰고 있는 스냅숏 빈 이름
+
+        SingletonOutputStream(OutputStream out, Map<Object, String> containerBeans,
+                              Map<String, Object> snapshotBeans) throws IOException {
+            super(out);
+            this.containerBeans = containerBeans;
+            this.snapshotBeans = snapshotBeans;
+            enableReplaceObject(true);
+        }
+
+        @Override
+        protected void annotateClass(Class<?> type) {
+            classNames.add(type.getName());
+        }
+
+        @Override
+        protected void annotateProxyClass(Class<?> type) {
+            classNames.add(type.getName());
+        }
+
+        @Override
+        protected Object replaceObject(Object obj) throws IOException {
+            String beanName = containerBeans.get(obj);
+            if (beanName != null && snapshotBeans.get(beanName) != obj) {
+                throw new ForeignBeanReference(root, beanName);
+            }
+            return obj;
+        }
+    }
+
+    /**
+     * 스냅숏 빈이 스냅숏 밖의 singleton을 참조함 (해당 빈을 제외하고 다시 직렬화)
+     */
+    private static final class ForeignBeanReference extends IOException {
+        private static final long serialVersionUID = 1L;
+
+        private final String root;
+        private final String beanName;
+
+        ForeignBeanReference(String root, String beanName) {
+            super("Snapshot bean '" + root + "' references non-snapshot bean '" + beanName + "'");
+            this.root = root;
+            this.beanName = beanName;
+        }
+    }
+
+    /**
+     * 허용 목록에 있는 클래스만 역직렬화하는 필터
+     *
+     * 배열 자체는 허용 (원소 객체는 각자 이 필터를 거침)
+     * → ArrayList / HashMap의 readObject가 내부 배열(Object[], Map.Entry[])을 검사할 때도 통과
+     */
+    private static final class RecordedClassFilter implements ObjectInputFilter {
+        private final Set<String> allowed;
+
+        RecordedClassFilter(Set<String> allowed) {
+            this.allowed = allowed;
+        }
+
+        @Override
+        public Status checkInput(FilterInfo info) {
+            Class<?> type = info.serialClass();
+            if (type == null) {
+                return Status.UNDECIDED;  // 참조 / 깊이 / 배열 길이 확인
+            }
+            return type.isArray() || allowed.contains(type.getName()) ? Status.ALLOWED : Status.REJECTED;
+        }
+    }
+
+    /**
+     * 컨텍스트 클래스 로더로 클래스를 찾는 ObjectInputStream (기본형 이름 포함)
+     */
+    private static final class ContextClassLoaderObjectInputStream extends ObjectInputStream {
+
+        ContextClassLoaderObjectInputStream(InputStream in, Set<String> allowedClasses) throws IOException {
+            super(in);
+            setObjectInputFilter(new RecordedClassFilter(allowedClasses));
+        }
+
+        @Override
+        protected Class<?> resolveClass(ObjectStreamClass descriptor) throws IOException, ClassNotFoundException {
+            try {
+                return loadClass(descriptor.getName());
+            } catch (ClassNotFoundException e) {
+                return super.resolveClass(descriptor);
+            }
+        }
+
+        static Class<?> loadClass(String name) throws ClassNotFoundException {
+            switch (name) {
+                case "boolean": return boolean.class;
+                case "byte": return byte.class;
+                case "char": return char.class;
+                case "short": return short.class;
+                case "int": return int.class;
+                case "long": return long.class;
+                case "float": return float.class;
+                case "double": return double.class;
+                default:
+                    ClassLoader loader = Thread.currentThread().getContextClassLoader();
+                    return Class.forName(name, false, loader != null ? loader : ContextSnapshot.class.getClassLoader());
+            }
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package org.example.minispring.container;
+
+import org.example.minispring.annotation.Order;
+import org.example.minispring.bean.BeanDefinition;
+import org.example.minispring.bean.ClassMetadata;
+import org.example.minispring.exception.NoSuchBeanException;
+import org.example.minispring.exception.NoUniqueBeanException;
+import org.example.minispring.processor.ConfigurationClassProcessor.BeanMethodDefinition;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 후보 빈 이름을 미리 결정해 두는 ObjectProvider 구현체
+ *
+ * 생성 시점 (주입 시 1회):
+ *   1. getBeanNamesForType()으로 후보 이름 수집 (pooled 빈 제외)
+ *   2. @Order 기준으로 정렬한 이름 목록도 함께 계산
+ *
+ * 조회 시점:
+ *   - 후보가 singleton 하나: 첫 조회 결과를 volatile 필드에 캐싱 → 이후 필드 읽기만
+ *   - 그 외: getBean(이름) (타입 매칭 순회 없음)
+ */
+final class DefaultObjectProvider<T> implements ObjectProvider<T> {
+
+    private final BeanFactory beanFactory;
+    private final Class<T> type;
+    private final String[] candidateNames;
+    private final String[] orderedNames;
+
+    // 후보가 singleton 하나일 때만 사용
+    private final boolean uniqueSingleton;
+    private volatile T cachedSingleton;
+
+    DefaultObjectProvider(BeanFactory beanFactory, Class<T> type) {
+        this.beanFactory = beanFactory;
+        this.type = type;
+
+        // ================================================================
+        // 1단계: 후보 이름 수집 (대여/반납이 필요한 pooled 빈은 제외)
+        // ================================================================
+        List<BeanDefinition> candidates = new ArrayList<>();
+        for (String beanName : beanFactory.getBeanNamesForType(type)) {
+            BeanDefinition definition = beanFactory.getBeanDefinition(beanName);
+            if (!definition.isPooled()) {
+                candidates.add(definition);
+            }
+        }
+        this.candidateNames = candidates.stream().map(BeanDefinition::getBeanName).toArray(String[]::new);
+
+        // ================================================================
+        // 2단계: @Order 순서 (같은 순서 값이면 이름 순)
+        // ================================================================
+        this.orderedNames = candidates.stream()
+            .sorted(Comparator.<BeanDefinition>comparingInt(DefaultObjectProvider::orderOf)
+                .thenComparing(BeanDefinition::getBeanName))
+            .map(BeanDefinition::getBeanName)
+            .toArray(String[]::new);
+
+        this.uniqueSingleton = candidates.size() == 1 && candidates.get(0).isSingleton();
+    }
+
+    @Override
+    public T get() {
+        if (candidateNames.length == 0) {
+            throw new NoSuchBeanException("No bean found with type: " + type.getName());
+        }
+        return getIfAvailable();
+    }
+
+    @Override
+    public T getIfAvailable() {
+        if (candidateNames.length > 1) {
+            throw new NoUniqueBeanException(
+                "Expected single bean but found " + candidateNames.length +
+                " beans of type " + type.getName() + ": " + Arrays.toString(candidateNames)
+            );
+        }
+        return getIfUnique();
+    }
+
+    @Override
+    public T getIfUnique() {
+        if (candidateNames.length != 1) {
+            return null;
+        }
+        if (!uniqueSingleton) {
+            return type.cast(beanFactory.getBean(candidateNames[0]));
+        }
+
+        // singleton: 첫 조회 이후에는 volatile 읽기 한 번
+        T bean = cachedSingleton;
+        if (bean == null) {
+            bean = type.cast(beanFactory.getBean(candidateNames[0]));
+            cachedSingleton = bean;
+        }
+        return bean;
+    }
+
+    @Override
+    public boolean isUnique() {
+        return candidateNames.length == 1;
+    }
+
+    @Override
+    public Stream<T> stream() {
+        return Arrays.stream(candidateNames).map(name -> type.cast(beanFactory.getBean(name)));
+    }
+
+    @Override
+    public Stream<T> orderedStream() {
+        return Arrays.stream(orderedNames).map(name -> type.cast(beanFactory.getBean(name)));
+    }
+
+    private static int orderOf(BeanDefinition definition) {
+        Order order = definition instanceof BeanMethodDefinition
+            ? ((BeanMethodDefinition) definition).getMethod().getAnnotation(Order.class)
+            : ClassMetadata.forClass(definition.getBeanClass()).getAnnotation(Order.class);
+        return order != null ? order.value() : Integer.MAX_VALUE;
+    }
+}
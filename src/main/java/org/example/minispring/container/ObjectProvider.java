@@ -0,0 +1,67 @@
+package org.example.minispring.container;
+
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * 빈이 없거나 여러 개인 경우까지 다룰 수 있는 Provider
+ *
+ * 역할:
+ *   - 선택적 의존성: getIfAvailable() / getIfUnique()
+ *   - 같은 타입의 빈 전체: stream() / orderedStream()
+ *
+ * 성능:
+ *   - 후보 빈 이름은 Provider를 만들 때 한 번만 타입 매칭으로 결정
+ *   - 이후 get()은 빈 정의 순회 없이 이름으로 바로 조회
+ *     (singleton은 첫 조회 후 캐싱된 참조를 반환 → 필드 읽기 수준)
+ *
+ * 사용 예시:
+ *   public NotificationService(ObjectProvider<SmsSender> sms,
+ *                              ObjectProvider<MessageFilter> filters) {
+ *       this.sms = sms;                  // 없을 수도 있는 의존성
+ *       this.filters = filters;          // 여러 구현체 (@Order 순서)
+ *   }
+ *   filters.orderedStream().forEach(...);
+ *
+ * @param <T> 조회할 빈 타입
+ */
+public interface ObjectProvider<T> extends Provider<T> {
+
+    /**
+     * @return 유일한 빈, 후보가 없으면 null
+     * @throws org.example.minispring.exception.NoUniqueBeanException 빈이 2개 이상인 경우
+     */
+    T getIfAvailable();
+
+    /**
+     * @param defaultSupplier 후보가 없을 때 사용할 값의 공급자
+     * @return 유일한 빈, 후보가 없으면 defaultSupplier의 결과
+     * @throws org.example.minispring.exception.NoUniqueBeanException 빈이 2개 이상인 경우
+     */
+    default T getIfAvailable(Supplier<T> defaultSupplier) {
+        T bean = getIfAvailable();
+        return bean != null ? bean : defaultSupplier.get();
+    }
+
+    /**
+     * @return 후보가 정확히 1개면 해당 빈, 아니면 null
+     */
+    T getIfUnique();
+
+    /**
+     * 후보가 정확히 1개인지 확인 (빈 정의만 확인, 인스턴스를 만들지 않음)
+     *
+     * @return 후보가 정확히 1개면 true
+     */
+    boolean isUnique();
+
+    /**
+     * @return 모든 후보 빈 (순서 보장 없음, pooled 빈 제외)
+     */
+    Stream<T> stream();
+
+    /**
+     * @return 모든 후보 빈을 @Order 값 순서로 (없는 빈은 뒤, pooled 빈 제외)
+     */
+    Stream<T> orderedStream();
+}
@@ -0,0 +1,20 @@
+package org.example.minispring.container;
+
+/**
+ * 빈을 주입 시점이 아니라 필요한 시점에 조회하기 위한 공급자
+ *
+ * 생성자 / @Bean 메서드 파라미터로 주입받아 사용
+ *   public OrderService(Provider<AuditLog> auditLog) { ... }
+ *
+ * @param <T> 조회할 빈 타입
+ */
+@FunctionalInterface
+public interface Provider<T> {
+
+    /**
+     * @return 타입에 매칭되는 유일한 빈 (스코프 규칙에 따라 새 인스턴스일 수 있음)
+     * @throws org.example.minispring.exception.NoSuchBeanException 빈이 없는 경우
+     * @throws org.example.minispring.exception.NoUniqueBeanException 빈이 2개 이상인 경우
+     */
+    T get();
+}
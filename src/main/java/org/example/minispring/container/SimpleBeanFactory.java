@@ -1,16 +1,52 @@
 package org.example.minispring.container;
 
+import org.example.minispring.annotation.Evictable;
+import org.example.minispring.annotation.Keyed;
+import org.example.minispring.annotation.Pooled;
+import org.example.minispring.annotation.Striped;
 import org.example.minispring.bean.BeanDefinition;
+import org.example.minispring.bean.ClassMetadata;
+import org.example.minispring.exception.CircularDependencyException;
 import org.example.minispring.exception.NoSuchBeanException;
 import org.example.minispring.exception.NoUniqueBeanException;
+import org.example.minispring.injector.BeanCreationPlan;
 import org.example.minispring.injector.DependencyInjector;
+import org.example.minispring.jfr.BeanCreationEvent;
+import org.example.minispring.jfr.BeanLookupEvent;
+import org.example.minispring.jfr.SingletonLockWaitEvent;
 import org.example.minispring.lifecycle.BeanLifecycleManager;
+import org.example.minispring.pool.BeanPool;
+import org.example.minispring.processor.ConfigurationClassEnhancer;
+import org.example.minispring.processor.ConfigurationClassProcessor.BeanMethodDefinition;
+import org.example.minispring.processor.ConfigurationClassProcessor.ConfigurationClassDefinition;
+import org.example.minispring.proxy.DelegatingProxyFactory;
+import org.example.minispring.proxy.TargetSource;
+import org.example.minispring.scope.BeanScope;
+import org.example.minispring.scope.EvictableScope;
+import org.example.minispring.scope.KeyedBeans;
+import org.example.minispring.scope.ScopeKeyResolver;
+import org.example.minispring.scope.ScopedTarget;
+import org.example.minispring.scope.StripedBeans;
+import org.example.minispring.scope.TaskScope;
+import org.example.minispring.scope.ThreadScope;
+import org.example.minispring.startup.StartupRecorder;
+import org.example.minispring.startup.StartupStep;
 
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
 
 /**
  * BeanFactory의 기본 구현체
@@ -20,13 +56,30 @@ import java.util.concurrent.ConcurrentHashMap;
  *   2. 싱글톤 빈 캐싱 (singletonCache)
  *   3. 의존성 주입을 통한 빈 생성
  *   4. 이름/타입 기반 빈 조회
+ *   5. prototype 빈은 캐싱 없이 컴파일된 생성 계획으로 매번 생성
+ *   6. pooled 빈은 빈마다 BeanPool 하나를 두고 대여/반납
+ *   7. thread / task 빈은 스코프의 슬롯에 보관, 다른 빈에는 스코프 프록시로 주입
+ *   8. striped 빈은 빈마다 StripedBeans 하나를 두고 스레드 해시로 인스턴스 선택
+ *   9. evictable 빈은 EvictableScope가 SoftReference / 바이트 예산으로 보관
+ *  10. keyed 빈은 빈마다 KeyedBeans 하나를 두고 리졸버가 준 키별로 보관
+ *  11. 비동기 초기화 singleton은 초기화 future가 끝난 뒤에 캐시에 저장
+ *      (getBean은 완료를 기다리고, getBeanAsync는 기다리지 않고 조합)
  *
  * 스레드 안전성:
  *   - ConcurrentHashMap 사용으로 멀티스레드 환경에서도 안전
- *   - Double-Checked Locking으로 싱글톤 보장
+ *   - 빈별 락 + Double-Checked Locking으로 싱글톤 보장
+ *     (전역 락이 아니므로 서로 독립적인 빈은 동시에 생성됨)
+ *   - 빈 락을 기다리기 전에 대기 관계(스레드 → 빈 → 생성 중인 스레드)를 따라가
+ *     자기 자신으로 돌아오면 CircularDependencyException (두 스레드의 A ↔ B 교착 방지)
+ *
+ * 관측 (JFR, 녹화 중이 아니면 비용 없음):
+ *   - BeanCreation: 빈 생성 / BeanLookup: 캐시 미스와 느린 히트 / SingletonLockWait: 생성 락 대기
  */
 public class SimpleBeanFactory implements BeanFactory {
 
+    // @Keyed가 없는 keyed 빈의 최대 키 개수 (@Keyed.maxSize 기본값과 동일)
+    private static final int DEFAULT_KEYED_MAX_SIZE = 256;
+
     // ================================================================
     // 빈 메타데이터 저장소
     // ================================================================
@@ -49,6 +102,66 @@ public class SimpleBeanFactory implements BeanFactory {
     //   - 이후 요청은 캐시된 인스턴스 반환
     private final Map<String, Object> singletonCache = new ConcurrentHashMap<>();
 
+    // ================================================================
+    // 싱글톤 생성 락
+    // ================================================================
+    // Key: 빈 이름, Value: 해당 빈 생성 시 사용하는 모니터 (최초 생성 시 추가)
+    private final Map<String, Object> singletonLocks = new ConcurrentHashMap<>();
+
+    // ================================================================
+    // 교착 감지용 대기 관계
+    // ================================================================
+    // singletonCreators: 빈 이름 → 그 빈의 락을 잡고 생성 중인 스레드
+    // lockWaiters: 스레드 → 락을 기다리는 빈 이름
+    // 두 맵을 이으면 wait-for 그래프: 스레드 → 빈 → 스레드 → ...
+    private final Map<String, Thread> singletonCreators = new ConcurrentHashMap<>();
+    private final Map<Thread, String> lockWaiters = new ConcurrentHashMap<>();
+
+    // ================================================================
+    // 종료 시 singleton 생성 차단
+    // ================================================================
+    // 생성은 읽기 락(서로 막지 않음), 정리는 쓰기 락 → 진행 중인 생성이 모두 끝난 뒤 정리 시작
+    // singletonsClosed 이후의 생성은 IllegalStateException
+    private final ReentrantReadWriteLock creationGate = new ReentrantReadWriteLock();
+    private volatile boolean singletonsClosed;
+
+    // ================================================================
+    // 비동기 초기화 singleton
+    // ================================================================
+    // Key: 빈 이름, Value: 초기화가 끝나면 준비된 인스턴스로 완료되는 future
+    // 완료된 빈은 singletonCache에도 저장됨
+    private final Map<String, CompletableFuture<Object>> asyncInitializations = new ConcurrentHashMap<>();
+
+    // ================================================================
+    // 빈 조회 / 생성 리스너 (시작 프로파일 기록 등)
+    // ================================================================
+    // 등록은 드물고 조회는 매우 잦음 → 등록 시 배열을 통째로 교체 (copy-on-write)
+    private volatile BeanAccessListener[] accessListeners = new BeanAccessListener[0];
+
+    // 시작 단계 기록기 (기본값 NONE: 공유 단계 객체만 반환, 측정 / 할당 없음)
+    private volatile StartupRecorder startupRecorder = StartupRecorder.NONE;
+
+    // ================================================================
+    // pooled 빈의 풀
+    // ================================================================
+    // Key: 빈 이름, Value: 해당 빈의 BeanPool (최초 getBeanPool() 시 생성)
+    private final Map<String, BeanPool<?>> beanPools = new ConcurrentHashMap<>();
+
+    // ================================================================
+    // thread / task / striped / evictable / keyed 스코프
+    // ================================================================
+    // scopedTargets: 빈 이름 → 현재 인스턴스 조회기 (getBean과 프록시가 공유)
+    //   - thread / task: 슬롯이 할당된 ScopedTarget
+    //   - striped: StripedBeans
+    //   - evictable: EvictableScope에 등록된 보관소
+    //   - keyed: KeyedBeans
+    // scopedProxies: 빈 이름 → 스코프 프록시 (주입용, 빈마다 1개)
+    private final ThreadScope threadScope;
+    private final TaskScope taskScope;
+    private final EvictableScope evictableScope;
+    private final Map<String, TargetSource> scopedTargets = new ConcurrentHashMap<>();
+    private final Map<String, Object> scopedProxies = new ConcurrentHashMap<>();
+
     // ================================================================
     // 의존성 주입 담당 객체
     // ================================================================
@@ -71,6 +184,12 @@ public class SimpleBeanFactory implements BeanFactory {
         // → 의존성 해결 시 이 BeanFactory를 사용하여 빈 조회
         this.dependencyInjector = new DependencyInjector(this);
         this.lifecycleManager = new BeanLifecycleManager();
+        this.threadScope = new ThreadScope(lifecycleManager::invokePreDestroy);
+        this.taskScope = new TaskScope(lifecycleManager::invokePreDestroy);
+        // 기본 예산: 최대 힙의 1/4
+        this.evictableScope = new EvictableScope(
+            lifecycleManager::invokePreDestroy, Runtime.getRuntime().maxMemory() / 4
+        );
     }
 
     /**
@@ -85,6 +204,23 @@ public class SimpleBeanFactory implements BeanFactory {
         beanDefinitions.put(definition.getBeanName(), definition);
     }
 
+    /**
+     * 준비된 singleton 인스턴스를 캐시에 바로 등록
+     *
+     * @param beanName 등록된 singleton 빈 이름
+     * @param instance 준비된 인스턴스
+     */
+    @Override
+    public void registerSingleton(String beanName, Object instance) {
+        BeanDefinition definition = getBeanDefinition(beanName);
+        if (!definition.isSingleton()) {
+            throw new IllegalStateException("Only singleton beans can be registered as instances: " + beanName);
+        }
+        if (singletonCache.putIfAbsent(beanName, instance) != null) {
+            throw new IllegalStateException("Singleton already created: " + beanName);
+        }
+    }
+
     /**
      * 특정 이름의 빈이 등록되어 있는지 확인
      *
@@ -97,24 +233,80 @@ public class SimpleBeanFactory implements BeanFactory {
     }
 
     /**
-     * 이름으로 빈 조회 (싱글톤 보장)
+     * 이름으로 빈 정의 조회
+     *
+     * @param beanName 조회할 빈 이름
+     * @return 등록된 빈 정의
+     * @throws NoSuchBeanException 빈이 등록되지 않은 경우
+     */
+    @Override
+    public BeanDefinition getBeanDefinition(String beanName) {
+        BeanDefinition definition = beanDefinitions.get(beanName);
+        if (definition == null) {
+            throw new NoSuchBeanException("No bean found with name: " + beanName);
+        }
+        return definition;
+    }
+
+    /**
+     * 이름으로 빈 조회
      *
      * 동작 흐름:
      *   1. 빈 등록 여부 확인
-     *   2. 캐시 확인 (있으면 즉시 반환)
-     *   3. 없으면 생성 후 캐시에 저장
+     *   2. prototype이면 생성 계획으로 새 인스턴스 생성 (캐싱 없음, 락 없음)
+     *   3. 캐시 확인 (있으면 즉시 반환)
+     *   4. 없으면 생성 후 캐시에 저장
+     *      (비동기 초기화 빈은 초기화가 끝날 때까지 대기)
      *
      * @param beanName 조회할 빈 이름
-     * @return 빈 인스턴스 (싱글톤)
+     * @return 빈 인스턴스 (singleton이면 항상 같은 인스턴스)
      * @throws NoSuchBeanException 빈이 등록되지 않은 경우
      */
     @Override
     public Object getBean(String beanName) {
+        // JFR 조회 이벤트 (녹화 중이 아니면 시간 측정 없음, 객체는 JIT가 제거)
+        BeanLookupEvent lookup = new BeanLookupEvent();
+        lookup.start();
+
         // ================================================================
         // 1단계: 빈이 등록되어 있는지 확인
         // ================================================================
-        if (!containsBean(beanName)) {
-            throw new NoSuchBeanException("No bean found with name: " + beanName);
+        BeanDefinition definition = getBeanDefinition(beanName);
+
+        BeanAccessListener[] listeners = accessListeners;
+        if (listeners.length != 0) {
+            for (BeanAccessListener listener : listeners) {
+                listener.beanRequested(beanName);
+            }
+        }
+
+        // ================================================================
+        // 1-1. prototype: 매번 새 인스턴스
+        // ================================================================
+        // 생성 계획은 첫 조회 때 한 번만 컴파일됨
+        // 이후에는 생성자 핸들 호출 + 캡처된 의존성 주입 + @PostConstruct만 수행
+        if (definition.isPrototype()) {
+            BeanCreationEvent creation = new BeanCreationEvent();
+            creation.begin();
+            Object bean = dependencyInjector.getCreationPlan(definition).create();
+            creation.commit(beanName, definition.getBeanClass(), definition.getScope());
+            return bean;
+        }
+
+        // ================================================================
+        // 1-2. pooled: 반납 시점을 알 수 없으므로 getBean()으로는 제공하지 않음
+        // ================================================================
+        if (definition.isPooled()) {
+            throw new IllegalStateException(
+                "Pooled bean must be borrowed through getBeanPool(): " + beanName
+            );
+        }
+
+        // ================================================================
+        // 1-3. thread / task / striped / evictable / keyed: 지금 대상이 되는 인스턴스
+        // ================================================================
+        if (definition.requiresScopedProxy()) {
+            return scopedTarget(definition).getTarget();
         }
 
         // ================================================================
@@ -122,55 +314,262 @@ public class SimpleBeanFactory implements BeanFactory {
         // ================================================================
         // 이미 생성된 빈이 있으면 즉시 반환
         // 이유: 싱글톤 - 같은 빈은 한 번만 생성
+        // (비동기 초기화 빈은 초기화가 끝난 뒤에야 캐시에 들어감)
         Object cached = singletonCache.get(beanName);
         if (cached != null) {
+            lookup.commitHit(beanName);  // 임계값을 넘긴 느린 히트만 기록
             return cached;  // 캐시 히트! 빠른 반환
         }
 
         // ================================================================
-        // 3단계: 빈이 캐시에 없음 → 생성 필요
+        // 3단계: 빈이 캐시에 없음 → 생성 (비동기 초기화 빈이면 완료까지 대기)
         // ================================================================
-        // synchronized 블록으로 스레드 안전성 보장
-        synchronized (this) {
+        CompletableFuture<Object> initialization = obtainSingleton(beanName, definition);
+        Object bean = initialization == null
+            ? singletonCache.get(beanName)
+            : BeanLifecycleManager.await(beanName, initialization);
+        lookup.commitMiss(beanName);
+        return bean;
+    }
 
-            // ============================================================
-            // 3-1. Double-Checked Locking (2차 체크)
-            // ============================================================
-            // 왜 필요한가?
-            //   1) 스레드 A가 synchronized 진입 전 대기
-            //   2) 그 사이 스레드 B가 빈을 생성하고 캐시에 저장
-            //   3) 스레드 A가 락 획득 후 다시 확인 필요
-            //
-            // 다시 체크하지 않으면?
-            //   → 같은 빈이 중복 생성됨 (싱글톤 위반!)
-            cached = singletonCache.get(beanName);
-            if (cached != null) {
-                return cached;  // 다른 스레드가 이미 생성했음
+    /**
+     * singleton 생성 및 초기화 시작
+     *
+     * @param beanName 빈 이름
+     * @param definition singleton 빈 정의
+     * @return 동기 초기화로 이미 캐시에 저장되었으면 null,
+     *         비동기 초기화 빈이면 준비된 인스턴스로 완료되는 future
+     */
+    private CompletableFuture<Object> obtainSingleton(String beanName, BeanDefinition definition) {
+        // 빈마다 별도의 락으로 스레드 안전성 보장
+        //   - 같은 빈을 동시에 요청하면 한 스레드만 생성
+        //   - 서로 다른 빈은 동시에 생성 가능 (병렬 사전 생성)
+        Lock gate = creationGate.readLock();
+        gate.lock();
+        try {
+            if (singletonsClosed) {
+                throw new IllegalStateException("Bean factory is closed, cannot create singleton: " + beanName);
             }
+            return lockAndCreateSingleton(beanName, definition);
+        } finally {
+            gate.unlock();
+        }
+    }
 
-            // ============================================================
-            // 3-2. 빈 생성 (DependencyInjector에 위임)
-            // ============================================================
-            BeanDefinition definition = beanDefinitions.get(beanName);
-            Object bean = createBean(definition);
+    private CompletableFuture<Object> lockAndCreateSingleton(String beanName, BeanDefinition definition) {
+        Thread current = Thread.currentThread();
+        Object lock = singletonLock(beanName);
+        SingletonLockWaitEvent lockWait = new SingletonLockWaitEvent();
+        lockWait.begin();
+        if (singletonCreators.get(beanName) != current) {
+            lockWaiters.put(current, beanName);
+            try {
+                checkWaitForCycle(beanName, current);
+            } catch (CircularDependencyException e) {
+                lockWaiters.remove(current);
+                throw e;
+            }
+        }
+        synchronized (lock) {
+            lockWaiters.remove(current);
+            lockWait.commit(beanName);  // 다른 스레드의 생성을 기다린 시간 (JFR)
+            Thread previousCreator = singletonCreators.put(beanName, current);
+            try {
+                return createSingletonLocked(beanName, definition);
+            } finally {
+                // 락을 놓기 전에 지움 → 다음 소유자가 낡은 기록을 보지 않음
+                if (previousCreator == null) {
+                    singletonCreators.remove(beanName);
+                }
+            }
+        }
+    }
 
-            // ============================================================
-            // 3-3. 생성된 빈을 캐시에 저장
-            // ============================================================
-            // 다음 요청부터는 2단계에서 즉시 반환됨
-            singletonCache.put(beanName, bean);
+    /**
+     * 빈 락을 기다려도 되는지 확인 (교착 감지)
+     *
+     * 대기 관계를 따라감: beanName을 생성 중인 스레드 → 그 스레드가 기다리는 빈 → 그 빈을 생성 중인 스레드 ...
+     *   - 현재 스레드로 돌아오면 서로가 서로의 빈을 기다리는 교착 → 예외
+     *   - 기다리는 빈이 없는 스레드에 닿으면 언젠가 락이 풀림 → 대기
+     *
+     * 두 스레드가 동시에 검사해도 각자 대기 기록을 먼저 남기므로 적어도 한쪽은 순환을 봄
+     *
+     * @throws CircularDependencyException 대기하면 교착되는 경우
+     */
+    private void checkWaitForCycle(String beanName, Thread current) {
+        Set<Thread> visited = new HashSet<>();
+        String waitedBean = beanName;
+        while (waitedBean != null) {
+            Thread owner = singletonCreators.get(waitedBean);
+            if (owner == null || !visited.add(owner)) {
+                return;
+            }
+            if (owner == current) {
+                throw new CircularDependencyException(
+                    "Circular dependency detected for bean: " + beanName +
+                    " (singleton creation across threads would deadlock on " + waitedBean + ")"
+                );
+            }
+            waitedBean = lockWaiters.get(owner);
+        }
+    }
 
-            // ============================================================
-            // 3-4. @PostConstruct 메서드 호출
-            // ============================================================
-            // 빈 생성 및 의존성 주입 완료 후 초기화 콜백 실행
-            // 순서: 생성자 → 의존성 주입 → @PostConstruct
-            lifecycleManager.invokePostConstruct(bean);
+    /**
+     * obtainSingleton()이 빈 락을 잡은 상태에서 호출
+     */
+    private CompletableFuture<Object> createSingletonLocked(String beanName, BeanDefinition definition) {
+        // ============================================================
+        // 3-1. Double-Checked Locking (2차 체크)
+        // ============================================================
+        // 왜 필요한가?
+        //   1) 스레드 A가 synchronized 진입 전 대기
+        //   2) 그 사이 스레드 B가 빈을 생성하고 캐시에 저장
+        //   3) 스레드 A가 락 획득 후 다시 확인 필요
+        //
+        // 다시 체크하지 않으면?
+        //   → 같은 빈이 중복 생성됨 (싱글톤 위반!)
+        if (singletonCache.containsKey(beanName)) {
+            return null;  // 다른 스레드가 이미 생성했음
+        }
+        CompletableFuture<Object> pending = asyncInitializations.get(beanName);
+        if (pending != null) {
+            return pending;  // 비동기 초기화 진행 중
+        }
 
-            return bean;
+        // ============================================================
+        // 3-2. 빈 생성 (DependencyInjector에 위임)
+        // ============================================================
+        BeanAccessListener[] listeners = accessListeners;
+        long startNanos = listeners.length != 0 ? System.nanoTime() : 0L;
+        StartupStep step = startupRecorder.start(StartupRecorder.BEAN_CREATE, beanName);
+        BeanCreationEvent creation = new BeanCreationEvent();
+        creation.begin();
+        try {
+            CompletableFuture<Object> initialization = createSingleton(beanName, definition, listeners, startNanos);
+            creation.commit(beanName, definition.getBeanClass(), definition.getScope());
+            return initialization;
+        } finally {
+            step.end();
+        }
+    }
+
+    /**
+     * 빈 생성 → (비동기 초기화 시작 | 캐시 저장 + @PostConstruct)
+     *
+     * obtainSingleton()이 빈 락을 잡은 상태에서 호출
+     */
+    private CompletableFuture<Object> createSingleton(String beanName, BeanDefinition definition,
+                                                      BeanAccessListener[] listeners, long startNanos) {
+        Object created = createBean(definition);
+
+        // ================================================================
+        // 3-3. 비동기 초기화: future 등록 후 즉시 반환
+        // ================================================================
+        //   - CompletionStage를 반환하는 @Bean: 결과가 나오면 @PostConstruct까지 이어서 실행
+        //   - CompletionStage를 반환하는 @PostConstruct: 반환된 future 완료 = 준비 완료
+        // 완료되면 캐시에 저장 → 이후 조회는 2단계에서 바로 반환
+        CompletableFuture<Object> initialization = startAsyncInitialization(beanName, definition, created);
+        if (initialization != null) {
+            asyncInitializations.put(beanName, initialization);
+            initialization.whenComplete((bean, error) -> {
+                if (error != null) {
+                    // 실패한 future를 남기지 않음 → 동기 생성처럼 다음 조회에서 다시 시도
+                    asyncInitializations.remove(beanName, initialization);
+                    return;
+                }
+                singletonCache.put(beanName, bean);
+                notifyCreated(listeners, beanName, startNanos);
+            });
+            return initialization;
+        }
+
+        // ================================================================
+        // 3-4. 생성된 빈을 캐시에 저장
+        // ================================================================
+        // 다음 요청부터는 2단계에서 즉시 반환됨
+        singletonCache.put(beanName, created);
+
+        // ================================================================
+        // 3-5. @PostConstruct 메서드 호출
+        // ================================================================
+        // 빈 생성 및 의존성 주입 완료 후 초기화 콜백 실행
+        // 순서: 생성자 → 의존성 주입 → @PostConstruct
+        StartupStep postConstruct = startupRecorder.start(StartupRecorder.BEAN_POST_CONSTRUCT, beanName);
+        try {
+            lifecycleManager.invokePostConstruct(created);
+        } finally {
+            postConstruct.end();
+        }
+        notifyCreated(listeners, beanName, startNanos);
+        return null;
+    }
+
+    private static void notifyCreated(BeanAccessListener[] listeners, String beanName, long startNanos) {
+        if (listeners.length != 0) {
+            long creationNanos = System.nanoTime() - startNanos;
+            for (BeanAccessListener listener : listeners) {
+                listener.beanCreated(beanName, creationNanos);
+            }
         }
     }
 
+    @Override
+    public void setStartupRecorder(StartupRecorder recorder) {
+        this.startupRecorder = recorder;
+    }
+
+    /**
+     * 빈 조회 / 생성 리스너 등록
+     *
+     * @param listener 등록할 리스너
+     */
+    @Override
+    public synchronized void addBeanAccessListener(BeanAccessListener listener) {
+        BeanAccessListener[] current = accessListeners;
+        BeanAccessListener[] updated = Arrays.copyOf(current, current.length + 1);
+        updated[current.length] = listener;
+        accessListeners = updated;
+    }
+
+    @SuppressWarnings("unchecked")
+    private CompletableFuture<Object> startAsyncInitialization(String beanName, BeanDefinition definition,
+                                                               Object created) {
+        if (definition instanceof BeanMethodDefinition && ((BeanMethodDefinition) definition).isAsync()) {
+            if (created == null) {
+                throw new IllegalStateException("Asynchronous @Bean method returned null: " + beanName);
+            }
+            return ((CompletionStage<Object>) created).toCompletableFuture().thenCompose(bean -> {
+                if (bean == null) {
+                    throw new IllegalStateException("Asynchronous @Bean method completed with null: " + beanName);
+                }
+                return lifecycleManager.invokePostConstruct(bean).thenApply(done -> bean);
+            });
+        }
+        if (ClassMetadata.forInstance(created).hasAsyncPostConstruct()) {
+            return lifecycleManager.invokePostConstruct(created).thenApply(done -> created);
+        }
+        return null;
+    }
+
+    /**
+     * 빈 정의가 비동기 초기화 대상인지 확인 (인스턴스 생성 없이)
+     *
+     * @return CompletionStage를 반환하는 @Bean 메서드이거나 @PostConstruct가 CompletionStage를 반환하면 true
+     */
+    static boolean hasAsyncInitialization(BeanDefinition definition) {
+        if (definition instanceof BeanMethodDefinition && ((BeanMethodDefinition) definition).isAsync()) {
+            return true;
+        }
+        Class<?> type = definition instanceof ConfigurationClassDefinition
+            ? ((ConfigurationClassDefinition) definition).getConfigClass()
+            : definition.getBeanClass();
+        return ClassMetadata.forClass(type).hasAsyncPostConstruct();
+    }
+
+    private Object singletonLock(String beanName) {
+        return singletonLocks.computeIfAbsent(beanName, name -> new Object());
+    }
+
     /**
      * 타입으로 빈 조회 (싱글톤 보장)
      *
@@ -188,10 +587,426 @@ public class SimpleBeanFactory implements BeanFactory {
     @Override
     @SuppressWarnings("unchecked")
     public <T> T getBean(Class<T> type) {
+        // getBean(String)을 재사용:
+        //   - 싱글톤 보장 로직 활용
+        //   - 코드 중복 제거
+        return (T) getBean(resolveUniqueBeanName(type));
+    }
+
+    /**
+     * 타입에 매칭되는 유일한 빈 이름 조회
+     *
+     * @param type 조회할 빈의 타입
+     * @return 매칭되는 빈 이름
+     * @throws NoSuchBeanException 해당 타입의 빈이 없는 경우
+     * @throws NoUniqueBeanException 같은 타입의 빈이 2개 이상인 경우
+     */
+    private String resolveUniqueBeanName(Class<?> type) {
+        // ================================================================
+        // 1단계: 타입이 일치하는 빈 이름 찾기
+        // ================================================================
+        List<String> matchingBeanNames = getBeanNamesForType(type);
+
+        // ================================================================
+        // 2단계: 매칭되는 빈의 개수 확인
+        // ================================================================
+
+        // Case 1: 매칭되는 빈이 없음
+        if (matchingBeanNames.isEmpty()) {
+            throw new NoSuchBeanException("No bean found with type: " + type.getName());
+        }
+
+        // Case 2: 매칭되는 빈이 2개 이상 (모호함)
+        // 예:
+        //   getBean(UserRepository.class)
+        //   → UserRepositoryImpl1, UserRepositoryImpl2 둘 다 매칭
+        //   → 어느 것을 반환해야 할지 모름!
+        if (matchingBeanNames.size() > 1) {
+            throw new NoUniqueBeanException(
+                "Expected single bean but found " + matchingBeanNames.size() +
+                " beans of type " + type.getName() + ": " + matchingBeanNames
+            );
+        }
+
+        // ================================================================
+        // 3단계: 유일한 매칭 빈 이름 반환
+        // ================================================================
+        return matchingBeanNames.get(0);
+    }
+
+    /**
+     * 이름으로 빈을 비동기 조회
+     *
+     * 동작 흐름:
+     *   1. 이미 준비된 singleton → 완료된 future
+     *   2. 비동기 초기화 진행 중 → 해당 초기화 future
+     *   3. 아직 준비되지 않은 singleton 의존성이 있으면 그 future들이 끝난 뒤에 생성
+     *      (의존하는 비동기 빈만 기다림 → 관계없는 초기화는 기다리지 않음)
+     *   4. 의존성이 모두 준비되었으면 지금 생성
+     *
+     * 어떤 단계에서도 스레드를 막고 기다리지 않음
+     * (3단계의 생성은 마지막 의존성을 완료시킨 스레드에서 실행)
+     *
+     * @param beanName 조회할 빈 이름
+     * @return 준비된 빈으로 완료되는 future (실패 시 예외로 완료)
+     */
+    @Override
+    public CompletableFuture<Object> getBeanAsync(String beanName) {
+        return beanAsync(beanName, new HashSet<>());
+    }
+
+    /**
+     * 타입으로 빈을 비동기 조회
+     *
+     * @param type 조회할 빈의 타입
+     * @param <T> 빈 타입
+     * @return 준비된 빈으로 완료되는 future
+     */
+    @Override
+    public <T> CompletableFuture<T> getBeanAsync(Class<T> type) {
+        try {
+            return getBeanAsync(resolveUniqueBeanName(type)).thenApply(type::cast);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * @Lazy가 아닌 비동기 초기화 singleton의 초기화를 모두 시작 (기다리지 않음)
+     *
+     * @return 초기화를 시작한 빈 이름 목록
+     */
+    @Override
+    public List<String> startAsyncInitializations() {
+        List<String> started = new ArrayList<>();
+        for (BeanDefinition definition : beanDefinitions.values()) {
+            if (definition.isSingleton() && !definition.isLazyInit() && hasAsyncInitialization(definition)) {
+                getBeanAsync(definition.getBeanName());
+                started.add(definition.getBeanName());
+            }
+        }
+        return started;
+    }
+
+    private CompletableFuture<Object> beanAsync(String beanName, Set<String> visiting) {
+        try {
+            // ============================================================
+            // 1~2단계: 준비 완료 / 진행 중
+            // ============================================================
+            Object cached = singletonCache.get(beanName);
+            if (cached != null) {
+                return CompletableFuture.completedFuture(cached);
+            }
+            CompletableFuture<Object> pending = asyncInitializations.get(beanName);
+            if (pending != null) {
+                return pending.copy();  // 호출자가 complete()해도 원본에는 영향 없음
+            }
+            BeanDefinition definition = getBeanDefinition(beanName);
+
+            // ============================================================
+            // 3단계: 아직 끝나지 않은 의존성 수집 (순환 참조면 건너뛰고 생성 시 예외로 보고)
+            // ============================================================
+            List<CompletableFuture<Object>> waits = new ArrayList<>();
+            if (visiting.add(beanName)) {
+                for (String dependency : dependencyInjector.getSingletonDependencies(definition)) {
+                    CompletableFuture<Object> ready = beanAsync(dependency, visiting);
+                    if (!ready.isDone()) {
+                        waits.add(ready);
+                    }
+                }
+                visiting.remove(beanName);
+            }
+            if (!waits.isEmpty()) {
+                // 의존성이 실패해도 생성을 시도 → getBean()이 원인 예외를 그대로 보고
+                return CompletableFuture.allOf(waits.toArray(new CompletableFuture<?>[0]))
+                    .handle((done, error) -> null)
+                    .thenCompose(done -> beanAsync(beanName, new HashSet<>()));
+            }
+
+            // ============================================================
+            // 4단계: 지금 생성 (비동기 초기화 빈은 시작만 하고 future 반환)
+            // ============================================================
+            if (!definition.isSingleton()) {
+                return CompletableFuture.completedFuture(getBean(beanName));
+            }
+            CompletableFuture<Object> initialization = obtainSingleton(beanName, definition);
+            return initialization != null
+                ? initialization.copy()
+                : CompletableFuture.completedFuture(singletonCache.get(beanName));
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * 타입에 대한 ObjectProvider 생성
+     *
+     * 후보 빈 이름과 @Order 순서는 여기서 한 번만 계산됨
+     * → 이후 provider.get()은 resolveUniqueBeanName()의 전체 순회를 반복하지 않음
+     *
+     * @param type 조회할 빈 타입
+     * @param <T> 빈 타입
+     * @return 공급자
+     */
+    @Override
+    public <T> ObjectProvider<T> getBeanProvider(Class<T> type) {
+        return new DefaultObjectProvider<>(this, type);
+    }
+
+    /**
+     * 타입으로 pooled 빈의 풀 조회 (없으면 생성)
+     *
+     * 풀 설정은 클래스 또는 @Bean 메서드의 @Pooled에서 읽음 (없으면 기본값)
+     *
+     * @param type 풀링된 빈의 타입
+     * @param <T> 빈 타입
+     * @return 해당 빈의 풀
+     * @throws IllegalStateException 빈이 pooled 스코프가 아닌 경우
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> BeanPool<T> getBeanPool(Class<T> type) {
+        String beanName = resolveUniqueBeanName(type);
+        BeanPool<?> pool = beanPools.get(beanName);
+        if (pool != null) {
+            return (BeanPool<T>) pool;
+        }
+
+        BeanDefinition definition = getBeanDefinition(beanName);
+        if (!definition.isPooled()) {
+            throw new IllegalStateException("Bean is not pooled: " + beanName);
+        }
+
+        // ================================================================
+        // 풀 설정 읽기 (@Bean 메서드 → 메서드의 @Pooled, 그 외 → 클래스의 @Pooled)
+        // ================================================================
+        Pooled config = definition instanceof BeanMethodDefinition
+            ? ((BeanMethodDefinition) definition).getMethod().getAnnotation(Pooled.class)
+            : ClassMetadata.forClass(definition.getBeanClass()).getAnnotation(Pooled.class);
+        if (config == null) {
+            config = DefaultPoolConfig.class.getAnnotation(Pooled.class);
+        }
+
+        // 생성 계획은 첫 인스턴스 생성 시점에 컴파일 (풀만 조회하고 쓰지 않는 경우 대비)
+        BeanPool<T> created = new BeanPool<>(
+            beanName,
+            () -> dependencyInjector.getCreationPlan(definition).create(),
+            lifecycleManager::invokePreDestroy,
+            config.validate().isEmpty() ? null : BeanPool.methodValidator(definition.getBeanClass(), config.validate()),
+            config.maxSize(), config.maxWaitMillis(), config.maxIdleMillis()
+        );
+        BeanPool<?> existing = beanPools.putIfAbsent(beanName, created);
+        if (existing != null) {
+            created.close();  // 경쟁에서 진 풀의 정리 예약 취소 (아직 인스턴스 없음)
+            return (BeanPool<T>) existing;
+        }
+        return created;
+    }
+
+    /**
+     * 타입으로 striped 빈의 스트라이프 묶음 조회
+     *
+     * @param type striped 빈의 타입
+     * @param <T> 빈 타입
+     * @return 스트라이프 묶음
+     * @throws IllegalStateException 빈이 striped 스코프가 아닌 경우
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> StripedBeans<T> getStripedBeans(Class<T> type) {
+        BeanDefinition definition = getBeanDefinition(resolveUniqueBeanName(type));
+        if (!definition.isStriped()) {
+            throw new IllegalStateException("Bean is not striped: " + definition.getBeanName());
+        }
+        return (StripedBeans<T>) scopedTarget(definition);
+    }
+
+    /**
+     * 타입으로 keyed 빈의 키별 인스턴스 캐시 조회
+     *
+     * @param type keyed 빈의 타입
+     * @param <T> 빈 타입
+     * @return 키별 캐시
+     * @throws IllegalStateException 빈이 keyed 스코프가 아닌 경우
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> KeyedBeans<T> getKeyedBeans(Class<T> type) {
+        BeanDefinition definition = getBeanDefinition(resolveUniqueBeanName(type));
+        if (!definition.isKeyed()) {
+            throw new IllegalStateException("Bean is not keyed: " + definition.getBeanName());
+        }
+        return (KeyedBeans<T>) scopedTarget(definition);
+    }
+
+    /**
+     * thread / task / striped / evictable / keyed 스코프 빈의 스코프 프록시 조회 (없으면 생성)
+     *
+     * @param beanName 스코프 빈 이름
+     * @return 스코프 프록시
+     */
+    @Override
+    public Object getScopedProxy(String beanName) {
+        Object proxy = scopedProxies.get(beanName);
+        if (proxy != null) {
+            return proxy;
+        }
+
+        BeanDefinition definition = getBeanDefinition(beanName);
+        if (!definition.requiresScopedProxy()) {
+            throw new IllegalStateException("Bean scope does not use a scoped proxy: " + beanName);
+        }
+        Object created = DelegatingProxyFactory.createProxy(definition.getBeanClass(), scopedTarget(definition));
+        Object existing = scopedProxies.putIfAbsent(beanName, created);
+        return existing != null ? existing : created;
+    }
+
+    private TargetSource scopedTarget(BeanDefinition definition) {
+        TargetSource target = scopedTargets.get(definition.getBeanName());
+        if (target != null) {
+            return target;
+        }
+
+        Supplier<Object> factory = () -> dependencyInjector.getCreationPlan(definition).create();
+        TargetSource created;
+        if (definition.isStriped()) {
+            Striped config = definition instanceof BeanMethodDefinition
+                ? ((BeanMethodDefinition) definition).getMethod().getAnnotation(Striped.class)
+                : ClassMetadata.forClass(definition.getBeanClass()).getAnnotation(Striped.class);
+            int stripes = config != null && config.stripes() > 0
+                ? config.stripes()
+                : Runtime.getRuntime().availableProcessors();
+            created = new StripedBeans<>(
+                definition.getBeanName(), factory, lifecycleManager::invokePreDestroy, stripes
+            );
+        } else if (definition.isEvictable()) {
+            Evictable config = definition instanceof BeanMethodDefinition
+                ? ((BeanMethodDefinition) definition).getMethod().getAnnotation(Evictable.class)
+                : ClassMetadata.forClass(definition.getBeanClass()).getAnnotation(Evictable.class);
+            created = evictableScope.register(
+                definition.getBeanName(), factory, config != null ? config.sizeBytes() : 0
+            );
+        } else if (definition.isKeyed()) {
+            Keyed config = definition instanceof BeanMethodDefinition
+                ? ((BeanMethodDefinition) definition).getMethod().getAnnotation(Keyed.class)
+                : ClassMetadata.forClass(definition.getBeanClass()).getAnnotation(Keyed.class);
+            Class<? extends ScopeKeyResolver> resolverType = config != null ? config.resolver() : ScopeKeyResolver.class;
+            created = new KeyedBeans<>(
+                definition.getBeanName(), factory, lifecycleManager::invokePreDestroy,
+                () -> getBean(resolverType),
+                config != null ? config.maxSize() : DEFAULT_KEYED_MAX_SIZE
+            );
+        } else {
+            BeanScope scope = BeanDefinition.SCOPE_THREAD.equals(definition.getScope()) ? threadScope : taskScope;
+            created = new ScopedTarget(scope, definition.getBeanName(), factory);
+        }
+        TargetSource existing = scopedTargets.putIfAbsent(definition.getBeanName(), created);
+        return existing != null ? existing : created;
+    }
+
+    @Override
+    public ThreadScope getThreadScope() {
+        return threadScope;
+    }
+
+    @Override
+    public TaskScope getTaskScope() {
+        return taskScope;
+    }
+
+    @Override
+    public EvictableScope getEvictableScope() {
+        return evictableScope;
+    }
+
+    /**
+     * @Lazy가 아닌 모든 singleton을 의존성 단계별로 미리 생성
+     *
+     * @param parallelism 동시에 생성할 최대 빈 개수
+     * @return 실행한 단계 목록 (단계마다 동시에 생성된 빈 이름)
+     */
+    @Override
+    public List<List<String>> preInstantiateSingletons(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be positive: " + parallelism);
+        }
+        return new SingletonPreInstantiator(this, dependencyInjector)
+            .preInstantiate(beanDefinitions.values(), parallelism);
+    }
+
+    /**
+     * 생성된 singleton을 의존성 역순으로 병렬 정리
+     *
+     * @param timeout 전체 제한 시간
+     * @param beanTimeout 빈 하나의 @PreDestroy 제한 시간
+     * @param parallelism 동시에 정리할 최대 빈 개수
+     * @return 제한 시간 안에 정리되지 않은 빈 이름
+     */
+    @Override
+    public List<String> destroySingletons(Duration timeout, Duration beanTimeout, int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be positive: " + parallelism);
+        }
+        // ================================================================
+        // 새 생성 차단 + 진행 중인 생성 대기 (전체 제한 시간에 포함)
+        // ================================================================
+        long startNanos = System.nanoTime();
+        singletonsClosed = true;
+        awaitInFlightCreations(timeout.toNanos());
+        long remainingNanos = Math.max(0L, timeout.toNanos() - (System.nanoTime() - startNanos));
+
+        return new SingletonDestroyer(this, dependencyInjector, lifecycleManager)
+            .destroy(getSingletons(), remainingNanos, beanTimeout.toNanos(), parallelism);
+    }
+
+    private void awaitInFlightCreations(long timeoutNanos) {
+        if (creationGate.getReadHoldCount() > 0) {
+            return;  // 빈 생성 도중에 종료를 호출 → 자기 자신을 기다리지 않음
+        }
+        Lock drained = creationGate.writeLock();
+        try {
+            if (drained.tryLock(timeoutNanos, TimeUnit.NANOSECONDS)) {
+                drained.unlock();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 모든 풀, thread 스코프, 스트라이프, evictable / keyed 빈을 닫아 남은 인스턴스의 @PreDestroy 호출
+     *
+     * task 스코프 인스턴스는 작업이 끝날 때 이미 정리됨
+     */
+    @Override
+    public void destroyScopedBeans() {
+        for (BeanPool<?> pool : beanPools.values()) {
+            pool.close();
+        }
+        beanPools.clear();
+        threadScope.close();
+        evictableScope.close();
+        for (TargetSource target : scopedTargets.values()) {
+            if (target instanceof StripedBeans) {
+                ((StripedBeans<?>) target).destroy();
+            } else if (target instanceof KeyedBeans) {
+                ((KeyedBeans<?>) target).destroy();
+            }
+        }
+    }
+
+    /**
+     * 타입에 할당 가능한 모든 빈 이름 조회
+     *
+     * @param type 조회할 타입
+     * @return 매칭되는 빈 이름 목록
+     */
+    @Override
+    public List<String> getBeanNamesForType(Class<?> type) {
         List<String> matchingBeanNames = new ArrayList<>();
 
         // ================================================================
-        // 1단계: 모든 빈 정의를 순회하며 타입이 일치하는 빈 찾기
+        // 모든 빈 정의를 순회하며 타입이 일치하는 빈 찾기
         // ================================================================
         for (BeanDefinition definition : beanDefinitions.values()) {
 
@@ -220,35 +1035,7 @@ public class SimpleBeanFactory implements BeanFactory {
                 matchingBeanNames.add(definition.getBeanName());
             }
         }
-
-        // ================================================================
-        // 2단계: 매칭되는 빈의 개수 확인
-        // ================================================================
-
-        // Case 1: 매칭되는 빈이 없음
-        if (matchingBeanNames.isEmpty()) {
-            throw new NoSuchBeanException("No bean found with type: " + type.getName());
-        }
-
-        // Case 2: 매칭되는 빈이 2개 이상 (모호함)
-        // 예:
-        //   getBean(UserRepository.class)
-        //   → UserRepositoryImpl1, UserRepositoryImpl2 둘 다 매칭
-        //   → 어느 것을 반환해야 할지 모름!
-        if (matchingBeanNames.size() > 1) {
-            throw new NoUniqueBeanException(
-                "Expected single bean but found " + matchingBeanNames.size() +
-                " beans of type " + type.getName() + ": " + matchingBeanNames
-            );
-        }
-
-        // ================================================================
-        // 3단계: 유일한 매칭 빈을 이름으로 조회
-        // ================================================================
-        // getBean(String)을 재사용:
-        //   - 싱글톤 보장 로직 활용
-        //   - 코드 중복 제거
-        return (T) getBean(matchingBeanNames.get(0));
+        return matchingBeanNames;
     }
 
     /**
@@ -259,73 +1046,36 @@ public class SimpleBeanFactory implements BeanFactory {
      */
     private Object createBean(BeanDefinition definition) {
         // ================================================================
-        // BeanMethodDefinition인 경우: @Bean 메서드 호출
+        // Full 모드 @Configuration: 서브클래스 생성 후 팩토리 연결
         // ================================================================
-        if (definition instanceof org.example.minispring.processor.ConfigurationClassProcessor.BeanMethodDefinition) {
-            return createBeanFromMethod(
-                (org.example.minispring.processor.ConfigurationClassProcessor.BeanMethodDefinition) definition
-            );
+        // 연결 이후 @Bean 메서드끼리의 호출은 getBean()으로 라우팅됨
+        // (연결 전 - 생성자 / @Autowired 메서드 안의 호출은 원래 본문 실행 → 캐시되지 않은 인스턴스)
+        if (definition instanceof ConfigurationClassDefinition) {
+            Object config = compilePlan(definition).instantiate();
+            ConfigurationClassEnhancer.bind(config, this);
+            return config;
         }
 
         // ================================================================
-        // 일반 BeanDefinition: 생성자 주입 방식
+        // 일반 BeanDefinition / @Bean 메서드: 생성 계획 컴파일 후 실행
         // ================================================================
         // DependencyInjector가:
-        //   1. 생성자 선택
+        //   1. 생성자(또는 @Bean 메서드) 선택
         //   2. 의존성 해결 (재귀)
         //   3. 순환 참조 감지
-        //   4. 리플렉션으로 인스턴스 생성
-        return dependencyInjector.createBean(definition);
+        //   4. MethodHandle로 인스턴스 생성
+        return compilePlan(definition).instantiate();
     }
 
     /**
-     * @Bean 메서드 호출하여 빈 생성
-     *
-     * @param beanMethodDef @Bean 메서드의 BeanDefinition
-     * @return @Bean 메서드의 반환값 (빈 인스턴스)
+     * 생성 계획 컴파일 (의존성 해결 - 필요한 singleton 의존성도 이때 생성됨)
      */
-    private Object createBeanFromMethod(
-        org.example.minispring.processor.ConfigurationClassProcessor.BeanMethodDefinition beanMethodDef
-    ) {
+    private BeanCreationPlan compilePlan(BeanDefinition definition) {
+        StartupStep step = startupRecorder.start(StartupRecorder.BEAN_DEPENDENCIES, definition.getBeanName());
         try {
-            // ============================================================
-            // 1단계: @Configuration 클래스 인스턴스 가져오기
-            // ============================================================
-            // 예: @Configuration 클래스가 "appConfig"라는 이름으로 등록됨
-            //     → getBean("appConfig")로 인스턴스 획득
-            Object configInstance = getBean(beanMethodDef.getConfigBeanName());
-
-            // ============================================================
-            // 2단계: @Bean 메서드 정보 가져오기
-            // ============================================================
-            java.lang.reflect.Method method = beanMethodDef.getMethod();
-            method.setAccessible(true);  // private 메서드도 호출 가능하도록
-
-            // ============================================================
-            // 3단계: 메서드 파라미터 의존성 해결
-            // ============================================================
-            Class<?>[] parameterTypes = method.getParameterTypes();
-            Object[] args = new Object[parameterTypes.length];
-
-            for (int i = 0; i < parameterTypes.length; i++) {
-                // 파라미터 타입으로 빈 조회 (의존성 주입)
-                // 예: public DataSource dataSource(Config config)
-                //     → config = getBean(Config.class)
-                args[i] = getBean(parameterTypes[i]);
-            }
-
-            // ============================================================
-            // 4단계: @Bean 메서드 호출하여 빈 생성
-            // ============================================================
-            // 예: configInstance.dataSource(args...)
-            //     → HikariDataSource 인스턴스 반환
-            return method.invoke(configInstance, args);
-
-        } catch (Exception e) {
-            throw new RuntimeException(
-                "Failed to create bean from @Bean method: " + beanMethodDef.getBeanName(),
-                e
-            );
+            return dependencyInjector.compile(definition);
+        } finally {
+            step.end();
         }
     }
 
@@ -334,10 +1084,20 @@ public class SimpleBeanFactory implements BeanFactory {
      *
      * @return 캐시된 모든 빈 인스턴스의 컬렉션
      */
+    @Override
+    public Map<String, Object> getSingletons() {
+        return Map.copyOf(singletonCache);
+    }
+
     @Override
     public Collection<Object> getAllBeans() {
         // 싱글톤 캐시에 저장된 모든 빈 인스턴스 반환
         // @PreDestroy 호출 시 사용
         return singletonCache.values();
     }
+
+    // @Pooled 기본값을 얻기 위한 표식 클래스
+    @Pooled
+    private static final class DefaultPoolConfig {
+    }
 }
@@ -0,0 +1,219 @@
+package org.example.minispring.container;
+
+import org.example.minispring.bean.BeanDefinition;
+import org.example.minispring.injector.DependencyInjector;
+import org.example.minispring.lifecycle.BeanLifecycleManager;
+import org.example.minispring.log.ContainerLogger;
+import org.example.minispring.log.ContainerLogging;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 생성된 singleton을 의존성 역순으로 병렬 정리 (@PreDestroy 호출)
+ *
+ * 역할:
+ *   - 빈을 사용하는 빈(의존자)이 모두 정리된 뒤에 그 빈을 정리
+ *   - 서로 관계없는 가지는 동시에 정리 → 느린 @PreDestroy 시간이 합산되지 않음
+ *   - 멈춘 @PreDestroy 하나가 전체 종료를 막지 않도록 빈별 / 전체 제한 시간 적용
+ *
+ * 동작 흐름:
+ *   1. 생성된 singleton 사이의 의존 관계 수집 (DependencyInjector.getSingletonDependencies)
+ *   2. 빈마다 "아직 정리되지 않은 의존자 수" 계산 → 0인 빈부터 준비 큐에 넣음
+ *   3. 호출 스레드가 준비 큐에서 꺼내 작업 스레드에 제출 (동시 실행은 최대 parallelism개)
+ *   4. 빈 하나가 끝나면 (또는 빈별 제한 시간이 지나면) 그 빈이 의존하는 빈의 카운트 감소
+ *      → 0이 된 빈을 준비 큐에 추가
+ *   5. 모두 끝나거나 전체 제한 시간이 지나면 종료
+ *
+ * 제한 시간:
+ *   - 빈별 제한 시간을 넘긴 작업은 인터럽트하고 다음 빈으로 진행 (작업 스레드는 데몬)
+ *   - 전체 제한 시간이 지나면 남은 빈은 정리하지 않고 건너뜀
+ *
+ * 순환 참조:
+ *   서로 의존하는 빈은 카운트가 0이 되지 않으므로, 진행 중인 작업과 준비된 빈이 모두 없으면
+ *   남은 빈 하나를 강제로 진행
+ */
+final class SingletonDestroyer {
+
+    // 호출 스레드를 깨우기 위한 표식 (빈 이름과 겹치지 않도록 참조 비교)
+    private static final String WAKE_UP = new String("");
+    private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+    private static final ContainerLogger LOG = ContainerLogging.getLogger();
+
+    private final BeanFactory beanFactory;
+    private final DependencyInjector dependencyInjector;
+    private final BeanLifecycleManager lifecycleManager;
+
+    SingletonDestroyer(BeanFactory beanFactory, DependencyInjector dependencyInjector,
+                       BeanLifecycleManager lifecycleManager) {
+        this.beanFactory = beanFactory;
+        this.dependencyInjector = dependencyInjector;
+        this.lifecycleManager = lifecycleManager;
+    }
+
+    /**
+     * 생성된 singleton을 의존성 역순으로 정리
+     *
+     * @param singletons 생성된 singleton (빈 이름 → 인스턴스)
+     * @param timeout 전체 제한 시간
+     * @param beanTimeout 빈 하나의 @PreDestroy 제한 시간
+     * @param parallelism 동시에 정리할 최대 빈 개수
+     * @return 제한 시간 안에 정리되지 않은 빈 이름 (빈별 시간 초과 + 전체 시간 초과로 건너뜀)
+     */
+    List<String> destroy(Map<String, Object> singletons, long timeout, long beanTimeout, int parallelism) {
+        long deadline = System.nanoTime() + timeout;
+
+        // ================================================================
+        // 1단계: 생성된 빈 사이의 의존 관계
+        // ================================================================
+        Map<String, Set<String>> dependencies = new HashMap<>();
+        Map<String, AtomicInteger> remainingDependents = new HashMap<>();
+        for (String beanName : singletons.keySet()) {
+            Set<String> names = dependenciesOf(beanName);
+            names.retainAll(singletons.keySet());
+            names.remove(beanName);
+            dependencies.put(beanName, names);
+            remainingDependents.put(beanName, new AtomicInteger());
+        }
+        for (Set<String> names : dependencies.values()) {
+            for (String dependency : names) {
+                remainingDependents.get(dependency).incrementAndGet();
+            }
+        }
+
+        // ================================================================
+        // 2단계: 의존자가 없는 빈부터 준비
+        // ================================================================
+        BlockingQueue<String> ready = new LinkedBlockingQueue<>();
+        for (Map.Entry<String, AtomicInteger> entry : remainingDependents.entrySet()) {
+            if (entry.getValue().get() == 0) {
+                ready.add(entry.getKey());
+            }
+        }
+
+        // ================================================================
+        // 3~5단계: 준비된 빈을 제출하고 완료 시 다음 빈을 준비
+        // ================================================================
+        Set<String> submitted = new HashSet<>();
+        Set<String> destroyed = ConcurrentHashMap.newKeySet();
+        AtomicInteger finished = new AtomicInteger();
+        Semaphore permits = new Semaphore(parallelism);
+        ExecutorService workers = Executors.newCachedThreadPool(daemonThreads("minispring-destroy-"));
+        ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor(daemonThreads("minispring-destroy-timer-"));
+        try {
+            while (finished.get() < singletons.size()) {
+                // 진행 중인 작업도, 준비된 빈도 없음 → 남은 빈은 순환 참조, 하나를 강제로 진행
+                if (ready.isEmpty() && permits.availablePermits() == parallelism) {
+                    forceNext(remainingDependents, submitted, ready);
+                }
+                String beanName = ready.poll(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                if (beanName == null) {
+                    break;  // 전체 제한 시간 초과
+                }
+                if (beanName == WAKE_UP || !submitted.add(beanName)) {
+                    continue;
+                }
+                if (!permits.tryAcquire(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS)) {
+                    submitted.remove(beanName);
+                    break;
+                }
+
+                Runnable release = completion(beanName, dependencies, remainingDependents, ready,
+                    permits, finished);
+                AtomicBoolean done = new AtomicBoolean();
+                Object bean = singletons.get(beanName);
+                Future<?> task = workers.submit(() -> {
+                    try {
+                        lifecycleManager.invokePreDestroy(bean);
+                    } finally {
+                        if (done.compareAndSet(false, true)) {
+                            destroyed.add(beanName);
+                            release.run();
+                        }
+                    }
+                });
+                timer.schedule(() -> {
+                    if (done.compareAndSet(false, true)) {
+                        LOG.warn("@PreDestroy timed out for bean '{}', continuing shutdown", beanName);
+                        task.cancel(true);
+                        release.run();
+                    }
+                }, beanTimeout, TimeUnit.NANOSECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            timer.shutdownNow();
+            workers.shutdown();
+        }
+
+        // ================================================================
+        // 결과: 시간 초과로 중단했거나, 아직 실행 중이거나, 시작하지 못한 빈
+        // ================================================================
+        List<String> notDestroyed = new ArrayList<>();
+        for (String beanName : singletons.keySet()) {
+            if (!destroyed.contains(beanName)) {
+                notDestroyed.add(beanName);
+            }
+        }
+        return notDestroyed;
+    }
+
+    private Runnable completion(String beanName, Map<String, Set<String>> dependencies,
+                                Map<String, AtomicInteger> remainingDependents, BlockingQueue<String> ready,
+                                Semaphore permits, AtomicInteger finished) {
+        return () -> {
+            for (String dependency : dependencies.get(beanName)) {
+                if (remainingDependents.get(dependency).decrementAndGet() == 0) {
+                    ready.add(dependency);
+                }
+            }
+            permits.release();
+            finished.incrementAndGet();
+            ready.add(WAKE_UP);  // 호출 스레드를 깨워 종료 / 순환 참조 여부를 다시 확인
+        };
+    }
+
+    private static void forceNext(Map<String, AtomicInteger> remainingDependents, Set<String> submitted,
+                                  BlockingQueue<String> ready) {
+        for (Map.Entry<String, AtomicInteger> entry : remainingDependents.entrySet()) {
+            if (!submitted.contains(entry.getKey())) {
+                ready.add(entry.getKey());
+                return;
+            }
+        }
+    }
+
+    private Set<String> dependenciesOf(String beanName) {
+        try {
+            BeanDefinition definition = beanFactory.getBeanDefinition(beanName);
+            return new HashSet<>(dependencyInjector.getSingletonDependencies(definition));
+        } catch (RuntimeException e) {
+            return new HashSet<>();  // 분석할 수 없으면 다른 빈과 관계없이 정리
+        }
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + THREAD_COUNTER.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,185 @@
+package org.example.minispring.container;
+
+import org.example.minispring.bean.BeanDefinition;
+import org.example.minispring.injector.DependencyInjector;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * 지연 생성이 아닌 singleton을 의존성 그래프의 단계(wave)별로 병렬 생성
+ *
+ * 역할:
+ *   - 첫 요청이 빈 생성 비용을 떠안지 않도록 refresh 마지막에 모든 singleton을 미리 생성
+ *   - 서로 의존하지 않는 빈은 생성자와 @PostConstruct를 동시에 실행
+ *
+ * 동작 흐름:
+ *   1. 대상 수집: singleton 이면서 @Lazy가 아닌 빈
+ *   2. 각 빈의 singleton 의존성 조회 (DependencyInjector.getSingletonDependencies)
+ *   3. 위상 정렬로 단계 나누기
+ *      - 0단계: 다른 대상에 의존하지 않는 빈
+ *      - N단계: 의존하는 빈이 모두 N-1단계 이하인 빈
+ *   4. 단계마다 ForkJoinPool에 제출하고 모두 끝날 때까지 대기 → 다음 단계
+ *      (같은 단계의 빈은 이미 만들어진 빈에만 의존 → 서로 기다리지 않음)
+ *   5. 순환 참조로 단계에 들어가지 못한 빈은 호출 스레드에서 순서대로 생성
+ *      → getBean()이 평소처럼 CircularDependencyException을 던짐
+ *
+ * 비동기 초기화 빈:
+ *   비동기 초기화 빈과 그 빈에 (간접적으로) 의존하는 빈은 단계에서 제외하고 getBeanAsync()로 시작
+ *   → 단계 진행이 비동기 초기화 완료를 기다리지 않음
+ *
+ * 실패 처리:
+ *   한 단계 안의 작업이 모두 끝난 뒤 첫 번째 예외를 다시 던지고 이후 단계는 실행하지 않음
+ */
+final class SingletonPreInstantiator {
+
+    private final BeanFactory beanFactory;
+    private final DependencyInjector dependencyInjector;
+
+    SingletonPreInstantiator(BeanFactory beanFactory, DependencyInjector dependencyInjector) {
+        this.beanFactory = beanFactory;
+        this.dependencyInjector = dependencyInjector;
+    }
+
+    /**
+     * 대상 singleton을 단계별로 생성
+     *
+     * @param definitions 등록된 모든 빈 정의
+     * @param parallelism 동시에 생성할 최대 빈 개수 (1이면 호출 스레드에서 순서대로)
+     * @return 실행한 단계 목록 (단계마다 빈 이름, 순환 참조 빈은 제외)
+     */
+    List<List<String>> preInstantiate(Collection<BeanDefinition> definitions, int parallelism) {
+        // ================================================================
+        // 1~2단계: 대상 빈과 대상 빈 사이의 의존 관계 수집
+        // ================================================================
+        Map<String, Set<String>> dependencies = new LinkedHashMap<>();
+        for (BeanDefinition definition : definitions) {
+            if (definition.isSingleton() && !definition.isLazyInit()) {
+                dependencies.put(definition.getBeanName(), dependenciesOf(definition));
+            }
+        }
+        for (Set<String> names : dependencies.values()) {
+            names.retainAll(dependencies.keySet());  // 대상이 아닌 의존성은 생성 중에 함께 만들어짐
+        }
+
+        // ================================================================
+        // 비동기 초기화 빈과 그 의존자는 future 조합으로 시작 (단계에서 제외)
+        // ================================================================
+        Set<String> async = new HashSet<>();
+        for (BeanDefinition definition : definitions) {
+            if (dependencies.containsKey(definition.getBeanName())
+                && SimpleBeanFactory.hasAsyncInitialization(definition)) {
+                async.add(definition.getBeanName());
+            }
+        }
+        boolean changed = !async.isEmpty();
+        while (changed) {
+            changed = false;
+            for (Map.Entry<String, Set<String>> entry : dependencies.entrySet()) {
+                if (!async.contains(entry.getKey()) && !Collections.disjoint(entry.getValue(), async)) {
+                    changed |= async.add(entry.getKey());
+                }
+            }
+        }
+        for (String beanName : async) {
+            dependencies.remove(beanName);
+            beanFactory.getBeanAsync(beanName);
+        }
+
+        // ================================================================
+        // 3단계: 위상 정렬 → 단계 나누기
+        // ================================================================
+        List<List<String>> waves = new ArrayList<>();
+        Set<String> done = new HashSet<>();
+        while (done.size() < dependencies.size()) {
+            List<String> wave = new ArrayList<>();
+            for (Map.Entry<String, Set<String>> entry : dependencies.entrySet()) {
+                if (!done.contains(entry.getKey()) && done.containsAll(entry.getValue())) {
+                    wave.add(entry.getKey());
+                }
+            }
+            if (wave.isEmpty()) {
+                break;  // 남은 빈은 모두 순환 참조에 걸려 있음
+            }
+            waves.add(wave);
+            done.addAll(wave);
+        }
+
+        // ================================================================
+        // 4단계: 단계별 병렬 생성
+        // ================================================================
+        ForkJoinPool pool = parallelism > 1 ? new ForkJoinPool(parallelism) : null;
+        try {
+            for (List<String> wave : waves) {
+                if (pool == null || wave.size() == 1) {
+                    wave.forEach(beanFactory::getBean);
+                } else {
+                    runWave(pool, wave);
+                }
+            }
+        } finally {
+            if (pool != null) {
+                pool.shutdown();
+            }
+        }
+
+        // ================================================================
+        // 5단계: 순환 참조에 걸린 빈 (예외를 평소 경로로 보고)
+        // ================================================================
+        for (String beanName : dependencies.keySet()) {
+            if (!done.contains(beanName)) {
+                beanFactory.getBean(beanName);
+            }
+        }
+        return waves;
+    }
+
+    private Set<String> dependenciesOf(BeanDefinition definition) {
+        try {
+            return dependencyInjector.getSingletonDependencies(definition);
+        } catch (RuntimeException e) {
+            // 분석할 수 없는 빈(생성자 선택 실패 등)은 0단계에서 생성 → getBean()이 원래 예외를 던짐
+            return new HashSet<>();
+        }
+    }
+
+    private void runWave(ForkJoinPool pool, List<String> wave) {
+        List<ForkJoinTask<Object>> tasks = new ArrayList<>(wave.size());
+        for (String beanName : wave) {
+            tasks.add(pool.submit(() -> beanFactory.getBean(beanName)));
+        }
+
+        // 모든 작업이 끝난 뒤에 실패를 보고 → 실행 중인 생성 작업을 남겨두지 않음
+        Throwable failure = null;
+        for (ForkJoinTask<Object> task : tasks) {
+            try {
+                task.get();
+            } catch (ExecutionException e) {
+                if (failure == null) {
+                    failure = e.getCause();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while pre-instantiating singletons", e);
+            }
+        }
+        if (failure instanceof RuntimeException) {
+            throw (RuntimeException) failure;
+        }
+        if (failure instanceof Error) {
+            throw (Error) failure;
+        }
+        if (failure != null) {
+            throw new IllegalStateException("Failed to pre-instantiate singletons", failure);
+        }
+    }
+}
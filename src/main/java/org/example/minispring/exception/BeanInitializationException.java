@@ -0,0 +1,7 @@
+package org.example.minispring.exception;
+
+public class BeanInitializationException extends RuntimeException {
+    public BeanInitializationException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
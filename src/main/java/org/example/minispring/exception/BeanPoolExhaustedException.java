@@ -0,0 +1,7 @@
+package org.example.minispring.exception;
+
+public class BeanPoolExhaustedException extends RuntimeException {
+    public BeanPoolExhaustedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,131 @@
+package org.example.minispring.injector;
+
+import java.lang.invoke.MethodHandle;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * 빈 정의 하나를 "어떻게 만들지"를 미리 컴파일해 둔 생성 계획
+ *
+ * 컴파일 시점 (DependencyInjector.compile, 정의당 1회):
+ *   - 생성자 선택 → 생성 함수로 변환
+ *     · 재사용되는 계획 (prototype / 스코프 빈): 생성자 MethodHandle
+ *     · 한 번만 실행되는 계획 (singleton): Constructor.newInstance
+ *       (MethodHandle 체인은 LambdaForm 생성 비용이 커서 1회 호출에는 손해)
+ *   - 생성자/필드/메서드 의존성 해결
+ *     · singleton 의존성: 인스턴스를 그대로 캡처 (이후 조회 없음)
+ *     · prototype 의존성: 해당 빈의 생성 계획을 캡처 (재귀)
+ *   - @PostConstruct 호출 방법 결정
+ *
+ * 실행 시점 (create(), prototype 조회마다):
+ *   - 캡처된 Supplier에서 인자 배열 채우기
+ *   - 생성 함수 호출 (재사용 계획은 MethodHandle.invokeExact)
+ *   - 주입기 실행 → 초기화 콜백
+ *   → 이름 변환, 맵 조회, 생성자 탐색, 리플렉션 호출이 모두 없음
+ */
+public final class BeanCreationPlan {
+
+    private final String beanName;
+
+    // (Object[] args) → Object 형태의 인스턴스 생성 함수 (생성자 또는 @Bean 메서드)
+    private final Instantiator instantiator;
+    private final Supplier<?>[] arguments;
+
+    private final InjectionMetadata injectionMetadata;
+    private final Supplier<?>[] injectedDependencies;
+
+    private final Consumer<Object> initializer;
+
+    BeanCreationPlan(String beanName, Instantiator instantiator, Supplier<?>[] arguments,
+                     InjectionMetadata injectionMetadata, Supplier<?>[] injectedDependencies,
+                     Consumer<Object> initializer) {
+        this.beanName = beanName;
+        this.instantiator = instantiator;
+        this.arguments = arguments;
+        this.injectionMetadata = injectionMetadata;
+        this.injectedDependencies = injectedDependencies;
+        this.initializer = initializer;
+    }
+
+    public String getBeanName() {
+        return beanName;
+    }
+
+    /**
+     * 인스턴스 생성 + 필드/메서드 주입 (초기화 콜백 제외)
+     *
+     * singleton은 캐시에 먼저 등록한 뒤 @PostConstruct를 호출해야 하므로
+     * 초기화 단계를 분리해 둠
+     *
+     * @return 주입이 끝난 새 인스턴스
+     */
+    public Object instantiate() {
+        // ================================================================
+        // 1단계: 생성자 인자 준비 (캡처된 Supplier 호출만)
+        // ================================================================
+        Object[] args = supply(arguments);
+
+        // ================================================================
+        // 2단계: 생성자 / @Bean 메서드 호출
+        // ================================================================
+        Object bean;
+        try {
+            bean = instantiator.instantiate(args);
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new RuntimeException("Failed to create bean: " + beanName, e);
+        }
+
+        // ================================================================
+        // 3단계: @Autowired 필드/메서드 주입
+        // ================================================================
+        if (injectedDependencies.length > 0) {
+            injectionMetadata.inject(bean, supply(injectedDependencies));
+        }
+        return bean;
+    }
+
+    /**
+     * 인스턴스 생성 + 주입 + @PostConstruct (prototype 조회 경로)
+     *
+     * @return 초기화까지 끝난 새 인스턴스
+     */
+    public Object create() {
+        Object bean = instantiate();
+        initializer.accept(bean);
+        return bean;
+    }
+
+    /**
+     * (Object[] args) → Object 형태의 MethodHandle을 생성 함수로 변환
+     *
+     * @param handle invokeExact(Object[])로 호출 가능한 핸들
+     * @return 핸들을 호출하는 생성 함수
+     */
+    static Instantiator invoking(MethodHandle handle) {
+        return args -> (Object) handle.invokeExact(args);
+    }
+
+    private static Object[] supply(Supplier<?>[] suppliers) {
+        Object[] values = new Object[suppliers.length];
+        for (int i = 0; i < suppliers.length; i++) {
+            values[i] = suppliers[i].get();
+        }
+        return values;
+    }
+
+    /**
+     * 인스턴스 생성 단계 (생성자 또는 @Bean 메서드 호출)
+     */
+    @FunctionalInterface
+    interface Instantiator {
+
+        /**
+         * @param args 준비된 인자 배열
+         * @return 새 인스턴스
+         * @throws Throwable 생성자 / 메서드가 던진 예외 (감싸지 않은 원래 예외)
+         */
+        Object instantiate(Object[] args) throws Throwable;
+    }
+}
@@ -1,12 +1,37 @@
 package org.example.minispring.injector;
 
+import org.example.minispring.annotation.Lazy;
 import org.example.minispring.bean.BeanDefinition;
+import org.example.minispring.bean.ClassMetadata;
 import org.example.minispring.container.BeanFactory;
+import org.example.minispring.container.ObjectProvider;
+import org.example.minispring.container.Provider;
 import org.example.minispring.exception.CircularDependencyException;
+import org.example.minispring.lifecycle.BeanLifecycleManager;
+import org.example.minispring.lifecycle.LifecycleMetadata;
+import org.example.minispring.processor.ConfigurationClassEnhancer;
+import org.example.minispring.processor.ConfigurationClassProcessor.BeanMethodDefinition;
+import org.example.minispring.proxy.DelegatingProxyFactory;
+import org.example.minispring.proxy.LazyTargetSource;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 /**
  * 생성자 기반 의존성 주입을 수행하는 핵심 컴포넌트
@@ -15,11 +40,23 @@ import java.util.Set;
  *   1. 리플렉션을 사용한 객체 생성
  *   2. 생성자 파라미터 분석 및 의존성 해결 (재귀)
  *   3. 순환 참조 감지 (ThreadLocal 사용)
+ *   4. @Autowired 필드/메서드 주입 (클래스당 한 번 컴파일된 InjectionMetadata 사용)
+ *   5. 빈 정의를 BeanCreationPlan으로 컴파일 (prototype 빈은 계획을 캐싱해 재사용)
+ *   6. @Lazy 주입 지점에는 첫 호출 때 대상을 만드는 지연 프록시 주입
+ *   7. Provider<T> / ObjectProvider<T> 파라미터에는 후보를 미리 결정한 공급자 주입
+ *
+ * 생성자 선택 결과와 주입 메타데이터는 ClassMetadata 캐시에서 읽음
+ * → 같은 클래스를 여러 번 생성해도 리플렉션 탐색은 최초 1회
  */
 public class DependencyInjector {
 
+    // 생성 핸들의 공통 형태: (Object[] args) → Object
+    private static final MethodType INSTANTIATOR_TYPE = MethodType.methodType(Object.class, Object[].class);
+
+    // @PostConstruct가 없는 클래스가 공유하는 초기화 함수
+    private static final Consumer<Object> NO_INITIALIZER = bean -> { };
+
     private final BeanFactory beanFactory;
-    private final ConstructorResolver constructorResolver;
 
     /**
      * 현재 생성 중인 빈들을 추적하는 ThreadLocal Set
@@ -35,19 +72,84 @@ public class DependencyInjector {
      */
     private final ThreadLocal<Set<Class<?>>> beingCreated = ThreadLocal.withInitial(HashSet::new);
 
+    /**
+     * prototype 빈의 생성 계획 캐시
+     *
+     * Key: 빈 이름, Value: 컴파일된 생성 계획
+     * singleton은 한 번만 만들어지므로 계획을 캐싱하지 않음
+     */
+    private final Map<String, BeanCreationPlan> creationPlans = new ConcurrentHashMap<>();
+
+    // @Bean 메서드로 만든 빈은 실제 타입을 미리 알 수 없으므로 인스턴스 기준으로 콜백 호출
+    private final BeanLifecycleManager lifecycleManager = new BeanLifecycleManager();
+
     public DependencyInjector(BeanFactory beanFactory) {
         this.beanFactory = beanFactory;
-        this.constructorResolver = new ConstructorResolver();
     }
 
     /**
      * BeanDefinition을 실제 객체로 생성 (의존성 주입 포함)
      *
+     * 동작: 생성 계획을 컴파일한 뒤 한 번 실행
+     * (@PostConstruct는 호출하지 않음 - 싱글톤 캐싱 후 BeanFactory가 호출)
+     *
      * @param definition 생성할 빈의 메타데이터
      * @return 생성된 빈 인스턴스
      * @throws CircularDependencyException 순환 참조 발견 시
      */
     public Object createBean(BeanDefinition definition) {
+        return compile(definition).instantiate();
+    }
+
+    /**
+     * prototype 빈의 생성 계획 조회 (없으면 컴파일 후 캐싱)
+     *
+     * 주의: ConcurrentHashMap.computeIfAbsent는 재귀 컴파일(의존 prototype)과
+     *       함께 쓸 수 없으므로 get → putIfAbsent 패턴 사용
+     *
+     * @param definition prototype 빈 정의
+     * @return 재사용 가능한 생성 계획
+     */
+    public BeanCreationPlan getCreationPlan(BeanDefinition definition) {
+        BeanCreationPlan plan = creationPlans.get(definition.getBeanName());
+        if (plan != null) {
+            return plan;
+        }
+        BeanCreationPlan compiled = compile(definition, true);
+        BeanCreationPlan existing = creationPlans.putIfAbsent(definition.getBeanName(), compiled);
+        return existing != null ? existing : compiled;
+    }
+
+    /**
+     * 빈 정의를 한 번만 실행할 생성 계획으로 컴파일 (singleton / 설정 클래스)
+     *
+     * 생성자는 리플렉션(Constructor.newInstance)으로 호출
+     * → 1회 호출을 위해 MethodHandle 체인(LambdaForm)을 만들지 않음
+     *
+     * @param definition 컴파일할 빈 정의
+     * @return 생성 계획
+     * @throws CircularDependencyException 순환 참조 발견 시
+     */
+    public BeanCreationPlan compile(BeanDefinition definition) {
+        return compile(definition, false);
+    }
+
+    /**
+     * 빈 정의를 생성 계획으로 컴파일
+     *
+     * @param definition 컴파일할 빈 정의
+     * @param reusable true면 반복 실행용 (생성자를 MethodHandle로 변환), false면 1회 실행용
+     * @return 생성 계획
+     * @throws CircularDependencyException 순환 참조 발견 시
+     */
+    private BeanCreationPlan compile(BeanDefinition definition, boolean reusable) {
+        // ================================================================
+        // @Bean 메서드 정의는 별도 경로 (설정 인스턴스의 메서드 호출)
+        // ================================================================
+        if (definition instanceof BeanMethodDefinition) {
+            return compileBeanMethod((BeanMethodDefinition) definition);
+        }
+
         Class<?> beanClass = definition.getBeanClass();
 
         // ================================================================
@@ -65,11 +167,11 @@ public class DependencyInjector {
         //   }
         //
         // 호출 스택:
-        //   1) createBean(ServiceA)
+        //   1) compile(ServiceA)
         //      → beingCreated = [ServiceA]
-        //   2) createBean(ServiceB) (재귀)
+        //   2) compile(ServiceB) (재귀)
         //      → beingCreated = [ServiceA, ServiceB]
-        //   3) createBean(ServiceA) 다시 호출! (재귀)
+        //   3) compile(ServiceA) 다시 호출! (재귀)
         //      → beingCreated.contains(ServiceA) == true
         //      → ❌ CircularDependencyException!
         if (beingCreated.get().contains(beanClass)) {
@@ -81,73 +183,73 @@ public class DependencyInjector {
         // ================================================================
         // 2단계: 현재 빈을 "생성 중" 목록에 추가
         // ================================================================
-        // 이 빈이 의존하는 다른 빈을 생성할 때 순환 참조 감지 가능
+        // 이 빈이 의존하는 다른 빈을 해결할 때 순환 참조 감지 가능
         beingCreated.get().add(beanClass);
 
         try {
             // ============================================================
             // 3단계: 사용할 생성자 선택
             // ============================================================
-            // ConstructorResolver가 다음 우선순위로 선택:
+            // ConstructorResolver가 다음 우선순위로 선택 (클래스당 1회, ClassMetadata에 캐싱):
             //   1) @Autowired 붙은 생성자
             //   2) 생성자 1개뿐이면 자동
             //   3) 기본 생성자
-            Constructor<?> constructor = constructorResolver.resolve(beanClass);
+            //
+            // setAccessible(true)도 캐싱 시점에 한 번만 수행됨
+            // 이유: 일부 클래스는 싱글톤 패턴 등으로 private 생성자 사용
+            ClassMetadata metadata = ClassMetadata.forClass(beanClass);
+            Constructor<?> constructor = metadata.getConstructor();
 
             // ============================================================
-            // 4단계: private 생성자도 접근 가능하도록 설정
+            // 4단계: 생성자 → 생성 함수 변환
             // ============================================================
-            // setAccessible(true): 리플렉션으로 private 멤버 접근 허용
-            // 이유: 일부 클래스는 싱글톤 패턴 등으로 private 생성자 사용
-            constructor.setAccessible(true);
+            // 재사용 계획: (P1, P2, ...) → Bean 을 (Object[]) → Object 형태의 MethodHandle로 변환
+            //   → 파라미터 개수와 무관하게 invokeExact 한 번으로 호출, 반복 호출 시 JIT 인라이닝
+            // 1회 실행 계획: Constructor.newInstance 그대로 사용
+            //   → LambdaForm 생성 비용 없이 한 번 호출
+            BeanCreationPlan.Instantiator instantiator = reusable
+                ? BeanCreationPlan.invoking(constructorHandle(constructor))
+                : reflectiveInstantiator(constructor);
 
             // ============================================================
-            // 5단계: 생성자 파라미터 확인 및 처리
+            // 5단계: 각 생성자 파라미터에 대한 의존성 해결 (재귀!)
             // ============================================================
-
-            // Case 1: 파라미터 없는 생성자 (의존성 없음)
-            if (constructor.getParameterCount() == 0) {
-                // 예: new UserRepository()
-                // 간단히 객체 생성 후 반환
-                return constructor.newInstance();
-            }
-
-            // Case 2: 파라미터 있는 생성자 (의존성 있음)
             // 예: UserService(UserRepository repo, EmailService email)
+            //   → [UserRepository 공급자, EmailService 공급자]
+            //
+            // resolveDependency() 호출:
+            //   1) UserRepository → "userRepository" 이름 생성
+            //   2) singleton이면 beanFactory.getBean()으로 인스턴스 확보 (필요하면 재귀 생성)
+            //   3) prototype이면 해당 빈의 생성 계획 확보 (재귀 컴파일)
+            //   4) @Lazy면 지연 프록시만 만들고 대상 빈은 건드리지 않음
+            //   5) Provider<T>면 T의 후보 이름만 결정한 공급자 (빈 생성 없음)
+            Parameter[] parameters = constructor.getParameters();
+            Supplier<?>[] arguments = resolveDependencies(
+                constructor.getParameterTypes(),
+                genericTypes(parameters),
+                InjectionMetadata.lazyAnnotations(parameters, constructor.getAnnotation(Lazy.class))
+            );
 
             // ============================================================
-            // 6단계: 생성자 파라미터 타입 분석
+            // 6단계: @Autowired 필드/메서드 의존성 해결
             // ============================================================
-            // 예: [UserRepository.class, EmailService.class]
-            Class<?>[] parameterTypes = constructor.getParameterTypes();
-
-            // 각 파라미터에 주입할 의존성 객체를 저장할 배열
-            Object[] dependencies = new Object[parameterTypes.length];
+            // 주입 자체는 인스턴스 생성 후 실행되지만, 의존성은 지금 미리 해결
+            // → 필드 주입으로 인한 순환 참조도 이 시점에 감지됨
+            InjectionMetadata injectionMetadata = metadata.getInjectionMetadata();
+            Class<?>[] injectedTypes = injectionMetadata.getDependencyTypes();
+            Supplier<?>[] injectedDependencies = resolveDependencies(
+                injectedTypes, injectedTypes, injectionMetadata.getLazyAnnotations()
+            );
 
             // ============================================================
-            // 7단계: 각 파라미터에 대한 의존성 해결 (재귀!)
+            // 7단계: @PostConstruct 호출 방법 결정
             // ============================================================
-            for (int i = 0; i < parameterTypes.length; i++) {
-                // 예: parameterTypes[0] = UserRepository.class
-                //
-                // resolveDependency() 호출:
-                //   1) UserRepository → "userRepository" 이름 생성
-                //   2) beanFactory.getBean("userRepository") 호출
-                //   3) 캐시에 없으면 createBean() 재귀 호출!
-                //   4) 생성된 객체 반환
-                dependencies[i] = resolveDependency(parameterTypes[i]);
-            }
+            Consumer<Object> initializer = postConstructInitializer(metadata);
 
-            // ============================================================
-            // 8단계: 의존성을 주입하며 객체 생성
-            // ============================================================
-            // 예: new UserService(userRepository인스턴스, emailService인스턴스)
-            //
-            // constructor.newInstance(dependencies):
-            //   1) 리플렉션으로 생성자 호출
-            //   2) dependencies 배열의 객체들을 파라미터로 전달
-            //   3) 새로운 인스턴스 반환
-            return constructor.newInstance(dependencies);
+            return new BeanCreationPlan(
+                definition.getBeanName(), instantiator, arguments,
+                injectionMetadata, injectedDependencies, initializer
+            );
 
         } catch (CircularDependencyException e) {
             // 순환 참조 예외는 그대로 전파
@@ -159,13 +261,13 @@ public class DependencyInjector {
 
         } finally {
             // ============================================================
-            // 9단계: 빈 생성 완료 후 "생성 중" 목록에서 제거
+            // 8단계: 컴파일 완료 후 "생성 중" 목록에서 제거
             // ============================================================
             // 성공하든 실패하든 반드시 제거해야 함 (finally 블록)
             beingCreated.get().remove(beanClass);
 
             // ============================================================
-            // 10단계: ThreadLocal 메모리 누수 방지
+            // 9단계: ThreadLocal 메모리 누수 방지
             // ============================================================
             // Set이 비었으면 ThreadLocal 자체를 제거
             // 이유: ThreadLocal은 스레드가 살아있는 동안 계속 메모리 점유
@@ -176,13 +278,247 @@ public class DependencyInjector {
         }
     }
 
+    private static MethodHandle constructorHandle(Constructor<?> constructor) throws IllegalAccessException {
+        return MethodHandles.lookup()
+            .unreflectConstructor(constructor)
+            .asSpreader(Object[].class, constructor.getParameterCount())
+            .asType(INSTANTIATOR_TYPE);
+    }
+
+    private static BeanCreationPlan.Instantiator reflectiveInstantiator(Constructor<?> constructor) {
+        return args -> {
+            try {
+                return constructor.newInstance(args);
+            } catch (InvocationTargetException e) {
+                // MethodHandle 경로와 같게 생성자가 던진 원래 예외를 전달
+                throw e.getCause();
+            }
+        };
+    }
+
+    /**
+     * @Bean 메서드 정의를 생성 계획으로 컴파일
+     *
+     * 생성자 대신 "설정 인스턴스의 @Bean 메서드 호출"이 인스턴스 생성 단계가 됨
+     * 메서드 파라미터는 타입으로 해결 (getBean(Class)와 같은 규칙)
+     *
+     * @param definition @Bean 메서드의 BeanDefinition
+     * @return 생성 계획
+     */
+    private BeanCreationPlan compileBeanMethod(BeanMethodDefinition definition) {
+        try {
+            // ============================================================
+            // 1단계: @Configuration 클래스 인스턴스 가져오기
+            // ============================================================
+            // 예: @Configuration 클래스가 "appConfig"라는 이름으로 등록됨
+            //     → getBean("appConfig")로 인스턴스 획득
+            Object configInstance = beanFactory.getBean(definition.getConfigBeanName());
+
+            // ============================================================
+            // 2단계: @Bean 메서드 핸들 (설정 인스턴스가 바인딩된 상태)
+            // ============================================================
+            // Full 모드 설정 인스턴스는 가로채기를 우회하여 원래 본문을 실행
+            // (그렇지 않으면 getBean() → 다시 이 메서드 → 무한 재귀)
+            Method method = definition.getMethod();
+            BeanCreationPlan.Instantiator instantiator =
+                BeanCreationPlan.invoking(ConfigurationClassEnhancer.beanMethodHandle(configInstance, method));
+
+            // ============================================================
+            // 3단계: 메서드 파라미터 의존성 해결 (타입 기준)
+            // ============================================================
+            // 예: public DataSource dataSource(Config config)
+            //     → config = getBean(Config.class)에 해당하는 빈
+            //     Provider<Config>면 Config의 후보 이름만 결정한 공급자
+            Class<?>[] parameterTypes = method.getParameterTypes();
+            Parameter[] parameters = method.getParameters();
+            Lazy[] lazies = InjectionMetadata.lazyAnnotations(parameters, null);
+            Supplier<?>[] arguments = new Supplier<?>[parameterTypes.length];
+            for (int i = 0; i < parameterTypes.length; i++) {
+                arguments[i] = isProvider(parameterTypes[i])
+                    ? providerFor(parameters[i].getParameterizedType())
+                    : resolveDependencyByType(parameterTypes[i], lazies[i]);
+            }
+
+            return new BeanCreationPlan(
+                definition.getBeanName(), instantiator, arguments,
+                null, new Supplier<?>[0],
+                bean -> BeanLifecycleManager.await(definition.getBeanName(), lifecycleManager.invokePostConstruct(bean))
+            );
+
+        } catch (RuntimeException e) {
+            throw new RuntimeException(
+                "Failed to create bean from @Bean method: " + definition.getBeanName(),
+                e
+            );
+        }
+    }
+
+    /**
+     * 빈을 생성할 때 getBean()으로 먼저 확보하게 될 singleton 빈 이름 목록
+     *
+     * 병렬 사전 생성(SingletonPreInstantiator)이 의존성 그래프를 만들 때 사용
+     * 해석 규칙은 compile()과 같음:
+     *   - 생성자 / @Autowired 필드·메서드: 타입 → 빈 이름
+     *   - @Bean 메서드: 설정 빈 + 파라미터 타입에 매칭되는 유일한 빈
+     *   - 제외: @Lazy, Provider, 스코프 프록시 대상, pooled (생성 시점에 대상 빈을 만들지 않음)
+     *   - prototype 의존성: 그 빈이 필요로 하는 singleton을 대신 포함 (생성 중에 함께 만들어짐)
+     *
+     * 생성 계획을 컴파일하지 않으므로 빈이 만들어지거나 순환 참조 예외가 발생하지 않음
+     *
+     * @param definition 분석할 빈 정의
+     * @return 의존하는 singleton 빈 이름 (등록되지 않은 이름은 제외)
+     */
+    public Set<String> getSingletonDependencies(BeanDefinition definition) {
+        Set<String> result = new LinkedHashSet<>();
+        collectSingletonDependencies(definition, result, new HashSet<>());
+        return result;
+    }
+
+    private void collectSingletonDependencies(BeanDefinition definition, Set<String> result, Set<String> visited) {
+        if (!visited.add(definition.getBeanName())) {
+            return;
+        }
+
+        if (definition instanceof BeanMethodDefinition) {
+            BeanMethodDefinition methodDefinition = (BeanMethodDefinition) definition;
+            addSingletonDependency(methodDefinition.getConfigBeanName(), null, result, visited);
+
+            Method method = methodDefinition.getMethod();
+            Class<?>[] parameterTypes = method.getParameterTypes();
+            Lazy[] lazies = InjectionMetadata.lazyAnnotations(method.getParameters(), null);
+            for (int i = 0; i < parameterTypes.length; i++) {
+                if (isProvider(parameterTypes[i])) {
+                    continue;
+                }
+                List<String> candidates = beanFactory.getBeanNamesForType(parameterTypes[i]);
+                if (candidates.size() == 1) {
+                    addSingletonDependency(candidates.get(0), lazies[i], result, visited);
+                }
+            }
+            return;
+        }
+
+        ClassMetadata metadata = ClassMetadata.forClass(definition.getBeanClass());
+        Constructor<?> constructor = metadata.getConstructor();
+        Class<?>[] parameterTypes = constructor.getParameterTypes();
+        Lazy[] lazies = InjectionMetadata.lazyAnnotations(constructor.getParameters(), constructor.getAnnotation(Lazy.class));
+        for (int i = 0; i < parameterTypes.length; i++) {
+            if (!isProvider(parameterTypes[i])) {
+                addSingletonDependency(generateBeanName(parameterTypes[i]), lazies[i], result, visited);
+            }
+        }
+
+        InjectionMetadata injectionMetadata = metadata.getInjectionMetadata();
+        Class<?>[] injectedTypes = injectionMetadata.getDependencyTypes();
+        Lazy[] injectedLazies = injectionMetadata.getLazyAnnotations();
+        for (int i = 0; i < injectedTypes.length; i++) {
+            addSingletonDependency(generateBeanName(injectedTypes[i]), injectedLazies[i], result, visited);
+        }
+    }
+
+    private void addSingletonDependency(String beanName, Lazy lazy, Set<String> result, Set<String> visited) {
+        if (!beanFactory.containsBean(beanName)) {
+            return;
+        }
+        BeanDefinition dependency = beanFactory.getBeanDefinition(beanName);
+        if (dependency.requiresScopedProxy() || (lazy != null ? lazy.value() : dependency.isLazyInit())) {
+            return;
+        }
+        if (dependency.isSingleton()) {
+            result.add(beanName);
+        } else if (dependency.isPrototype()) {
+            collectSingletonDependencies(dependency, result, visited);
+        }
+    }
+
+    private Supplier<?>[] resolveDependencies(Class<?>[] types, Type[] genericTypes, Lazy[] lazies) {
+        Supplier<?>[] suppliers = new Supplier<?>[types.length];
+        for (int i = 0; i < types.length; i++) {
+            suppliers[i] = isProvider(types[i])
+                ? providerFor(genericTypes[i])
+                : resolveDependency(types[i], lazies[i]);
+        }
+        return suppliers;
+    }
+
+    private static Type[] genericTypes(Parameter[] parameters) {
+        Type[] types = new Type[parameters.length];
+        for (int i = 0; i < parameters.length; i++) {
+            types[i] = parameters[i].getParameterizedType();
+        }
+        return types;
+    }
+
+    private static boolean isProvider(Class<?> type) {
+        return type == Provider.class || type == ObjectProvider.class;
+    }
+
+    /**
+     * Provider<T> / ObjectProvider<T> 주입 지점에 대한 공급자 생성
+     *
+     * 후보 빈 이름은 지금(생성 계획 컴파일 시) 한 번만 결정
+     * → prototype 빈이라도 인스턴스마다 타입 매칭을 반복하지 않음
+     *
+     * @param genericType 주입 지점의 제네릭 타입 (예: ObjectProvider<AuditLog>)
+     * @return 같은 ObjectProvider를 돌려주는 공급자
+     * @throws IllegalStateException 타입 인자가 없는 경우 (raw 타입, 와일드카드, 필드 주입 등)
+     */
+    private Supplier<?> providerFor(Type genericType) {
+        Class<?> beanType = null;
+        if (genericType instanceof ParameterizedType) {
+            Type argument = ((ParameterizedType) genericType).getActualTypeArguments()[0];
+            if (argument instanceof Class) {
+                beanType = (Class<?>) argument;
+            } else if (argument instanceof ParameterizedType) {
+                beanType = (Class<?>) ((ParameterizedType) argument).getRawType();
+            }
+        }
+        if (beanType == null) {
+            throw new IllegalStateException(
+                "Provider must be injected as a constructor or @Bean method parameter " +
+                "with a concrete type argument: " + genericType.getTypeName()
+            );
+        }
+
+        ObjectProvider<?> provider = beanFactory.getBeanProvider(beanType);
+        return () -> provider;
+    }
+
+    /**
+     * @PostConstruct 콜백을 초기화 함수로 변환 (prototype 생성 계획용)
+     *
+     * 콜백 MethodHandle은 LifecycleMetadata에 클래스당 한 번만 만들어 둠
+     * 비동기 @PostConstruct(CompletionStage 반환)는 완료까지 대기
+     *   (이 초기화 함수는 prototype 경로 - 새 인스턴스를 준비된 상태로 돌려줘야 함)
+     */
+    private Consumer<Object> postConstructInitializer(ClassMetadata metadata) {
+        LifecycleMetadata lifecycle = metadata.getLifecycleMetadata();
+        if (!lifecycle.hasPostConstruct()) {
+            return NO_INITIALIZER;
+        }
+        return bean -> {
+            CompletableFuture<?> pending;
+            try {
+                pending = lifecycle.invokePostConstruct(bean);
+            } catch (Throwable e) {
+                throw new RuntimeException(
+                    "Failed to invoke @PostConstruct method in " + metadata.getType().getName(), e
+                );
+            }
+            if (pending != null) {
+                BeanLifecycleManager.await(metadata.getType().getName(), pending);
+            }
+        };
+    }
+
     /**
      * 타입으로부터 의존성 해결 (재귀적으로 빈 조회)
      *
      * @param type 의존하는 클래스 타입
-     * @return 해당 타입의 빈 인스턴스
+     * @param lazy 주입 지점의 @Lazy (없으면 null)
+     * @return 해당 타입의 빈 인스턴스를 돌려주는 공급자
      */
-    private Object resolveDependency(Class<?> type) {
+    private Supplier<?> resolveDependency(Class<?> type, Lazy lazy) {
         // ================================================================
         // 1. 클래스 타입 → 빈 이름 변환
         // ================================================================
@@ -190,26 +526,72 @@ public class DependencyInjector {
         String beanName = generateBeanName(type);
 
         // ================================================================
-        // 2. BeanFactory에서 빈 조회
+        // 2. 이름으로 공급자 생성
         // ================================================================
-        // getBean() 내부 동작:
-        //   1) 싱글톤 캐시 확인 → 있으면 즉시 반환
-        //   2) 없으면 createBean() 재귀 호출
-        //   3) 생성된 빈 캐시에 저장 후 반환
-        //
         // 재귀 흐름 예시:
-        //   createBean(OrderService)
+        //   compile(OrderService)
         //   → resolveDependency(UserService)
         //      → getBean("userService")
-        //         → createBean(UserService)
+        //         → compile(UserService)
         //            → resolveDependency(UserRepository)
         //               → getBean("userRepository")
-        //                  → createBean(UserRepository)
+        //                  → compile(UserRepository)
         //                     → (의존성 없음, 객체 생성)
         //                  ← UserRepository 인스턴스
         //            ← UserService 인스턴스
         //   ← OrderService 인스턴스
-        return beanFactory.getBean(beanName);
+        return supplierFor(beanName, type, lazy);
+    }
+
+    /**
+     * 타입에 할당 가능한 유일한 빈으로 의존성 해결 (@Bean 메서드 파라미터용)
+     *
+     * @param type 파라미터 타입
+     * @param lazy 파라미터의 @Lazy (없으면 null)
+     * @return 빈 공급자
+     */
+    private Supplier<?> resolveDependencyByType(Class<?> type, Lazy lazy) {
+        List<String> candidates = beanFactory.getBeanNamesForType(type);
+        if (candidates.size() == 1) {
+            return supplierFor(candidates.get(0), type, lazy);
+        }
+
+        // 0개 / 2개 이상: getBean(Class)가 적절한 예외(NoSuchBean / NoUniqueBean)를 던짐
+        Object bean = beanFactory.getBean(type);
+        return () -> bean;
+    }
+
+    /**
+     * 빈 이름에 대한 공급자 생성
+     *
+     * - thread / task / striped / evictable / keyed: 스코프 프록시를 캡처 → 호출마다 현재 대상 인스턴스로 위임
+     * - @Lazy (주입 지점 우선, 없으면 빈 정의): 호출마다 새 지연 프록시 → 첫 메서드 호출 때 getBean()
+     *   (prototype 계획이 프록시 하나를 공유하면 모든 인스턴스가 같은 지연 대상을 공유하게 됨)
+     * - prototype: 해당 빈의 생성 계획을 캡처 → 호출마다 새 인스턴스
+     * - 그 외 (singleton): 지금 인스턴스를 확보해 캡처 → 호출마다 같은 인스턴스
+     *
+     * @param beanName 의존하는 빈 이름
+     * @param type 주입 지점의 타입 (지연 프록시가 노출할 타입)
+     * @param lazy 주입 지점의 @Lazy (없으면 null)
+     */
+    private Supplier<?> supplierFor(String beanName, Class<?> type, Lazy lazy) {
+        BeanDefinition dependency = beanFactory.getBeanDefinition(beanName);
+        if (dependency.requiresScopedProxy()) {
+            // 스코프 프록시는 이미 호출 시점에 대상을 찾으므로 @Lazy와 무관
+            Object proxy = beanFactory.getScopedProxy(beanName);
+            return () -> proxy;
+        }
+        if (lazy != null ? lazy.value() : dependency.isLazyInit()) {
+            // 대상 빈의 생성 계획도 만들지 않음 → 의존성 그래프 탐색이 여기서 멈춤
+            // 프록시는 인스턴스를 만들 때마다 새로 생성 (프록시 클래스는 타입당 1회만 생성됨)
+            Supplier<Object> target = () -> beanFactory.getBean(beanName);
+            return () -> DelegatingProxyFactory.createProxy(type, new LazyTargetSource(target));
+        }
+        if (dependency.isPrototype()) {
+            return getCreationPlan(dependency)::create;
+        }
+        Object bean = beanFactory.getBean(beanName);
+        return () -> bean;
     }
 
     /**
@@ -0,0 +1,331 @@
+package org.example.minispring.injector;
+
+import org.example.minispring.annotation.Autowired;
+import org.example.minispring.annotation.Lazy;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Parameter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 클래스 하나에 대한 필드/메서드 주입 정보를 미리 컴파일해 둔 객체
+ *
+ * 역할:
+ *   - @Autowired 필드와 메서드를 클래스당 한 번만 탐색
+ *   - 탐색 결과를 MethodHandle 기반 주입기(Injector) 목록으로 변환 (invokeExact로 호출)
+ *   - 인스턴스마다 주입기 목록을 순서대로 실행
+ *   - 필요한 의존성 타입 목록을 노출 → 생성 계획(BeanCreationPlan)이 미리 해결해 둘 수 있음
+ *   - 주입 지점별 @Lazy 지정도 같은 순서로 노출 → 해당 지점에는 지연 프록시 주입
+ *
+ * 성능 포인트:
+ *   - 빈 생성 시점에는 getDeclaredFields(), Field.set() 같은 리플렉션 호출이 없음
+ *   - 주입 지점이 없는 클래스는 EMPTY 인스턴스를 공유 → inject() 즉시 반환
+ *
+ * 탐색 순서 (Spring과 동일):
+ *   부모 클래스 → 자식 클래스, 각 클래스 안에서는 필드 → 메서드
+ *
+ * 오버라이드 규칙 (Spring과 동일):
+ *   - 자식이 오버라이드한 부모 메서드는 건너뜀 (가상 호출이라 부모 주입기도 자식 구현을 실행하기 때문)
+ *   - 오버라이드한 자식 메서드에 @Autowired가 있을 때만 한 번 주입
+ *   - private 메서드는 오버라이드되지 않으므로 계층마다 각각 주입
+ */
+public class InjectionMetadata {
+
+    private static final InjectionMetadata EMPTY = new InjectionMetadata(Collections.emptyList());
+
+    // 필드 주입기의 공통 호출 형태: (Object bean, Object value) → void
+    private static final MethodType FIELD_INJECTOR_TYPE =
+        MethodType.methodType(void.class, Object.class, Object.class);
+
+    // 메서드 주입기의 공통 호출 형태: (Object bean, Object[] args) → void
+    private static final MethodType METHOD_INJECTOR_TYPE =
+        MethodType.methodType(void.class, Object.class, Object[].class);
+
+    private final List<Injector> injectors;
+
+    // 모든 주입 지점의 의존성 타입 (주입 순서대로 평탄화)
+    private final Class<?>[] dependencyTypes;
+
+    // 주입 지점별 @Lazy (dependencyTypes와 같은 순서, 지정이 없으면 null)
+    private final Lazy[] lazyAnnotations;
+
+    private InjectionMetadata(List<Injector> injectors) {
+        this.injectors = injectors;
+        List<Class<?>> types = new ArrayList<>();
+        List<Lazy> lazies = new ArrayList<>();
+        for (Injector injector : injectors) {
+            types.addAll(List.of(injector.dependencyTypes()));
+            lazies.addAll(Arrays.asList(injector.lazyAnnotations()));
+        }
+        this.dependencyTypes = types.toArray(new Class<?>[0]);
+        this.lazyAnnotations = lazies.toArray(new Lazy[0]);
+    }
+
+    /**
+     * 클래스 계층을 탐색하여 주입 메타데이터 생성
+     *
+     * @param clazz 분석할 빈 클래스
+     * @return 컴파일된 주입 메타데이터 (주입 지점이 없으면 공유 EMPTY)
+     * @throws IllegalStateException 주입할 수 없는 필드/메서드가 @Autowired로 지정된 경우
+     */
+    public static InjectionMetadata forClass(Class<?> clazz) {
+        // ================================================================
+        // 1단계: 상속 계층을 부모 → 자식 순서로 정렬
+        // ================================================================
+        // 부모 클래스의 필드가 먼저 채워져야 자식 메서드에서 사용할 수 있음
+        List<Class<?>> hierarchy = new ArrayList<>();
+        for (Class<?> current = clazz; current != null && current != Object.class; current = current.getSuperclass()) {
+            hierarchy.add(0, current);
+        }
+
+        // ================================================================
+        // 1-1단계: 자식 → 부모 순서로 오버라이드되지 않은 @Autowired 메서드 선택
+        // ================================================================
+        // 자식 클래스가 선언한 시그니처를 모아 두고, 부모의 같은 시그니처 메서드는 제외
+        Map<Class<?>, List<Method>> autowiredMethods = new HashMap<>();
+        Set<String> overriddenSignatures = new HashSet<>();
+        for (int i = hierarchy.size() - 1; i >= 0; i--) {
+            Class<?> current = hierarchy.get(i);
+            List<Method> selected = new ArrayList<>();
+            for (Method method : current.getDeclaredMethods()) {
+                if (method.isBridge() || method.isSynthetic()) {
+                    continue;
+                }
+                boolean overridden = !overriddenSignatures.add(signature(method));
+                if (!overridden && method.isAnnotationPresent(Autowired.class)) {
+                    selected.add(method);
+                }
+            }
+            autowiredMethods.put(current, selected);
+        }
+
+        List<Injector> injectors = new ArrayList<>();
+        for (Class<?> current : hierarchy) {
+
+            // ============================================================
+            // 2단계: @Autowired 필드 → MethodHandle(setter) 주입기
+            // ============================================================
+            for (Field field : current.getDeclaredFields()) {
+                if (field.isAnnotationPresent(Autowired.class)) {
+                    injectors.add(fieldInjector(field));
+                }
+            }
+
+            // ============================================================
+            // 3단계: @Autowired 메서드 → MethodHandle 주입기
+            // ============================================================
+            for (Method method : autowiredMethods.get(current)) {
+                injectors.add(methodInjector(method));
+            }
+        }
+
+        return injectors.isEmpty() ? EMPTY : new InjectionMetadata(List.copyOf(injectors));
+    }
+
+    /**
+     * @return 주입할 지점이 하나도 없으면 true
+     */
+    public boolean isEmpty() {
+        return injectors.isEmpty();
+    }
+
+    /**
+     * 주입에 필요한 의존성 타입 목록
+     *
+     * @return 주입 순서대로 나열된 타입 (inject()에 전달할 배열과 같은 순서)
+     */
+    public Class<?>[] getDependencyTypes() {
+        return dependencyTypes.clone();
+    }
+
+    /**
+     * 주입 지점별 @Lazy 지정
+     *
+     * @return getDependencyTypes()와 같은 순서의 배열 (지정이 없는 지점은 null)
+     */
+    public Lazy[] getLazyAnnotations() {
+        return lazyAnnotations.clone();
+    }
+
+    /**
+     * 파라미터별 @Lazy 지정 조회 (생성자 / 메서드 주입 공통)
+     *
+     * 파라미터의 @Lazy가 우선, 없으면 생성자 / 메서드 자체의 @Lazy를 모든 파라미터에 적용
+     *
+     * @param parameters 생성자 또는 메서드의 파라미터
+     * @param declared 생성자 또는 메서드에 붙은 @Lazy (없으면 null)
+     * @return 파라미터 순서의 배열 (지정이 없는 파라미터는 null)
+     */
+    public static Lazy[] lazyAnnotations(Parameter[] parameters, Lazy declared) {
+        Lazy[] result = new Lazy[parameters.length];
+        for (int i = 0; i < parameters.length; i++) {
+            Lazy lazy = parameters[i].getAnnotation(Lazy.class);
+            result[i] = lazy != null ? lazy : declared;
+        }
+        return result;
+    }
+
+    /**
+     * 생성된 인스턴스에 의존성 주입
+     *
+     * @param bean 주입 대상 인스턴스
+     * @param dependencies getDependencyTypes() 순서대로 해결된 의존성 인스턴스
+     */
+    public void inject(Object bean, Object[] dependencies) {
+        int offset = 0;
+        for (Injector injector : injectors) {
+            offset = injector.inject(bean, dependencies, offset);
+        }
+    }
+
+    private static Injector fieldInjector(Field field) {
+        // static / final 필드는 인스턴스 주입 대상이 될 수 없음
+        if (Modifier.isStatic(field.getModifiers()) || Modifier.isFinal(field.getModifiers())) {
+            throw new IllegalStateException(
+                "@Autowired field must be non-static and non-final: " +
+                field.getName() + " in " + field.getDeclaringClass().getName()
+            );
+        }
+
+        try {
+            // privateLookupIn: 선언 클래스 권한으로 private 필드에도 접근
+            // (Bean, FieldType) → (Object, Object) 형태로 변환해 invokeExact 가능하게 만듦
+            MethodHandle handle = lookupFor(field.getDeclaringClass())
+                .unreflectSetter(field)
+                .asType(FIELD_INJECTOR_TYPE);
+            return new FieldInjector(handle, field.getType(), field.getAnnotation(Lazy.class), field);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Cannot access @Autowired field: " + field, e);
+        }
+    }
+
+    private static Injector methodInjector(Method method) {
+        if (Modifier.isStatic(method.getModifiers())) {
+            throw new IllegalStateException(
+                "@Autowired method must be non-static: " +
+                method.getName() + " in " + method.getDeclaringClass().getName()
+            );
+        }
+
+        try {
+            // (Bean, P1, P2, ...) → (Object, Object[]) 형태로 변환해 invokeExact 가능하게 만듦
+            MethodHandle handle = lookupFor(method.getDeclaringClass())
+                .unreflect(method)
+                .asSpreader(Object[].class, method.getParameterCount())
+                .asType(METHOD_INJECTOR_TYPE);
+            Lazy[] lazies = lazyAnnotations(method.getParameters(), method.getAnnotation(Lazy.class));
+            return new MethodInjector(handle, method.getParameterTypes(), lazies, method);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Cannot access @Autowired method: " + method, e);
+        }
+    }
+
+    // private 메서드는 선언 클래스별로 구분, 그 외는 이름 + 파라미터로 오버라이드 판단
+    private static String signature(Method method) {
+        String name = method.getName() + Arrays.toString(method.getParameterTypes());
+        return Modifier.isPrivate(method.getModifiers())
+            ? method.getDeclaringClass().getName() + "#" + name
+            : name;
+    }
+
+    private static MethodHandles.Lookup lookupFor(Class<?> declaringClass) throws IllegalAccessException {
+        return MethodHandles.privateLookupIn(declaringClass, MethodHandles.lookup());
+    }
+
+    /**
+     * 주입 지점 하나를 표현하는 주입기
+     */
+    private interface Injector {
+        Class<?>[] dependencyTypes();
+
+        Lazy[] lazyAnnotations();
+
+        /**
+         * @param offset dependencies 배열에서 이 주입기가 읽기 시작할 위치
+         * @return 다음 주입기가 읽을 위치
+         */
+        int inject(Object bean, Object[] dependencies, int offset);
+    }
+
+    private static final class FieldInjector implements Injector {
+        private final MethodHandle handle;
+        private final Class<?> dependencyType;
+        private final Lazy lazy;
+        private final Field field;
+
+        FieldInjector(MethodHandle handle, Class<?> dependencyType, Lazy lazy, Field field) {
+            this.handle = handle;
+            this.dependencyType = dependencyType;
+            this.lazy = lazy;
+            this.field = field;
+        }
+
+        @Override
+        public Class<?>[] dependencyTypes() {
+            return new Class<?>[]{dependencyType};
+        }
+
+        @Override
+        public Lazy[] lazyAnnotations() {
+            return new Lazy[]{lazy};
+        }
+
+        @Override
+        public int inject(Object bean, Object[] dependencies, int offset) {
+            try {
+                handle.invokeExact(bean, dependencies[offset]);
+            } catch (Throwable e) {
+                throw new IllegalStateException("Failed to inject field: " + field, e);
+            }
+            return offset + 1;
+        }
+    }
+
+    private static final class MethodInjector implements Injector {
+        private final MethodHandle handle;
+        private final Class<?>[] parameterTypes;
+        private final Lazy[] lazies;
+        private final Method method;
+
+        MethodInjector(MethodHandle handle, Class<?>[] parameterTypes, Lazy[] lazies, Method method) {
+            this.handle = handle;
+            this.parameterTypes = parameterTypes;
+            this.lazies = lazies;
+            this.method = method;
+        }
+
+        @Override
+        public Class<?>[] dependencyTypes() {
+            return parameterTypes;
+        }
+
+        @Override
+        public Lazy[] lazyAnnotations() {
+            return lazies;
+        }
+
+        @Override
+        public int inject(Object bean, Object[] dependencies, int offset) {
+            Object[] args = new Object[parameterTypes.length];
+            System.arraycopy(dependencies, offset, args, 0, args.length);
+            try {
+                handle.invokeExact(bean, args);
+            } catch (Throwable e) {
+                throw new IllegalStateException("Failed to invoke @Autowired method: " + method, e);
+            }
+            return offset + args.length;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package org.example.minispring.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 빈 하나의 생성 (singleton: 의존성 해결 + 인스턴스 생성 + @PostConstruct, prototype: 생성 계획 실행)
+ *
+ * 스레드 / 시작 시각 / 소요 시간은 JFR이 함께 기록
+ * → 같은 녹화의 GC, CPU, 락 이벤트와 시간축으로 연결
+ */
+@Name(BeanCreationEvent.NAME)
+@Label("Bean Creation")
+@Category({"MiniSpring", "Container"})
+@Description("Creation of a bean instance, including dependency resolution and @PostConstruct")
+@StackTrace(true)
+public final class BeanCreationEvent extends Event {
+
+    public static final String NAME = "org.example.minispring.BeanCreation";
+
+    @Label("Bean Name")
+    String beanName;
+
+    @Label("Bean Class")
+    Class<?> beanClass;
+
+    @Label("Scope")
+    String scope;
+
+    /**
+     * 기록 중이고 임계값을 넘었으면 값을 채워 기록
+     */
+    public void commit(String beanName, Class<?> beanClass, String scope) {
+        if (shouldCommit()) {
+            this.beanName = beanName;
+            this.beanClass = beanClass;
+            this.scope = scope;
+            commit();
+        }
+    }
+}
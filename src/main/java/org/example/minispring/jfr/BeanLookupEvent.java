@@ -0,0 +1,79 @@
+package org.example.minispring.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import java.time.Duration;
+
+/**
+ * getBean() 한 번
+ *
+ * 기록 대상:
+ *   - 캐시 미스 (빈 생성 또는 생성 대기가 포함된 조회): 항상
+ *   - 캐시 히트: 시스템 프로퍼티 "minispring.jfr.slow-hit-threshold-ms"(기본 1ms)를 넘긴 경우만
+ *     → 수백만 번의 빠른 조회로 녹화가 채워지지 않음
+ */
+@Name(BeanLookupEvent.NAME)
+@Label("Bean Lookup")
+@Category({"MiniSpring", "Container"})
+@Description("getBean() call that missed the singleton cache or was a slow cache hit")
+@StackTrace(true)
+public final class BeanLookupEvent extends Event {
+
+    public static final String NAME = "org.example.minispring.BeanLookup";
+
+    public static final String SLOW_HIT_THRESHOLD_PROPERTY = "minispring.jfr.slow-hit-threshold-ms";
+
+    private static final long SLOW_HIT_THRESHOLD_NANOS =
+        Duration.ofMillis(Long.getLong(SLOW_HIT_THRESHOLD_PROPERTY, 1L)).toNanos();
+
+    @Label("Bean Name")
+    String beanName;
+
+    @Label("Cache Hit")
+    boolean cacheHit;
+
+    // 기록 중일 때만 측정하는 시작 시각 (느린 히트 판단용)
+    private transient long startNanos;
+
+    /**
+     * 조회 시작 (기록 중이 아니면 시간 측정 없음)
+     */
+    public void start() {
+        if (isEnabled()) {
+            begin();
+            startNanos = System.nanoTime();
+        }
+    }
+
+    /**
+     * 캐시 히트로 끝난 조회 - 임계값을 넘긴 경우만 기록
+     */
+    public void commitHit(String beanName) {
+        if (startNanos != 0L && System.nanoTime() - startNanos >= SLOW_HIT_THRESHOLD_NANOS) {
+            commit(beanName, true);
+        }
+    }
+
+    /**
+     * 캐시 미스로 끝난 조회 - 항상 기록
+     */
+    public void commitMiss(String beanName) {
+        if (startNanos != 0L) {
+            commit(beanName, false);
+        }
+    }
+
+    private void commit(String beanName, boolean cacheHit) {
+        end();
+        if (shouldCommit()) {
+            this.beanName = beanName;
+            this.cacheHit = cacheHit;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package org.example.minispring.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import java.lang.reflect.Method;
+
+/**
+ * 생명주기 콜백 메서드 하나의 실행 (@PostConstruct / @PreDestroy / @AfterRestore)
+ *
+ * 비동기 @PostConstruct는 CompletionStage를 반환할 때까지의 동기 구간만 포함
+ */
+@Name(LifecycleCallbackEvent.NAME)
+@Label("Lifecycle Callback")
+@Category({"MiniSpring", "Container"})
+@Description("Invocation of a @PostConstruct, @PreDestroy or @AfterRestore method")
+@StackTrace(true)
+public final class LifecycleCallbackEvent extends Event {
+
+    public static final String NAME = "org.example.minispring.LifecycleCallback";
+
+    public static final String POST_CONSTRUCT = "PostConstruct";
+    public static final String PRE_DESTROY = "PreDestroy";
+    public static final String AFTER_RESTORE = "AfterRestore";
+
+    @Label("Callback Type")
+    String callbackType;
+
+    @Label("Bean Class")
+    Class<?> beanClass;
+
+    @Label("Method")
+    String method;
+
+    /**
+     * 기록 중이고 임계값을 넘었으면 값을 채워 기록
+     */
+    public void commit(String callbackType, Object bean, Method method) {
+        if (shouldCommit()) {
+            this.callbackType = callbackType;
+            this.beanClass = bean.getClass();
+            this.method = method.getName();
+            commit();
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package org.example.minispring.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * singleton 생성 락을 얻기까지 기다린 시간
+ *
+ * 다른 스레드가 같은 빈을 생성하는 중이면 그 생성이 끝날 때까지 대기하게 됨
+ * (병렬 사전 생성, 웜 스타트와 첫 요청이 겹치는 경우 등)
+ *
+ * 기본 임계값 1ms (경합 없는 락 획득은 기록하지 않음, JFR 설정으로 변경 가능)
+ */
+@Name(SingletonLockWaitEvent.NAME)
+@Label("Singleton Lock Wait")
+@Category({"MiniSpring", "Container"})
+@Description("Time spent waiting for another thread to finish creating a singleton")
+@StackTrace(true)
+@Threshold("1 ms")
+public final class SingletonLockWaitEvent extends Event {
+
+    public static final String NAME = "org.example.minispring.SingletonLockWait";
+
+    @Label("Bean Name")
+    String beanName;
+
+    /**
+     * 락을 얻은 직후 호출 - 기록 중이고 임계값을 넘었으면 기록
+     */
+    public void commit(String beanName) {
+        end();
+        if (shouldCommit()) {
+            this.beanName = beanName;
+            commit();
+        }
+    }
+}
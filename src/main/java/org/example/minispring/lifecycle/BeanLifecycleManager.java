@@ -1,9 +1,14 @@
 package org.example.minispring.lifecycle;
 
-import org.example.minispring.annotation.PostConstruct;
-import org.example.minispring.annotation.PreDestroy;
+import org.example.minispring.bean.ClassMetadata;
+import org.example.minispring.exception.BeanInitializationException;
+import org.example.minispring.log.ContainerLogger;
+import org.example.minispring.log.ContainerLogging;
 
-import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
 
 /**
  * 빈의 생명주기 콜백 메서드를 관리
@@ -11,122 +16,131 @@ import java.lang.reflect.Method;
  * 역할:
  *   - @PostConstruct 메서드 호출 (빈 생성 후)
  *   - @PreDestroy 메서드 호출 (컨테이너 종료 시)
+ *   - @AfterRestore 메서드 호출 (스냅숏에서 복원 시)
  *
  * 동작:
  *   1. 빈 생성 완료 후 → @PostConstruct 메서드 찾아서 호출
  *   2. 컨테이너 종료 시 → @PreDestroy 메서드 찾아서 호출
+ *
+ * 콜백 탐색과 MethodHandle 변환은 클래스당 한 번만 수행 (LifecycleMetadata, ClassMetadata에 캐싱)
+ *   - 상속 계층 전체, 부모 → 자식 순서, 클래스마다 여러 콜백 / private 콜백 지원
+ *   - 콜백이 없는 클래스는 플래그 확인만으로 건너뜀 (prototype / pooled 빈의 잦은 생성·정리 경로)
+ *
+ * 비동기 초기화:
+ *   @PostConstruct 메서드가 CompletionStage를 반환하면 그 완료 시점이 "초기화 완료"
+ *   → invokePostConstruct()가 해당 future를 돌려주고, 기다릴지는 호출자가 결정
+ *
+ * 로그:
+ *   콜백 호출은 DEBUG, @PreDestroy 실패는 ERROR로 ContainerLogging 로거에 기록
+ *   (기본 로거는 비동기 → getBean()의 생성 구간에서 콘솔 I/O를 기다리지 않음)
  */
 public class BeanLifecycleManager {
 
+    private static final CompletableFuture<Void> COMPLETED = CompletableFuture.completedFuture(null);
+    private static final ContainerLogger LOG = ContainerLogging.getLogger();
+
     /**
-     * 빈 생성 후 @PostConstruct 메서드 호출
+     * 빈 생성 후 @PostConstruct 메서드 호출 (부모 클래스의 콜백부터)
      *
      * @param bean 초기화할 빈 인스턴스
+     * @return 초기화 완료 future (동기 콜백이거나 콜백이 없으면 이미 완료된 future)
      */
-    public void invokePostConstruct(Object bean) {
+    public CompletableFuture<?> invokePostConstruct(Object bean) {
         // ================================================================
-        // 1단계: 빈 클래스의 모든 메서드 스캔
+        // 1단계: 캐시된 콜백 메타데이터 조회 (콜백이 없으면 즉시 종료)
         // ================================================================
-        Class<?> beanClass = bean.getClass();
-        Method[] methods = beanClass.getDeclaredMethods();
+        // 프록시 인스턴스라면 원래 사용자 클래스 기준으로 조회
+        ClassMetadata metadata = ClassMetadata.forInstance(bean);
+        LifecycleMetadata lifecycle = metadata.getLifecycleMetadata();
+        if (!lifecycle.hasPostConstruct()) {
+            return COMPLETED;
+        }
 
         // ================================================================
-        // 2단계: @PostConstruct 어노테이션이 있는 메서드 찾기
+        // 2단계: 캐시된 MethodHandle로 콜백 호출
         // ================================================================
-        for (Method method : methods) {
-            if (method.isAnnotationPresent(PostConstruct.class)) {
+        try {
+            CompletableFuture<?> pending = lifecycle.invokePostConstruct(bean);
+            LOG.debug("@PostConstruct called: {}", metadata.getType().getSimpleName());
 
-                // ============================================================
-                // 3단계: 메서드 검증
-                // ============================================================
-                // @PostConstruct 메서드 요구사항:
-                //   - 파라미터가 없어야 함
-                //   - void 반환 타입 (권장)
-                if (method.getParameterCount() != 0) {
-                    throw new IllegalStateException(
-                        "@PostConstruct method must have no parameters: " +
-                        method.getName() + " in " + beanClass.getName()
-                    );
-                }
+            // 비동기 초기화: 반환된 future가 완료되어야 빈이 준비됨
+            return pending != null ? pending : COMPLETED;
 
-                // ============================================================
-                // 4단계: 메서드 호출
-                // ============================================================
-                try {
-                    method.setAccessible(true);  // private 메서드도 호출 가능
-                    method.invoke(bean);
-                    System.out.println("@PostConstruct called: " +
-                        beanClass.getSimpleName() + "." + method.getName() + "()");
+        } catch (Throwable e) {
+            throw new RuntimeException(
+                "Failed to invoke @PostConstruct method in " + metadata.getType().getName(), e
+            );
+        }
+    }
 
-                } catch (Exception e) {
-                    throw new RuntimeException(
-                        "Failed to invoke @PostConstruct method: " +
-                        method.getName() + " in " + beanClass.getName(),
-                        e
-                    );
-                }
+    /**
+     * 스냅숏에서 복원된 빈의 @AfterRestore 메서드 호출 (생성자 / @PostConstruct 대신)
+     *
+     * @param bean 복원된 빈 인스턴스
+     * @throws RuntimeException 콜백이 실패한 경우
+     */
+    public void invokeAfterRestore(Object bean) {
+        ClassMetadata metadata = ClassMetadata.forInstance(bean);
+        LifecycleMetadata lifecycle = metadata.getLifecycleMetadata();
+        if (!lifecycle.hasAfterRestore()) {
+            return;
+        }
+        try {
+            lifecycle.invokeAfterRestore(bean);
+        } catch (Throwable e) {
+            throw new RuntimeException(
+                "Failed to invoke @AfterRestore method in " + metadata.getType().getName(), e
+            );
+        }
+    }
 
-                // @PostConstruct는 하나만 허용 (Spring 규칙)
-                // 여러 개 있어도 첫 번째만 호출하고 종료
-                break;
-            }
+    /**
+     * 비동기 초기화가 끝날 때까지 대기
+     *
+     * @param beanName 빈 이름 (예외 메시지용)
+     * @param initialization 초기화 완료 future
+     * @param <T> future 결과 타입
+     * @return future의 결과
+     * @throws BeanInitializationException 초기화가 실패한 경우 (원인 예외 포함)
+     */
+    public static <T> T await(String beanName, CompletableFuture<T> initialization) {
+        try {
+            return initialization.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause() instanceof CompletionException && e.getCause().getCause() != null
+                ? e.getCause().getCause()
+                : e.getCause();
+            throw new BeanInitializationException("Asynchronous initialization failed for bean: " + beanName, cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BeanInitializationException("Interrupted while waiting for bean: " + beanName, e);
         }
     }
 
     /**
-     * 컨테이너 종료 시 @PreDestroy 메서드 호출
+     * 컨테이너 종료 시 @PreDestroy 메서드 호출 (부모 클래스의 콜백부터)
      *
      * @param bean 정리할 빈 인스턴스
      */
     public void invokePreDestroy(Object bean) {
         // ================================================================
-        // 1단계: 빈 클래스의 모든 메서드 스캔
+        // 1단계: 캐시된 콜백 메타데이터 조회 (콜백이 없으면 즉시 종료)
         // ================================================================
-        Class<?> beanClass = bean.getClass();
-        Method[] methods = beanClass.getDeclaredMethods();
+        ClassMetadata metadata = ClassMetadata.forInstance(bean);
+        LifecycleMetadata lifecycle = metadata.getLifecycleMetadata();
+        if (!lifecycle.hasPreDestroy()) {
+            return;
+        }
 
         // ================================================================
-        // 2단계: @PreDestroy 어노테이션이 있는 메서드 찾기
+        // 2단계: 콜백 호출
         // ================================================================
-        for (Method method : methods) {
-            if (method.isAnnotationPresent(PreDestroy.class)) {
-
-                // ============================================================
-                // 3단계: 메서드 검증
-                // ============================================================
-                // @PreDestroy 메서드 요구사항:
-                //   - 파라미터가 없어야 함
-                //   - void 반환 타입 (권장)
-                if (method.getParameterCount() != 0) {
-                    throw new IllegalStateException(
-                        "@PreDestroy method must have no parameters: " +
-                        method.getName() + " in " + beanClass.getName()
-                    );
-                }
-
-                // ============================================================
-                // 4단계: 메서드 호출
-                // ============================================================
-                try {
-                    method.setAccessible(true);  // private 메서드도 호출 가능
-                    method.invoke(bean);
-                    System.out.println("@PreDestroy called: " +
-                        beanClass.getSimpleName() + "." + method.getName() + "()");
-
-                } catch (Exception e) {
-                    // PreDestroy 실패 시 로그만 남기고 계속 진행
-                    // (다른 빈들의 정리도 수행해야 함)
-                    System.err.println(
-                        "Failed to invoke @PreDestroy method: " +
-                        method.getName() + " in " + beanClass.getName()
-                    );
-                    e.printStackTrace();
-                }
-
-                // @PreDestroy는 하나만 허용 (Spring 규칙)
-                // 여러 개 있어도 첫 번째만 호출하고 종료
-                break;
-            }
+        // PreDestroy 실패 시 로그만 남기고 계속 진행
+        // (같은 빈의 나머지 콜백과 다른 빈들의 정리도 수행해야 함)
+        List<Throwable> failures = lifecycle.invokePreDestroy(bean);
+        LOG.debug("@PreDestroy called: {}", metadata.getType().getSimpleName());
+        for (Throwable failure : failures) {
+            LOG.error("{}", failure.getMessage(), failure.getCause());
         }
     }
 }
@@ -0,0 +1,29 @@
+package org.example.minispring.lifecycle;
+
+/**
+ * 시작 / 정지가 필요한 능동 컴포넌트 (메시지 소비자, 스케줄러, 서버 등)
+ *
+ * @PostConstruct와의 차이:
+ *   - @PostConstruct: getBean() 안에서 (생성 락을 잡은 채) 빈 하나가 준비될 때 호출
+ *   - start(): refresh가 끝나 전체 빈 그래프가 준비된 뒤 호출
+ *   - stop(): 컨테이너 종료 시 @PreDestroy보다 먼저 호출 → 처리 중인 작업을 먼저 멈춤
+ *
+ * 단계(phase)와 비동기 정지가 필요하면 SmartLifecycle 구현
+ */
+public interface Lifecycle {
+
+    /**
+     * 컴포넌트 시작 (이미 실행 중이면 아무것도 하지 않아야 함)
+     */
+    void start();
+
+    /**
+     * 컴포넌트 정지 (실행 중이 아니면 아무것도 하지 않아야 함)
+     */
+    void stop();
+
+    /**
+     * @return 실행 중이면 true
+     */
+    boolean isRunning();
+}
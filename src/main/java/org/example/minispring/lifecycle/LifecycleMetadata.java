@@ -0,0 +1,285 @@
+package org.example.minispring.lifecycle;
+
+import org.example.minispring.annotation.AfterRestore;
+import org.example.minispring.annotation.PostConstruct;
+import org.example.minispring.annotation.PreDestroy;
+import org.example.minispring.jfr.LifecycleCallbackEvent;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * 클래스 하나에 대한 @PostConstruct / @PreDestroy / @AfterRestore 콜백을 미리 컴파일해 둔 객체
+ *
+ * 역할:
+ *   - 상속 계층 전체를 부모 → 자식 순서로 클래스당 한 번만 탐색
+ *   - 클래스마다 여러 콜백, private 콜백 지원
+ *   - 탐색 결과를 (Object) → void / Object 형태의 MethodHandle 배열로 변환
+ *
+ * 성능 포인트:
+ *   - 콜백 호출 시 getDeclaredMethods(), setAccessible(), Method.invoke()가 없음
+ *   - 콜백이 하나도 없는 클래스는 NONE을 공유 → hasPostConstruct() / hasPreDestroy() 확인만으로 건너뜀
+ *     (prototype / pooled 빈처럼 생성·정리가 잦은 경로에서 비용 0)
+ *   - 콜백마다 JFR LifecycleCallback 이벤트 (녹화 중이 아니면 기록 비용 없음)
+ *
+ * 탐색 규칙 (Spring과 동일):
+ *   - 부모 클래스의 콜백이 먼저 호출됨 (부모가 준비한 상태를 자식 콜백이 사용할 수 있음)
+ *   - 자식이 오버라이드한 콜백은 한 번만 호출 (가상 호출이므로 자식 구현이 실행됨)
+ *   - private 콜백은 오버라이드되지 않으므로 계층마다 각각 호출
+ */
+public final class LifecycleMetadata {
+
+    private static final LifecycleMetadata NONE =
+        new LifecycleMetadata(List.of(), List.of(), List.of());
+
+    private static final MethodType SYNC_CALLBACK = MethodType.methodType(void.class, Object.class);
+    private static final MethodType ASYNC_CALLBACK = MethodType.methodType(Object.class, Object.class);
+
+    private final Callback[] postConstructCallbacks;
+    private final Callback[] preDestroyCallbacks;
+    private final Callback[] afterRestoreCallbacks;
+    private final boolean asyncPostConstruct;
+
+    private LifecycleMetadata(List<Callback> postConstruct, List<Callback> preDestroy, List<Callback> afterRestore) {
+        this.postConstructCallbacks = postConstruct.toArray(new Callback[0]);
+        this.preDestroyCallbacks = preDestroy.toArray(new Callback[0]);
+        this.afterRestoreCallbacks = afterRestore.toArray(new Callback[0]);
+        boolean async = false;
+        for (Callback callback : postConstructCallbacks) {
+            async |= callback.async;
+        }
+        this.asyncPostConstruct = async;
+    }
+
+    /**
+     * 클래스 계층을 탐색하여 콜백 메타데이터 생성
+     *
+     * (ClassMetadata.getLifecycleMetadata()가 클래스당 한 번만 호출해 캐싱)
+     *
+     * @param clazz 분석할 빈 클래스
+     * @return 컴파일된 콜백 메타데이터 (콜백이 없으면 공유 NONE)
+     * @throws IllegalStateException 콜백 메서드에 파라미터가 있거나 static인 경우
+     */
+    public static LifecycleMetadata forClass(Class<?> clazz) {
+        // ================================================================
+        // 1단계: 상속 계층을 부모 → 자식 순서로 정렬
+        // ================================================================
+        List<Class<?>> hierarchy = new ArrayList<>();
+        for (Class<?> current = clazz; current != null && current != Object.class; current = current.getSuperclass()) {
+            hierarchy.add(0, current);
+        }
+
+        // ================================================================
+        // 2단계: 계층별 콜백 수집 (오버라이드된 메서드는 한 번만)
+        // ================================================================
+        List<Callback> postConstruct = new ArrayList<>();
+        List<Callback> preDestroy = new ArrayList<>();
+        List<Callback> afterRestore = new ArrayList<>();
+        Set<String> postConstructSignatures = new HashSet<>();
+        Set<String> preDestroySignatures = new HashSet<>();
+        Set<String> afterRestoreSignatures = new HashSet<>();
+        for (Class<?> current : hierarchy) {
+            for (Method method : current.getDeclaredMethods()) {
+                if (method.isBridge() || method.isSynthetic()) {
+                    continue;
+                }
+                if (method.isAnnotationPresent(PostConstruct.class)
+                    && postConstructSignatures.add(signature(method))) {
+                    postConstruct.add(callback(method, "@PostConstruct", true));
+                }
+                if (method.isAnnotationPresent(PreDestroy.class)
+                    && preDestroySignatures.add(signature(method))) {
+                    preDestroy.add(callback(method, "@PreDestroy", false));
+                }
+                if (method.isAnnotationPresent(AfterRestore.class)
+                    && afterRestoreSignatures.add(signature(method))) {
+                    afterRestore.add(callback(method, "@AfterRestore", false));
+                }
+            }
+        }
+
+        if (postConstruct.isEmpty() && preDestroy.isEmpty() && afterRestore.isEmpty()) {
+            return NONE;
+        }
+        return new LifecycleMetadata(postConstruct, preDestroy, afterRestore);
+    }
+
+    /**
+     * @return @PostConstruct 콜백이 하나라도 있으면 true
+     */
+    public boolean hasPostConstruct() {
+        return postConstructCallbacks.length != 0;
+    }
+
+    /**
+     * @return @PreDestroy 콜백이 하나라도 있으면 true
+     */
+    public boolean hasPreDestroy() {
+        return preDestroyCallbacks.length != 0;
+    }
+
+    /**
+     * @return @AfterRestore 콜백이 하나라도 있으면 true
+     */
+    public boolean hasAfterRestore() {
+        return afterRestoreCallbacks.length != 0;
+    }
+
+    /**
+     * @return CompletionStage를 반환하는 @PostConstruct가 있으면 true (비동기 초기화)
+     */
+    public boolean hasAsyncPostConstruct() {
+        return asyncPostConstruct;
+    }
+
+    /**
+     * @return @PostConstruct 메서드 (부모 → 자식 순서, 변경 불가)
+     */
+    public List<Method> getPostConstructMethods() {
+        return methods(postConstructCallbacks);
+    }
+
+    /**
+     * @return @PreDestroy 메서드 (부모 → 자식 순서, 변경 불가)
+     */
+    public List<Method> getPreDestroyMethods() {
+        return methods(preDestroyCallbacks);
+    }
+
+    /**
+     * @PostConstruct 콜백을 순서대로 호출
+     *
+     * 비동기 콜백(CompletionStage 반환)은 기다리지 않고 다음 콜백을 호출하며,
+     * 반환된 future는 모든 비동기 콜백이 끝나야 완료됨
+     *
+     * @param bean 초기화할 빈 인스턴스
+     * @return 비동기 콜백 완료 future (비동기 콜백이 없으면 null)
+     * @throws Throwable 콜백이 던진 예외 (이후 콜백은 호출하지 않음)
+     */
+    public CompletableFuture<?> invokePostConstruct(Object bean) throws Throwable {
+        CompletableFuture<?> pending = null;
+        for (Callback callback : postConstructCallbacks) {
+            LifecycleCallbackEvent event = new LifecycleCallbackEvent();
+            event.begin();
+            if (callback.async) {
+                Object result = (Object) callback.handle.invokeExact(bean);
+                if (result != null) {
+                    CompletableFuture<?> future = ((CompletionStage<?>) result).toCompletableFuture();
+                    pending = pending == null ? future : CompletableFuture.allOf(pending, future);
+                }
+            } else {
+                callback.handle.invokeExact(bean);
+            }
+            event.commit(LifecycleCallbackEvent.POST_CONSTRUCT, bean, callback.method);
+        }
+        return pending;
+    }
+
+    /**
+     * @PreDestroy 콜백을 순서대로 호출 (하나가 실패해도 나머지는 호출)
+     *
+     * @param bean 정리할 빈 인스턴스
+     * @return 실패한 콜백의 예외 목록 (모두 성공하면 빈 리스트)
+     */
+    public List<Throwable> invokePreDestroy(Object bean) {
+        List<Throwable> failures = List.of();
+        for (Callback callback : preDestroyCallbacks) {
+            LifecycleCallbackEvent event = new LifecycleCallbackEvent();
+            event.begin();
+            try {
+                callback.handle.invokeExact(bean);
+                event.commit(LifecycleCallbackEvent.PRE_DESTROY, bean, callback.method);
+            } catch (Throwable e) {
+                if (failures.isEmpty()) {
+                    failures = new ArrayList<>();
+                }
+                failures.add(new IllegalStateException(
+                    "Failed to invoke @PreDestroy method: " + describe(callback.method), e
+                ));
+            }
+        }
+        return failures;
+    }
+
+    /**
+     * @AfterRestore 콜백을 순서대로 호출 (스냅숏에서 복원된 빈)
+     *
+     * @param bean 복원된 빈 인스턴스
+     * @throws Throwable 콜백이 던진 예외 (이후 콜백은 호출하지 않음)
+     */
+    public void invokeAfterRestore(Object bean) throws Throwable {
+        for (Callback callback : afterRestoreCallbacks) {
+            LifecycleCallbackEvent event = new LifecycleCallbackEvent();
+            event.begin();
+            callback.handle.invokeExact(bean);
+            event.commit(LifecycleCallbackEvent.AFTER_RESTORE, bean, callback.method);
+        }
+    }
+
+    private static Callback callback(Method method, String annotation, boolean allowAsync) {
+        if (method.getParameterCount() != 0 || Modifier.isStatic(method.getModifiers())) {
+            throw new IllegalStateException(
+                annotation + " method must be a non-static method without parameters: " + describe(method)
+            );
+        }
+
+        try {
+            // privateLookupIn: 선언 클래스 권한으로 private 콜백에도 접근 (setAccessible 불필요)
+            boolean async = allowAsync && CompletionStage.class.isAssignableFrom(method.getReturnType());
+            MethodHandle handle = MethodHandles.privateLookupIn(method.getDeclaringClass(), MethodHandles.lookup())
+                .unreflect(method);
+            // 반환값이 있는 동기 콜백 / @PreDestroy(항상 동기)는 결과를 버리는 형태로 변환
+            if (!async && method.getReturnType() != void.class) {
+                handle = MethodHandles.dropReturn(handle);
+            }
+            return new Callback(method, handle.asType(async ? ASYNC_CALLBACK : SYNC_CALLBACK), async);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Cannot access " + annotation + " method: " + describe(method), e);
+        }
+    }
+
+    // private 메서드는 선언 클래스별로 구분, 그 외는 이름 + 파라미터로 오버라이드 판단
+    private static String signature(Method method) {
+        String name = method.getName() + Arrays.toString(method.getParameterTypes());
+        return Modifier.isPrivate(method.getModifiers())
+            ? method.getDeclaringClass().getName() + "#" + name
+            : name;
+    }
+
+    private static List<Method> methods(Callback[] callbacks) {
+        List<Method> methods = new ArrayList<>(callbacks.length);
+        for (Callback callback : callbacks) {
+            methods.add(callback.method);
+        }
+        return List.copyOf(methods);
+    }
+
+    static String describe(Method method) {
+        return method.getName() + " in " + method.getDeclaringClass().getName();
+    }
+
+    /**
+     * 콜백 하나 (MethodHandle은 (Object) → void, 비동기면 (Object) → Object)
+     */
+    private static final class Callback {
+        private final Method method;
+        private final MethodHandle handle;
+        private final boolean async;
+
+        Callback(Method method, MethodHandle handle, boolean async) {
+            this.method = method;
+            this.handle = handle;
+            this.async = async;
+        }
+    }
+}
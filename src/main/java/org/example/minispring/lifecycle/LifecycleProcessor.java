@@ -0,0 +1,237 @@
+package org.example.minispring.lifecycle;
+
+import org.example.minispring.bean.BeanDefinition;
+import org.example.minispring.container.BeanFactory;
+import org.example.minispring.log.ContainerLogger;
+import org.example.minispring.log.ContainerLogging;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Lifecycle 빈을 단계(phase)별로 시작 / 정지
+ *
+ * 시작 (refresh 마지막):
+ *   1. @Lazy가 아닌 singleton 중 Lifecycle을 구현한 빈 조회 (필요하면 생성)
+ *      - SmartLifecycle.isAutoStartup()이 false인 빈은 제외
+ *   2. 단계 오름차순으로, 같은 단계의 빈은 병렬로 start() 호출
+ *      - 단계를 지정하지 않은 Lifecycle은 SmartLifecycle.DEFAULT_PHASE
+ *   3. 단계가 모두 끝나야 다음 단계 시작
+ *      → 한 단계에서 실패하면 이미 시작한 빈을 정지하고 첫 번째 예외를 던짐
+ *
+ * 정지 (close 처음, @PreDestroy보다 먼저):
+ *   1. 시작한 빈을 단계 내림차순으로 정지
+ *   2. 같은 단계의 빈은 병렬로 stop(callback) 호출 (SmartLifecycle이 아니면 stop())
+ *   3. 모든 callback이 호출되거나 단계 제한 시간이 지나면 다음 단계로 진행
+ */
+public class LifecycleProcessor {
+
+    private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+    private static final ContainerLogger LOG = ContainerLogging.getLogger();
+
+    private final BeanFactory beanFactory;
+    private final int parallelism;
+    private final long phaseTimeoutNanos;
+
+    // 시작한 빈 (단계 → 빈 목록), 정지 시 역순으로 사용
+    private final TreeMap<Integer, List<LifecycleBean>> started = new TreeMap<>();
+
+    /**
+     * @param beanFactory Lifecycle 빈을 조회할 팩토리
+     * @param parallelism 같은 단계에서 동시에 시작 / 정지할 최대 빈 개수
+     * @param phaseTimeout 단계 하나의 정지를 기다릴 최대 시간
+     */
+    public LifecycleProcessor(BeanFactory beanFactory, int parallelism, Duration phaseTimeout) {
+        this.beanFactory = beanFactory;
+        this.parallelism = parallelism;
+        this.phaseTimeoutNanos = phaseTimeout.toNanos();
+    }
+
+    /**
+     * 자동 시작 대상 Lifecycle 빈을 단계별로 시작
+     *
+     * @return 시작한 단계 목록 (단계마다 빈 이름, 단계 오름차순)
+     * @throws RuntimeException 빈의 start()가 실패한 경우 (이미 시작한 빈은 정지됨)
+     */
+    public synchronized List<List<String>> start() {
+        // ================================================================
+        // 1단계: Lifecycle 빈 수집 (단계별)
+        // ================================================================
+        TreeMap<Integer, List<LifecycleBean>> phases = new TreeMap<>();
+        for (String beanName : beanFactory.getBeanNamesForType(Lifecycle.class)) {
+            BeanDefinition definition = beanFactory.getBeanDefinition(beanName);
+            if (!definition.isSingleton() || definition.isLazyInit()) {
+                continue;
+            }
+            Lifecycle bean = (Lifecycle) beanFactory.getBean(beanName);
+            if (bean instanceof SmartLifecycle && !((SmartLifecycle) bean).isAutoStartup()) {
+                continue;
+            }
+            phases.computeIfAbsent(phaseOf(bean), phase -> new ArrayList<>())
+                .add(new LifecycleBean(beanName, bean));
+        }
+        if (phases.isEmpty()) {
+            return List.of();
+        }
+
+        // ================================================================
+        // 2~3단계: 단계 오름차순으로 병렬 시작
+        // ================================================================
+        List<List<String>> result = new ArrayList<>();
+        ExecutorService executor = newExecutor();
+        try {
+            for (Map.Entry<Integer, List<LifecycleBean>> phase : phases.entrySet()) {
+                startPhase(executor, phase.getKey(), phase.getValue());
+                result.add(phase.getValue().stream().map(LifecycleBean::name).toList());
+            }
+        } finally {
+            executor.shutdown();
+        }
+        return result;
+    }
+
+    /**
+     * 시작한 빈을 단계 내림차순으로 정지
+     *
+     * @return 단계 제한 시간 안에 정지를 알리지 않은 빈 이름
+     */
+    public synchronized List<String> stop() {
+        List<String> notStopped = new ArrayList<>();
+        if (started.isEmpty()) {
+            return notStopped;
+        }
+
+        ExecutorService executor = newExecutor();
+        try {
+            for (List<LifecycleBean> phase : started.descendingMap().values()) {
+                notStopped.addAll(stopPhase(executor, phase));
+            }
+        } finally {
+            started.clear();
+            executor.shutdown();
+        }
+        return notStopped;
+    }
+
+    private void startPhase(ExecutorService executor, int phase, List<LifecycleBean> beans) {
+        List<Future<?>> tasks = new ArrayList<>(beans.size());
+        for (LifecycleBean bean : beans) {
+            tasks.add(executor.submit(() -> {
+                if (!bean.instance().isRunning()) {
+                    bean.instance().start();
+                }
+            }));
+        }
+
+        // 단계 안의 모든 작업이 끝난 뒤 실패를 보고 → 시작 중인 빈을 남겨두지 않음
+        RuntimeException failure = null;
+        for (int i = 0; i < tasks.size(); i++) {
+            try {
+                tasks.get(i).get();
+                started.computeIfAbsent(phase, key -> new ArrayList<>()).add(beans.get(i));
+            } catch (ExecutionException e) {
+                if (failure == null) {
+                    failure = new IllegalStateException(
+                        "Failed to start lifecycle bean: " + beans.get(i).name(), e.getCause()
+                    );
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failure = new IllegalStateException("Interrupted while starting lifecycle beans", e);
+            }
+        }
+        if (failure != null) {
+            stop();
+            throw failure;
+        }
+    }
+
+    private List<String> stopPhase(ExecutorService executor, List<LifecycleBean> beans) {
+        CountDownLatch latch = new CountDownLatch(beans.size());
+        List<AtomicBoolean> stopped = new ArrayList<>(beans.size());
+        for (LifecycleBean bean : beans) {
+            AtomicBoolean done = new AtomicBoolean();
+            stopped.add(done);
+            Runnable callback = () -> {
+                if (done.compareAndSet(false, true)) {
+                    latch.countDown();
+                }
+            };
+            executor.execute(() -> {
+                try {
+                    if (!bean.instance().isRunning()) {
+                        callback.run();
+                    } else if (bean.instance() instanceof SmartLifecycle) {
+                        ((SmartLifecycle) bean.instance()).stop(callback);
+                    } else {
+                        bean.instance().stop();
+                        callback.run();
+                    }
+                } catch (RuntimeException e) {
+                    // 정지 실패 시 로그만 남기고 계속 진행 (다른 빈도 정지해야 함)
+                    LOG.warn("Failed to stop lifecycle bean '{}'", bean.name(), e);
+                    callback.run();
+                }
+            });
+        }
+
+        try {
+            latch.await(phaseTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        List<String> notStopped = new ArrayList<>();
+        for (int i = 0; i < beans.size(); i++) {
+            if (!stopped.get(i).get()) {
+                notStopped.add(beans.get(i).name());
+            }
+        }
+        if (!notStopped.isEmpty()) {
+            LOG.warn("Lifecycle beans did not stop within {}ms: {}",
+                TimeUnit.NANOSECONDS.toMillis(phaseTimeoutNanos), notStopped);
+        }
+        return notStopped;
+    }
+
+    private ExecutorService newExecutor() {
+        return Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "minispring-lifecycle-" + THREAD_COUNTER.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private static int phaseOf(Lifecycle bean) {
+        return bean instanceof SmartLifecycle ? ((SmartLifecycle) bean).getPhase() : SmartLifecycle.DEFAULT_PHASE;
+    }
+
+    private static final class LifecycleBean {
+        private final String name;
+        private final Lifecycle instance;
+
+        LifecycleBean(String name, Lifecycle instance) {
+            this.name = name;
+            this.instance = instance;
+        }
+
+        String name() {
+            return name;
+        }
+
+        Lifecycle instance() {
+            return instance;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package org.example.minispring.lifecycle;
+
+/**
+ * 단계(phase) 순서와 비동기 정지를 지원하는 Lifecycle
+ *
+ * 단계:
+ *   - 시작: 단계 값이 작은 것부터 (예: 소비자가 사용하는 커넥션 → 소비자 → 서버)
+ *   - 정지: 단계 값이 큰 것부터 (서버가 먼저 요청 수신을 멈춤)
+ *   - 같은 단계의 빈은 병렬로 시작 / 정지
+ *
+ * 사용 예시:
+ *   @Component
+ *   public class OrderConsumer implements SmartLifecycle {
+ *       public int getPhase() { return 100; }
+ *
+ *       public void stop(Runnable callback) {
+ *           running = false;
+ *           inFlight.whenComplete((r, e) -> callback.run());  // 처리 중인 메시지를 마친 뒤 완료 알림
+ *       }
+ *       ...
+ *   }
+ */
+public interface SmartLifecycle extends Lifecycle {
+
+    /**
+     * 단계 미지정 Lifecycle / SmartLifecycle의 기본 단계
+     */
+    int DEFAULT_PHASE = 0;
+
+    /**
+     * @return 시작 / 정지 단계 (작을수록 먼저 시작, 나중에 정지)
+     */
+    default int getPhase() {
+        return DEFAULT_PHASE;
+    }
+
+    /**
+     * @return refresh가 끝날 때 자동으로 시작하면 true
+     */
+    default boolean isAutoStartup() {
+        return true;
+    }
+
+    /**
+     * 비동기 정지 (처리 중인 작업을 비운 뒤 callback 호출)
+     *
+     * 컨테이너는 같은 단계의 모든 callback이 호출되거나 제한 시간이 지날 때까지 기다린 뒤 다음 단계로 진행
+     *
+     * @param callback 정지가 끝나면 한 번 호출할 콜백
+     */
+    default void stop(Runnable callback) {
+        try {
+            stop();
+        } finally {
+            callback.run();
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package org.example.minispring.log;
+
+import java.io.PrintStream;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 기본 컨테이너 로거: 고정 크기 링 버퍼 + 출력 전용 스레드
+ *
+ * 문제:
+ *   - System.out / System.err는 synchronized + 블로킹 I/O
+ *   - getBean()의 생성 구간(@PostConstruct 직후)에서 출력하면 콘솔이 느릴 때 빈 생성이 함께 느려짐
+ *
+ * 해결:
+ *   - 호출 스레드는 미리 만들어 둔 슬롯에 (레벨, 패턴, 인자, 예외, 스레드 이름, 시각)만 기록
+ *     → 문자열 포맷 / I/O 없음, 락 없음 (슬롯 번호는 CAS로 확보)
+ *   - 출력 스레드(데몬)가 슬롯을 순서대로 읽어 포맷하고 출력
+ *   - 버퍼가 가득 차면 기다리지 않고 메시지를 버림 (버린 개수는 다음 출력 때 함께 알림)
+ *   - 임계 레벨보다 낮은 메시지는 ContainerLogger 기본 메서드에서 걸러짐 (인자 배열도 만들지 않음)
+ *
+ * 주의:
+ *   - 인자의 toString()은 출력 스레드에서 나중에 호출됨 → 변경 가능한 객체는 호출 시점과 다르게 보일 수 있음
+ *
+ * 임계 레벨 기본값: 시스템 프로퍼티 "minispring.log.level" (없으면 INFO)
+ */
+public final class AsyncContainerLogger implements ContainerLogger {
+
+    public static final String LEVEL_PROPERTY = "minispring.log.level";
+
+    private static final int DEFAULT_CAPACITY = 1024;
+    private static final long IDLE_PARK_NANOS = 100_000_000L;
+    private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+
+    private final LogLevel threshold;
+    private final PrintStream out;
+    private final Slot[] slots;
+    private final int mask;
+
+    // 다음에 확보할 슬롯 번호 (생산자들이 CAS로 증가)
+    private final AtomicLong claimed = new AtomicLong();
+    // 다음에 출력할 슬롯 번호 (출력 스레드만 증가)
+    private volatile long consumed;
+
+    private final AtomicLong dropped = new AtomicLong();
+    private long reportedDropped;
+
+    private final Thread writer;
+    private volatile boolean writerParked;
+
+    /**
+     * 기본 설정: 시스템 프로퍼티의 레벨 (없으면 INFO), 슬롯 1024개, System.err 출력
+     */
+    public AsyncContainerLogger() {
+        this(LogLevel.valueOf(System.getProperty(LEVEL_PROPERTY, LogLevel.INFO.name()).toUpperCase()),
+            DEFAULT_CAPACITY, System.err);
+    }
+
+    /**
+     * @param threshold 기록할 최소 레벨
+     * @param capacity 링 버퍼 슬롯 수 (2의 거듭제곱으로 올림)
+     * @param out 출력 대상 (출력 스레드만 사용)
+     * @throws IllegalArgumentException capacity가 1보다 작은 경우
+     */
+    public AsyncContainerLogger(LogLevel threshold, int capacity, PrintStream out) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        int size = Integer.highestOneBit(capacity) == capacity ? capacity : Integer.highestOneBit(capacity) << 1;
+        this.threshold = threshold;
+        this.out = out;
+        this.slots = new Slot[size];
+        for (int i = 0; i < size; i++) {
+            slots[i] = new Slot();
+        }
+        this.mask = size - 1;
+
+        this.writer = new Thread(this::drain, "minispring-log-" + THREAD_COUNTER.incrementAndGet());
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @Override
+    public boolean isEnabled(LogLevel level) {
+        return level.isEnabledFor(threshold);
+    }
+
+    /**
+     * 슬롯에 메시지 기록 (버퍼가 가득 차면 버림)
+     */
+    @Override
+    public void log(LogLevel level, String pattern, Object[] args, Throwable failure) {
+        // ================================================================
+        // 1단계: 슬롯 확보 (출력되지 않은 슬롯을 덮어쓰지 않음)
+        // ================================================================
+        long sequence;
+        do {
+            sequence = claimed.get();
+            if (sequence - consumed >= slots.length) {
+                dropped.incrementAndGet();
+                return;
+            }
+        } while (!claimed.compareAndSet(sequence, sequence + 1));
+
+        // ================================================================
+        // 2단계: 필드 기록 후 sequence로 공개 (volatile 쓰기)
+        // ================================================================
+        Slot slot = slots[(int) (sequence & mask)];
+        slot.level = level;
+        slot.pattern = pattern;
+        slot.args = args;
+        slot.failure = failure;
+        slot.threadName = Thread.currentThread().getName();
+        slot.timestamp = System.currentTimeMillis();
+        slot.sequence = sequence;
+
+        if (writerParked) {
+            LockSupport.unpark(writer);
+        }
+    }
+
+    /**
+     * 지금까지 기록된 메시지가 모두 출력될 때까지 대기
+     */
+    @Override
+    public boolean flush(Duration timeout) {
+        long target = claimed.get();
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (consumed < target) {
+            if (System.nanoTime() - deadline >= 0) {
+                return false;
+            }
+            LockSupport.unpark(writer);
+            LockSupport.parkNanos(1_000_000L);
+        }
+        return true;
+    }
+
+    /**
+     * @return 버퍼가 가득 차서 버린 메시지 수
+     */
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    /**
+     * @return 링 버퍼 슬롯 수
+     */
+    public int getCapacity() {
+        return slots.length;
+    }
+
+    /**
+     * 출력 스레드 루프: 공개된 슬롯을 순서대로 포맷 / 출력
+     */
+    private void drain() {
+        StringBuilder line = new StringBuilder(256);
+        long next = 0;
+        while (true) {
+            Slot slot = slots[(int) (next & mask)];
+            if (slot.sequence != next) {
+                // 비어 있음: parked 표시 후 한 번 더 확인 (생산자의 공개와 엇갈리지 않도록)
+                writerParked = true;
+                if (slot.sequence != next) {
+                    LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+                }
+                writerParked = false;
+                continue;
+            }
+
+            write(slot, line);
+            slot.clear();
+            consumed = ++next;  // 슬롯을 비운 뒤에 공개 → 생산자가 재사용 가능
+        }
+    }
+
+    private void write(Slot slot, StringBuilder line) {
+        try {
+            long droppedNow = dropped.get();
+            if (droppedNow != reportedDropped) {
+                out.println(Instant.now() + " WARN  [" + writer.getName() + "] "
+                    + (droppedNow - reportedDropped) + " log messages dropped (buffer full)");
+                reportedDropped = droppedNow;
+            }
+
+            line.setLength(0);
+            line.append(Instant.ofEpochMilli(slot.timestamp)).append(' ');
+            line.append(slot.level.name());
+            for (int i = slot.level.name().length(); i < 5; i++) {
+                line.append(' ');
+            }
+            line.append(" [").append(slot.threadName).append("] ");
+            MessageFormatter.format(line, slot.pattern, slot.args);
+            out.println(line);
+            if (slot.failure != null) {
+                slot.failure.printStackTrace(out);
+            }
+        } catch (RuntimeException e) {
+            // 출력 실패로 로거 스레드가 죽으면 이후 메시지가 모두 쌓여 버려짐 → 이 메시지만 건너뜀
+        }
+    }
+
+    /**
+     * 링 버퍼 슬롯 (재사용, 필드는 sequence의 volatile 쓰기 / 읽기로 공개)
+     */
+    private static final class Slot {
+        private volatile long sequence = -1;
+        private LogLevel level;
+        private String pattern;
+        private Object[] args;
+        private Throwable failure;
+        private String threadName;
+        private long timestamp;
+
+        void clear() {
+            pattern = null;
+            args = null;
+            failure = null;
+            threadName = null;
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package org.example.minispring.log;
+
+import java.time.Duration;
+
+/**
+ * 컨테이너 진단 메시지를 받는 로거 SPI
+ *
+ * 역할:
+ *   - 컨테이너 내부(빈 생성 / 정리, 웜업, 종료 등)의 모든 진단 메시지가 이 인터페이스를 거침
+ *   - 구현체는 ContainerLogging.setLogger() 또는
+ *     META-INF/services/org.example.minispring.log.ContainerLogger로 교체
+ *
+ * 메시지 형식:
+ *   - "{}" 자리에 인자를 차례로 채우는 파라미터 메시지 (SLF4J와 같은 규칙)
+ *   - 기본 메서드는 isEnabled()를 먼저 확인 → 꺼진 레벨이면 인자 배열도 만들지 않음
+ *   - 포맷은 구현체가 필요한 시점에 수행 (기본 구현은 백그라운드 스레드에서)
+ *
+ * 구현체가 구현할 메서드:
+ *   - isEnabled(level), log(level, pattern, args, failure)
+ *   - 필요하면 flush(timeout)
+ */
+public interface ContainerLogger {
+
+    /**
+     * 인자가 없는 메시지에 공유하는 빈 배열
+     */
+    Object[] NO_ARGS = new Object[0];
+
+    /**
+     * @param level 확인할 레벨
+     * @return 해당 레벨의 메시지를 기록하면 true
+     */
+    boolean isEnabled(LogLevel level);
+
+    /**
+     * 메시지 기록 (호출 스레드를 막지 않아야 함)
+     *
+     * @param level 레벨 (isEnabled()가 true인 경우에만 호출됨)
+     * @param pattern "{}" 자리표시자를 포함한 메시지
+     * @param args 자리표시자에 채울 인자 (없으면 빈 배열, 포맷 전까지 참조만 보관)
+     * @param failure 함께 기록할 예외 (없으면 null)
+     */
+    void log(LogLevel level, String pattern, Object[] args, Throwable failure);
+
+    /**
+     * 아직 출력되지 않은 메시지를 출력할 때까지 대기
+     *
+     * @param timeout 최대 대기 시간
+     * @return 제한 시간 안에 모두 출력되었으면 true
+     */
+    default boolean flush(Duration timeout) {
+        return true;
+    }
+
+    default void debug(String message) {
+        if (isEnabled(LogLevel.DEBUG)) {
+            log(LogLevel.DEBUG, message, NO_ARGS, null);
+        }
+    }
+
+    default void debug(String pattern, Object arg) {
+        if (isEnabled(LogLevel.DEBUG)) {
+            log(LogLevel.DEBUG, pattern, new Object[]{arg}, null);
+        }
+    }
+
+    default void debug(String pattern, Object arg1, Object arg2) {
+        if (isEnabled(LogLevel.DEBUG)) {
+            log(LogLevel.DEBUG, pattern, new Object[]{arg1, arg2}, null);
+        }
+    }
+
+    default void info(String message) {
+        if (isEnabled(LogLevel.INFO)) {
+            log(LogLevel.INFO, message, NO_ARGS, null);
+        }
+    }
+
+    default void info(String pattern, Object arg) {
+        if (isEnabled(LogLevel.INFO)) {
+            log(LogLevel.INFO, pattern, new Object[]{arg}, null);
+        }
+    }
+
+    default void info(String pattern, Object arg1, Object arg2) {
+        if (isEnabled(LogLevel.INFO)) {
+            log(LogLevel.INFO, pattern, new Object[]{arg1, arg2}, null);
+        }
+    }
+
+    default void warn(String pattern, Object arg) {
+        if (isEnabled(LogLevel.WARN)) {
+            log(LogLevel.WARN, pattern, new Object[]{arg}, null);
+        }
+    }
+
+    default void warn(String pattern, Object arg1, Object arg2) {
+        if (isEnabled(LogLevel.WARN)) {
+            log(LogLevel.WARN, pattern, new Object[]{arg1, arg2}, null);
+        }
+    }
+
+    default void warn(String pattern, Object arg, Throwable failure) {
+        if (isEnabled(LogLevel.WARN)) {
+            log(LogLevel.WARN, pattern, new Object[]{arg}, failure);
+        }
+    }
+
+    default void warn(String pattern, Object arg1, Object arg2, Throwable failure) {
+        if (isEnabled(LogLevel.WARN)) {
+            log(LogLevel.WARN, pattern, new Object[]{arg1, arg2}, failure);
+        }
+    }
+
+    default void error(String pattern, Object arg, Throwable failure) {
+        if (isEnabled(LogLevel.ERROR)) {
+            log(LogLevel.ERROR, pattern, new Object[]{arg}, failure);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package org.example.minispring.log;
+
+import java.time.Duration;
+import java.util.ServiceLoader;
+
+/**
+ * 컨테이너 로거 보관소
+ *
+ * 로거 결정 순서:
+ *   1. setLogger()로 지정한 로거
+ *   2. ServiceLoader로 찾은 첫 ContainerLogger 구현체
+ *   3. AsyncContainerLogger (기본값)
+ *
+ * 컨테이너 클래스는 getLogger()가 돌려주는 위임 로거를 static 필드에 보관
+ * → 나중에 setLogger()로 바꿔도 바로 새 로거로 전달됨
+ */
+public final class ContainerLogging {
+
+    private static final ContainerLogger FORWARDING = new ForwardingLogger();
+
+    private static volatile ContainerLogger delegate;
+
+    private ContainerLogging() {
+    }
+
+    /**
+     * @return 현재 로거로 위임하는 공유 로거
+     */
+    public static ContainerLogger getLogger() {
+        return FORWARDING;
+    }
+
+    /**
+     * 로거 교체
+     *
+     * @param logger 새 로거 (null이면 다음 사용 시 기본 로거를 다시 찾음)
+     * @return 이전 로거 (아직 결정되지 않았으면 null)
+     */
+    public static synchronized ContainerLogger setLogger(ContainerLogger logger) {
+        ContainerLogger previous = delegate;
+        delegate = logger;
+        return previous;
+    }
+
+    private static ContainerLogger delegate() {
+        ContainerLogger logger = delegate;
+        if (logger == null) {
+            synchronized (ContainerLogging.class) {
+                logger = delegate;
+                if (logger == null) {
+                    logger = ServiceLoader.load(ContainerLogger.class)
+                        .findFirst()
+                        .orElseGet(ContainerLogging::createDefault);
+                    delegate = logger;
+                }
+            }
+        }
+        return logger;
+    }
+
+    private static ContainerLogger createDefault() {
+        AsyncContainerLogger logger = new AsyncContainerLogger();
+        // JVM 종료 직전에 남은 메시지 출력 (최대 1초)
+        Runtime.getRuntime().addShutdownHook(
+            new Thread(() -> logger.flush(Duration.ofSeconds(1)), "minispring-log-flush")
+        );
+        return logger;
+    }
+
+    /**
+     * 호출 시점의 로거로 위임
+     */
+    private static final class ForwardingLogger implements ContainerLogger {
+
+        @Override
+        public boolean isEnabled(LogLevel level) {
+            return delegate().isEnabled(level);
+        }
+
+        @Override
+        public void log(LogLevel level, String pattern, Object[] args, Throwable failure) {
+            delegate().log(level, pattern, args, failure);
+        }
+
+        @Override
+        public boolean flush(Duration timeout) {
+            return delegate().flush(timeout);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package org.example.minispring.log;
+
+/**
+ * 컨테이너 로그 레벨 (낮은 것부터)
+ *
+ * 임계 레벨보다 낮은 메시지는 isEnabled()에서 걸러져 포맷 / 버퍼 기록 없이 버려짐
+ */
+public enum LogLevel {
+    TRACE,
+    DEBUG,
+    INFO,
+    WARN,
+    ERROR,
+    OFF;
+
+    /**
+     * @param threshold 로거의 임계 레벨
+     * @return 이 레벨의 메시지를 기록해야 하면 true
+     */
+    public boolean isEnabledFor(LogLevel threshold) {
+        return this != OFF && compareTo(threshold) >= 0;
+    }
+}
@@ -0,0 +1,49 @@
+package org.example.minispring.log;
+
+/**
+ * "{}" 자리표시자 메시지 포맷 (로거 구현체 공용)
+ */
+public final class MessageFormatter {
+
+    private static final String PLACEHOLDER = "{}";
+
+    private MessageFormatter() {
+    }
+
+    /**
+     * 자리표시자를 인자로 차례로 채워 buffer에 추가
+     *
+     * 인자보다 자리표시자가 많으면 남은 "{}"를 그대로 두고, 인자가 많으면 남은 인자는 무시
+     * 인자의 toString()이 실패해도 예외를 던지지 않음 (로깅이 빈 생성을 깨뜨리면 안 됨)
+     *
+     * @param buffer 결과를 추가할 버퍼
+     * @param pattern 메시지 패턴
+     * @param args 인자
+     */
+    public static void format(StringBuilder buffer, String pattern, Object[] args) {
+        int start = 0;
+        for (Object arg : args) {
+            int placeholder = pattern.indexOf(PLACEHOLDER, start);
+            if (placeholder < 0) {
+                break;
+            }
+            buffer.append(pattern, start, placeholder);
+            try {
+                buffer.append(arg);
+            } catch (RuntimeException e) {
+                buffer.append("[toString() failed: ").append(e).append(']');
+            }
+            start = placeholder + PLACEHOLDER.length();
+        }
+        buffer.append(pattern, start, pattern.length());
+    }
+
+    /**
+     * @return 포맷된 메시지 문자열
+     */
+    public static String format(String pattern, Object... args) {
+        StringBuilder buffer = new StringBuilder(pattern.length() + 16 * args.length);
+        format(buffer, pattern, args);
+        return buffer.toString();
+    }
+}
@@ -0,0 +1,486 @@
+package org.example.minispring.pool;
+
+import org.example.minispring.exception.BeanPoolExhaustedException;
+import org.example.minispring.log.ContainerLogger;
+import org.example.minispring.log.ContainerLogging;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * pooled 스코프 빈 하나에 대한 인스턴스 풀
+ *
+ * 용도:
+ *   - 생성 비용이 크고 스레드 안전하지 않은 객체 (파서, 코덱, MessageDigest 래퍼 등)
+ *   - singleton으로 공유하면 경쟁 상태, prototype으로 매번 만들면 비용 과다
+ *   → 빌려 쓰고(borrow) 반납(close)하는 방식으로 재사용
+ *
+ * 구조:
+ *   - entries: 풀이 보유한 모든 인스턴스 (대여 중 + 유휴)
+ *     각 Entry는 IDLE / IN_USE / REMOVED 상태를 CAS로 전환
+ *   - permits: 동시에 대여 가능한 개수 (= maxSize)
+ *   - lastReturned: 스레드 로컬 1차 캐시 (이 스레드가 마지막으로 반납한 Entry)
+ *     → 같은 스레드가 반복해서 빌리면 공유 목록을 훑지 않고 CAS 한 번으로 재사용
+ *     → Entry는 공유 목록에도 남아 있으므로 다른 스레드가 가져갈 수 있음 (고립되지 않음)
+ *     → 폐기된 Entry는 인스턴스 참조를 끊음 (다른 스레드의 로컬 캐시에 남아도 빈은 회수 가능)
+ *
+ * 동작 흐름 (borrow):
+ *   0. 정리 주기가 지났으면 오래된 유휴 인스턴스 폐기
+ *   1. 대여 허가 획득 (가득 찼으면 maxWaitMillis까지 대기)
+ *   2. 스레드 로컬 Entry를 IDLE → IN_USE로 전환 시도 (hit)
+ *   3. 공유 목록에서 IDLE Entry 탐색 (hit)
+ *   4. 없으면 새 인스턴스 생성 (miss, @PostConstruct 포함)
+ *   → 2, 3에서 재사용할 인스턴스는 검증 콜백(@Pooled.validate)을 통과해야 함
+ *     (실패하면 폐기하고 다음 후보 탐색)
+ *
+ * 유휴 인스턴스 정리:
+ *   - 공유 데몬 스레드가 maxIdleMillis / 2 주기로 evictIdle() 실행
+ *     → 최대 크기까지 늘었다가 조용해진 풀도 줄어듦 (대여가 없어도 정리)
+ *   - 대여 경로에서도 주기가 지났으면 정리 (반납 경로에서는 하지 않음)
+ *   - 예약 작업은 풀을 약한 참조로만 가리킴 (닫지 않은 풀도 회수되면 스스로 취소)
+ *
+ * 생명주기:
+ *   - 생성: 빈의 생성 계획으로 생성 → @PostConstruct
+ *   - 폐기: 무효화된 채 반납 / 검증 실패 / 유휴 시간 초과 / 풀 종료 → @PreDestroy
+ */
+public final class BeanPool<T> {
+
+    private static final ContainerLogger LOG = ContainerLogging.getLogger();
+
+    // 검증 콜백의 호출 형태: (Object bean) → boolean
+    private static final MethodType VALIDATOR_TYPE = MethodType.methodType(boolean.class, Object.class);
+
+    private static final int IDLE = 0;
+    private static final int IN_USE = 1;
+    private static final int REMOVED = 2;
+
+    private final String beanName;
+    private final Supplier<?> factory;
+    private final Consumer<Object> destroyer;
+    private final Predicate<Object> validator;  // 없으면 null
+    private final int maxSize;
+    private final long maxWaitNanos;
+    private final long maxIdleNanos;
+
+    private final CopyOnWriteArrayList<Entry> entries = new CopyOnWriteArrayList<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final Semaphore permits;
+    private final ThreadLocal<Entry> lastReturned = new ThreadLocal<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder threadLocalHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder waits = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+    private final LongAdder destroyed = new LongAdder();
+
+    private volatile long nextEvictionNanos;
+    private volatile boolean closed;
+    private final ScheduledFuture<?> evictionTask;  // maxIdleMillis가 0이면 null
+
+    /**
+     * @param beanName 풀링할 빈 이름
+     * @param factory 새 인스턴스 생성 (@PostConstruct까지 완료된 인스턴스 반환)
+     * @param destroyer 폐기 시 호출 (@PreDestroy)
+     * @param maxSize 최대 인스턴스 수
+     * @param maxWaitMillis 풀이 가득 찼을 때 최대 대기 시간
+     * @param maxIdleMillis 유휴 인스턴스 유지 시간 (0이면 제거하지 않음)
+     */
+    public BeanPool(String beanName, Supplier<?> factory, Consumer<Object> destroyer,
+                    int maxSize, long maxWaitMillis, long maxIdleMillis) {
+        this(beanName, factory, destroyer, null, maxSize, maxWaitMillis, maxIdleMillis);
+    }
+
+    /**
+     * @param beanName 풀링할 빈 이름
+     * @param factory 새 인스턴스 생성 (@PostConstruct까지 완료된 인스턴스 반환)
+     * @param destroyer 폐기 시 호출 (@PreDestroy)
+     * @param validator 유휴 인스턴스를 다시 빌려주기 전 검증 (false / 예외면 폐기, null이면 검증 없음)
+     * @param maxSize 최대 인스턴스 수
+     * @param maxWaitMillis 풀이 가득 찼을 때 최대 대기 시간
+     * @param maxIdleMillis 유휴 인스턴스 유지 시간 (0이면 제거하지 않음)
+     */
+    public BeanPool(String beanName, Supplier<?> factory, Consumer<Object> destroyer, Predicate<Object> validator,
+                    int maxSize, long maxWaitMillis, long maxIdleMillis) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Pool maxSize must be positive: " + beanName);
+        }
+        this.beanName = beanName;
+        this.factory = factory;
+        this.destroyer = destroyer;
+        this.validator = validator;
+        this.maxSize = maxSize;
+        this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitMillis);
+        this.maxIdleNanos = TimeUnit.MILLISECONDS.toNanos(maxIdleMillis);
+        this.permits = new Semaphore(maxSize);
+        this.nextEvictionNanos = System.nanoTime() + maxIdleNanos;
+        this.evictionTask = maxIdleNanos > 0 ? IdleEvictor.schedule(this, Math.max(maxIdleNanos / 2, 1)) : null;
+    }
+
+    /**
+     * @Pooled.validate에 지정한 메서드를 검증 콜백으로 컴파일
+     *
+     * @param beanClass 풀링할 빈 클래스
+     * @param methodName 파라미터 없이 boolean을 반환하는 메서드 이름 (private 포함, 부모 클래스까지 탐색)
+     * @return (bean) → 메서드 호출 결과
+     * @throws IllegalStateException 메서드가 없거나 형태가 맞지 않는 경우
+     */
+    public static Predicate<Object> methodValidator(Class<?> beanClass, String methodName) {
+        Method method = findMethod(beanClass, methodName);
+        if (method == null || method.getReturnType() != boolean.class || Modifier.isStatic(method.getModifiers())) {
+            throw new IllegalStateException(
+                "@Pooled validate method must be a non-static no-arg boolean method: " +
+                methodName + " in " + beanClass.getName()
+            );
+        }
+        MethodHandle handle;
+        try {
+            handle = MethodHandles.privateLookupIn(method.getDeclaringClass(), MethodHandles.lookup())
+                .unreflect(method)
+                .asType(VALIDATOR_TYPE);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Cannot access @Pooled validate method: " + method, e);
+        }
+        return bean -> {
+            try {
+                return (boolean) handle.invokeExact(bean);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException("Failed to invoke @Pooled validate method: " + method, e);
+            }
+        };
+    }
+
+    private static Method findMethod(Class<?> type, String name) {
+        try {
+            return type.getMethod(name);  // public (인터페이스에 선언된 것 포함)
+        } catch (NoSuchMethodException e) {
+            // 아래에서 private / package-private 탐색
+        }
+        for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+            try {
+                return current.getDeclaredMethod(name);
+            } catch (NoSuchMethodException e) {
+                // 부모 클래스에서 계속
+            }
+        }
+        return null;
+    }
+
+    public String getBeanName() {
+        return beanName;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * 풀에서 인스턴스 대여
+     *
+     * @return 반납용 핸들 (try-with-resources로 사용)
+     * @throws BeanPoolExhaustedException maxWaitMillis 안에 인스턴스를 얻지 못한 경우
+     * @throws IllegalStateException 풀이 이미 종료된 경우
+     */
+    public PooledBean<T> borrow() {
+        if (closed) {
+            throw new IllegalStateException("Bean pool is closed: " + beanName);
+        }
+
+        // ================================================================
+        // 0단계: 가끔 유휴 인스턴스 정리
+        // ================================================================
+        // 반납 경로에서 하면 반납하는 스레드가 다른 인스턴스의 @PreDestroy를 기다리게 됨
+        // → 어차피 풀을 기다릴 수 있는 대여 경로에서 수행
+        if (maxIdleNanos > 0 && System.nanoTime() - nextEvictionNanos >= 0) {
+            evictIdle();
+        }
+
+        // ================================================================
+        // 1단계: 대여 허가 획득
+        // ================================================================
+        // 빠른 경로: 대기 없이 즉시 획득
+        // 느린 경로: 다른 스레드의 반납을 기다림 (waits 증가)
+        if (!permits.tryAcquire()) {
+            waits.increment();
+            acquirePermitWithTimeout();
+        }
+
+        // ================================================================
+        // 2단계: 인스턴스 확보 (실패 시 허가 반환)
+        // ================================================================
+        try {
+            return new PooledBean<>(this, acquireEntry());
+        } catch (RuntimeException | Error e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    private void acquirePermitWithTimeout() {
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BeanPoolExhaustedException("Interrupted while waiting for pooled bean: " + beanName);
+        }
+        if (!acquired) {
+            timeouts.increment();
+            throw new BeanPoolExhaustedException(
+                "Timed out after " + TimeUnit.NANOSECONDS.toMillis(maxWaitNanos) +
+                "ms waiting for pooled bean: " + beanName + " (maxSize=" + maxSize + ")"
+            );
+        }
+    }
+
+    /**
+     * 허가를 가진 상태에서 Entry 확보
+     *
+     * 허가 수 = maxSize 이므로 "유휴 Entry가 없고 풀도 가득 참"은 일시적인 경쟁 상태뿐
+     * (다른 스레드가 반납/폐기 중) → 짧게 재시도
+     */
+    private Entry acquireEntry() {
+        // ================================================================
+        // 1차: 스레드 로컬 캐시
+        // ================================================================
+        Entry local = lastReturned.get();
+        if (local != null) {
+            if (local.state.compareAndSet(IDLE, IN_USE) && validate(local)) {
+                hits.increment();
+                threadLocalHits.increment();
+                return local;
+            }
+            if (local.state.get() == REMOVED) {
+                lastReturned.remove();  // 폐기된 인스턴스를 붙잡고 있지 않도록
+            }
+        }
+
+        while (true) {
+            // ============================================================
+            // 2차: 공유 목록에서 유휴 인스턴스 탐색
+            // ============================================================
+            for (Entry entry : entries) {
+                if (entry.state.compareAndSet(IDLE, IN_USE) && validate(entry)) {
+                    hits.increment();
+                    return entry;
+                }
+            }
+
+            // ============================================================
+            // 3차: 여유가 있으면 새 인스턴스 생성
+            // ============================================================
+            int current = size.get();
+            if (current < maxSize) {
+                if (size.compareAndSet(current, current + 1)) {
+                    return createEntry();
+                }
+                continue;
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * 재사용하려는 인스턴스 검증 (IN_USE로 전환한 뒤 호출)
+     *
+     * @return 재사용 가능하면 true, 아니면 폐기하고 false
+     */
+    private boolean validate(Entry entry) {
+        if (validator == null) {
+            return true;
+        }
+        boolean valid;
+        try {
+            valid = validator.test(entry.bean);
+        } catch (RuntimeException e) {
+            valid = false;
+        }
+        if (!valid) {
+            entry.state.set(REMOVED);
+            remove(entry);
+        }
+        return valid;
+    }
+
+    private Entry createEntry() {
+        Object bean;
+        try {
+            bean = factory.get();
+        } catch (RuntimeException | Error e) {
+            size.decrementAndGet();
+            throw e;
+        }
+        Entry entry = new Entry(bean);
+        entries.add(entry);
+        misses.increment();
+        return entry;
+    }
+
+    /**
+     * 대여한 인스턴스 반납 (PooledBean.close()에서 호출)
+     *
+     * @param entry 반납할 Entry
+     * @param invalid true면 재사용하지 않고 폐기
+     */
+    void release(Entry entry, boolean invalid) {
+        try {
+            if (invalid || closed) {
+                entry.state.set(REMOVED);
+                remove(entry);
+            } else {
+                entry.idleSince = System.nanoTime();
+                entry.state.set(IDLE);
+                // closed를 읽은 뒤 close()가 목록을 훑었을 수 있음 → IDLE 전환 후 다시 확인
+                // (state와 closed 모두 volatile → 둘 중 하나는 반드시 상대의 쓰기를 봄, CAS로 한 번만 폐기)
+                if (closed) {
+                    if (entry.state.compareAndSet(IDLE, REMOVED)) {
+                        remove(entry);
+                    }
+                } else {
+                    lastReturned.set(entry);
+                }
+            }
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * maxIdleMillis보다 오래 유휴 상태인 인스턴스 폐기
+     *
+     * @return 폐기한 인스턴스 수
+     */
+    public int evictIdle() {
+        long now = System.nanoTime();
+        nextEvictionNanos = now + Math.max(maxIdleNanos / 2, 1);
+        int evicted = 0;
+        for (Entry entry : entries) {
+            if (entry.state.get() == IDLE && now - entry.idleSince >= maxIdleNanos
+                && entry.state.compareAndSet(IDLE, REMOVED)) {
+                remove(entry);
+                evicted++;
+            }
+        }
+        return evicted;
+    }
+
+    /**
+     * 풀 종료: 유휴 인스턴스는 즉시, 대여 중인 인스턴스는 반납 시 폐기
+     *
+     * 다른 스레드의 로컬 캐시는 지울 수 없으므로 폐기 시 Entry의 인스턴스 참조를 끊음
+     */
+    public void close() {
+        closed = true;
+        if (evictionTask != null) {
+            evictionTask.cancel(false);
+        }
+        for (Entry entry : entries) {
+            if (entry.state.compareAndSet(IDLE, REMOVED)) {
+                remove(entry);
+            }
+        }
+        lastReturned.remove();
+    }
+
+    /**
+     * @return 현재까지의 통계 스냅샷
+     */
+    public PoolMetrics getMetrics() {
+        return new PoolMetrics(
+            hits.sum(), threadLocalHits.sum(), misses.sum(), waits.sum(),
+            timeouts.sum(), destroyed.sum(),
+            maxSize - permits.availablePermits(), size.get()
+        );
+    }
+
+    private void remove(Entry entry) {
+        entries.remove(entry);
+        size.decrementAndGet();
+        destroyed.increment();
+        Object bean = entry.bean;
+        entry.bean = null;  // 스레드 로컬 캐시에 남은 Entry가 인스턴스를 붙잡지 않도록
+        destroyer.accept(bean);
+    }
+
+    /**
+     * 모든 풀이 공유하는 유휴 인스턴스 정리 스레드 (데몬, 처음 필요할 때 생성)
+     */
+    private static final class IdleEvictor {
+        private static final ScheduledThreadPoolExecutor EXECUTOR = createExecutor();
+
+        private static ScheduledThreadPoolExecutor createExecutor() {
+            ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+                Thread thread = new Thread(runnable, "minispring-pool-evictor");
+                thread.setDaemon(true);
+                return thread;
+            });
+            executor.setRemoveOnCancelPolicy(true);  // 닫힌 풀의 작업을 큐에 남기지 않음
+            return executor;
+        }
+
+        static ScheduledFuture<?> schedule(BeanPool<?> pool, long periodNanos) {
+            EvictionTask task = new EvictionTask(pool);
+            task.future = EXECUTOR.scheduleWithFixedDelay(task, periodNanos, periodNanos, TimeUnit.NANOSECONDS);
+            return task.future;
+        }
+    }
+
+    /**
+     * 풀 하나의 주기적 정리 (풀을 붙잡지 않도록 약한 참조)
+     */
+    private static final class EvictionTask implements Runnable {
+        private final WeakReference<BeanPool<?>> pool;
+        private volatile ScheduledFuture<?> future;
+
+        EvictionTask(BeanPool<?> pool) {
+            this.pool = new WeakReference<>(pool);
+        }
+
+        @Override
+        public void run() {
+            BeanPool<?> target = pool.get();
+            if (target == null || target.closed) {
+                ScheduledFuture<?> scheduled = future;
+                if (scheduled != null) {
+                    scheduled.cancel(false);
+                }
+                return;
+            }
+            try {
+                target.evictIdle();
+            } catch (RuntimeException e) {
+                // 예외가 나가면 이후 실행이 모두 취소되므로 다음 주기에 다시 시도
+                LOG.warn("Idle eviction failed for pooled bean '{}'", target.beanName, e);
+            }
+        }
+    }
+
+    /**
+     * 풀이 보유한 인스턴스 하나
+     */
+    static final class Entry {
+        Object bean;
+        final AtomicInteger state = new AtomicInteger(IN_USE);
+        volatile long idleSince;
+
+        Entry(Object bean) {
+            this.bean = bean;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package org.example.minispring.pool;
+
+/**
+ * 풀 통계 스냅샷 (불변)
+ *
+ * 항목:
+ *   - hits: 유휴 인스턴스를 재사용한 대여 횟수
+ *   - threadLocalHits: 그 중 스레드 로컬 1차 캐시에서 바로 찾은 횟수
+ *   - misses: 새 인스턴스를 생성한 대여 횟수
+ *   - waits: 풀이 가득 차서 반납을 기다린 대여 횟수
+ *   - timeouts: 기다리다 실패한 대여 횟수
+ *   - destroyed: @PreDestroy 후 폐기된 인스턴스 수 (무효화 / 유휴 제거 / 종료)
+ *   - active: 현재 대여 중인 인스턴스 수
+ *   - size: 현재 풀이 보유한 전체 인스턴스 수 (대여 중 + 유휴)
+ */
+public final class PoolMetrics {
+
+    private final long hits;
+    private final long threadLocalHits;
+    private final long misses;
+    private final long waits;
+    private final long timeouts;
+    private final long destroyed;
+    private final int active;
+    private final int size;
+
+    PoolMetrics(long hits, long threadLocalHits, long misses, long waits,
+                long timeouts, long destroyed, int active, int size) {
+        this.hits = hits;
+        this.threadLocalHits = threadLocalHits;
+        this.misses = misses;
+        this.waits = waits;
+        this.timeouts = timeouts;
+        this.destroyed = destroyed;
+        this.active = active;
+        this.size = size;
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getThreadLocalHits() {
+        return threadLocalHits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    public long getWaits() {
+        return waits;
+    }
+
+    public long getTimeouts() {
+        return timeouts;
+    }
+
+    public long getDestroyed() {
+        return destroyed;
+    }
+
+    public int getActive() {
+        return active;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    @Override
+    public String toString() {
+        return "PoolMetrics{hits=" + hits + ", threadLocalHits=" + threadLocalHits +
+            ", misses=" + misses + ", waits=" + waits + ", timeouts=" + timeouts +
+            ", destroyed=" + destroyed + ", active=" + active + ", size=" + size + "}";
+    }
+}
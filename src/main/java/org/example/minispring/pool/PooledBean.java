@@ -0,0 +1,61 @@
+package org.example.minispring.pool;
+
+/**
+ * 풀에서 빌린 인스턴스의 핸들
+ *
+ * try-with-resources로 사용하면 블록을 벗어날 때 자동 반납됨
+ *
+ * 사용 예시:
+ *   try (PooledBean<Codec> codec = pool.borrow()) {
+ *       codec.get().encode(data);
+ *   }
+ *
+ * 주의:
+ *   - 한 스레드에서만 사용 (핸들 자체는 스레드 안전하지 않음)
+ *   - 반납 후 get() 호출 시 IllegalStateException
+ */
+public final class PooledBean<T> implements AutoCloseable {
+
+    private final BeanPool<T> pool;
+    private final BeanPool.Entry entry;
+    private boolean invalid;
+    private boolean closed;
+
+    PooledBean(BeanPool<T> pool, BeanPool.Entry entry) {
+        this.pool = pool;
+        this.entry = entry;
+    }
+
+    /**
+     * @return 빌린 인스턴스
+     */
+    @SuppressWarnings("unchecked")
+    public T get() {
+        if (closed) {
+            throw new IllegalStateException("Pooled bean already returned: " + pool.getBeanName());
+        }
+        return (T) entry.bean;
+    }
+
+    /**
+     * 인스턴스가 더 이상 재사용할 수 없는 상태임을 표시
+     *
+     * 반납 시 풀로 돌아가지 않고 @PreDestroy 후 폐기됨
+     * (예: 파서가 예외로 내부 상태가 깨진 경우)
+     */
+    public void invalidate() {
+        this.invalid = true;
+    }
+
+    /**
+     * 풀에 반납 (여러 번 호출해도 한 번만 반납)
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        pool.release(entry, invalid);
+    }
+}
@@ -0,0 +1,170 @@
+package org.example.minispring.processor;
+
+import org.example.minispring.bean.ClassMetadata;
+import org.example.minispring.container.BeanFactory;
+import org.example.minispring.proxy.ProxyClassGenerator;
+import org.example.minispring.proxy.ProxyObject;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Full 모드 @Configuration 클래스를 위한 서브클래스 생성기
+ *
+ * 문제:
+ *   @Configuration
+ *   public class AppConfig {
+ *       @Bean public Pool pool() { return new Pool(); }
+ *       @Bean public Client client() { return new Client(pool()); }  // pool() 직접 호출!
+ *   }
+ *   → 일반 객체라면 pool()이 한 번 더 실행되어 Pool이 2개 생성됨
+ *
+ * 해결:
+ *   - AppConfig를 상속하는 클래스를 생성하여 @Bean 메서드를 오버라이드
+ *   - 오버라이드된 메서드는 BeanFactory.getBean(빈 이름)으로 위임 → 싱글톤 반환
+ *     (CompletionStage를 반환하는 비동기 @Bean은 getBeanAsync(빈 이름)으로 위임)
+ *   - 컨테이너가 빈을 만들 때는 "$$super$N" 브리지를 캐시된 MethodHandle로 직접 호출
+ *     → 원래 메서드 본문 실행
+ *
+ * 캐싱:
+ *   - 생성된 클래스와 MethodHandle은 ClassValue로 설정 클래스당 1회만 생성
+ *   - 같은 JVM의 여러 컨텍스트가 공유 (핸들러만 인스턴스마다 다름)
+ */
+public final class ConfigurationClassEnhancer {
+
+    private static final ClassValue<Enhancement> ENHANCEMENTS = new ClassValue<>() {
+        @Override
+        protected Enhancement computeValue(Class<?> configClass) {
+            return new Enhancement(configClass);
+        }
+    };
+
+    private ConfigurationClassEnhancer() {
+    }
+
+    /**
+     * 설정 클래스의 Full 모드 서브클래스 조회 (없으면 생성)
+     *
+     * @param configClass @Configuration 클래스
+     * @return @Bean 메서드 호출을 가로채는 서브클래스
+     */
+    public static Class<?> enhance(Class<?> configClass) {
+        return ENHANCEMENTS.get(configClass).proxyClass;
+    }
+
+    /**
+     * 생성된 설정 인스턴스를 빈 팩토리에 연결
+     *
+     * 이후 @Bean 메서드 호출은 beanFactory.getBean(빈 이름)으로 라우팅됨
+     * (연결 전에는 생성된 생성자가 설정한 기본 핸들러가 원래 메서드 본문을 실행)
+     *
+     * @param enhancedInstance enhance()가 반환한 클래스의 인스턴스
+     * @param beanFactory 빈 조회에 사용할 팩토리
+     */
+    public static void bind(Object enhancedInstance, BeanFactory beanFactory) {
+        Enhancement enhancement = ENHANCEMENTS.get(enhancedInstance.getClass().getSuperclass());
+        String[] beanNames = enhancement.beanNames;
+        boolean[] async = enhancement.async;
+        ((ProxyObject) enhancedInstance).setProxyHandler(
+            (proxy, methodIndex, args) -> async[methodIndex]
+                ? beanFactory.getBeanAsync(beanNames[methodIndex])  // 반환 타입이 CompletionStage
+                : beanFactory.getBean(beanNames[methodIndex])
+        );
+    }
+
+    /**
+     * 컨테이너가 @Bean 메서드의 "원래 본문"을 실행할 핸들 생성
+     *
+     * - Full 모드 인스턴스: super 브리지 MethodHandle (가로채기 우회)
+     * - Lite 모드 / 일반 인스턴스: @Bean 메서드 자체의 MethodHandle
+     *
+     * 설정 인스턴스가 바인딩된 상태로 반환되므로 호출 시 인자 배열만 전달하면 됨
+     *
+     * @param configInstance @Configuration 인스턴스
+     * @param method @Bean 메서드
+     * @return (Object[] args) → Object 형태의 핸들 (invokeExact 가능)
+     */
+    public static MethodHandle beanMethodHandle(Object configInstance, Method method) {
+        if (configInstance instanceof ProxyObject) {
+            MethodHandle superHandle =
+                ENHANCEMENTS.get(configInstance.getClass().getSuperclass()).superHandles.get(method);
+            if (superHandle != null) {
+                return superHandle.bindTo(configInstance);
+            }
+        }
+
+        try {
+            // private / static @Bean 메서드도 호출 가능하도록 선언 클래스 권한으로 조회
+            MethodHandle handle = MethodHandles.privateLookupIn(method.getDeclaringClass(), MethodHandles.lookup())
+                .unreflect(method)
+                .asSpreader(Object[].class, method.getParameterCount());
+            if (Modifier.isStatic(method.getModifiers())) {
+                return handle.asType(MethodType.methodType(Object.class, Object[].class));
+            }
+            return handle.asType(MethodType.methodType(Object.class, Object.class, Object[].class))
+                .bindTo(configInstance);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Cannot access @Bean method: " + method, e);
+        }
+    }
+
+    /**
+     * 설정 클래스 하나에 대한 생성 결과
+     */
+    private static final class Enhancement {
+        private final Class<?> proxyClass;
+        private final String[] beanNames;
+        private final boolean[] async;
+        private final Map<Method, MethodHandle> superHandles;
+
+        Enhancement(Class<?> configClass) {
+            // ============================================================
+            // 1단계: 가로챌 @Bean 메서드 수집
+            // ============================================================
+            // private / static 메서드는 오버라이드 불가 → 원래대로 동작
+            ClassMetadata metadata = ClassMetadata.forClass(configClass);
+            List<Method> beanMethods = new ArrayList<>();
+            for (Method method : metadata.getBeanMethods()) {
+                int modifiers = method.getModifiers();
+                if (!Modifier.isPrivate(modifiers) && !Modifier.isStatic(modifiers)) {
+                    if (Modifier.isFinal(modifiers)) {
+                        throw new IllegalStateException(
+                            "@Bean method must not be final in full-mode @Configuration: " + method
+                        );
+                    }
+                    beanMethods.add(method);
+                }
+            }
+
+            // ============================================================
+            // 2단계: 서브클래스 생성 (주입용 생성자 미러링 + super 브리지)
+            // ============================================================
+            this.proxyClass = ProxyClassGenerator.generate(
+                configClass, List.of(), beanMethods,
+                metadata.getConstructor(), true, "Enhanced"
+            );
+
+            // ============================================================
+            // 3단계: 빈 이름과 super 브리지 핸들을 인덱스별로 캐싱
+            // ============================================================
+            this.beanNames = new String[beanMethods.size()];
+            this.async = new boolean[beanMethods.size()];
+            Map<Method, MethodHandle> handles = new HashMap<>();
+            for (int i = 0; i < beanMethods.size(); i++) {
+                Method method = beanMethods.get(i);
+                beanNames[i] = method.getName();
+                async[i] = CompletionStage.class.isAssignableFrom(method.getReturnType());
+                handles.put(method, ProxyClassGenerator.superMethodHandle(proxyClass, i, method));
+            }
+            this.superHandles = Map.copyOf(handles);
+        }
+    }
+}
@@ -1,13 +1,23 @@
 package org.example.minispring.processor;
 
-import org.example.minispring.annotation.Bean;
 import org.example.minispring.annotation.Configuration;
+import org.example.minispring.annotation.Lazy;
+import org.example.minispring.annotation.Scope;
 import org.example.minispring.bean.BeanDefinition;
+import org.example.minispring.bean.ClassMetadata;
+import org.example.minispring.condition.ConditionEvaluator;
 import org.example.minispring.container.BeanFactory;
 
 import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletionStage;
 
 /**
  * @Configuration 클래스를 처리하여 @Bean 메서드를 빈으로 등록
@@ -22,13 +32,30 @@ import java.util.Set;
  *   2. 해당 클래스의 @Bean 메서드 스캔
  *   3. @Bean 메서드 호출 → 반환값을 빈으로 등록
  *   4. 메서드 파라미터는 의존성 주입
+ *   5. Full 모드 설정 클래스는 서브클래스로 교체 등록 (ConfigurationClassEnhancer)
+ *
+ * 조건부 @Bean:
+ *   - @Profile / @ConditionalOnProperty / @ConditionalOnClass가 맞지 않는 메서드는 건너뜀
+ *   - @ConditionalOnMissingBean 메서드는 모든 설정 클래스를 처리한 뒤 빈 이름순으로 평가
+ *     (스캔된 컴포넌트 + 앞서 등록된 @Bean과 비교)
+ *   - @ConditionalOnMissingBean 컴포넌트는 이 처리가 끝난 뒤 평가 (@Bean이 등록한 타입도 확인)
  */
 public class ConfigurationClassProcessor {
 
     private final BeanFactory beanFactory;
+    private final ConditionEvaluator conditionEvaluator;
 
     public ConfigurationClassProcessor(BeanFactory beanFactory) {
+        this(beanFactory, ConditionEvaluator.fromSystemProperties());
+    }
+
+    /**
+     * @param beanFactory 설정 클래스 교체 등록에 사용할 팩토리
+     * @param conditionEvaluator @Bean 메서드 조건 평가기
+     */
+    public ConfigurationClassProcessor(BeanFactory beanFactory, ConditionEvaluator conditionEvaluator) {
         this.beanFactory = beanFactory;
+        this.conditionEvaluator = conditionEvaluator;
     }
 
     /**
@@ -38,21 +65,69 @@ public class ConfigurationClassProcessor {
      * @return 추가로 등록할 @Bean 메서드의 BeanDefinition
      */
     public Set<BeanDefinition> process(Set<BeanDefinition> beanDefinitions) {
+        return process(beanDefinitions, List.of());
+    }
+
+    /**
+     * @Configuration 클래스를 처리하여 @Bean 메서드를 빈으로 등록
+     *
+     * @param beanDefinitions 처리할 빈 정의 (여기서 @Configuration 클래스 찾기)
+     * @param registeredTypes 이미 등록된 다른 빈의 클래스 (@ConditionalOnMissingBean 평가에 포함)
+     * @return 추가로 등록할 @Bean 메서드의 BeanDefinition
+     */
+    public Set<BeanDefinition> process(Set<BeanDefinition> beanDefinitions, Collection<Class<?>> registeredTypes) {
         Set<BeanDefinition> beanMethodDefinitions = new HashSet<>();
+        List<BeanMethodDefinition> onMissingBean = new ArrayList<>();
 
         // ================================================================
         // 1단계: @Configuration 클래스 찾기
         // ================================================================
         for (BeanDefinition definition : beanDefinitions) {
             Class<?> beanClass = definition.getBeanClass();
+            Configuration configuration = ClassMetadata.forClass(beanClass).getAnnotation(Configuration.class);
 
             // @Configuration 어노테이션이 있는지 확인
-            if (beanClass.isAnnotationPresent(Configuration.class)) {
+            if (configuration != null) {
 
                 // ============================================================
                 // 2단계: @Bean 메서드 찾기 및 BeanDefinition 생성
                 // ============================================================
-                beanMethodDefinitions.addAll(processBeanMethods(definition));
+                beanMethodDefinitions.addAll(processBeanMethods(definition, onMissingBean));
+
+                // ============================================================
+                // 3단계: Full 모드면 설정 클래스를 서브클래스로 교체 등록
+                // ============================================================
+                // 같은 빈 이름으로 다시 등록 → 기존 BeanDefinition 덮어쓰기
+                // Lite 모드(proxyBeanMethods = false)는 원래 클래스 그대로 사용
+                if (configuration.proxyBeanMethods()) {
+                    beanFactory.registerBeanDefinition(new ConfigurationClassDefinition(
+                        definition.getBeanName(),
+                        ConfigurationClassEnhancer.enhance(beanClass),
+                        beanClass
+                    ));
+                }
+            }
+        }
+
+        // ================================================================
+        // 4단계: @ConditionalOnMissingBean @Bean (빈 이름순)
+        // ================================================================
+        if (!onMissingBean.isEmpty()) {
+            List<Class<?>> existingTypes = new ArrayList<>(registeredTypes);
+            for (BeanDefinition definition : beanDefinitions) {
+                existingTypes.add(definition.getBeanClass());
+            }
+            for (BeanDefinition definition : beanMethodDefinitions) {
+                existingTypes.add(definition.getBeanClass());
+            }
+
+            onMissingBean.sort(Comparator.comparing(BeanDefinition::getBeanName));
+            for (BeanMethodDefinition definition : onMissingBean) {
+                List<String> types = ConditionEvaluator.missingBeanTypes(definition.getMethod(), definition.getBeanClass());
+                if (ConditionEvaluator.isMissing(types, existingTypes)) {
+                    beanMethodDefinitions.add(definition);
+                    existingTypes.add(definition.getBeanClass());
+                }
             }
         }
 
@@ -63,46 +138,66 @@ public class ConfigurationClassProcessor {
      * @Configuration 클래스의 @Bean 메서드를 스캔하여 BeanDefinition 생성
      *
      * @param configDefinition @Configuration 클래스의 BeanDefinition
-     * @return @Bean 메서드들의 BeanDefinition Set
+     * @param onMissingBean @ConditionalOnMissingBean 메서드의 BeanDefinition을 모을 목록 (나중에 평가)
+     * @return 조건을 만족한 @Bean 메서드들의 BeanDefinition Set
      */
-    private Set<BeanDefinition> processBeanMethods(BeanDefinition configDefinition) {
+    private Set<BeanDefinition> processBeanMethods(BeanDefinition configDefinition,
+                                                   List<BeanMethodDefinition> onMissingBean) {
         Set<BeanDefinition> beanDefinitions = new HashSet<>();
         Class<?> configClass = configDefinition.getBeanClass();
 
         // ================================================================
-        // 1단계: 클래스의 모든 메서드 스캔
+        // 1단계: @Bean 메서드 목록 조회
         // ================================================================
-        Method[] methods = configClass.getDeclaredMethods();
+        // ClassMetadata가 클래스당 한 번 스캔해 둔 결과를 재사용
+        // (getDeclaredMethods() 재호출 없음)
+        for (Method method : ClassMetadata.forClass(configClass).getBeanMethods()) {
 
-        for (Method method : methods) {
+            // 조건(@Profile 등)이 맞지 않으면 빈 정의를 만들지 않음
+            if (!conditionEvaluator.matches(method)) {
+                continue;
+            }
+
+            // ============================================================
+            // 2단계: 메서드 이름을 빈 이름으로 사용
+            // ============================================================
+            // 예: public DataSource dataSource() → 빈 이름 "dataSource"
+            String beanName = method.getName();
+
+            // ============================================================
+            // 3단계: 메서드 반환 타입을 빈 클래스로 사용
+            // ============================================================
+            // CompletableFuture<Cache> 같은 비동기 @Bean은 타입 인자(Cache)가 빈 클래스
+            Class<?> beanClass = BeanMethodDefinition.isAsync(method)
+                ? asyncBeanClass(method)
+                : method.getReturnType();
 
             // ============================================================
-            // 2단계: @Bean 어노테이션이 있는 메서드만 처리
+            // 4단계: BeanMethodDefinition 생성
             // ============================================================
-            if (method.isAnnotationPresent(Bean.class)) {
-
-                // ========================================================
-                // 3단계: 메서드 이름을 빈 이름으로 사용
-                // ========================================================
-                // 예: public DataSource dataSource() → 빈 이름 "dataSource"
-                String beanName = method.getName();
-
-                // ========================================================
-                // 4단계: 메서드 반환 타입을 빈 클래스로 사용
-                // ========================================================
-                Class<?> beanClass = method.getReturnType();
-
-                // ========================================================
-                // 5단계: BeanMethodDefinition 생성
-                // ========================================================
-                // 일반 BeanDefinition과 다르게, @Bean 메서드 정보도 포함
-                BeanMethodDefinition beanDefinition = new BeanMethodDefinition(
-                    beanName,
-                    beanClass,
-                    configDefinition.getBeanName(),  // Configuration 클래스의 빈 이름
-                    method
+            // 일반 BeanDefinition과 다르게, @Bean 메서드 정보도 포함
+            // 메서드에 @Scope가 있으면 해당 스코프 사용 (없으면 singleton)
+            // 메서드에 @Lazy가 있으면 주입 지점에 지연 프록시 사용
+            Scope scope = method.getAnnotation(Scope.class);
+            Lazy lazy = method.getAnnotation(Lazy.class);
+            BeanMethodDefinition beanDefinition = new BeanMethodDefinition(
+                beanName,
+                beanClass,
+                configDefinition.getBeanName(),  // Configuration 클래스의 빈 이름
+                method,
+                scope != null ? scope.value() : BeanDefinition.SCOPE_SINGLETON,
+                lazy != null && lazy.value()
+            );
+
+            if (beanDefinition.isAsync() && !beanDefinition.isSingleton()) {
+                throw new IllegalStateException(
+                    "@Bean method returning CompletionStage must be a singleton: " + method
                 );
+            }
 
+            if (ConditionEvaluator.missingBeanTypes(method, beanClass) != null) {
+                onMissingBean.add(beanDefinition);
+            } else {
                 beanDefinitions.add(beanDefinition);
             }
         }
@@ -110,6 +205,45 @@ public class ConfigurationClassProcessor {
         return beanDefinitions;
     }
 
+    /**
+     * 비동기 @Bean 메서드가 만들 빈의 클래스 (CompletionStage의 타입 인자)
+     *
+     * @return 타입 인자의 클래스 (raw 타입 / 와일드카드면 Object)
+     */
+    private static Class<?> asyncBeanClass(Method method) {
+        Type returnType = method.getGenericReturnType();
+        if (returnType instanceof ParameterizedType) {
+            Type argument = ((ParameterizedType) returnType).getActualTypeArguments()[0];
+            if (argument instanceof Class) {
+                return (Class<?>) argument;
+            }
+            if (argument instanceof ParameterizedType) {
+                return (Class<?>) ((ParameterizedType) argument).getRawType();
+            }
+        }
+        return Object.class;
+    }
+
+    /**
+     * Full 모드 @Configuration 클래스의 BeanDefinition
+     *
+     * 추가 정보:
+     *   - beanClass: 생성된 서브클래스 (@Bean 메서드 호출을 가로챔)
+     *   - configClass: 사용자가 작성한 원래 설정 클래스
+     */
+    public static class ConfigurationClassDefinition extends BeanDefinition {
+        private final Class<?> configClass;
+
+        public ConfigurationClassDefinition(String beanName, Class<?> enhancedClass, Class<?> configClass) {
+            super(beanName, enhancedClass);
+            this.configClass = configClass;
+        }
+
+        public Class<?> getConfigClass() {
+            return configClass;
+        }
+    }
+
     /**
      * @Bean 메서드의 BeanDefinition
      *
@@ -123,7 +257,17 @@ public class ConfigurationClassProcessor {
 
         public BeanMethodDefinition(String beanName, Class<?> beanClass,
                                     String configBeanName, Method method) {
-            super(beanName, beanClass);
+            this(beanName, beanClass, configBeanName, method, SCOPE_SINGLETON);
+        }
+
+        public BeanMethodDefinition(String beanName, Class<?> beanClass,
+                                    String configBeanName, Method method, String scope) {
+            this(beanName, beanClass, configBeanName, method, scope, false);
+        }
+
+        public BeanMethodDefinition(String beanName, Class<?> beanClass,
+                                    String configBeanName, Method method, String scope, boolean lazyInit) {
+            super(beanName, beanClass, scope, lazyInit);
             this.configBeanName = configBeanName;
             this.method = method;
         }
@@ -135,5 +279,16 @@ public class ConfigurationClassProcessor {
         public Method getMethod() {
             return method;
         }
+
+        /**
+         * @return 메서드가 CompletionStage를 반환하는 비동기 @Bean이면 true
+         */
+        public boolean isAsync() {
+            return isAsync(method);
+        }
+
+        static boolean isAsync(Method method) {
+            return CompletionStage.class.isAssignableFrom(method.getReturnType());
+        }
     }
 }
@@ -0,0 +1,356 @@
+package org.example.minispring.proxy;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 프록시 클래스 생성에 필요한 최소한의 클래스 파일(.class) 작성기
+ *
+ * 역할:
+ *   - 상수 풀(Constant Pool) 관리
+ *   - 필드/메서드/바이트코드 기록
+ *   - JVM이 로드할 수 있는 byte[] 생성
+ *
+ * 제약 (의도적인 단순화):
+ *   - 분기문/예외 테이블 없음 → StackMapTable 없이도 검증 통과
+ *   - max_stack은 보수적으로 넉넉하게 계산
+ *   - 프록시 생성기가 필요로 하는 명령어만 지원
+ */
+final class ClassFileWriter {
+
+    // Java 8 클래스 파일 버전 (분기 없는 코드라 StackMapTable 불필요)
+    private static final int MAJOR_VERSION = 52;
+
+    static final int ACC_PUBLIC = 0x0001;
+    static final int ACC_PRIVATE = 0x0002;
+    static final int ACC_PROTECTED = 0x0004;
+    static final int ACC_FINAL = 0x0010;
+    static final int ACC_SUPER = 0x0020;
+    static final int ACC_SYNTHETIC = 0x1000;
+
+    private static final int TAG_UTF8 = 1;
+    private static final int TAG_INTEGER = 3;
+    private static final int TAG_CLASS = 7;
+    private static final int TAG_FIELDREF = 9;
+    private static final int TAG_METHODREF = 10;
+    private static final int TAG_INTERFACE_METHODREF = 11;
+    private static final int TAG_NAME_AND_TYPE = 12;
+
+    // ================================================================
+    // 상수 풀: 같은 항목은 한 번만 기록 (key → index)
+    // ================================================================
+    private final ByteArrayOutputStream poolBytes = new ByteArrayOutputStream();
+    private final DataOutputStream pool = new DataOutputStream(poolBytes);
+    private final Map<String, Integer> poolIndex = new HashMap<>();
+    private int poolCount = 1;
+
+    private final List<byte[]> fields = new ArrayList<>();
+    private final List<byte[]> methods = new ArrayList<>();
+
+    int utf8(String value) {
+        return entry("U" + value, out -> {
+            out.writeByte(TAG_UTF8);
+            out.writeUTF(value);
+        });
+    }
+
+    int classRef(String internalName) {
+        int name = utf8(internalName);
+        return entry("C" + internalName, out -> {
+            out.writeByte(TAG_CLASS);
+            out.writeShort(name);
+        });
+    }
+
+    int integer(int value) {
+        return entry("I" + value, out -> {
+            out.writeByte(TAG_INTEGER);
+            out.writeInt(value);
+        });
+    }
+
+    int fieldRef(String owner, String name, String descriptor) {
+        return memberRef(TAG_FIELDREF, owner, name, descriptor);
+    }
+
+    int methodRef(String owner, String name, String descriptor) {
+        return memberRef(TAG_METHODREF, owner, name, descriptor);
+    }
+
+    int interfaceMethodRef(String owner, String name, String descriptor) {
+        return memberRef(TAG_INTERFACE_METHODREF, owner, name, descriptor);
+    }
+
+    private int memberRef(int tag, String owner, String name, String descriptor) {
+        int ownerIndex = classRef(owner);
+        int nameIndex = utf8(name);
+        int descriptorIndex = utf8(descriptor);
+        int nameAndType = entry("N" + name + ":" + descriptor, out -> {
+            out.writeByte(TAG_NAME_AND_TYPE);
+            out.writeShort(nameIndex);
+            out.writeShort(descriptorIndex);
+        });
+        return entry(tag + owner + "." + name + ":" + descriptor, out -> {
+            out.writeByte(tag);
+            out.writeShort(ownerIndex);
+            out.writeShort(nameAndType);
+        });
+    }
+
+    private int entry(String key, PoolWriter writer) {
+        Integer existing = poolIndex.get(key);
+        if (existing != null) {
+            return existing;
+        }
+        try {
+            writer.write(pool);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        int index = poolCount++;
+        poolIndex.put(key, index);
+        return index;
+    }
+
+    void addField(int access, String name, String descriptor) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeShort(access);
+            out.writeShort(utf8(name));
+            out.writeShort(utf8(descriptor));
+            out.writeShort(0);  // attributes_count
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        fields.add(bytes.toByteArray());
+    }
+
+    /**
+     * 메서드 하나를 시작하고 바이트코드 작성기를 반환
+     *
+     * @param access 접근 제어자 플래그
+     * @param name 메서드 이름
+     * @param descriptor 메서드 디스크립터 (예: "(Ljava/lang/String;)V")
+     * @param maxLocals 지역 변수 슬롯 수 (this 포함)
+     */
+    Code method(int access, String name, String descriptor, int maxLocals) {
+        Code code = new Code(access, utf8(name), utf8(descriptor), maxLocals);
+        methods.add(null);
+        code.slot = methods.size() - 1;
+        return code;
+    }
+
+    /**
+     * 최종 클래스 파일 바이트 생성
+     */
+    byte[] toByteArray(int access, String thisName, String superName, String[] interfaces) {
+        int thisIndex = classRef(thisName);
+        int superIndex = classRef(superName);
+        int[] interfaceIndexes = new int[interfaces.length];
+        for (int i = 0; i < interfaces.length; i++) {
+            interfaceIndexes[i] = classRef(interfaces[i]);
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(0xCAFEBABE);
+            out.writeShort(0);
+            out.writeShort(MAJOR_VERSION);
+
+            out.writeShort(poolCount);
+            pool.flush();
+            out.write(poolBytes.toByteArray());
+
+            out.writeShort(access);
+            out.writeShort(thisIndex);
+            out.writeShort(superIndex);
+            out.writeShort(interfaceIndexes.length);
+            for (int index : interfaceIndexes) {
+                out.writeShort(index);
+            }
+
+            out.writeShort(fields.size());
+            for (byte[] field : fields) {
+                out.write(field);
+            }
+
+            out.writeShort(methods.size());
+            for (byte[] method : methods) {
+                if (method == null) {
+                    throw new IllegalStateException("Method body was not finished");
+                }
+                out.write(method);
+            }
+
+            out.writeShort(0);  // class attributes_count
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    @FunctionalInterface
+    private interface PoolWriter {
+        void write(DataOutputStream out) throws IOException;
+    }
+
+    /**
+     * 메서드 하나의 바이트코드 작성기
+     */
+    final class Code {
+        private final int access;
+        private final int nameIndex;
+        private final int descriptorIndex;
+        private final int maxLocals;
+        private final ByteArrayOutputStream code = new ByteArrayOutputStream();
+        private int slot;
+
+        private Code(int access, int nameIndex, int descriptorIndex, int maxLocals) {
+            this.access = access;
+            this.nameIndex = nameIndex;
+            this.descriptorIndex = descriptorIndex;
+            this.maxLocals = maxLocals;
+        }
+
+        Code op(int opcode) {
+            code.write(opcode);
+            return this;
+        }
+
+        Code op(int opcode, int u2) {
+            code.write(opcode);
+            code.write(u2 >> 8);
+            code.write(u2);
+            return this;
+        }
+
+        Code aload(int index) {
+            return load(Object.class, index);
+        }
+
+        /**
+         * 타입에 맞는 load 명령어 (iload / lload / fload / dload / aload)
+         */
+        Code load(Class<?> type, int index) {
+            int base;
+            if (type == long.class) {
+                base = 0x16;
+            } else if (type == float.class) {
+                base = 0x17;
+            } else if (type == double.class) {
+                base = 0x18;
+            } else if (type.isPrimitive()) {
+                base = 0x15;
+            } else {
+                base = 0x19;
+            }
+            code.write(base);
+            code.write(index);
+            return this;
+        }
+
+        /**
+         * 타입에 맞는 return 명령어 (return / ireturn / lreturn / freturn / dreturn / areturn)
+         */
+        Code returnValue(Class<?> type) {
+            if (type == void.class) {
+                return op(0xB1);
+            } else if (type == long.class) {
+                return op(0xAD);
+            } else if (type == float.class) {
+                return op(0xAE);
+            } else if (type == double.class) {
+                return op(0xAF);
+            } else if (type.isPrimitive()) {
+                return op(0xAC);
+            }
+            return op(0xB0);
+        }
+
+        Code pushInt(int value) {
+            if (value >= -1 && value <= 5) {
+                return op(0x03 + value);                 // iconst_<n>
+            } else if (value >= Byte.MIN_VALUE && value <= Byte.MAX_VALUE) {
+                code.write(0x10);                        // bipush
+                code.write(value);
+                return this;
+            } else if (value >= Short.MIN_VALUE && value <= Short.MAX_VALUE) {
+                return op(0x11, value);                  // sipush
+            }
+            int index = integer(value);
+            if (index <= 0xFF) {
+                code.write(0x12);                        // ldc
+                code.write(index);
+                return this;
+            }
+            return op(0x13, index);                      // ldc_w
+        }
+
+        Code getField(String owner, String name, String descriptor) {
+            return op(0xB4, fieldRef(owner, name, descriptor));
+        }
+
+        Code putField(String owner, String name, String descriptor) {
+            return op(0xB5, fieldRef(owner, name, descriptor));
+        }
+
+        Code invokeVirtual(String owner, String name, String descriptor) {
+            return op(0xB6, methodRef(owner, name, descriptor));
+        }
+
+        Code invokeSpecial(String owner, String name, String descriptor) {
+            return op(0xB7, methodRef(owner, name, descriptor));
+        }
+
+        Code invokeStatic(String owner, String name, String descriptor) {
+            return op(0xB8, methodRef(owner, name, descriptor));
+        }
+
+        Code invokeInterface(String owner, String name, String descriptor, int argumentSlots) {
+            op(0xB9, interfaceMethodRef(owner, name, descriptor));
+            code.write(argumentSlots + 1);
+            code.write(0);
+            return this;
+        }
+
+        Code checkCast(String internalName) {
+            return op(0xC0, classRef(internalName));
+        }
+
+        Code newObjectArray(String componentInternalName) {
+            return op(0xBD, classRef(componentInternalName));
+        }
+
+        /**
+         * 메서드 작성 종료 및 ClassFileWriter에 등록
+         *
+         * @param maxStack 최대 오퍼랜드 스택 깊이
+         */
+        void end(int maxStack) {
+            byte[] body = code.toByteArray();
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (DataOutputStream out = new DataOutputStream(bytes)) {
+                out.writeShort(access);
+                out.writeShort(nameIndex);
+                out.writeShort(descriptorIndex);
+                out.writeShort(1);                      // attributes_count (Code)
+                out.writeShort(utf8("Code"));
+                out.writeInt(12 + body.length);         // Code attribute_length
+                out.writeShort(maxStack);
+                out.writeShort(maxLocals);
+                out.writeInt(body.length);
+                out.write(body);
+                out.writeShort(0);                      // exception_table_length
+                out.writeShort(0);                      // attributes_count
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            methods.set(slot, bytes.toByteArray());
+        }
+    }
+}
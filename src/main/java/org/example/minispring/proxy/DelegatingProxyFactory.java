@@ -0,0 +1,316 @@
+package org.example.minispring.proxy;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 모든 메서드 호출을 TargetSource가 돌려준 객체로 넘기는 위임 프록시 생성기
+ *
+ * 역할:
+ *   - 스코프 빈(thread, task 등)을 싱글톤에 주입할 때 사용
+ *     → 싱글톤은 프록시 하나를 계속 들고 있고, 호출마다 현재 대상 인스턴스로 위임
+ *   - @Lazy 주입 지점에 사용 (LazyTargetSource)
+ *     → 첫 호출 때 대상 빈을 만들고 이후에는 캐싱된 참조로 위임
+ *
+ * 동작 방식:
+ *   - 클래스 타입: ProxyClassGenerator로 서브클래스 생성
+ *     대상 클래스의 생성자는 실행하지 않고 인스턴스만 할당
+ *     → 생성자 의존성이 있는 클래스도 프록시 가능
+ *   - 인터페이스 타입: 구현 클래스 생성 (Object를 상속하므로 생성된 인자 없는 생성자로 생성)
+ *     (JDK 인터페이스처럼 클래스를 정의할 수 없는 경우 java.lang.reflect.Proxy 사용)
+ *
+ * 생성자 없는 할당 (클래스 타입만):
+ *   - jdk.unsupported 모듈의 sun.reflect.ReflectionFactory를 리플렉션으로 사용
+ *     (컴파일 시점 의존 없음 - Objenesis와 같은 방식)
+ *   - 모듈이 없는 런타임(jlink 등)에서는 대체 경로: 미러링한 생성자를 기본값 인자(null / 0 / false)로 호출
+ *     → 대상 클래스의 생성자 본문이 실행되므로, 기본값 인자를 거부하는 클래스는 프록시 생성 실패
+ *
+ * 호출 경로:
+ *   proxy.method(args)
+ *   → handler.invoke(proxy, index, args)
+ *   → dispatchers[index].invokeExact(targetSource.getTarget(), args)
+ *   → 리플렉션(Method.invoke) 없이 캐시된 MethodHandle로 직접 호출
+ *
+ * 캐싱:
+ *   프록시 클래스와 디스패치 핸들은 타입당 1회만 생성 (ClassValue)
+ *
+ * 제약:
+ *   - final 클래스는 프록시 불가
+ *   - final 메서드는 가로챌 수 없음 (프록시 자신의 빈 필드로 실행됨 - Spring과 동일)
+ */
+public final class DelegatingProxyFactory {
+
+    private static final MethodType DISPATCH_TYPE =
+        MethodType.methodType(Object.class, Object.class, Object[].class);
+
+    // sun.reflect.ReflectionFactory (없으면 null → 기본값 인자로 생성자 호출)
+    private static final Object REFLECTION_FACTORY;
+    private static final Method NEW_CONSTRUCTOR_FOR_SERIALIZATION;
+
+    static {
+        Object factory = null;
+        Method newConstructor = null;
+        try {
+            Class<?> factoryClass = Class.forName("sun.reflect.ReflectionFactory");
+            factory = factoryClass.getMethod("getReflectionFactory").invoke(null);
+            newConstructor = factoryClass.getMethod(
+                "newConstructorForSerialization", Class.class, Constructor.class
+            );
+        } catch (ReflectiveOperationException | LinkageError | RuntimeException e) {
+            factory = null;
+            newConstructor = null;
+        }
+        REFLECTION_FACTORY = factory;
+        NEW_CONSTRUCTOR_FOR_SERIALIZATION = newConstructor;
+    }
+
+    private static final ClassValue<ProxyTemplate> TEMPLATES = new ClassValue<>() {
+        @Override
+        protected ProxyTemplate computeValue(Class<?> type) {
+            return new ProxyTemplate(type);
+        }
+    };
+
+    private DelegatingProxyFactory() {
+    }
+
+    /**
+     * 위임 프록시 생성
+     *
+     * @param type 프록시가 노출할 타입 (클래스 또는 인터페이스)
+     * @param targetSource 호출마다 대상 객체를 제공
+     * @return type에 할당 가능한 프록시 인스턴스
+     * @throws IllegalStateException 프록시를 만들 수 없는 타입인 경우
+     */
+    public static Object createProxy(Class<?> type, TargetSource targetSource) {
+        return TEMPLATES.get(type).newInstance(targetSource);
+    }
+
+    /**
+     * 타입 하나에 대한 프록시 클래스 + 디스패치 핸들
+     */
+    private static final class ProxyTemplate {
+        private final Class<?> type;
+        private final Constructor<?> allocator;
+        private final Object[] allocatorArguments;
+        private final MethodHandle[] dispatchers;
+
+        ProxyTemplate(Class<?> type) {
+            this.type = type;
+
+            // ============================================================
+            // JDK 인터페이스: 같은 패키지에 클래스를 정의할 수 없음 → JDK Proxy
+            // ============================================================
+            if (type.isInterface() && type.getClassLoader() == null) {
+                this.allocator = null;
+                this.allocatorArguments = null;
+                this.dispatchers = null;
+                return;
+            }
+            if (type.getClassLoader() == null) {
+                throw new IllegalStateException("Cannot create class-based proxy for JDK type: " + type.getName());
+            }
+
+            // ============================================================
+            // 1단계: 위임할 메서드 수집
+            // ============================================================
+            List<Method> methods = proxiableMethods(type);
+
+            // ============================================================
+            // 2단계: 프록시 클래스 생성
+            // ============================================================
+            Class<?> superClass = type.isInterface() ? Object.class : type;
+            List<Class<?>> interfaces = type.isInterface() ? List.of(type) : List.of();
+            Constructor<?> mirrored = mirrorConstructor(superClass);
+            Class<?> proxyClass = ProxyClassGenerator.generate(
+                superClass, interfaces, methods, mirrored, false, "TargetProxy"
+            );
+
+            // ============================================================
+            // 3단계: 대상 클래스의 생성자를 실행하지 않는 할당자
+            // ============================================================
+            // 인터페이스 프록시: 생성된 생성자가 Object()만 호출 → 그대로 사용
+            // 클래스 프록시: ReflectionFactory로 Object 생성자만 실행하는 생성자 확보
+            //               (없으면 미러링한 생성자를 기본값 인자로 호출)
+            try {
+                Constructor<?> constructor;
+                if (superClass == Object.class) {
+                    constructor = proxyClass.getDeclaredConstructor();
+                    this.allocatorArguments = new Object[0];
+                } else if (REFLECTION_FACTORY != null) {
+                    constructor = (Constructor<?>) NEW_CONSTRUCTOR_FOR_SERIALIZATION.invoke(
+                        REFLECTION_FACTORY, proxyClass, Object.class.getDeclaredConstructor()
+                    );
+                    this.allocatorArguments = new Object[0];
+                } else {
+                    constructor = proxyClass.getDeclaredConstructor(mirrored.getParameterTypes());
+                    this.allocatorArguments = defaultArguments(mirrored.getParameterTypes());
+                }
+                constructor.setAccessible(true);
+                this.allocator = constructor;
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException("Cannot allocate proxy for " + type.getName(), e);
+            }
+
+            // ============================================================
+            // 4단계: 메서드 인덱스별 디스패치 핸들 (대상 객체에 직접 호출)
+            // ============================================================
+            this.dispatchers = new MethodHandle[methods.size()];
+            for (int i = 0; i < methods.size(); i++) {
+                dispatchers[i] = dispatcher(methods.get(i));
+            }
+        }
+
+        Object newInstance(TargetSource targetSource) {
+            if (allocator == null) {
+                return jdkProxy(targetSource);
+            }
+
+            Object proxy;
+            try {
+                proxy = allocator.newInstance(allocatorArguments);
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException("Failed to instantiate proxy for " + type.getName(), e);
+            }
+
+            MethodHandle[] handles = dispatchers;
+            if (targetSource instanceof LeasedTargetSource leased) {
+                // 호출하는 동안 대상을 빌려 둠 → 그 사이 제거되어도 @PreDestroy는 반납 뒤
+                ((ProxyObject) proxy).setProxyHandler((self, methodIndex, args) -> {
+                    LeasedTargetSource.Lease lease = leased.lease();
+                    try {
+                        return handles[methodIndex].invokeExact(lease.getTarget(), args);
+                    } finally {
+                        lease.release();
+                    }
+                });
+                return proxy;
+            }
+            ((ProxyObject) proxy).setProxyHandler(
+                (self, methodIndex, args) -> handles[methodIndex].invokeExact(targetSource.getTarget(), args)
+            );
+            return proxy;
+        }
+
+        private Object jdkProxy(TargetSource targetSource) {
+            return Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+                if (targetSource instanceof LeasedTargetSource leased) {
+                    LeasedTargetSource.Lease lease = leased.lease();
+                    try {
+                        return method.invoke(lease.getTarget(), args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    } finally {
+                        lease.release();
+                    }
+                }
+                try {
+                    return method.invoke(targetSource.getTarget(), args);
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+            });
+        }
+    }
+
+    /**
+     * 프록시가 오버라이드할 수 있는 메서드 수집 (하위 클래스 선언이 우선)
+     *
+     * 제외 대상:
+     *   - static / private / bridge / synthetic 메서드
+     *   - final 메서드 (그리고 그 메서드가 가리는 부모 메서드)
+     *   - 다른 패키지의 package-private 메서드 (오버라이드 불가)
+     *   - Object의 protected 메서드 (clone, finalize)
+     */
+    private static List<Method> proxiableMethods(Class<?> type) {
+        List<Method> methods = new ArrayList<>();
+        Set<String> seen = new HashSet<>();
+
+        for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+            for (Method method : current.getDeclaredMethods()) {
+                collect(type, method, methods, seen);
+            }
+        }
+        // 인터페이스의 default / abstract 메서드
+        for (Method method : type.getMethods()) {
+            collect(type, method, methods, seen);
+        }
+        // 인터페이스 프록시도 equals / hashCode / toString은 대상에 위임
+        if (type.isInterface()) {
+            for (Method method : Object.class.getDeclaredMethods()) {
+                collect(type, method, methods, seen);
+            }
+        }
+        return methods;
+    }
+
+    private static void collect(Class<?> type, Method method, List<Method> methods, Set<String> seen) {
+        int modifiers = method.getModifiers();
+        if (Modifier.isStatic(modifiers) || Modifier.isPrivate(modifiers)
+            || method.isBridge() || method.isSynthetic()) {
+            return;
+        }
+        if (!seen.add(method.getName() + ProxyClassGenerator.methodDescriptor(void.class, method.getParameterTypes()))) {
+            return;  // 하위 클래스에서 이미 처리된 시그니처
+        }
+        if (Modifier.isFinal(modifiers)) {
+            return;
+        }
+        boolean packagePrivate = !Modifier.isPublic(modifiers) && !Modifier.isProtected(modifiers);
+        if (packagePrivate && !Objects.equals(method.getDeclaringClass().getPackageName(), type.getPackageName())) {
+            return;
+        }
+        if (method.getDeclaringClass() == Object.class && !Modifier.isPublic(modifiers)) {
+            return;
+        }
+        methods.add(method);
+    }
+
+    private static Constructor<?> mirrorConstructor(Class<?> superClass) {
+        // 실제로 실행되지는 않지만 검증을 통과하려면 super(...) 호출 대상이 필요
+        for (Constructor<?> constructor : superClass.getDeclaredConstructors()) {
+            if (!Modifier.isPrivate(constructor.getModifiers())) {
+                return constructor;
+            }
+        }
+        throw new IllegalStateException("Cannot proxy class with only private constructors: " + superClass.getName());
+    }
+
+    private static Object[] defaultArguments(Class<?>[] parameterTypes) {
+        Object[] arguments = new Object[parameterTypes.length];
+        for (int i = 0; i < parameterTypes.length; i++) {
+            if (parameterTypes[i].isPrimitive()) {
+                // 기본형 기본값: 길이 1 배열의 첫 원소 (0, false, '\0' ...)
+                arguments[i] = Array.get(Array.newInstance(parameterTypes[i], 1), 0);
+            }
+        }
+        return arguments;
+    }
+
+    private static MethodHandle dispatcher(Method method) {
+        try {
+            Class<?> declaringClass = method.getDeclaringClass();
+            MethodHandles.Lookup lookup = Modifier.isPublic(method.getModifiers())
+                && Modifier.isPublic(declaringClass.getModifiers())
+                ? MethodHandles.publicLookup()
+                : MethodHandles.privateLookupIn(declaringClass, MethodHandles.lookup());
+            return lookup.unreflect(method)
+                .asSpreader(Object[].class, method.getParameterCount())
+                .asType(DISPATCH_TYPE);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Cannot access method for proxy: " + method, e);
+        }
+    }
+}
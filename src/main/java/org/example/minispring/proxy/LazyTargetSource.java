@@ -0,0 +1,45 @@
+package org.example.minispring.proxy;
+
+import java.util.function.Supplier;
+
+/**
+ * 최초 호출 시 대상 객체를 만들고 이후에는 캐싱된 참조를 돌려주는 TargetSource
+ *
+ * 동작 흐름:
+ *   1. 첫 getTarget(): 락 안에서 공급자 호출 → 결과를 volatile 필드에 저장
+ *   2. 이후 getTarget(): volatile 읽기 한 번으로 반환 (락 / 빈 조회 없음)
+ *
+ * 공급자가 예외를 던지면 캐싱하지 않음 → 다음 호출에서 다시 시도
+ */
+public final class LazyTargetSource implements TargetSource {
+
+    private final Supplier<?> targetSupplier;
+    private volatile Object target;
+
+    public LazyTargetSource(Supplier<?> targetSupplier) {
+        this.targetSupplier = targetSupplier;
+    }
+
+    @Override
+    public Object getTarget() {
+        Object resolved = target;
+        if (resolved != null) {
+            return resolved;
+        }
+        synchronized (this) {
+            resolved = target;
+            if (resolved == null) {
+                resolved = targetSupplier.get();
+                target = resolved;
+            }
+            return resolved;
+        }
+    }
+
+    /**
+     * @return 대상 객체가 이미 만들어졌으면 true
+     */
+    public boolean isInitialized() {
+        return target != null;
+    }
+}
@@ -0,0 +1,35 @@
+package org.example.minispring.proxy;
+
+/**
+ * 프록시 호출 하나 동안 대상 객체를 빌려주는 TargetSource
+ *
+ * 용도:
+ *   - 대상 인스턴스가 호출 도중에 제거(@PreDestroy)될 수 있는 스코프 (evictable, keyed)
+ *   - 위임 프록시는 호출 전에 lease(), 호출이 끝나면 release()
+ *     → 스코프는 빌려 간 호출이 모두 반납된 뒤에 인스턴스를 폐기
+ *
+ * getTarget()은 반납 없이 대상을 돌려줌 (getBean() 직접 조회용 - 폐기 시점과 무관)
+ */
+public interface LeasedTargetSource extends TargetSource {
+
+    /**
+     * @return 이번 호출 동안 유효한 대여 (반드시 release() 호출)
+     */
+    Lease lease();
+
+    /**
+     * 대상 객체 하나의 대여
+     */
+    interface Lease {
+
+        /**
+         * @return 빌린 대상 객체
+         */
+        Object getTarget();
+
+        /**
+         * 대여 반납 (이미 제거된 대상이면 마지막 반납에서 폐기됨)
+         */
+        void release();
+    }
+}
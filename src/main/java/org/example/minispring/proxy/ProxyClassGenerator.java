@@ -0,0 +1,359 @@
+package org.example.minispring.proxy;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 런타임에 서브클래스 기반 프록시 클래스를 생성하는 생성기
+ *
+ * 역할:
+ *   - 대상 클래스를 상속(또는 인터페이스를 구현)하는 클래스를 바이트코드로 직접 생성
+ *   - 지정된 메서드를 오버라이드하여 ProxyHandler로 위임
+ *   - 필요하면 원래 메서드를 호출하는 "$$super$N" 브리지 메서드도 생성
+ *
+ * 생성되는 클래스 모양 (의사 코드):
+ *   public final class UserConfig$$Enhanced$$1 extends UserConfig implements ProxyObject {
+ *       private ProxyHandler $$handler;
+ *
+ *       public UserConfig$$Enhanced$$1(A a) {                      // 생성자 미러링
+ *           $$handler = ProxyClassGenerator.superHandler();           // (super 브리지가 있을 때만)
+ *           super(a);
+ *       }
+ *
+ *       public DataSource dataSource() {                           // 메서드 인덱스 0
+ *           return (DataSource) $$handler.invoke(this, 0, new Object[0]);
+ *       }
+ *
+ *       public DataSource $$super$0() { return super.dataSource(); } // 브리지
+ *
+ *       public void setProxyHandler(ProxyHandler h) { $$handler = h; }
+ *   }
+ *
+ * 외부 라이브러리(CGLIB, ByteBuddy) 없이 동작:
+ *   - 분기 없는 단순 바이트코드만 생성 → StackMapTable 불필요
+ *   - 대상 클래스와 같은 패키지/클래스로더에 정의 (Lookup.defineClass)
+ *     → package-private 메서드도 오버라이드 가능
+ */
+public final class ProxyClassGenerator {
+
+    public static final String SUPER_METHOD_PREFIX = "$$super$";
+
+    private static final String HANDLER_FIELD = "$$handler";
+    private static final String HANDLER_TYPE = internalName(ProxyHandler.class);
+    private static final String HANDLER_DESCRIPTOR = descriptor(ProxyHandler.class);
+    private static final String OBJECT_TYPE = "java/lang/Object";
+
+    // 같은 대상 클래스에 대해 여러 프록시가 만들어져도 이름이 겹치지 않도록
+    private static final AtomicInteger COUNTER = new AtomicInteger();
+
+    // 기본형 → 래퍼 클래스 (박싱/언박싱용)
+    private static final Map<Class<?>, Class<?>> WRAPPERS = Map.of(
+        boolean.class, Boolean.class,
+        byte.class, Byte.class,
+        char.class, Character.class,
+        short.class, Short.class,
+        int.class, Integer.class,
+        long.class, Long.class,
+        float.class, Float.class,
+        double.class, Double.class
+    );
+
+    // 모든 디스패치 핸들의 공통 형태: (Object target, Object[] args) → Object
+    private static final MethodType DISPATCH_TYPE =
+        MethodType.methodType(Object.class, Object.class, Object[].class);
+
+    // 프록시 클래스별 "$$super$N" 브리지 핸들 (인덱스 순서)
+    private static final ClassValue<MethodHandle[]> SUPER_BRIDGES = new ClassValue<>() {
+        @Override
+        protected MethodHandle[] computeValue(Class<?> proxyClass) {
+            return superBridgeHandles(proxyClass);
+        }
+    };
+
+    // 핸들러가 연결되기 전의 호출을 원래 메서드로 보내는 기본 핸들러
+    private static final ProxyHandler SUPER_HANDLER =
+        (proxy, methodIndex, args) -> SUPER_BRIDGES.get(proxy.getClass())[methodIndex].invokeExact(proxy, args);
+
+    private ProxyClassGenerator() {
+    }
+
+    /**
+     * 프록시 클래스 생성
+     *
+     * @param superClass 상속할 클래스 (인터페이스 프록시는 Object.class)
+     * @param interfaces 추가로 구현할 인터페이스 목록
+     * @param methods 오버라이드할 메서드 (배열 인덱스 = 핸들러에 전달되는 methodIndex)
+     * @param constructor 미러링할 부모 생성자 (같은 파라미터로 super(...) 호출)
+     * @param superBridges true면 각 메서드에 대해 "$$super$N" 브리지 메서드 생성
+     * @param suffix 생성 클래스 이름에 붙일 용도 표시 (예: "Enhanced", "LazyProxy")
+     * @return 정의된 프록시 클래스 (ProxyObject 구현)
+     * @throws IllegalStateException final 클래스/메서드, private 생성자 등으로 프록시를 만들 수 없는 경우
+     */
+    public static Class<?> generate(Class<?> superClass, List<Class<?>> interfaces, List<Method> methods,
+                                    Constructor<?> constructor, boolean superBridges, String suffix) {
+        // ================================================================
+        // 1단계: 프록시 가능 여부 검증
+        // ================================================================
+        if (Modifier.isFinal(superClass.getModifiers())) {
+            throw new IllegalStateException("Cannot proxy final class: " + superClass.getName());
+        }
+        if (Modifier.isPrivate(constructor.getModifiers())) {
+            throw new IllegalStateException("Cannot proxy class with private constructor: " + superClass.getName());
+        }
+        for (Method method : methods) {
+            if (Modifier.isFinal(method.getModifiers()) || Modifier.isPrivate(method.getModifiers())
+                || Modifier.isStatic(method.getModifiers())) {
+                throw new IllegalStateException("Cannot override method for proxy: " + method);
+            }
+        }
+
+        // ================================================================
+        // 2단계: 클래스 이름 결정 (대상 클래스와 같은 패키지)
+        // ================================================================
+        Class<?> host = superClass != Object.class ? superClass : interfaces.get(0);
+        String proxyName = host.getName() + "$$" + suffix + "$$" + COUNTER.incrementAndGet();
+        String proxyType = proxyName.replace('.', '/');
+        String superType = internalName(superClass);
+
+        ClassFileWriter writer = new ClassFileWriter();
+        writer.addField(ClassFileWriter.ACC_PRIVATE, HANDLER_FIELD, HANDLER_DESCRIPTOR);
+
+        // ================================================================
+        // 3단계: 생성자 미러링 → super(args...)
+        // ================================================================
+        // super 브리지가 있으면 부모 생성자 실행 전에 기본 핸들러를 먼저 채움
+        //   → 생성자 / 주입 메서드 안에서 오버라이드된 메서드를 불러도 NPE 없이 원래 본문 실행
+        //   (자기 클래스에 선언된 필드는 super() 호출 전에도 putfield 가능)
+        Class<?>[] constructorParams = constructor.getParameterTypes();
+        ClassFileWriter.Code init = writer.method(
+            ClassFileWriter.ACC_PUBLIC, "<init>", methodDescriptor(void.class, constructorParams),
+            1 + slotSize(constructorParams)
+        );
+        if (superBridges) {
+            init.aload(0);
+            init.invokeStatic(internalName(ProxyClassGenerator.class), "superHandler", "()" + HANDLER_DESCRIPTOR);
+            init.putField(proxyType, HANDLER_FIELD, HANDLER_DESCRIPTOR);
+        }
+        init.aload(0);
+        loadArguments(init, constructorParams);
+        init.invokeSpecial(superType, "<init>", methodDescriptor(void.class, constructorParams));
+        init.returnValue(void.class);
+        init.end(Math.max(2, 1 + slotSize(constructorParams)));
+
+        // ================================================================
+        // 4단계: ProxyObject.setProxyHandler 구현
+        // ================================================================
+        ClassFileWriter.Code setter = writer.method(
+            ClassFileWriter.ACC_PUBLIC, "setProxyHandler", "(" + HANDLER_DESCRIPTOR + ")V", 2
+        );
+        setter.aload(0).aload(1).putField(proxyType, HANDLER_FIELD, HANDLER_DESCRIPTOR).returnValue(void.class);
+        setter.end(2);
+
+        // ================================================================
+        // 5단계: 메서드 오버라이드 (+ 선택적으로 super 브리지)
+        // ================================================================
+        for (int index = 0; index < methods.size(); index++) {
+            Method method = methods.get(index);
+            writeInterceptingMethod(writer, proxyType, method, index);
+            if (superBridges) {
+                writeSuperBridge(writer, superType, method, index);
+            }
+        }
+
+        String[] interfaceTypes = new String[interfaces.size() + 1];
+        for (int i = 0; i < interfaces.size(); i++) {
+            interfaceTypes[i] = internalName(interfaces.get(i));
+        }
+        interfaceTypes[interfaces.size()] = internalName(ProxyObject.class);
+
+        byte[] bytes = writer.toByteArray(
+            ClassFileWriter.ACC_PUBLIC | ClassFileWriter.ACC_FINAL
+                | ClassFileWriter.ACC_SUPER | ClassFileWriter.ACC_SYNTHETIC,
+            proxyType, superType, interfaceTypes
+        );
+
+        // ================================================================
+        // 6단계: 대상 클래스와 같은 런타임 패키지에 클래스 정의
+        // ================================================================
+        try {
+            return lookupFor(host).defineClass(bytes);
+        } catch (IllegalAccessException | LinkageError e) {
+            throw new IllegalStateException("Failed to define proxy class for " + host.getName(), e);
+        }
+    }
+
+    /**
+     * "$$super$N" 브리지 메서드를 (Object, Object[]) → Object 형태로 호출하는 핸들 생성
+     *
+     * @param proxyClass generate(..., superBridges=true, ...)로 만든 클래스
+     * @param index 메서드 인덱스
+     * @param method 원본 메서드
+     * @return invokeExact(proxy, args)로 호출 가능한 핸들
+     */
+    public static MethodHandle superMethodHandle(Class<?> proxyClass, int index, Method method) {
+        try {
+            MethodHandle handle = lookupFor(proxyClass).findVirtual(
+                proxyClass, SUPER_METHOD_PREFIX + index,
+                MethodType.methodType(method.getReturnType(), method.getParameterTypes())
+            );
+            return handle.asSpreader(Object[].class, method.getParameterCount()).asType(DISPATCH_TYPE);
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new IllegalStateException("Missing super bridge for " + method, e);
+        }
+    }
+
+    /**
+     * super 브리지가 있는 프록시의 초기 핸들러
+     *
+     * 생성된 생성자가 부모 생성자보다 먼저 설정하며, 모든 호출을 "$$super$N" 브리지로 보냄
+     * → setProxyHandler()로 실제 핸들러가 연결되기 전까지는 원래 메서드처럼 동작
+     *
+     * 생성된 클래스(다른 패키지)에서 호출하므로 public
+     *
+     * @return 원래 메서드 본문을 실행하는 핸들러
+     */
+    public static ProxyHandler superHandler() {
+        return SUPER_HANDLER;
+    }
+
+    private static MethodHandle[] superBridgeHandles(Class<?> proxyClass) {
+        List<Method> bridges = new ArrayList<>();
+        for (Method method : proxyClass.getDeclaredMethods()) {
+            if (method.getName().startsWith(SUPER_METHOD_PREFIX)) {
+                bridges.add(method);
+            }
+        }
+        MethodHandle[] handles = new MethodHandle[bridges.size()];
+        for (Method bridge : bridges) {
+            int index = Integer.parseInt(bridge.getName().substring(SUPER_METHOD_PREFIX.length()));
+            handles[index] = superMethodHandle(proxyClass, index, bridge);
+        }
+        return handles;
+    }
+
+    private static void writeInterceptingMethod(ClassFileWriter writer, String proxyType, Method method, int index) {
+        Class<?>[] params = method.getParameterTypes();
+        int access = method.getModifiers() & (ClassFileWriter.ACC_PUBLIC | ClassFileWriter.ACC_PROTECTED);
+        ClassFileWriter.Code code = writer.method(
+            access, method.getName(), methodDescriptor(method.getReturnType(), params), 1 + slotSize(params)
+        );
+
+        // $$handler.invoke(this, index, new Object[]{ args... })
+        code.aload(0).getField(proxyType, HANDLER_FIELD, HANDLER_DESCRIPTOR);
+        code.aload(0);
+        code.pushInt(index);
+        code.pushInt(params.length).newObjectArray(OBJECT_TYPE);
+        int slot = 1;
+        for (int i = 0; i < params.length; i++) {
+            code.op(0x59);                                   // dup
+            code.pushInt(i);
+            code.load(params[i], slot);
+            box(code, params[i]);
+            code.op(0x53);                                   // aastore
+            slot += slotSize(params[i]);
+        }
+        code.invokeInterface(HANDLER_TYPE, "invoke",
+            "(Ljava/lang/Object;I[Ljava/lang/Object;)Ljava/lang/Object;", 3);
+
+        // 반환값 변환: void → pop, 참조형 → checkcast, 기본형 → 언박싱
+        Class<?> returnType = method.getReturnType();
+        if (returnType == void.class) {
+            code.op(0x57);                                   // pop
+        } else if (returnType.isPrimitive()) {
+            Class<?> wrapper = WRAPPERS.get(returnType);
+            code.checkCast(internalName(wrapper));
+            code.invokeVirtual(internalName(wrapper), returnType.getName() + "Value",
+                methodDescriptor(returnType, new Class<?>[0]));
+        } else if (returnType != Object.class) {
+            code.checkCast(internalName(returnType));
+        }
+        code.returnValue(returnType);
+
+        // handler, this, index, array, dup, index, value(최대 2슬롯) 여유 있게 확보
+        code.end(8);
+    }
+
+    private static void writeSuperBridge(ClassFileWriter writer, String superType, Method method, int index) {
+        Class<?>[] params = method.getParameterTypes();
+        String descriptor = methodDescriptor(method.getReturnType(), params);
+        ClassFileWriter.Code code = writer.method(
+            ClassFileWriter.ACC_PUBLIC | ClassFileWriter.ACC_SYNTHETIC,
+            SUPER_METHOD_PREFIX + index, descriptor, 1 + slotSize(params)
+        );
+        code.aload(0);
+        loadArguments(code, params);
+        code.invokeSpecial(superType, method.getName(), descriptor);
+        code.returnValue(method.getReturnType());
+        code.end(Math.max(2, 1 + slotSize(params)));
+    }
+
+    private static void loadArguments(ClassFileWriter.Code code, Class<?>[] params) {
+        int slot = 1;
+        for (Class<?> param : params) {
+            code.load(param, slot);
+            slot += slotSize(param);
+        }
+    }
+
+    private static void box(ClassFileWriter.Code code, Class<?> type) {
+        if (type.isPrimitive()) {
+            Class<?> wrapper = WRAPPERS.get(type);
+            code.invokeStatic(internalName(wrapper), "valueOf",
+                methodDescriptor(wrapper, new Class<?>[]{type}));
+        }
+    }
+
+    private static MethodHandles.Lookup lookupFor(Class<?> host) throws IllegalAccessException {
+        return MethodHandles.privateLookupIn(host, MethodHandles.lookup());
+    }
+
+    private static int slotSize(Class<?> type) {
+        return type == long.class || type == double.class ? 2 : 1;
+    }
+
+    private static int slotSize(Class<?>[] types) {
+        int size = 0;
+        for (Class<?> type : types) {
+            size += slotSize(type);
+        }
+        return size;
+    }
+
+    static String internalName(Class<?> type) {
+        return type.getName().replace('.', '/');
+    }
+
+    static String descriptor(Class<?> type) {
+        if (type.isPrimitive()) {
+            if (type == void.class) return "V";
+            if (type == boolean.class) return "Z";
+            if (type == byte.class) return "B";
+            if (type == char.class) return "C";
+            if (type == short.class) return "S";
+            if (type == int.class) return "I";
+            if (type == long.class) return "J";
+            if (type == float.class) return "F";
+            return "D";
+        }
+        if (type.isArray()) {
+            return internalName(type);
+        }
+        return "L" + internalName(type) + ";";
+    }
+
+    static String methodDescriptor(Class<?> returnType, Class<?>[] params) {
+        StringBuilder sb = new StringBuilder("(");
+        for (Class<?> param : params) {
+            sb.append(descriptor(param));
+        }
+        return sb.append(')').append(descriptor(returnType)).toString();
+    }
+}
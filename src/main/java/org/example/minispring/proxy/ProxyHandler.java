@@ -0,0 +1,26 @@
+package org.example.minispring.proxy;
+
+/**
+ * 생성된 프록시 클래스의 메서드 호출을 가로채는 핸들러
+ *
+ * 역할:
+ *   - 프록시에서 오버라이드된 메서드가 호출되면 이 핸들러로 위임됨
+ *   - 메서드는 이름이 아닌 "인덱스"로 식별 → 핸들러는 배열 조회만으로 분기 가능
+ *
+ * 인덱스:
+ *   ProxyClassGenerator에 전달한 메서드 배열의 순서와 동일
+ */
+@FunctionalInterface
+public interface ProxyHandler {
+
+    /**
+     * 프록시 메서드 호출 처리
+     *
+     * @param proxy 호출된 프록시 인스턴스
+     * @param methodIndex 생성 시 전달한 메서드 배열에서의 인덱스
+     * @param args 호출 인자 (기본형은 박싱됨)
+     * @return 메서드 반환값 (void 메서드는 무시됨)
+     * @throws Throwable 대상 메서드가 던진 예외
+     */
+    Object invoke(Object proxy, int methodIndex, Object[] args) throws Throwable;
+}
@@ -0,0 +1,18 @@
+package org.example.minispring.proxy;
+
+/**
+ * ProxyClassGenerator가 생성한 모든 프록시 클래스가 구현하는 인터페이스
+ *
+ * 역할:
+ *   - 인스턴스 생성 후 핸들러를 연결하는 통로
+ *   - "이 객체는 컨테이너가 만든 프록시"라는 표시 (instanceof 체크)
+ */
+public interface ProxyObject {
+
+    /**
+     * 메서드 호출을 처리할 핸들러 연결
+     *
+     * @param handler 프록시 메서드 호출을 받을 핸들러
+     */
+    void setProxyHandler(ProxyHandler handler);
+}
@@ -0,0 +1,17 @@
+package org.example.minispring.proxy;
+
+/**
+ * 위임 프록시가 호출할 실제 대상 객체를 제공
+ *
+ * 구현 예:
+ *   - 스코프 프록시: 현재 스레드/작업에 묶인 인스턴스 반환
+ *   - 지연 프록시: 최초 호출 시 생성한 인스턴스 반환
+ */
+@FunctionalInterface
+public interface TargetSource {
+
+    /**
+     * @return 이번 호출을 처리할 대상 객체
+     */
+    Object getTarget();
+}
@@ -0,0 +1,306 @@
+package org.example.minispring.scanner;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 클래스를 로드하지 않고 .class 파일에서 직접 읽은 메타데이터
+ *
+ * 문제:
+ *   - Class.forName()은 클래스 로딩 + 검증 + 정적 초기화까지 수행
+ *   - 프로파일 등으로 비활성화될 빈까지 모두 로드하면 쓰지 않는 클래스에 시작 시간을 씀
+ *
+ * 해결:
+ *   - 클래스 파일의 상수 풀과 클래스 수준 RuntimeVisibleAnnotations 속성만 해석
+ *   - 필드 / 메서드는 건너뜀 (길이만 읽고 넘어감)
+ *   → 조건 평가와 컴포넌트 판단에 필요한 정보만 얻고, 통과한 클래스만 로드
+ *
+ * 어노테이션 속성 값 표현:
+ *   - 문자열 / 열거형 상수 이름 → String, boolean → Boolean, 그 밖의 기본형 → 해당 래퍼 타입
+ *   - 클래스 → 클래스 전체 이름(String, 예: "org.example.Clock")
+ *   - 배열 → List, 중첩 어노테이션 → Map
+ *   - 기본값(default)은 클래스 파일에 기록되지 않으므로 Map에 없음
+ */
+public final class ClassFileMetadata {
+
+    private static final int MAGIC = 0xCAFEBABE;
+
+    private static final int TAG_UTF8 = 1;
+    private static final int TAG_INTEGER = 3;
+    private static final int TAG_FLOAT = 4;
+    private static final int TAG_LONG = 5;
+    private static final int TAG_DOUBLE = 6;
+    private static final int TAG_CLASS = 7;
+    private static final int TAG_STRING = 8;
+    private static final int TAG_FIELDREF = 9;
+    private static final int TAG_METHODREF = 10;
+    private static final int TAG_INTERFACE_METHODREF = 11;
+    private static final int TAG_NAME_AND_TYPE = 12;
+    private static final int TAG_METHOD_HANDLE = 15;
+    private static final int TAG_METHOD_TYPE = 16;
+    private static final int TAG_DYNAMIC = 17;
+    private static final int TAG_INVOKE_DYNAMIC = 18;
+    private static final int TAG_MODULE = 19;
+    private static final int TAG_PACKAGE = 20;
+
+    private static final int ACC_INTERFACE = 0x0200;
+    private static final int ACC_ABSTRACT = 0x0400;
+    private static final int ACC_ANNOTATION = 0x2000;
+
+    private final String className;
+    private final String superClassName;
+    private final int accessFlags;
+    private final Map<String, Map<String, Object>> annotations;
+
+    private ClassFileMetadata(String className, String superClassName, int accessFlags,
+                              Map<String, Map<String, Object>> annotations) {
+        this.className = className;
+        this.superClassName = superClassName;
+        this.accessFlags = accessFlags;
+        this.annotations = annotations;
+    }
+
+    /**
+     * 클래스 파일 읽기
+     *
+     * @param in .class 파일 내용 (닫지 않음)
+     * @return 클래스 이름, 부모 클래스, 클래스에 붙은 어노테이션
+     * @throws IOException 읽기 실패 또는 클래스 파일 형식이 아닌 경우
+     */
+    public static ClassFileMetadata read(InputStream in) throws IOException {
+        DataInputStream data = new DataInputStream(in);
+        if (data.readInt() != MAGIC) {
+            throw new IOException("Not a class file");
+        }
+        data.readUnsignedShort();  // minor_version
+        data.readUnsignedShort();  // major_version
+
+        // ================================================================
+        // 1단계: 상수 풀 (필요한 UTF8 / 클래스 / 상수 값만 보관)
+        // ================================================================
+        int poolCount = data.readUnsignedShort();
+        Object[] pool = new Object[poolCount];
+        int[] classNameIndex = new int[poolCount];
+        for (int i = 1; i < poolCount; i++) {
+            int tag = data.readUnsignedByte();
+            switch (tag) {
+                case TAG_UTF8:
+                    pool[i] = data.readUTF();
+                    break;
+                case TAG_INTEGER:
+                    pool[i] = data.readInt();
+                    break;
+                case TAG_FLOAT:
+                    pool[i] = data.readFloat();
+                    break;
+                case TAG_LONG:
+                    pool[i++] = data.readLong();  // 8바이트 상수는 슬롯 2개 차지
+                    break;
+                case TAG_DOUBLE:
+                    pool[i++] = data.readDouble();
+                    break;
+                case TAG_CLASS:
+                    classNameIndex[i] = data.readUnsignedShort();
+                    break;
+                case TAG_STRING:
+                case TAG_METHOD_TYPE:
+                case TAG_MODULE:
+                case TAG_PACKAGE:
+                    data.readUnsignedShort();
+                    break;
+                case TAG_FIELDREF:
+                case TAG_METHODREF:
+                case TAG_INTERFACE_METHODREF:
+                case TAG_NAME_AND_TYPE:
+                case TAG_DYNAMIC:
+                case TAG_INVOKE_DYNAMIC:
+                    data.readInt();
+                    break;
+                case TAG_METHOD_HANDLE:
+                    data.readUnsignedByte();
+                    data.readUnsignedShort();
+                    break;
+                default:
+                    throw new IOException("Unknown constant pool tag " + tag + " at index " + i);
+            }
+        }
+
+        // ================================================================
+        // 2단계: 클래스 이름 / 부모 클래스 (인터페이스 목록은 건너뜀)
+        // ================================================================
+        int accessFlags = data.readUnsignedShort();
+        String className = binaryName((String) pool[classNameIndex[data.readUnsignedShort()]]);
+        int superIndex = data.readUnsignedShort();
+        String superClassName = superIndex == 0 ? null : binaryName((String) pool[classNameIndex[superIndex]]);
+        skipFully(data, 2L * data.readUnsignedShort());
+
+        // ================================================================
+        // 3단계: 필드 / 메서드 건너뛰기
+        // ================================================================
+        skipMembers(data);
+        skipMembers(data);
+
+        // ================================================================
+        // 4단계: 클래스 속성 중 RuntimeVisibleAnnotations만 해석
+        // ================================================================
+        Map<String, Map<String, Object>> annotations = Collections.emptyMap();
+        int attributeCount = data.readUnsignedShort();
+        for (int i = 0; i < attributeCount; i++) {
+            String name = (String) pool[data.readUnsignedShort()];
+            int length = data.readInt();
+            if ("RuntimeVisibleAnnotations".equals(name)) {
+                annotations = new LinkedHashMap<>();
+                int count = data.readUnsignedShort();
+                for (int j = 0; j < count; j++) {
+                    String type = descriptorToName((String) pool[data.readUnsignedShort()]);
+                    annotations.put(type, readAttributes(data, pool));
+                }
+            } else {
+                skipFully(data, length);
+            }
+        }
+        return new ClassFileMetadata(className, superClassName, accessFlags, annotations);
+    }
+
+    public String getClassName() {
+        return className;
+    }
+
+    /**
+     * @return 부모 클래스의 전체 이름 (java.lang.Object면 "java.lang.Object", 없으면 null)
+     */
+    public String getSuperClassName() {
+        return superClassName;
+    }
+
+    /**
+     * @return 인스턴스를 만들 수 있는 일반 클래스면 true (인터페이스 / 추상 클래스 / 어노테이션 제외)
+     */
+    public boolean isConcrete() {
+        return (accessFlags & (ACC_INTERFACE | ACC_ABSTRACT | ACC_ANNOTATION)) == 0;
+    }
+
+    /**
+     * @param annotationName 어노테이션 전체 이름
+     * @return 클래스에 직접 붙어 있으면 true
+     */
+    public boolean hasAnnotation(String annotationName) {
+        return annotations.containsKey(annotationName);
+    }
+
+    /**
+     * @param annotationName 어노테이션 전체 이름
+     * @return 명시된 속성 (속성 이름 → 값), 어노테이션이 없으면 null
+     */
+    public Map<String, Object> getAnnotationAttributes(String annotationName) {
+        return annotations.get(annotationName);
+    }
+
+    /**
+     * @return 어노테이션 전체 이름 → 명시된 속성 (변경 불가)
+     */
+    public Map<String, Map<String, Object>> getAnnotations() {
+        return Collections.unmodifiableMap(annotations);
+    }
+
+    private static Map<String, Object> readAttributes(DataInputStream data, Object[] pool) throws IOException {
+        int pairs = data.readUnsignedShort();
+        Map<String, Object> attributes = new LinkedHashMap<>();
+        for (int i = 0; i < pairs; i++) {
+            String name = (String) pool[data.readUnsignedShort()];
+            attributes.put(name, readElementValue(data, pool));
+        }
+        return attributes;
+    }
+
+    private static Object readElementValue(DataInputStream data, Object[] pool) throws IOException {
+        int tag = data.readUnsignedByte();
+        switch (tag) {
+            case 'Z':
+                return ((Integer) pool[data.readUnsignedShort()]) != 0;
+            case 'B':
+                return ((Integer) pool[data.readUnsignedShort()]).byteValue();
+            case 'C':
+                return (char) ((Integer) pool[data.readUnsignedShort()]).intValue();
+            case 'S':
+                return ((Integer) pool[data.readUnsignedShort()]).shortValue();
+            case 'I':
+            case 'J':
+            case 'F':
+            case 'D':
+            case 's':
+                return pool[data.readUnsignedShort()];
+            case 'e':
+                data.readUnsignedShort();  // 열거형 타입
+                return pool[data.readUnsignedShort()];
+            case 'c':
+                return descriptorToName((String) pool[data.readUnsignedShort()]);
+            case '@':
+                data.readUnsignedShort();  // 중첩 어노테이션 타입
+                return readAttributes(data, pool);
+            case '[':
+                int length = data.readUnsignedShort();
+                List<Object> values = new ArrayList<>(length);
+                for (int i = 0; i < length; i++) {
+                    values.add(readElementValue(data, pool));
+                }
+                return values;
+            default:
+                throw new IOException("Unknown annotation element tag: " + (char) tag);
+        }
+    }
+
+    private static void skipMembers(DataInputStream data) throws IOException {
+        int count = data.readUnsignedShort();
+        for (int i = 0; i < count; i++) {
+            skipFully(data, 6);  // access_flags, name_index, descriptor_index
+            int attributes = data.readUnsignedShort();
+            for (int j = 0; j < attributes; j++) {
+                data.readUnsignedShort();
+                skipFully(data, data.readInt() & 0xFFFFFFFFL);
+            }
+        }
+    }
+
+    private static void skipFully(DataInputStream data, long bytes) throws IOException {
+        long remaining = bytes;
+        while (remaining > 0) {
+            int skipped = data.skipBytes((int) Math.min(remaining, Integer.MAX_VALUE));
+            if (skipped <= 0) {
+                throw new IOException("Unexpected end of class file");
+            }
+            remaining -= skipped;
+        }
+    }
+
+    /**
+     * 필드 디스크립터 → 클래스 이름 (예: "Ljava/time/Clock;" → "java.time.Clock", "V" → "void")
+     */
+    private static String descriptorToName(String descriptor) {
+        switch (descriptor.charAt(0)) {
+            case 'L':
+                return binaryName(descriptor.substring(1, descriptor.length() - 1));
+            case 'V': return "void";
+            case 'Z': return "boolean";
+            case 'B': return "byte";
+            case 'C': return "char";
+            case 'S': return "short";
+            case 'I': return "int";
+            case 'J': return "long";
+            case 'F': return "float";
+            case 'D': return "double";
+            default:
+                return binaryName(descriptor);  // 배열 디스크립터는 그대로 ('/'만 '.'으로)
+        }
+    }
+
+    private static String binaryName(String internalName) {
+        return internalName.replace('/', '.');
+    }
+}
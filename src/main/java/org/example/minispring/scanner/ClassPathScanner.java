@@ -1,15 +1,22 @@
 package org.example.minispring.scanner;
 
+import java.io.BufferedInputStream;
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.URL;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
 
 /**
  * 클래스패스에서 특정 패키지의 모든 클래스를 찾는 스캐너
  *
  * 역할: 파일 시스템을 재귀적으로 탐색하여 .class 파일을 찾고
  *       Class 객체로 로드
+ *       (scanMetadata()는 로드하지 않고 클래스 파일 메타데이터만 읽음)
  */
 public class ClassPathScanner {
 
@@ -21,7 +28,65 @@ public class ClassPathScanner {
      */
     public Set<Class<?>> scan(String basePackage) {
         Set<Class<?>> classes = new HashSet<>();
+        for (String className : findClassFiles(basePackage).keySet()) {
+            Class<?> type = load(className);
+            if (type != null) {
+                classes.add(type);
+            }
+        }
+        return classes;
+    }
+
+    /**
+     * 지정된 패키지의 클래스 파일을 로드하지 않고 메타데이터만 읽기
+     *
+     * @param basePackage 스캔할 패키지 (예: "org.example.demo")
+     * @return 클래스 이름 → 메타데이터 (이름순, 클래스 파일을 해석할 수 없으면 값이 null)
+     */
+    public Map<String, ClassFileMetadata> scanMetadata(String basePackage) {
+        Map<String, ClassFileMetadata> metadata = new TreeMap<>();
+        for (Map.Entry<String, File> classFile : findClassFiles(basePackage).entrySet()) {
+            try (InputStream in = new BufferedInputStream(new FileInputStream(classFile.getValue()))) {
+                metadata.put(classFile.getKey(), ClassFileMetadata.read(in));
+            } catch (IOException e) {
+                metadata.put(classFile.getKey(), null);  // 호출자가 일반 로드로 처리
+            }
+        }
+        return metadata;
+    }
 
+    /**
+     * 이름으로 클래스 로드
+     *
+     * @param className 클래스 전체 이름
+     * @return 로드한 클래스 (찾을 수 없으면 null)
+     */
+    public Class<?> load(String className) {
+        try {
+            // ====================================================
+            // Class.forName()으로 클래스를 JVM에 로드
+            // ====================================================
+            // 동작:
+            //   1) 클래스 로더가 "org.example.demo.UserService.class" 파일 찾기
+            //   2) 바이트코드를 읽어서 메모리에 로드
+            //   3) Class 객체 생성 (메타데이터 포함)
+            //   4) 정적 초기화 블록 실행
+            return Class.forName(className);
+
+        } catch (ClassNotFoundException e) {
+            // 클래스를 찾을 수 없으면 무시하고 계속 진행
+            return null;
+        }
+    }
+
+    /**
+     * 패키지의 .class 파일 위치 찾기 (클래스는 로드하지 않음)
+     *
+     * @param basePackage 스캔할 패키지
+     * @return 클래스 이름 → .class 파일
+     */
+    private Map<String, File> findClassFiles(String basePackage) {
+        Map<String, File> classFiles = new TreeMap<>();
         try {
             // ============================================================
             // 1단계: 패키지 이름을 파일 경로로 변환
@@ -42,9 +107,9 @@ public class ClassPathScanner {
             // 예: "org/example/demo" → "C:/project/build/classes/org/example/demo"
             URL resource = classLoader.getResource(path);
 
-            // 패키지가 존재하지 않으면 빈 Set 반환
+            // 패키지가 존재하지 않으면 빈 Map 반환
             if (resource == null) {
-                return classes;
+                return classFiles;
             }
 
             // ============================================================
@@ -55,19 +120,19 @@ public class ClassPathScanner {
             File directory = new File(resource.getFile());
 
             if (!directory.exists()) {
-                return classes;
+                return classFiles;
             }
 
             // ============================================================
             // 5단계: 재귀적으로 디렉토리 탐색 시작
             // ============================================================
-            findClasses(directory, basePackage, classes);
+            findClasses(directory, basePackage, classFiles);
 
         } catch (Exception e) {
-            // 예외 발생 시 빈 Set 반환 (조용히 실패)
+            // 예외 발생 시 빈 Map 반환 (조용히 실패)
         }
 
-        return classes;
+        return classFiles;
     }
 
     /**
@@ -75,9 +140,9 @@ public class ClassPathScanner {
      *
      * @param directory 현재 탐색 중인 디렉토리
      * @param packageName 현재 패키지 이름
-     * @param classes 찾은 클래스들을 저장할 Set (출력 파라미터)
+     * @param classFiles 찾은 클래스 이름 → 파일을 저장할 Map (출력 파라미터)
      */
-    private void findClasses(File directory, String packageName, Set<Class<?>> classes) {
+    private void findClasses(File directory, String packageName, Map<String, File> classFiles) {
         // ============================================================
         // 1단계: 현재 디렉토리의 모든 파일/폴더 목록 가져오기
         // ============================================================
@@ -100,11 +165,11 @@ public class ClassPathScanner {
                 //     packageName = "org.example.demo"
                 //     file.getName() = "service"
                 // → 재귀 호출: findClasses(..., "org.example.demo.service", ...)
-                findClasses(file, packageName + "." + file.getName(), classes);
+                findClasses(file, packageName + "." + file.getName(), classFiles);
             }
 
             // ------------------------------------------------------------
-            // Case 2: .class 파일인 경우 → Class 객체로 로드
+            // Case 2: .class 파일인 경우 → 이름과 위치 기록 (로드는 호출자가 결정)
             // ------------------------------------------------------------
             else if (file.getName().endsWith(".class")) {
 
@@ -123,20 +188,7 @@ public class ClassPathScanner {
                 String className = packageName + '.' +
                                    file.getName().substring(0, file.getName().length() - 6);
 
-                try {
-                    // ====================================================
-                    // 2-2. Class.forName()으로 클래스를 JVM에 로드
-                    // ====================================================
-                    // 동작:
-                    //   1) 클래스 로더가 "org.example.demo.UserService.class" 파일 찾기
-                    //   2) 바이트코드를 읽어서 메모리에 로드
-                    //   3) Class 객체 생성 (메타데이터 포함)
-                    //   4) 정적 초기화 블록 실행
-                    classes.add(Class.forName(className));
-
-                } catch (ClassNotFoundException e) {
-                    // 클래스를 찾을 수 없으면 무시하고 계속 진행
-                }
+                classFiles.put(className, file);
             }
         }
     }
@@ -3,11 +3,19 @@ package org.example.minispring.scanner;
 import org.example.minispring.annotation.Component;
 import org.example.minispring.annotation.Configuration;
 import org.example.minispring.annotation.Controller;
+import org.example.minispring.annotation.Lazy;
 import org.example.minispring.annotation.Repository;
+import org.example.minispring.annotation.Scope;
 import org.example.minispring.annotation.Service;
 import org.example.minispring.bean.BeanDefinition;
+import org.example.minispring.bean.ClassMetadata;
+import org.example.minispring.condition.ConditionEvaluator;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -15,15 +23,32 @@ import java.util.Set;
  *
  * 역할:
  *   1. ClassPathScanner를 사용하여 모든 클래스 찾기
- *   2. 컴포넌트 어노테이션 필터링
- *   3. BeanDefinition(빈 메타데이터) 생성
+ *   2. 조건부 등록 어노테이션(@Profile 등)을 클래스 파일 메타데이터로 평가
+ *      → 조건이 맞지 않는 클래스는 로드하지 않음
+ *   3. 컴포넌트 어노테이션 필터링
+ *   4. BeanDefinition(빈 메타데이터) 생성
  */
 public class ComponentScanner {
 
+    // 클래스 파일 메타데이터로 컴포넌트 여부를 판단할 때 쓰는 어노테이션 이름
+    private static final Set<String> STEREOTYPES = Set.of(
+        Component.class.getName(), Service.class.getName(), Repository.class.getName(),
+        Controller.class.getName(), Configuration.class.getName()
+    );
+
     private final ClassPathScanner classPathScanner;
+    private final ConditionEvaluator conditionEvaluator;
 
     public ComponentScanner() {
+        this(ConditionEvaluator.fromSystemProperties());
+    }
+
+    /**
+     * @param conditionEvaluator 조건부 등록 어노테이션 평가기 (프로파일, 프로퍼티)
+     */
+    public ComponentScanner(ConditionEvaluator conditionEvaluator) {
         this.classPathScanner = new ClassPathScanner();
+        this.conditionEvaluator = conditionEvaluator;
     }
 
     /**
@@ -33,10 +58,33 @@ public class ComponentScanner {
      * @return BeanDefinition의 Set (빈의 메타데이터 모음)
      */
     public Set<BeanDefinition> scan(String basePackage) {
-        Set<BeanDefinition> beanDefinitions = new HashSet<>();
+        // @Bean 메서드를 처리하지 않으므로 @ConditionalOnMissingBean은 스캔된 컴포넌트와만 비교
+        Candidates candidates = findCandidates(basePackage);
+        List<Class<?>> components = new ArrayList<>(candidates.getComponents());
+        components.addAll(resolveConditional(candidates, candidates.getComponents()));
+        return createDefinitions(components);
+    }
 
+    /**
+     * 패키지 내 후보 클래스 로드 (조건을 만족하지 않는 컴포넌트 제외)
+     *
+     * 동작 흐름:
+     *   1. 클래스 파일 메타데이터만 읽기 (아직 아무 클래스도 로드하지 않음)
+     *   2. @Profile / @ConditionalOnProperty / @ConditionalOnClass 평가
+     *      → 탈락한 클래스와 그 중첩 클래스는 로드하지 않음
+     *   3. @ConditionalOnMissingBean이 없는 클래스 로드
+     *   4. @ConditionalOnMissingBean 클래스는 로드하지 않고 보류
+     *      → @Bean 메서드까지 모든 빈 정의가 등록된 뒤 resolveConditional()로 평가
+     *
+     * 컴포넌트 여부도 클래스 파일 메타데이터로 판단해 함께 반환
+     * → createDefinitions()는 확정된 컴포넌트만 리플렉션으로 분석
+     *
+     * @param basePackage 스캔할 패키지 (예: "org.example.demo")
+     * @return 로드한 클래스 전체와 그중 컴포넌트
+     */
+    public Candidates findCandidates(String basePackage) {
         // ================================================================
-        // 1단계: ClassPathScanner로 패키지 내 모든 클래스 로드
+        // 1단계: 클래스 파일 메타데이터 읽기 (클래스 로드 없음)
         // ================================================================
         // 결과 예시:
         //   - org.example.demo.UserService
@@ -44,49 +92,153 @@ public class ComponentScanner {
         //   - org.example.demo.NotificationService
         //   - org.example.demo.OrderController
         //   - org.example.demo.SomeUtilClass (어노테이션 없음)
-        Set<Class<?>> classes = classPathScanner.scan(basePackage);
+        Map<String, ClassFileMetadata> classFiles = classPathScanner.scanMetadata(basePackage);
+
+        // ================================================================
+        // 2단계: 조건 평가 (탈락한 클래스는 이름만 기록)
+        // ================================================================
+        List<String> disabled = new ArrayList<>();
+        for (Map.Entry<String, ClassFileMetadata> classFile : classFiles.entrySet()) {
+            ClassFileMetadata metadata = classFile.getValue();
+            if (metadata != null && !conditionEvaluator.matches(metadata)) {
+                disabled.add(classFile.getKey());
+            }
+        }
 
         // ================================================================
-        // 2단계: 각 클래스를 순회하며 컴포넌트 어노테이션 체크
+        // 3단계: 조건 없는 (또는 통과한) 클래스 로드
         // ================================================================
-        for (Class<?> clazz : classes) {
-
-            // ------------------------------------------------------------
-            // 2-1. 컴포넌트 어노테이션이 있는지 확인
-            // ------------------------------------------------------------
-            // @Component, @Service, @Repository, @Controller 중 하나라도 있으면
-            if (isComponent(clazz)) {
-
-                // --------------------------------------------------------
-                // 2-2. 빈 이름 생성 (클래스명의 camelCase)
-                // --------------------------------------------------------
-                // 예: UserService → "userService"
-                //     OrderController → "orderController"
-                String beanName = generateBeanName(clazz);
-
-                // --------------------------------------------------------
-                // 2-3. BeanDefinition 생성 및 추가
-                // --------------------------------------------------------
-                // BeanDefinition: 빈의 메타데이터
-                //   - beanName: "userService"
-                //   - beanClass: UserService.class
-                //
-                // 주의: 아직 실제 객체(인스턴스)는 생성하지 않음!
-                //       나중에 getBean() 호출 시점에 생성됨 (Lazy Loading)
-                beanDefinitions.add(new BeanDefinition(beanName, clazz));
+        Set<Class<?>> candidates = new HashSet<>();
+        List<Class<?>> components = new ArrayList<>();
+        List<ClassFileMetadata> onMissingBean = new ArrayList<>();  // 보류 (이름순)
+        for (Map.Entry<String, ClassFileMetadata> classFile : classFiles.entrySet()) {
+            String className = classFile.getKey();
+            ClassFileMetadata metadata = classFile.getValue();
+            if (isDisabled(className, disabled)) {
+                continue;
+            }
+            if (metadata != null && ConditionEvaluator.missingBeanTypes(metadata) != null) {
+                onMissingBean.add(metadata);
+                continue;
+            }
+            Class<?> type = classPathScanner.load(className);
+            if (type != null) {
+                candidates.add(type);
+                // 클래스 파일을 읽지 못한 경우에만 로드된 클래스의 어노테이션으로 판단
+                if (metadata != null ? isComponent(metadata) : isComponent(type)) {
+                    components.add(type);
+                }
+            }
+        }
+
+        return new Candidates(candidates, components, onMissingBean);
+    }
+
+    /**
+     * 보류한 @ConditionalOnMissingBean 클래스 평가 (이름순, 앞에서 통과한 것도 포함해 확인)
+     *
+     * 스캔된 컴포넌트뿐 아니라 @Bean 메서드가 등록한 빈과도 비교해야 하므로
+     * 설정 클래스 처리가 끝난 뒤 호출
+     *
+     * @param candidates findCandidates() 결과 (통과한 클래스가 추가됨)
+     * @param registeredTypes 이미 등록된 모든 빈의 클래스
+     * @return 새로 확정된 컴포넌트 클래스
+     */
+    public List<Class<?>> resolveConditional(Candidates candidates, Collection<Class<?>> registeredTypes) {
+        List<Class<?>> existingTypes = new ArrayList<>(registeredTypes);
+        List<Class<?>> resolved = new ArrayList<>();
+        for (ClassFileMetadata metadata : candidates.conditional) {
+            if (ConditionEvaluator.isMissing(ConditionEvaluator.missingBeanTypes(metadata), existingTypes)) {
+                Class<?> type = classPathScanner.load(metadata.getClassName());
+                if (type != null) {
+                    candidates.classes.add(type);
+                    if (isComponent(metadata)) {
+                        candidates.components.add(type);
+                        resolved.add(type);
+                        existingTypes.add(type);
+                    }
+                }
             }
         }
+        return resolved;
+    }
+
+    /**
+     * 컴포넌트 클래스를 BeanDefinition으로 변환
+     *
+     * @param components findCandidates()가 확정한 컴포넌트 클래스
+     * @return BeanDefinition의 Set
+     */
+    public Set<BeanDefinition> createDefinitions(Collection<Class<?>> components) {
+        Set<BeanDefinition> beanDefinitions = new HashSet<>();
+
+        // ================================================================
+        // 2단계: 각 컴포넌트 클래스를 순회
+        // ================================================================
+        // 컴포넌트 여부는 findCandidates()에서 클래스 파일로 이미 확인
+        // → ClassMetadata(선언 메서드 / 필드 분석)는 컴포넌트에 대해서만 생성
+        for (Class<?> clazz : components) {
+            // --------------------------------------------------------
+            // 2-2. 빈 이름 생성 (클래스명의 camelCase)
+            // --------------------------------------------------------
+            // 예: UserService → "userService"
+            //     OrderController → "orderController"
+            String beanName = generateBeanName(clazz);
+
+            // --------------------------------------------------------
+            // 2-3. BeanDefinition 생성 및 추가
+            // --------------------------------------------------------
+            // BeanDefinition: 빈의 메타데이터
+            //   - beanName: "userService"
+            //   - beanClass: UserService.class
+            //   - scope: @Scope 값 (없으면 "singleton")
+            //   - lazyInit: @Lazy 여부 (주입 지점에 지연 프록시 사용)
+            //
+            // 주의: 아직 실제 객체(인스턴스)는 생성하지 않음!
+            //       나중에 getBean() 호출 시점에 생성됨 (Lazy Loading)
+            ClassMetadata metadata = ClassMetadata.forClass(clazz);
+            Scope scope = metadata.getAnnotation(Scope.class);
+            Lazy lazy = metadata.getAnnotation(Lazy.class);
+            String scopeName = scope != null ? scope.value() : BeanDefinition.SCOPE_SINGLETON;
+            beanDefinitions.add(new BeanDefinition(beanName, clazz, scopeName, lazy != null && lazy.value()));
+        }
 
         return beanDefinitions;
     }
 
     /**
-     * 클래스에 컴포넌트 어노테이션이 있는지 확인
+     * 탈락한 클래스 자신이거나 그 중첩 클래스인지 확인 (예: Foo$Builder)
+     */
+    private static boolean isDisabled(String className, List<String> disabled) {
+        for (String disabledClass : disabled) {
+            if (className.equals(disabledClass) || className.startsWith(disabledClass + "$")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 클래스 파일 메타데이터로 컴포넌트 어노테이션 확인 (클래스 로드 없음)
+     */
+    private static boolean isComponent(ClassFileMetadata metadata) {
+        for (String annotation : metadata.getAnnotations().keySet()) {
+            if (STEREOTYPES.contains(annotation)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 로드된 클래스에 컴포넌트 어노테이션이 있는지 확인
+     *
+     * 클래스 파일 메타데이터를 읽지 못한 경우의 대체 경로
      *
      * @param clazz 검사할 클래스
      * @return 컴포넌트 어노테이션이 하나라도 있으면 true
      */
-    private boolean isComponent(Class<?> clazz) {
+    private static boolean isComponent(Class<?> clazz) {
         // ================================================================
         // 스프링 스테레오타입 어노테이션 확인
         // ================================================================
@@ -97,8 +249,8 @@ public class ComponentScanner {
         // @Configuration: 설정 클래스 (내부적으로 @Component 포함)
         //
         // isAnnotationPresent(): 런타임에 리플렉션으로 어노테이션 확인
-        //   - 클래스 바이트코드에 어노테이션이 남아있어야 함
         //   - 어노테이션에 @Retention(RetentionPolicy.RUNTIME) 필요
+        //   - 선언 메서드 / 필드는 읽지 않음 (ClassMetadata 생성 없음)
         return clazz.isAnnotationPresent(Component.class) ||
                 clazz.isAnnotationPresent(Service.class) ||
                 clazz.isAnnotationPresent(Repository.class) ||
@@ -135,4 +287,31 @@ public class ComponentScanner {
         //   APIService → aPIService (두 번째 글자도 대문자면 그대로)
         return Character.toLowerCase(simpleName.charAt(0)) + simpleName.substring(1);
     }
+
+    /**
+     * findCandidates() 결과
+     *
+     * - classes: 로드한 클래스 전체 (컴포넌트가 아닌 클래스 포함, 공유 클래스 목록용)
+     * - components: 그중 컴포넌트 어노테이션이 있는 클래스
+     * - conditional: 평가를 보류한 @ConditionalOnMissingBean 클래스 (resolveConditional()에서 평가)
+     */
+    public static final class Candidates {
+        private final Set<Class<?>> classes;
+        private final List<Class<?>> components;
+        private final List<ClassFileMetadata> conditional;
+
+        Candidates(Set<Class<?>> classes, List<Class<?>> components, List<ClassFileMetadata> conditional) {
+            this.classes = classes;
+            this.components = components;
+            this.conditional = conditional;
+        }
+
+        public Set<Class<?>> getClasses() {
+            return classes;
+        }
+
+        public List<Class<?>> getComponents() {
+            return components;
+        }
+    }
 }
@@ -0,0 +1,30 @@
+package org.example.minispring.scope;
+
+import java.util.function.Supplier;
+
+/**
+ * 실행 문맥(스레드, 작업 등)에 인스턴스를 묶어 두는 스코프
+ *
+ * 슬롯:
+ *   - 스코프 빈마다 정수 슬롯 번호를 한 번 할당받음
+ *   - 문맥별 저장소는 배열이므로 조회 = 배열 인덱스 접근 (맵 조회 없음)
+ */
+public interface BeanScope {
+
+    /**
+     * 스코프 빈 하나에 사용할 슬롯 할당
+     *
+     * @return 이 스코프 안에서 유일한 슬롯 번호
+     */
+    int allocateSlot();
+
+    /**
+     * 현재 문맥의 인스턴스 조회 (없으면 생성 후 문맥에 저장)
+     *
+     * @param slot allocateSlot()으로 받은 번호
+     * @param beanName 오류 메시지용 빈 이름
+     * @param factory 인스턴스 생성 (@PostConstruct까지 완료)
+     * @return 현재 문맥에 묶인 인스턴스
+     */
+    Object get(int slot, String beanName, Supplier<?> factory);
+}
@@ -0,0 +1,300 @@
+package org.example.minispring.scope;
+
+import org.example.minispring.proxy.LeasedTargetSource;
+import org.example.minispring.proxy.TargetSource;
+
+import java.lang.ref.SoftReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * "evictable" 스코프: 다시 만들 수 있는 큰 빈을 메모리 상황에 따라 내려놓는 스코프
+ *
+ * 용도:
+ *   - 조회 테이블, 컴파일된 템플릿처럼 크지만 언제든 재생성 가능한 싱글톤
+ *   - 한가할 때도 힙을 계속 점유하는 문제 해결
+ *
+ * 보관 방식 (빈마다 @Evictable로 선택):
+ *   1. SoftReference: GC가 메모리 압박 시 회수 → 다음 조회에서 재생성
+ *   2. 바이트 예산 + LRU: 상주 빈의 추정 크기 합이 예산을 넘으면
+ *      가장 오래 사용하지 않은 빈을 @PreDestroy 후 제거
+ *
+ * 조회 경로:
+ *   - 상주 중이면 volatile 읽기 + 접근 시각 기록만 (락 없음)
+ *   - 제거된 상태면 빈 단위 락 안에서 생성 계획으로 재생성
+ *   - 다른 빈에는 스코프 프록시로 주입 → 싱글톤이 인스턴스를 붙잡아 두지 않음
+ *
+ * 제거와 진행 중인 호출:
+ *   - 프록시 호출은 인스턴스를 빌려 쓰고(ResidentInstance) 호출이 끝나면 반납
+ *   - 제거된 인스턴스의 @PreDestroy는 빌려 간 호출이 모두 끝난 뒤 실행
+ *   - getBean()으로 직접 받은 참조는 보호되지 않음 (보관하지 말고 프록시 주입 사용)
+ *
+ * LRU 근사:
+ *   - 조회마다 연결 리스트를 재정렬하면 락이 필요하므로
+ *     빈마다 마지막 접근 시각(System.nanoTime)만 volatile로 기록하고, 제거 시 가장 오래된 것을 찾음
+ *   - 공유 카운터가 없으므로 히트 경로에 경합하는 CAS가 없음
+ */
+public final class EvictableScope {
+
+    private final Consumer<Object> destroyer;
+    private final Map<String, EvictableTarget> targets = new ConcurrentHashMap<>();
+    private volatile long budgetBytes;
+    private long residentBytes;  // synchronized(this)로 보호
+
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder recreations = new LongAdder();
+
+    /**
+     * @param destroyer 제거 시 호출 (@PreDestroy)
+     * @param budgetBytes 바이트 예산 방식 빈들의 최대 상주 크기
+     */
+    public EvictableScope(Consumer<Object> destroyer, long budgetBytes) {
+        this.destroyer = destroyer;
+        this.budgetBytes = budgetBytes;
+    }
+
+    public long getBudgetBytes() {
+        return budgetBytes;
+    }
+
+    /**
+     * 바이트 예산 변경 (줄이면 다음 생성 시점에 초과분 제거)
+     *
+     * @param budgetBytes 새 예산
+     */
+    public void setBudgetBytes(long budgetBytes) {
+        this.budgetBytes = budgetBytes;
+    }
+
+    /**
+     * evictable 빈 등록
+     *
+     * @param beanName 빈 이름
+     * @param factory 인스턴스 생성 (@PostConstruct까지 완료)
+     * @param sizeBytes 추정 크기 (0이면 SoftReference 방식)
+     * @return 현재 인스턴스 조회기 (없으면 재생성)
+     */
+    public TargetSource register(String beanName, Supplier<?> factory, long sizeBytes) {
+        EvictableTarget target = new EvictableTarget(factory, sizeBytes);
+        EvictableTarget existing = targets.putIfAbsent(beanName, target);
+        return existing != null ? existing : target;
+    }
+
+    /**
+     * 빈 하나를 즉시 제거 (@PreDestroy 호출, 다음 조회 시 재생성)
+     *
+     * @param beanName 빈 이름
+     * @return 상주 중이던 인스턴스를 제거했으면 true
+     */
+    public boolean evict(String beanName) {
+        EvictableTarget target = targets.get(beanName);
+        if (target == null) {
+            return false;
+        }
+        ResidentInstance victim = target.release();
+        if (victim == null) {
+            return false;
+        }
+        evictions.increment();
+        target.evictions.increment();
+        victim.retire();
+        return true;
+    }
+
+    /**
+     * @return 스코프 전체 통계
+     */
+    public EvictionMetrics getMetrics() {
+        synchronized (this) {
+            return new EvictionMetrics(evictions.sum(), recreations.sum(), residentBytes);
+        }
+    }
+
+    /**
+     * @param beanName 빈 이름
+     * @return 빈 하나의 통계
+     * @throws IllegalArgumentException 등록되지 않은 빈인 경우
+     */
+    public EvictionMetrics getMetrics(String beanName) {
+        EvictableTarget target = targets.get(beanName);
+        if (target == null) {
+            throw new IllegalArgumentException("No evictable bean: " + beanName);
+        }
+        long resident = target.budgeted() && target.instance != null ? target.sizeBytes : 0;
+        return new EvictionMetrics(target.evictions.sum(), target.recreations.sum(), resident);
+    }
+
+    /**
+     * 상주 중인 모든 인스턴스 제거 (컨테이너 종료 시 @PreDestroy)
+     */
+    public void close() {
+        for (EvictableTarget target : targets.values()) {
+            ResidentInstance resident = target.release();
+            if (resident != null) {
+                resident.retire();
+            }
+        }
+    }
+
+    /**
+     * 예산 방식 빈이 새로 상주하게 될 때 호출 → 초과분을 LRU 순으로 골라 반환
+     */
+    private List<ResidentInstance> admit(EvictableTarget admitted) {
+        List<ResidentInstance> victims = new ArrayList<>();
+        synchronized (this) {
+            residentBytes += admitted.sizeBytes;
+            while (residentBytes > budgetBytes) {
+                EvictableTarget eldest = null;
+                for (EvictableTarget candidate : targets.values()) {
+                    if (candidate != admitted && candidate.budgeted() && candidate.instance != null
+                        && (eldest == null || candidate.lastAccess - eldest.lastAccess < 0)) {
+                        eldest = candidate;
+                    }
+                }
+                if (eldest == null) {
+                    break;  // 방금 만든 빈 하나만으로 예산 초과 → 그대로 둠
+                }
+                ResidentInstance victim = eldest.releaseLocked();
+                if (victim != null) {
+                    victims.add(victim);
+                    eldest.evictions.increment();
+                    evictions.increment();
+                }
+            }
+        }
+        return victims;
+    }
+
+    /**
+     * evictable 빈 하나의 보관소
+     */
+    private final class EvictableTarget implements LeasedTargetSource {
+        private final Supplier<?> factory;
+        private final long sizeBytes;
+
+        // 예산 방식: 강한 참조 / SoftReference 방식: 소프트 참조
+        // (빌려 간 호출은 ResidentInstance를 강하게 참조 → 사용 중에는 GC가 회수하지 않음)
+        private volatile ResidentInstance instance;
+        private volatile SoftReference<ResidentInstance> softInstance;
+        private volatile long lastAccess;
+        private boolean created;  // synchronized(this)로 보호
+
+        private final LongAdder evictions = new LongAdder();
+        private final LongAdder recreations = new LongAdder();
+
+        EvictableTarget(Supplier<?> factory, long sizeBytes) {
+            this.factory = factory;
+            this.sizeBytes = sizeBytes;
+        }
+
+        boolean budgeted() {
+            return sizeBytes > 0;
+        }
+
+        /**
+         * 반납 없는 조회 (getBean() 경로)
+         */
+        @Override
+        public Object getTarget() {
+            ResidentInstance current = resident();
+            if (current == null) {
+                current = createIfAbsent();
+            }
+            lastAccess = System.nanoTime();
+            return current.getBean();
+        }
+
+        /**
+         * 프록시 호출 하나 동안 빌림 (반납 전에는 제거되어도 @PreDestroy가 미뤄짐)
+         */
+        @Override
+        public Lease lease() {
+            while (true) {
+                ResidentInstance current = resident();
+                if (current == null) {
+                    current = createIfAbsent();
+                }
+                if (current.acquire()) {
+                    lastAccess = System.nanoTime();
+                    return current;
+                }
+                // 빌리기 직전에 제거됨 → 다시 조회 (재생성)
+            }
+        }
+
+        /**
+         * 느린 경로: (재)생성 - 빈 단위 락으로 중복 생성 방지
+         */
+        private ResidentInstance createIfAbsent() {
+            ResidentInstance current;
+            List<ResidentInstance> victims = List.of();
+            synchronized (this) {
+                current = resident();
+                if (current == null) {
+                    if (!budgeted() && softInstance != null) {
+                        // GC가 회수한 것을 지금 감지 (이미 사라져 @PreDestroy 불가)
+                        evictions.increment();
+                        EvictableScope.this.evictions.increment();
+                    }
+                    current = new ResidentInstance(factory.get(), destroyer);
+                    if (created) {
+                        recreations.increment();
+                        EvictableScope.this.recreations.increment();
+                    }
+                    created = true;
+                    lastAccess = System.nanoTime();
+                    if (budgeted()) {
+                        instance = current;
+                        victims = admit(this);
+                    } else {
+                        softInstance = new SoftReference<>(current);
+                    }
+                }
+            }
+
+            // @PreDestroy는 락 밖에서 (빌려 간 호출이 있으면 마지막 반납 때)
+            for (ResidentInstance victim : victims) {
+                victim.retire();
+            }
+            return current;
+        }
+
+        private ResidentInstance resident() {
+            if (budgeted()) {
+                return instance;
+            }
+            SoftReference<ResidentInstance> reference = softInstance;
+            return reference != null ? reference.get() : null;
+        }
+
+        /**
+         * 상주 인스턴스를 내려놓음
+         *
+         * @return 내려놓은 인스턴스 (없었으면 null)
+         */
+        ResidentInstance release() {
+            synchronized (EvictableScope.this) {
+                return releaseLocked();
+            }
+        }
+
+        ResidentInstance releaseLocked() {
+            if (budgeted()) {
+                ResidentInstance current = instance;
+                if (current != null) {
+                    instance = null;
+                    residentBytes -= sizeBytes;
+                }
+                return current;
+            }
+            SoftReference<ResidentInstance> reference = softInstance;
+            softInstance = null;
+            return reference != null ? reference.get() : null;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package org.example.minispring.scope;
+
+/**
+ * evictable 스코프 통계 스냅샷 (불변)
+ *
+ * 항목:
+ *   - evictions: 제거된 횟수 (예산 초과 LRU 제거 + 수동 제거 + GC 회수 감지)
+ *   - recreations: 제거 후 다시 생성된 횟수
+ *   - residentBytes: 현재 메모리에 있는 예산 방식 빈의 추정 크기 합계
+ */
+public final class EvictionMetrics {
+
+    private final long evictions;
+    private final long recreations;
+    private final long residentBytes;
+
+    EvictionMetrics(long evictions, long recreations, long residentBytes) {
+        this.evictions = evictions;
+        this.recreations = recreations;
+        this.residentBytes = residentBytes;
+    }
+
+    public long getEvictions() {
+        return evictions;
+    }
+
+    public long getRecreations() {
+        return recreations;
+    }
+
+    public long getResidentBytes() {
+        return residentBytes;
+    }
+
+    @Override
+    public String toString() {
+        return "EvictionMetrics{evictions=" + evictions + ", recreations=" + recreations +
+            ", residentBytes=" + residentBytes + "}";
+    }
+}
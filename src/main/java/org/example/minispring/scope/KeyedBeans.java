@@ -0,0 +1,261 @@
+package org.example.minispring.scope;
+
+import org.example.minispring.proxy.LeasedTargetSource;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * "keyed" 스코프 빈 하나의 키별 인스턴스 캐시
+ *
+ * 용도:
+ *   - 테넌트별 레이트 리미터, 테넌트 전용 클라이언트처럼 키마다 따로 있어야 하는 빈
+ *
+ * 구조:
+ *   - ScopeKeyResolver가 현재 키를 제공 → 키에 해당하는 인스턴스 반환 (없으면 생성)
+ *   - ConcurrentHashMap<키, Node>: 조회는 락 없이 수행
+ *   - 크기 제한: maxSize를 넘으면 가장 오래 사용하지 않은 키를 제거 (@PreDestroy)
+ *     → 테넌트 수가 늘어나도 메모리는 maxSize 개수에서 평평하게 유지
+ *
+ * LRU:
+ *   - 조회마다 Node에 마지막 접근 시각(System.nanoTime)만 volatile로 기록 (락 없음, 공유 카운터 없음)
+ *   - 새 키를 추가해 한도를 넘을 때만 가장 오래된 시각을 찾아 제거 (미스 경로에서만 O(maxSize))
+ *
+ * 생성 / 제거 경쟁:
+ *   - Node 단위 락으로 한 키의 인스턴스는 한 번만 생성
+ *   - 제거된 Node는 표시해 두고, 그 Node를 잡은 조회는 새 Node로 재시도
+ *     → 제거 후 생성되어 @PreDestroy 없이 사라지는 인스턴스가 없음
+ *
+ * 제거와 진행 중인 호출:
+ *   - 프록시 호출은 인스턴스를 빌려 쓰고(ResidentInstance) 호출이 끝나면 반납
+ *   - 제거된 키의 @PreDestroy는 그 인스턴스를 빌려 간 호출이 모두 끝난 뒤 실행
+ *   - get(key) / getBean()으로 직접 받은 참조는 보호되지 않음
+ */
+public final class KeyedBeans<T> implements LeasedTargetSource {
+
+    private final String beanName;
+    private final Supplier<?> factory;
+    private final Consumer<Object> destroyer;
+    private final Supplier<ScopeKeyResolver> resolverLookup;
+    private final int maxSize;
+
+    private final Map<Object, Node> instances = new ConcurrentHashMap<>();
+    private final LongAdder creations = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    // 리졸버 빈은 첫 조회 때 한 번만 찾아 둠
+    private volatile ScopeKeyResolver resolver;
+
+    /**
+     * @param beanName 빈 이름
+     * @param factory 인스턴스 생성 (@PostConstruct까지 완료)
+     * @param destroyer 제거 시 호출 (@PreDestroy)
+     * @param resolverLookup 키 리졸버 조회 (최초 1회 호출)
+     * @param maxSize 최대 키 개수
+     */
+    public KeyedBeans(String beanName, Supplier<?> factory, Consumer<Object> destroyer,
+                      Supplier<ScopeKeyResolver> resolverLookup, int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Keyed scope maxSize must be positive: " + beanName);
+        }
+        this.beanName = beanName;
+        this.factory = factory;
+        this.destroyer = destroyer;
+        this.resolverLookup = resolverLookup;
+        this.maxSize = maxSize;
+    }
+
+    public String getBeanName() {
+        return beanName;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * @return 현재 보관 중인 키 개수
+     */
+    public int size() {
+        return instances.size();
+    }
+
+    public long getCreationCount() {
+        return creations.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * 현재 키의 인스턴스 (리졸버가 키를 결정)
+     *
+     * @return 현재 키에 해당하는 인스턴스
+     * @throws IllegalStateException 리졸버가 키를 주지 못한 경우
+     */
+    @Override
+    public Object getTarget() {
+        return get(currentKey());
+    }
+
+    /**
+     * 현재 키의 인스턴스를 프록시 호출 하나 동안 빌림
+     *
+     * @return 대여 (반납 전에는 키가 제거되어도 @PreDestroy가 미뤄짐)
+     * @throws IllegalStateException 리졸버가 키를 주지 못한 경우
+     */
+    @Override
+    public Lease lease() {
+        Object key = currentKey();
+        while (true) {
+            ResidentInstance current = resident(key);
+            if (current.acquire()) {
+                return current;
+            }
+            // 빌리기 직전에 제거됨 → 새 Node로 재시도
+        }
+    }
+
+    /**
+     * 키를 지정해 인스턴스 조회 (없으면 생성)
+     *
+     * @param key 스코프 키 (예: 테넌트 ID)
+     * @return 키에 해당하는 인스턴스
+     */
+    @SuppressWarnings("unchecked")
+    public T get(Object key) {
+        return (T) resident(key).getBean();
+    }
+
+    private Object currentKey() {
+        Object key = resolver().currentKey();
+        if (key == null) {
+            throw new IllegalStateException("No scope key available for keyed bean: " + beanName);
+        }
+        return key;
+    }
+
+    private ResidentInstance resident(Object key) {
+        while (true) {
+            // ============================================================
+            // 빠른 경로: 이미 생성된 키
+            // ============================================================
+            Node node = instances.get(key);
+            if (node != null) {
+                ResidentInstance current = node.instance;
+                if (current != null) {
+                    node.lastAccess = System.nanoTime();
+                    return current;
+                }
+            } else {
+                node = instances.computeIfAbsent(key, k -> new Node());
+            }
+
+            // ============================================================
+            // 느린 경로: Node 단위 락 안에서 생성
+            // ============================================================
+            ResidentInstance current;
+            boolean added = false;
+            synchronized (node) {
+                if (node.evicted) {
+                    continue;  // 생성 직전에 제거됨 → 새 Node로 재시도
+                }
+                current = node.instance;
+                if (current == null) {
+                    current = new ResidentInstance(factory.get(), destroyer);
+                    node.instance = current;
+                    creations.increment();
+                    added = true;
+                }
+                node.lastAccess = System.nanoTime();
+            }
+
+            if (added && instances.size() > maxSize) {
+                evictOverflow(key);
+            }
+            return current;
+        }
+    }
+
+    /**
+     * 키 하나의 인스턴스 제거 (@PreDestroy 호출)
+     *
+     * @param key 제거할 키
+     * @return 인스턴스를 제거했으면 true
+     */
+    public boolean evict(Object key) {
+        Node node = instances.get(key);
+        if (node == null || !remove(key, node)) {
+            return false;
+        }
+        evictions.increment();
+        return true;
+    }
+
+    /**
+     * 모든 키의 인스턴스 제거 (컨테이너 종료 시)
+     */
+    public void destroy() {
+        for (Map.Entry<Object, Node> entry : instances.entrySet()) {
+            remove(entry.getKey(), entry.getValue());
+        }
+    }
+
+    private void evictOverflow(Object keep) {
+        while (instances.size() > maxSize) {
+            Object eldestKey = null;
+            Node eldest = null;
+            for (Map.Entry<Object, Node> entry : instances.entrySet()) {
+                Node candidate = entry.getValue();
+                if (!entry.getKey().equals(keep) && (eldest == null || candidate.lastAccess - eldest.lastAccess < 0)) {
+                    eldestKey = entry.getKey();
+                    eldest = candidate;
+                }
+            }
+            if (eldest == null) {
+                return;
+            }
+            if (remove(eldestKey, eldest)) {
+                evictions.increment();
+            }
+        }
+    }
+
+    private boolean remove(Object key, Node node) {
+        if (!instances.remove(key, node)) {
+            return false;  // 다른 스레드가 이미 제거
+        }
+        ResidentInstance current;
+        synchronized (node) {
+            node.evicted = true;
+            current = node.instance;
+            node.instance = null;
+        }
+        if (current != null) {
+            current.retire();  // 빌려 간 호출이 있으면 마지막 반납 때 @PreDestroy
+        }
+        return true;
+    }
+
+    private ScopeKeyResolver resolver() {
+        ScopeKeyResolver current = resolver;
+        if (current == null) {
+            current = resolverLookup.get();
+            resolver = current;
+        }
+        return current;
+    }
+
+    /**
+     * 키 하나의 보관소
+     */
+    private static final class Node {
+        volatile ResidentInstance instance;
+        volatile long lastAccess;
+        boolean evicted;  // synchronized(this)로 보호
+    }
+}
@@ -0,0 +1,82 @@
+package org.example.minispring.scope;
+
+import org.example.minispring.proxy.LeasedTargetSource;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * 제거될 수 있는 스코프 인스턴스 하나 + 그 인스턴스를 빌려 간 프록시 호출 수
+ *
+ * 제거 규칙:
+ *   - retire(): 새 대여를 막고, 빌려 간 호출이 없으면 즉시 @PreDestroy
+ *   - 빌려 간 호출이 있으면 마지막 release()가 @PreDestroy 호출 (그 호출 스레드에서)
+ *   → 프록시를 통한 호출은 폐기된 인스턴스 위에서 실행되지 않음
+ *
+ * 경쟁:
+ *   - acquire()는 카운트를 올린 뒤 retired를 확인, retire()는 retired를 쓴 뒤 카운트를 확인
+ *     (둘 다 volatile → 적어도 한쪽은 상대를 봄) → 대여 실패 또는 폐기 지연 중 하나가 반드시 일어남
+ *   - 폐기는 CAS로 한 번만
+ *
+ * 한계: getBean()으로 직접 받은 참조는 대여가 아니므로 보호되지 않음
+ */
+final class ResidentInstance implements LeasedTargetSource.Lease {
+
+    private final Object bean;
+    private final Consumer<Object> destroyer;
+    private final AtomicInteger leases = new AtomicInteger();
+    private final AtomicBoolean destroyed = new AtomicBoolean();
+    private volatile boolean retired;
+
+    ResidentInstance(Object bean, Consumer<Object> destroyer) {
+        this.bean = bean;
+        this.destroyer = destroyer;
+    }
+
+    Object getBean() {
+        return bean;
+    }
+
+    /**
+     * 프록시 호출 하나를 위해 빌림
+     *
+     * @return 빌렸으면 true, 이미 제거된 인스턴스면 false (새 인스턴스로 재시도)
+     */
+    boolean acquire() {
+        leases.incrementAndGet();
+        if (retired) {
+            release();
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public Object getTarget() {
+        return bean;
+    }
+
+    @Override
+    public void release() {
+        if (leases.decrementAndGet() == 0 && retired) {
+            destroyOnce();
+        }
+    }
+
+    /**
+     * 제거: 빌려 간 호출이 없으면 지금, 있으면 마지막 반납 때 @PreDestroy
+     */
+    void retire() {
+        retired = true;
+        if (leases.get() == 0) {
+            destroyOnce();
+        }
+    }
+
+    private void destroyOnce() {
+        if (destroyed.compareAndSet(false, true)) {
+            destroyer.accept(bean);
+        }
+    }
+}
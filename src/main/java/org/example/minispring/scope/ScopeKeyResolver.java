@@ -0,0 +1,21 @@
+package org.example.minispring.scope;
+
+/**
+ * keyed 스코프에서 "지금 어떤 키의 인스턴스를 쓸지" 결정하는 리졸버
+ *
+ * 빈으로 등록해 두면 @Keyed(resolver = ...)가 타입으로 찾아 사용
+ *
+ * 구현 예:
+ *   @Component
+ *   public class TenantKeyResolver implements ScopeKeyResolver {
+ *       public Object currentKey() { return TenantContext.currentTenantId(); }
+ *   }
+ */
+@FunctionalInterface
+public interface ScopeKeyResolver {
+
+    /**
+     * @return 현재 호출에 해당하는 키 (null이면 조회 실패)
+     */
+    Object currentKey();
+}
@@ -0,0 +1,77 @@
+package org.example.minispring.scope;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * 문맥 하나(스레드 하나 / 작업 하나)에 묶인 스코프 빈 저장소
+ *
+ * 조회는 소유 스레드에서만 한다고 가정:
+ *   - 빠른 경로 (이미 있는 인스턴스): volatile 배열 읽기 + 인덱스 → 락 없음
+ *   - 느린 경로 (생성) / 폐기: 저장소 모니터 안에서 실행
+ *     → ThreadScope.close()가 다른 스레드에서 폐기해도 생성 중인 상태와 엇갈리지 않음
+ *
+ * 폐기된 저장소는 다시 쓰지 않음: 이후 생성 시도는 IllegalStateException
+ */
+final class ScopedBeanStore {
+
+    // 폐기 시 새 배열로 교체 → 소유 스레드의 빠른 경로는 miss가 되어 느린 경로에서 폐기를 확인
+    private volatile Object[] instances = new Object[8];
+
+    // @PreDestroy를 생성 역순으로 호출하기 위한 생성 순서 기록
+    private final List<Object> created = new ArrayList<>();
+
+    private boolean destroyed;
+
+    Object get(int slot, String beanName, Supplier<?> factory) {
+        Object[] current = instances;
+        if (slot < current.length) {
+            Object bean = current[slot];
+            if (bean != null) {
+                return bean;
+            }
+        }
+        return create(slot, beanName, factory);
+    }
+
+    private synchronized Object create(int slot, String beanName, Supplier<?> factory) {
+        if (destroyed) {
+            throw new IllegalStateException("Scope has already been closed for bean: " + beanName);
+        }
+        Object[] current = instances;
+        if (slot < current.length && current[slot] != null) {
+            return current[slot];
+        }
+
+        Object bean = factory.get();
+        current = instances;
+        if (slot >= current.length) {
+            Object[] grown = new Object[Math.max(slot + 1, current.length * 2)];
+            System.arraycopy(current, 0, grown, 0, current.length);
+            current = grown;
+        }
+        current[slot] = bean;
+        instances = current;  // volatile 쓰기로 슬롯 기록을 게시
+        created.add(bean);
+        return bean;
+    }
+
+    /**
+     * 저장된 인스턴스를 생성 역순으로 폐기 (두 번째 호출부터는 아무것도 하지 않음)
+     *
+     * 하나가 실패해도 나머지는 계속 정리 (destroyer가 예외를 기록하고 삼킴)
+     */
+    synchronized void destroy(Consumer<Object> destroyer) {
+        if (destroyed) {
+            return;
+        }
+        destroyed = true;
+        instances = new Object[0];
+        for (int i = created.size() - 1; i >= 0; i--) {
+            destroyer.accept(created.get(i));
+        }
+        created.clear();
+    }
+}
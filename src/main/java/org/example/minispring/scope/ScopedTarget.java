@@ -0,0 +1,31 @@
+package org.example.minispring.scope;
+
+import org.example.minispring.proxy.TargetSource;
+
+import java.util.function.Supplier;
+
+/**
+ * 스코프 빈 하나의 "현재 인스턴스" 조회기
+ *
+ * 스코프 프록시의 TargetSource이자 getBean()의 조회 경로
+ * 슬롯 번호는 생성 시 한 번만 할당 → 이후 조회는 이름/맵 조회 없이 슬롯 접근만
+ */
+public final class ScopedTarget implements TargetSource {
+
+    private final BeanScope scope;
+    private final int slot;
+    private final String beanName;
+    private final Supplier<?> factory;
+
+    public ScopedTarget(BeanScope scope, String beanName, Supplier<?> factory) {
+        this.scope = scope;
+        this.slot = scope.allocateSlot();
+        this.beanName = beanName;
+        this.factory = factory;
+    }
+
+    @Override
+    public Object getTarget() {
+        return scope.get(slot, beanName, factory);
+    }
+}
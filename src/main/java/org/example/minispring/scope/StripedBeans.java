@@ -0,0 +1,158 @@
+package org.example.minispring.scope;
+
+import org.example.minispring.proxy.TargetSource;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * "striped" 스코프 빈 하나의 인스턴스 묶음 (스트라이프 N개)
+ *
+ * 문제:
+ *   - 카운터, 버퍼, 집계기 같은 쓰기 위주 싱글톤은 모든 스레드가 같은 객체를 갱신
+ *   → 락 / CAS 경합, 캐시 라인 핑퐁
+ *
+ * 해결 (LongAdder와 같은 방식):
+ *   - 인스턴스를 N개 두고 스레드마다 probe 해시로 하나를 골라 씀
+ *   - 쓰기는 대부분 서로 다른 인스턴스로 분산 → 경합 감소
+ *   - 읽기는 모든 스트라이프를 순회하며 합산 (forEach / reduce)
+ *
+ * probe 해시:
+ *   - LongAdder는 ThreadLocalRandom 내부 probe를 쓰지만 외부에서 접근 불가
+ *   - 대신 스레드 ID를 섞은 해시 사용 (스레드마다 고정, ThreadLocal 조회 없음)
+ *
+ * 생성 / 폐기:
+ *   - 스트라이프는 처음 선택될 때 생성 (@PostConstruct 포함)
+ *     → 아직 생성되지 않은 스트라이프는 순회 대상에서 빠짐 (LongAdder의 빈 셀과 같음)
+ *   - 컨테이너 종료 시 모든 스트라이프에 @PreDestroy
+ *
+ * 주의: 스트라이프 하나를 여러 스레드가 공유할 수 있으므로 빈 자체의 스레드 안전성은
+ *       여전히 필요 (경합 빈도만 줄어듦)
+ */
+public final class StripedBeans<T> implements TargetSource, Iterable<T> {
+
+    private final String beanName;
+    private final Supplier<?> factory;
+    private final Consumer<Object> destroyer;
+    private final AtomicReferenceArray<Object> stripes;
+
+    /**
+     * @param beanName 빈 이름
+     * @param factory 스트라이프 생성 (@PostConstruct까지 완료)
+     * @param destroyer 스트라이프 폐기 (@PreDestroy)
+     * @param stripeCount 스트라이프 개수
+     */
+    public StripedBeans(String beanName, Supplier<?> factory, Consumer<Object> destroyer, int stripeCount) {
+        if (stripeCount <= 0) {
+            throw new IllegalArgumentException("Stripe count must be positive: " + beanName);
+        }
+        this.beanName = beanName;
+        this.factory = factory;
+        this.destroyer = destroyer;
+        this.stripes = new AtomicReferenceArray<>(stripeCount);
+    }
+
+    public String getBeanName() {
+        return beanName;
+    }
+
+    /**
+     * @return 스트라이프 개수
+     */
+    public int size() {
+        return stripes.length();
+    }
+
+    /**
+     * 현재 스레드에 배정된 스트라이프 (없으면 생성)
+     *
+     * @return 현재 스레드가 쓸 인스턴스
+     */
+    @SuppressWarnings("unchecked")
+    public T current() {
+        int index = probe(Thread.currentThread()) % stripes.length();
+        Object bean = stripes.get(index);
+        if (bean != null) {
+            return (T) bean;
+        }
+
+        // 경쟁 상태에서 두 스레드가 동시에 만들면 진 쪽 인스턴스는 폐기
+        Object created = factory.get();
+        if (stripes.compareAndSet(index, null, created)) {
+            return (T) created;
+        }
+        destroyer.accept(created);
+        return (T) stripes.get(index);
+    }
+
+    @Override
+    public Object getTarget() {
+        return current();
+    }
+
+    /**
+     * 생성된 모든 스트라이프 순회
+     *
+     * @param action 스트라이프마다 실행할 작업
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEach(Consumer<? super T> action) {
+        for (int i = 0; i < stripes.length(); i++) {
+            Object bean = stripes.get(i);
+            if (bean != null) {
+                action.accept((T) bean);
+            }
+        }
+    }
+
+    /**
+     * 모든 스트라이프를 하나의 값으로 결합 (읽기용)
+     *
+     * @param identity 초기값
+     * @param accumulator (누적값, 스트라이프) → 새 누적값
+     * @param <R> 결과 타입
+     * @return 결합 결과
+     */
+    @SuppressWarnings("unchecked")
+    public <R> R reduce(R identity, BiFunction<R, ? super T, R> accumulator) {
+        R result = identity;
+        for (int i = 0; i < stripes.length(); i++) {
+            Object bean = stripes.get(i);
+            if (bean != null) {
+                result = accumulator.apply(result, (T) bean);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        List<T> snapshot = new ArrayList<>(stripes.length());
+        forEach(snapshot::add);
+        return snapshot.iterator();
+    }
+
+    /**
+     * 모든 스트라이프 폐기 (컨테이너 종료 시 @PreDestroy)
+     */
+    public void destroy() {
+        for (int i = 0; i < stripes.length(); i++) {
+            Object bean = stripes.getAndSet(i, null);
+            if (bean != null) {
+                destroyer.accept(bean);
+            }
+        }
+    }
+
+    private static int probe(Thread thread) {
+        // 연속된 스레드 ID가 인접 스트라이프에 몰리지 않도록 섞음 (골든 비율 곱)
+        long hash = thread.getId() * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & Integer.MAX_VALUE;
+    }
+}
@@ -0,0 +1,120 @@
+package org.example.minispring.scope;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * "thread" 스코프: 스레드마다 인스턴스 1개
+ *
+ * 구조:
+ *   - ThreadLocal<ScopedBeanStore> 하나에 이 스코프의 모든 빈을 슬롯 배열로 보관
+ *   - 조회: ThreadLocal 읽기 1회 + 배열 인덱스 1회
+ *
+ * 종료 (@PreDestroy):
+ *   - end(): 현재 스레드의 인스턴스 정리 + ThreadLocal 제거
+ *   - wrap(task): 작업 실행 후 자동으로 end() → 스레드 풀의 작업 단위 정리에 사용
+ *     (풀 스레드는 죽지 않으므로 정리하지 않으면 인스턴스가 계속 남음)
+ *   - 죽은 스레드: end() 없이 끝난 스레드의 저장소는 다른 스레드가 새 저장소를 만들 때 정리
+ *     → 목록은 스레드를 약한 참조로만 가리킴 (스레드 객체를 붙잡지 않음)
+ *   - close(): 컨테이너 종료 시 아직 정리되지 않은 모든 스레드의 인스턴스 정리
+ *     → 이후 조회는 IllegalStateException (정리된 스레드가 목록 밖에서 새 인스턴스를 만들지 않도록)
+ *     → 저장소의 생성/폐기는 저장소 모니터로 직렬화 (소유 스레드가 생성 중이면 끝난 뒤 폐기)
+ */
+public final class ThreadScope implements BeanScope {
+
+    private final Consumer<Object> destroyer;
+    private final AtomicInteger slots = new AtomicInteger();
+    private final ThreadLocal<ScopedBeanStore> stores = new ThreadLocal<>();
+
+    // 종료 시 / 죽은 스레드의 저장소까지 정리하기 위한 목록 (저장소 → 소유 스레드)
+    private final Map<ScopedBeanStore, WeakReference<Thread>> liveStores = new ConcurrentHashMap<>();
+
+    private volatile boolean closed;
+
+    public ThreadScope(Consumer<Object> destroyer) {
+        this.destroyer = destroyer;
+    }
+
+    @Override
+    public int allocateSlot() {
+        return slots.getAndIncrement();
+    }
+
+    @Override
+    public Object get(int slot, String beanName, Supplier<?> factory) {
+        ScopedBeanStore store = stores.get();
+        if (store == null) {
+            pruneDeadThreads();
+            store = new ScopedBeanStore();
+            liveStores.put(store, new WeakReference<>(Thread.currentThread()));
+            // 등록 후 확인 → close()가 목록을 훑기 전이면 함께 폐기되고, 지난 뒤면 여기서 거부
+            if (closed) {
+                liveStores.remove(store);
+                throw new IllegalStateException("Thread scope is closed: " + beanName);
+            }
+            stores.set(store);
+        }
+        // 폐기된 저장소(close() 이후)는 생성 시도 시 IllegalStateException
+        return store.get(slot, beanName, factory);
+    }
+
+    /**
+     * end() 없이 끝난 스레드의 저장소 정리 (저장소를 새로 만드는 느린 경로에서만 호출)
+     */
+    private void pruneDeadThreads() {
+        for (Map.Entry<ScopedBeanStore, WeakReference<Thread>> entry : liveStores.entrySet()) {
+            Thread owner = entry.getValue().get();
+            if ((owner == null || !owner.isAlive()) && liveStores.remove(entry.getKey(), entry.getValue())) {
+                entry.getKey().destroy(destroyer);
+            }
+        }
+    }
+
+    /**
+     * 현재 스레드의 스코프 종료 (인스턴스 @PreDestroy 후 제거)
+     */
+    public void end() {
+        ScopedBeanStore store = stores.get();
+        if (store == null) {
+            return;
+        }
+        stores.remove();
+        liveStores.remove(store);
+        store.destroy(destroyer);
+    }
+
+    /**
+     * 작업이 끝나면 현재 스레드의 스코프를 종료하도록 감싸기
+     *
+     * @param task 실행할 작업
+     * @return 감싼 작업 (ExecutorService에 제출)
+     */
+    public Runnable wrap(Runnable task) {
+        return () -> {
+            try {
+                task.run();
+            } finally {
+                end();
+            }
+        };
+    }
+
+    /**
+     * 모든 스레드의 남은 인스턴스 정리 (컨테이너 종료 시)
+     *
+     * 이후 이 스코프의 빈 조회는 모든 스레드에서 IllegalStateException
+     */
+    public void close() {
+        closed = true;
+        stores.remove();
+        for (ScopedBeanStore store : liveStores.keySet()) {
+            if (liveStores.remove(store) != null) {  // 동시에 정리 중인 저장소는 한 번만 폐기
+                store.destroy(destroyer);
+            }
+        }
+    }
+}
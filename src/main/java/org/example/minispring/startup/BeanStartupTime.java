@@ -0,0 +1,96 @@
+package org.example.minispring.startup;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 빈 하나의 생성 비용 ("느린 빈" 리포트의 항목)
+ *
+ * total: bean.create 단계 전체 (함께 생성된 의존 빈 포함)
+ * own: 함께 생성된 의존 빈의 bean.create 단계를 뺀 값
+ */
+public final class BeanStartupTime {
+
+    private final String beanName;
+    private final long totalWallNanos;
+    private final long ownWallNanos;
+    private final long ownCpuNanos;
+    private final long ownAllocatedBytes;
+
+    private BeanStartupTime(String beanName, long totalWallNanos, long ownWallNanos,
+                            long ownCpuNanos, long ownAllocatedBytes) {
+        this.beanName = beanName;
+        this.totalWallNanos = totalWallNanos;
+        this.ownWallNanos = ownWallNanos;
+        this.ownCpuNanos = ownCpuNanos;
+        this.ownAllocatedBytes = ownAllocatedBytes;
+    }
+
+    static BeanStartupTime of(StartupStep step) {
+        long wall = step.getWallNanos();
+        long cpu = step.getCpuNanos();
+        long allocated = step.getAllocatedBytes();
+        for (StartupStep nested : nestedBeans(step)) {
+            wall -= nested.getWallNanos();
+            cpu = cpu >= 0 && nested.getCpuNanos() >= 0 ? cpu - nested.getCpuNanos() : -1;
+            allocated = allocated >= 0 && nested.getAllocatedBytes() >= 0 ? allocated - nested.getAllocatedBytes() : -1;
+        }
+        return new BeanStartupTime(step.getTag(), step.getWallNanos(), Math.max(wall, 0), cpu, allocated);
+    }
+
+    /**
+     * 단계 안에서 바로 생성된 의존 빈 (그 빈의 의존 빈은 그 빈의 시간에 포함되므로 제외)
+     */
+    private static List<StartupStep> nestedBeans(StartupStep step) {
+        List<StartupStep> result = new ArrayList<>();
+        for (StartupStep child : step.getChildren()) {
+            if (child.getName().equals(StartupRecorder.BEAN_CREATE)) {
+                if (child.isEnded()) {
+                    result.add(child);
+                }
+            } else {
+                result.addAll(nestedBeans(child));
+            }
+        }
+        return result;
+    }
+
+    public String getBeanName() {
+        return beanName;
+    }
+
+    /**
+     * @return 함께 생성된 의존 빈을 포함한 경과 시간
+     */
+    public long getTotalWallNanos() {
+        return totalWallNanos;
+    }
+
+    /**
+     * @return 빈 자신의 경과 시간
+     */
+    public long getOwnWallNanos() {
+        return ownWallNanos;
+    }
+
+    /**
+     * @return 빈 자신의 CPU 시간 (측정할 수 없으면 -1)
+     */
+    public long getOwnCpuNanos() {
+        return ownCpuNanos;
+    }
+
+    /**
+     * @return 빈 자신이 할당한 바이트 (측정할 수 없으면 -1)
+     */
+    public long getOwnAllocatedBytes() {
+        return ownAllocatedBytes;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s %.1fms (total %.1fms) cpu %.1fms alloc %.1fKB",
+            beanName, ownWallNanos / 1_000_000.0, totalWallNanos / 1_000_000.0,
+            ownCpuNanos / 1_000_000.0, ownAllocatedBytes / 1024.0);
+    }
+}
@@ -0,0 +1,290 @@
+package org.example.minispring.startup;
+
+import org.example.minispring.bean.BeanDefinition;
+import org.example.minispring.bean.ClassMetadata;
+import org.example.minispring.container.BeanFactory;
+import org.example.minispring.processor.ConfigurationClassProcessor.BeanMethodDefinition;
+import org.example.minispring.processor.ConfigurationClassProcessor.ConfigurationClassDefinition;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AppCDS(Application Class-Data Sharing)용 클래스 목록
+ *
+ * 문제:
+ *   - 콜드 스타트에서 빈 클래스의 로딩 / 바이트코드 검증이 큰 비중을 차지
+ *   - JDK 기본 CDS 아카이브에는 JDK 클래스만 들어 있음
+ *
+ * 해결 (학습 실행):
+ *   1. ContextOptions.sharedClassList(파일)로 한 번 refresh (필요하면 singleton 사전 생성까지)
+ *   2. 컨테이너가 다룬 클래스를 -XX:SharedClassListFile 형식으로 저장
+ *   3. createArchive()(java -Xshare:dump)로 아카이브 생성
+ *      → 정적 아카이브는 실행 시 JDK 기본 아카이브를 대체하므로
+ *        JDK 클래스 목록($JAVA_HOME/lib/classlist)을 앞에 합쳐 덤프 (JDK 클래스도 계속 공유)
+ *   4. 실제 실행은 -XX:SharedArchiveFile=아카이브 → 목록의 클래스를 파싱 / 검증 없이 매핑
+ *
+ * 수집 대상:
+ *   - 스캔한 후보 클래스 (컴포넌트가 아닌 클래스 포함)
+ *   - 빈 클래스, 원래 @Configuration 클래스, @Bean 메서드의 반환 / 파라미터 타입
+ *   - 생성자 / @Autowired 주입 타입, 생성된 singleton의 실제 클래스
+ *   - 위 클래스의 부모 클래스 / 인터페이스 / 선언된 어노테이션 타입
+ *   → 컨테이너가 생성한 프록시(합성 / 숨은 클래스)와 JDK 클래스는 제외
+ *     (JDK 클래스는 덤프할 때 JDK 목록에서 합침)
+ *
+ * 파일 형식 (한 줄에 클래스 하나, 내부 이름, 부모 타입이 먼저):
+ *   # minispring shared class list v1
+ *   org/example/demo/UserRepository
+ *   org/example/demo/UserService
+ */
+public final class SharedClassList {
+
+    private static final String HEADER = "# minispring shared class list v1";
+
+    // JDK 기본 CDS 아카이브를 만들 때 쓰인 클래스 목록 (JDK 배포본에 포함)
+    private static final Path JDK_CLASS_LIST = Paths.get(System.getProperty("java.home"), "lib", "classlist");
+
+    private final List<String> classNames;
+
+    private SharedClassList(List<String> classNames) {
+        this.classNames = List.copyOf(classNames);
+    }
+
+    /**
+     * 빈 팩토리에 등록된 빈 정의와 생성된 singleton에서 클래스 수집
+     *
+     * @param beanFactory refresh가 끝난 빈 팩토리
+     * @param scannedClasses 컴포넌트 스캔 후보 클래스 (스캔하지 않았으면 빈 컬렉션)
+     * @return 이름순으로 정렬되고 부모 타입이 먼저 오는 클래스 목록
+     */
+    public static SharedClassList collect(BeanFactory beanFactory, Collection<Class<?>> scannedClasses) {
+        // ================================================================
+        // 1단계: 시작점 클래스 수집 (이름순 → 실행마다 같은 파일)
+        // ================================================================
+        Set<Class<?>> roots = new TreeSet<>(Comparator.comparing(Class::getName));
+        roots.addAll(scannedClasses);
+        for (String beanName : beanFactory.getBeanNamesForType(Object.class)) {
+            addDefinitionTypes(beanFactory.getBeanDefinition(beanName), roots);
+        }
+        for (Object singleton : beanFactory.getSingletons().values()) {
+            roots.add(singleton.getClass());
+        }
+
+        // ================================================================
+        // 2단계: 부모 클래스 / 인터페이스를 먼저 나열
+        // ================================================================
+        Set<Class<?>> ordered = new LinkedHashSet<>();
+        Set<Class<?>> visited = new HashSet<>();
+        for (Class<?> root : roots) {
+            addWithSupertypes(root, visited, ordered);
+        }
+
+        List<String> names = new ArrayList<>(ordered.size());
+        for (Class<?> type : ordered) {
+            names.add(type.getName().replace('.', '/'));
+        }
+        return new SharedClassList(names);
+    }
+
+    /**
+     * 클래스 목록 파일 쓰기 (-XX:SharedClassListFile 형식, 임시 파일에 쓴 뒤 교체)
+     *
+     * @param file 클래스 목록 파일
+     * @throws UncheckedIOException 파일을 쓸 수 없는 경우
+     */
+    public void write(Path file) {
+        List<String> lines = new ArrayList<>(classNames.size() + 1);
+        lines.add(HEADER);
+        lines.addAll(classNames);
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            Path temp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+            Files.write(temp, lines, StandardCharsets.UTF_8);
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write shared class list: " + file, e);
+        }
+    }
+
+    /**
+     * @return 내부 이름 형식의 클래스 목록 (예: "org/example/demo/UserService", 변경 불가)
+     */
+    public List<String> getClassNames() {
+        return classNames;
+    }
+
+    /**
+     * 덤프 입력 파일 쓰기: JDK 클래스 목록 + 애플리케이션 클래스 목록
+     *
+     * 정적 아카이브를 -XX:SharedArchiveFile로 지정하면 JDK 기본 아카이브 대신 쓰이므로
+     * JDK 클래스를 빼고 덤프하면 JDK 클래스가 공유되지 않아 오히려 시작이 느려질 수 있음
+     *
+     * @param classList write()로 쓴 애플리케이션 클래스 목록
+     * @param dumpInput 만들 덤프 입력 파일
+     * @throws UncheckedIOException 파일을 읽거나 쓸 수 없는 경우
+     */
+    public static void writeDumpInput(Path classList, Path dumpInput) {
+        try {
+            List<String> lines = new ArrayList<>();
+            if (Files.isRegularFile(JDK_CLASS_LIST)) {
+                lines.addAll(Files.readAllLines(JDK_CLASS_LIST, StandardCharsets.UTF_8));
+            }
+            lines.addAll(Files.readAllLines(classList, StandardCharsets.UTF_8));
+            Files.write(dumpInput, lines, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write CDS dump input: " + dumpInput, e);
+        }
+    }
+
+    /**
+     * 아카이브 생성 명령 (현재 JVM의 java 실행 파일 사용)
+     *
+     * @param classList 덤프 입력 파일 (writeDumpInput()으로 JDK 목록을 합친 파일)
+     * @param archive 생성할 아카이브 파일
+     * @param classpath 실제 실행과 같은 클래스패스 (다르면 실행 시 아카이브가 무시됨,
+     *                  비어 있지 않은 디렉터리가 있으면 JVM이 덤프를 거부하므로 jar로 구성)
+     * @return java -Xshare:dump 명령과 인자
+     */
+    public static List<String> archiveCommand(Path classList, Path archive, String classpath) {
+        Path java = Paths.get(System.getProperty("java.home"), "bin", "java");
+        return List.of(
+            java.toString(),
+            "-Xshare:dump",
+            "-XX:SharedClassListFile=" + classList.toAbsolutePath(),
+            "-XX:SharedArchiveFile=" + archive.toAbsolutePath(),
+            "-cp", classpath
+        );
+    }
+
+    /**
+     * 클래스 목록으로 CDS 아카이브 생성 (별도 JVM 실행, 끝날 때까지 대기)
+     *
+     * JDK 클래스 목록을 합친 덤프 입력을 임시로 만들어 사용
+     *
+     * @param classList write()로 쓴 애플리케이션 클래스 목록
+     * @param archive 생성할 아카이브 파일
+     * @param classpath 실제 실행과 같은 클래스패스
+     * @param timeout 최대 대기 시간
+     * @throws IllegalStateException 덤프가 실패했거나 제한 시간 안에 끝나지 않은 경우 (JVM 출력 포함)
+     */
+    public static void createArchive(Path classList, Path archive, String classpath, Duration timeout) {
+        Path dumpInput = null;
+        Path output = null;
+        try {
+            dumpInput = Files.createTempFile("minispring-cds", ".classlist");
+            output = Files.createTempFile("minispring-cds", ".log");
+            writeDumpInput(classList, dumpInput);
+            List<String> command = archiveCommand(dumpInput, archive, classpath);
+            Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(output.toFile())
+                .start();
+            if (!process.waitFor(timeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                process.destroyForcibly();
+                throw new IllegalStateException("CDS archive dump timed out after " + timeout + ": " + command);
+            }
+            if (process.exitValue() != 0) {
+                throw new IllegalStateException(
+                    "CDS archive dump failed (exit " + process.exitValue() + "): " + command + "\n"
+                    + Files.readString(output, StandardCharsets.UTF_8)
+                );
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to run CDS archive dump: " + archive, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while creating CDS archive: " + archive, e);
+        } finally {
+            deleteQuietly(dumpInput);
+            deleteQuietly(output);
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            // 임시 파일 정리 실패는 무시
+        }
+    }
+
+    private static void addDefinitionTypes(BeanDefinition definition, Set<Class<?>> types) {
+        types.add(definition.getBeanClass());
+        if (definition instanceof ConfigurationClassDefinition) {
+            types.add(((ConfigurationClassDefinition) definition).getConfigClass());
+        }
+        if (definition instanceof BeanMethodDefinition) {
+            Method method = ((BeanMethodDefinition) definition).getMethod();
+            types.add(method.getDeclaringClass());
+            types.add(method.getReturnType());
+            types.addAll(List.of(method.getParameterTypes()));
+            return;
+        }
+
+        // 생성자 / 주입 지점 분석에 실패하는 빈은 getBean()에서 원래 예외가 나므로 여기서는 건너뜀
+        try {
+            ClassMetadata metadata = ClassMetadata.forClass(definition.getBeanClass());
+            Constructor<?> constructor = metadata.getConstructor();
+            types.addAll(List.of(constructor.getParameterTypes()));
+            types.addAll(List.of(metadata.getInjectionMetadata().getDependencyTypes()));
+        } catch (IllegalStateException e) {
+            // 무시
+        }
+    }
+
+    private static void addWithSupertypes(Class<?> type, Set<Class<?>> visited, Set<Class<?>> ordered) {
+        while (type.isArray()) {
+            type = type.getComponentType();
+        }
+        // 어노테이션끼리는 서로를 메타 어노테이션으로 가질 수 있으므로 방문 표시를 먼저 함
+        if (!isArchivable(type) || !visited.add(type)) {
+            return;
+        }
+        if (type.getSuperclass() != null) {
+            addWithSupertypes(type.getSuperclass(), visited, ordered);
+        }
+        for (Class<?> parent : type.getInterfaces()) {
+            addWithSupertypes(parent, visited, ordered);
+        }
+        for (Annotation annotation : type.getDeclaredAnnotations()) {
+            addWithSupertypes(annotation.annotationType(), visited, ordered);
+        }
+        ordered.add(type);
+    }
+
+    /**
+     * 애플리케이션 클래스 로더로 이름을 다시 찾을 수 있는 클래스만 아카이브 대상
+     * (기본형, JDK 클래스, 런타임에 생성된 프록시 / 람다 클래스 제외)
+     */
+    private static boolean isArchivable(Class<?> type) {
+        return !type.isPrimitive()
+            && !type.isHidden()
+            && !type.isSynthetic()
+            && type.getClassLoader() != null
+            && type.getClassLoader() != ClassLoader.getPlatformClassLoader();
+    }
+}
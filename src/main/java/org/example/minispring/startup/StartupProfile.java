@@ -0,0 +1,140 @@
+package org.example.minispring.startup;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 시작 구간에 사용된 빈 목록 (처음 요청된 순서) + 생성 시간
+ *
+ * 파일 형식 (UTF-8 텍스트, 한 줄에 빈 하나):
+ *   # minispring startup profile v1
+ *   userRepository	1250
+ *   userService	3400
+ *   → 빈 이름 [TAB] 생성 시간(마이크로초, 기록 구간에 생성되지 않았으면 -1)
+ *
+ * 다음 시작 시 이 순서대로 빈을 백그라운드에서 미리 생성 (WarmStarter)
+ */
+public final class StartupProfile {
+
+    private static final String HEADER = "# minispring startup profile v1";
+
+    private final List<Entry> entries;
+
+    public StartupProfile(List<Entry> entries) {
+        this.entries = List.copyOf(entries);
+    }
+
+    /**
+     * 프로파일 파일 읽기
+     *
+     * @param file 프로파일 파일
+     * @return 읽은 프로파일 (파일이 없으면 빈 프로파일)
+     * @throws UncheckedIOException 파일을 읽을 수 없는 경우
+     * @throws IllegalStateException 형식이 맞지 않는 경우
+     */
+    public static StartupProfile read(Path file) {
+        if (!Files.exists(file)) {
+            return new StartupProfile(List.of());
+        }
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read startup profile: " + file, e);
+        }
+
+        List<Entry> entries = new ArrayList<>();
+        for (String line : lines) {
+            if (line.isBlank() || line.startsWith("#")) {
+                continue;
+            }
+            int tab = line.indexOf('\t');
+            if (tab < 0) {
+                throw new IllegalStateException("Malformed startup profile line in " + file + ": " + line);
+            }
+            try {
+                entries.add(new Entry(line.substring(0, tab), Long.parseLong(line.substring(tab + 1).trim())));
+            } catch (NumberFormatException e) {
+                throw new IllegalStateException("Malformed startup profile line in " + file + ": " + line, e);
+            }
+        }
+        return new StartupProfile(entries);
+    }
+
+    /**
+     * 프로파일 파일 쓰기 (임시 파일에 쓴 뒤 교체 → 읽는 쪽이 반쯤 쓴 파일을 보지 않음)
+     *
+     * @param file 프로파일 파일
+     * @throws UncheckedIOException 파일을 쓸 수 없는 경우
+     */
+    public void write(Path file) {
+        List<String> lines = new ArrayList<>(entries.size() + 1);
+        lines.add(HEADER);
+        for (Entry entry : entries) {
+            lines.add(entry.getBeanName() + "\t" + entry.getCreationMicros());
+        }
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            Path temp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+            Files.write(temp, lines, StandardCharsets.UTF_8);
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write startup profile: " + file, e);
+        }
+    }
+
+    /**
+     * @return 처음 요청된 순서대로의 항목 (변경 불가)
+     */
+    public List<Entry> getEntries() {
+        return entries;
+    }
+
+    /**
+     * @return 빈 이름 목록 (처음 요청된 순서)
+     */
+    public List<String> getBeanNames() {
+        List<String> names = new ArrayList<>(entries.size());
+        for (Entry entry : entries) {
+            names.add(entry.getBeanName());
+        }
+        return names;
+    }
+
+    public boolean isEmpty() {
+        return entries.isEmpty();
+    }
+
+    /**
+     * 프로파일 항목 하나
+     */
+    public static final class Entry {
+        private final String beanName;
+        private final long creationMicros;
+
+        public Entry(String beanName, long creationMicros) {
+            this.beanName = beanName;
+            this.creationMicros = creationMicros;
+        }
+
+        public String getBeanName() {
+            return beanName;
+        }
+
+        /**
+         * @return 생성 시간 (마이크로초, 기록 구간에 생성되지 않았으면 -1)
+         */
+        public long getCreationMicros() {
+            return creationMicros;
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package org.example.minispring.startup;
+
+import org.example.minispring.container.BeanAccessListener;
+import org.example.minispring.log.ContainerLogger;
+import org.example.minispring.log.ContainerLogging;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 시작 + 초기 트래픽 구간의 빈 요청 순서와 생성 시간을 기록해 프로파일 파일로 저장
+ *
+ * 동작 흐름:
+ *   1. 컨텍스트 생성 직후 start() → 기록 구간 시작
+ *   2. 구간 안의 getBean() 요청마다 처음 요청된 빈만 순번 기록 (이후 요청은 map 조회 한 번)
+ *   3. 구간이 끝나면 (또는 컨텍스트 종료 시) 프로파일 파일 저장 후 기록 중단
+ *
+ * 기록 제외:
+ *   WarmStarter가 미리 생성하면서 발생한 요청 (프로파일이 스스로를 재생산하지 않도록)
+ */
+public final class StartupProfileRecorder implements BeanAccessListener {
+
+    private static final ContainerLogger LOG = ContainerLogging.getLogger();
+
+    private final Path file;
+    private final long windowNanos;
+
+    private final Map<String, Long> firstRequest = new ConcurrentHashMap<>();
+    private final Map<String, Long> creationNanos = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicBoolean saved = new AtomicBoolean();
+
+    private volatile long startNanos;
+    private volatile boolean recording;
+    private ScheduledExecutorService timer;
+
+    /**
+     * @param file 프로파일을 저장할 파일
+     * @param window 기록 구간 (시작부터 이 시간 동안의 요청을 기록)
+     */
+    public StartupProfileRecorder(Path file, Duration window) {
+        this.file = file;
+        this.windowNanos = window.toNanos();
+    }
+
+    /**
+     * 기록 시작 + 구간 종료 시 저장 예약
+     */
+    public synchronized void start() {
+        startNanos = System.nanoTime();
+        recording = true;
+        timer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "minispring-startup-profile");
+            thread.setDaemon(true);
+            return thread;
+        });
+        timer.schedule(this::save, windowNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void beanRequested(String beanName) {
+        if (isRecording() && !firstRequest.containsKey(beanName)) {
+            firstRequest.putIfAbsent(beanName, sequence.getAndIncrement());
+        }
+    }
+
+    @Override
+    public void beanCreated(String beanName, long nanos) {
+        if (isRecording()) {
+            creationNanos.putIfAbsent(beanName, nanos);
+        }
+    }
+
+    /**
+     * @return 기록 구간 안이고 아직 저장 전이면 true (WarmStarter 스레드는 항상 false)
+     */
+    public boolean isRecording() {
+        return recording
+            && System.nanoTime() - startNanos < windowNanos
+            && !WarmStarter.isWarmStartThread();
+    }
+
+    /**
+     * 지금까지 기록한 내용
+     *
+     * @return 처음 요청된 순서대로 정렬한 프로파일
+     */
+    public StartupProfile snapshot() {
+        List<Map.Entry<String, Long>> ordered = new ArrayList<>(firstRequest.entrySet());
+        ordered.sort(Map.Entry.comparingByValue(Comparator.naturalOrder()));
+
+        List<StartupProfile.Entry> entries = new ArrayList<>(ordered.size());
+        for (Map.Entry<String, Long> request : ordered) {
+            Long nanos = creationNanos.get(request.getKey());
+            entries.add(new StartupProfile.Entry(
+                request.getKey(), nanos != null ? TimeUnit.NANOSECONDS.toMicros(nanos) : -1
+            ));
+        }
+        return new StartupProfile(entries);
+    }
+
+    /**
+     * 기록을 멈추고 프로파일 파일 저장 (한 번만 저장됨)
+     */
+    public void save() {
+        if (!saved.compareAndSet(false, true)) {
+            return;
+        }
+        recording = false;
+        try {
+            snapshot().write(file);
+        } catch (RuntimeException e) {
+            LOG.warn("Failed to save startup profile: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 아직 저장하지 않았으면 저장하고 타이머 정리 (컨텍스트 종료 시)
+     */
+    public synchronized void close() {
+        save();
+        if (timer != null) {
+            timer.shutdownNow();
+        }
+    }
+}
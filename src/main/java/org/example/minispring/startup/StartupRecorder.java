@@ -0,0 +1,41 @@
+package org.example.minispring.startup;
+
+/**
+ * 시작 과정의 단계(refresh, 스캔, 빈 생성 등)를 중첩 구조로 기록하는 인터페이스
+ *
+ * 사용 방법:
+ *   StartupStep step = recorder.start("bean.create", beanName);
+ *   try {
+ *       ...
+ *   } finally {
+ *       step.end();
+ *   }
+ *
+ * 구현체:
+ *   - NONE: 기록하지 않음 (기본값, 공유 StartupStep을 반환하므로 할당 / 측정 없음)
+ *   - StartupTimeline: 단계마다 경과 시간 / CPU 시간 / 할당 바이트 기록
+ */
+public interface StartupRecorder {
+
+    // 컨테이너가 기록하는 단계 이름
+    String REFRESH = "refresh";
+    String SCAN = "context.scan";
+    String CONFIGURATION_CLASSES = "context.configuration-classes";
+    String BEAN_CREATE = "bean.create";
+    String BEAN_DEPENDENCIES = "bean.dependencies";
+    String BEAN_POST_CONSTRUCT = "bean.post-construct";
+
+    /**
+     * 아무것도 기록하지 않는 recorder
+     */
+    StartupRecorder NONE = (name, tag) -> StartupStep.DISABLED;
+
+    /**
+     * 단계 시작 (현재 스레드에서 진행 중인 단계의 자식이 됨)
+     *
+     * @param name 단계 종류 (예: "bean.create")
+     * @param tag 단계 대상 (예: 빈 이름, 없으면 null)
+     * @return 끝날 때 end()를 호출할 단계
+     */
+    StartupStep start(String name, String tag);
+}
@@ -0,0 +1,69 @@
+package org.example.minispring.startup;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 컨텍스트 시작 과정의 측정 결과
+ *
+ * 보관 정보:
+ *   - refresh() 전체 소요 시간
+ *   - @WarmUp 메서드별 반복 횟수 / 소요 시간 / 실패
+ *   - 웜업 시간 예산 초과 여부
+ */
+public final class StartupReport {
+
+    private final Duration refreshTime;
+    private final List<WarmUpResult> warmUps;
+    private final boolean warmUpBudgetExceeded;
+
+    public StartupReport(Duration refreshTime, List<WarmUpResult> warmUps, boolean warmUpBudgetExceeded) {
+        this.refreshTime = refreshTime;
+        this.warmUps = List.copyOf(warmUps);
+        this.warmUpBudgetExceeded = warmUpBudgetExceeded;
+    }
+
+    /**
+     * @return refresh() 전체 소요 시간 (웜업 포함)
+     */
+    public Duration getRefreshTime() {
+        return refreshTime;
+    }
+
+    /**
+     * @return @WarmUp 메서드별 결과 (변경 불가)
+     */
+    public List<WarmUpResult> getWarmUps() {
+        return warmUps;
+    }
+
+    /**
+     * 빈 이름으로 웜업 결과 조회
+     *
+     * @param beanName 빈 이름
+     * @return 해당 빈의 @WarmUp 메서드 결과 목록 (없으면 빈 리스트)
+     */
+    public List<WarmUpResult> getWarmUps(String beanName) {
+        return warmUps.stream().filter(result -> result.getBeanName().equals(beanName)).toList();
+    }
+
+    /**
+     * @return 시간 예산 안에 끝나지 않은 웜업이 있으면 true
+     */
+    public boolean isWarmUpBudgetExceeded() {
+        return warmUpBudgetExceeded;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder("Startup report: refresh took ")
+            .append(refreshTime.toMillis()).append("ms");
+        if (warmUpBudgetExceeded) {
+            text.append(" (warm-up budget exceeded)");
+        }
+        for (WarmUpResult warmUp : warmUps) {
+            text.append(System.lineSeparator()).append("  warm-up ").append(warmUp);
+        }
+        return text.toString();
+    }
+}
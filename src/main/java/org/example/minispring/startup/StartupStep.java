@@ -0,0 +1,173 @@
+package org.example.minispring.startup;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 시작 과정의 단계 하나 (자식 단계 포함)
+ *
+ * 측정 값 (모두 자식 단계 포함):
+ *   - 경과 시간 (System.nanoTime)
+ *   - CPU 시간 (현재 스레드의 CPU 시간)
+ *   - 할당 바이트 (com.sun.management.ThreadMXBean의 현재 스레드 할당량)
+ *   → 시작 스레드와 종료 스레드가 다르거나 JVM이 지원하지 않으면 CPU / 할당 값은 -1
+ */
+public final class StartupStep {
+
+    // 기록하지 않을 때 공유하는 단계 (end()는 아무것도 하지 않음)
+    static final StartupStep DISABLED = new StartupStep(null, null, "disabled", null);
+
+    private static final com.sun.management.ThreadMXBean THREADS = threadMXBean();
+
+    private final StartupTimeline timeline;
+    private final StartupStep parent;
+    private final String name;
+    private final String tag;
+    private final List<StartupStep> children = new ArrayList<>();
+
+    private final Thread thread;
+    private final long startWall;
+    private final long startCpu;
+    private final long startAllocated;
+
+    // 시작 시점에 이 스레드에서 진행 중이던 단계 (끝나면 되돌릴 값, StartupTimeline이 설정)
+    StartupStep previousOnThread;
+
+    private volatile boolean ended;
+    private long wallNanos;
+    private long cpuNanos = -1;
+    private long allocatedBytes = -1;
+
+    StartupStep(StartupTimeline timeline, StartupStep parent, String name, String tag) {
+        this.timeline = timeline;
+        this.parent = parent;
+        this.name = name;
+        this.tag = tag;
+        if (timeline == null) {
+            this.thread = null;
+            this.startWall = 0L;
+            this.startCpu = -1;
+            this.startAllocated = -1;
+            return;
+        }
+        this.thread = Thread.currentThread();
+        this.startCpu = currentCpuNanos();
+        this.startAllocated = currentAllocatedBytes();
+        this.startWall = System.nanoTime();
+    }
+
+    /**
+     * 단계 종료 (측정 값 확정, 현재 스레드의 진행 중 단계를 부모로 되돌림)
+     *
+     * 두 번째 호출부터는 무시
+     */
+    public void end() {
+        if (timeline == null || ended) {
+            return;
+        }
+        wallNanos = System.nanoTime() - startWall;
+        if (Thread.currentThread() == thread) {
+            long cpu = currentCpuNanos();
+            long allocated = currentAllocatedBytes();
+            cpuNanos = cpu >= 0 && startCpu >= 0 ? cpu - startCpu : -1;
+            allocatedBytes = allocated >= 0 && startAllocated >= 0 ? allocated - startAllocated : -1;
+        }
+        ended = true;
+        timeline.ended(this);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return 단계 대상 (빈 이름 등, 없으면 null)
+     */
+    public String getTag() {
+        return tag;
+    }
+
+    public StartupStep getParent() {
+        return parent;
+    }
+
+    /**
+     * @return 자식 단계 (시작 순서, 호출 시점의 복사본)
+     */
+    public List<StartupStep> getChildren() {
+        synchronized (children) {
+            return List.copyOf(children);
+        }
+    }
+
+    public boolean isEnded() {
+        return ended;
+    }
+
+    /**
+     * @return 경과 시간 (자식 포함, 끝나지 않았으면 0)
+     */
+    public Duration getWallTime() {
+        return Duration.ofNanos(wallNanos);
+    }
+
+    public long getWallNanos() {
+        return wallNanos;
+    }
+
+    /**
+     * @return 이 스레드의 CPU 시간 (자식 포함, 측정할 수 없으면 -1)
+     */
+    public long getCpuNanos() {
+        return cpuNanos;
+    }
+
+    /**
+     * @return 이 스레드가 할당한 바이트 (자식 포함, 측정할 수 없으면 -1)
+     */
+    public long getAllocatedBytes() {
+        return allocatedBytes;
+    }
+
+    void addChild(StartupStep child) {
+        synchronized (children) {
+            children.add(child);
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder(name);
+        if (tag != null) {
+            text.append(" [").append(tag).append(']');
+        }
+        text.append(String.format(" %.1fms", wallNanos / 1_000_000.0));
+        if (cpuNanos >= 0) {
+            text.append(String.format(" cpu %.1fms", cpuNanos / 1_000_000.0));
+        }
+        if (allocatedBytes >= 0) {
+            text.append(String.format(" alloc %.1fKB", allocatedBytes / 1024.0));
+        }
+        return text.toString();
+    }
+
+    private static long currentCpuNanos() {
+        return THREADS != null && THREADS.isCurrentThreadCpuTimeSupported() ? THREADS.getCurrentThreadCpuTime() : -1;
+    }
+
+    private static long currentAllocatedBytes() {
+        return THREADS != null && THREADS.isThreadAllocatedMemorySupported() && THREADS.isThreadAllocatedMemoryEnabled()
+            ? THREADS.getCurrentThreadAllocatedBytes()
+            : -1;
+    }
+
+    private static com.sun.management.ThreadMXBean threadMXBean() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean) {
+            return (com.sun.management.ThreadMXBean) bean;
+        }
+        return null;  // HotSpot 계열이 아닌 JVM
+    }
+}
@@ -0,0 +1,140 @@
+package org.example.minispring.startup;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 시작 단계를 트리로 기록하는 StartupRecorder
+ *
+ * 트리 구성:
+ *   - 스레드마다 진행 중인 단계를 ThreadLocal로 추적 → 새 단계는 그 단계의 자식
+ *   - 진행 중인 단계가 없는 스레드(병렬 사전 생성 워커 등)의 단계는
+ *     진행 중인 최상위 단계(보통 refresh)의 자식으로 붙음
+ *
+ * 결과:
+ *   - getRoots(): 최상위 단계 목록 (자식 단계로 전체 트리 탐색)
+ *   - getSlowestBeans(): 빈별 생성 시간 (함께 생성된 의존 빈 제외) 내림차순
+ *   - format(): 들여쓰기 된 트리 텍스트
+ */
+public final class StartupTimeline implements StartupRecorder {
+
+    private final ThreadLocal<StartupStep> current = new ThreadLocal<>();
+    private final List<StartupStep> roots = new ArrayList<>();
+
+    // 다른 스레드에서 시작된 단계가 붙을 부모
+    private volatile StartupStep outermost;
+
+    @Override
+    public StartupStep start(String name, String tag) {
+        StartupStep previous = current.get();
+        StartupStep parent = previous != null ? previous : outermost;
+
+        StartupStep step = new StartupStep(this, parent, name, tag);
+        step.previousOnThread = previous;
+        if (parent != null) {
+            parent.addChild(step);
+        } else {
+            synchronized (roots) {
+                roots.add(step);
+            }
+            if (outermost == null) {
+                outermost = step;
+            }
+        }
+        current.set(step);
+        return step;
+    }
+
+    /**
+     * StartupStep.end()에서 호출 - 이 스레드의 진행 중 단계를 시작 전 값으로 되돌림
+     */
+    void ended(StartupStep step) {
+        if (current.get() == step) {
+            if (step.previousOnThread != null) {
+                current.set(step.previousOnThread);
+            } else {
+                current.remove();
+            }
+        }
+        if (outermost == step) {
+            outermost = null;
+        }
+    }
+
+    /**
+     * @return 최상위 단계 (시작 순서)
+     */
+    public List<StartupStep> getRoots() {
+        synchronized (roots) {
+            return List.copyOf(roots);
+        }
+    }
+
+    /**
+     * 이름이 같은 모든 단계 (트리 전체, 깊이 우선)
+     *
+     * @param name 단계 이름 (예: StartupRecorder.BEAN_CREATE)
+     * @return 끝난 단계 목록
+     */
+    public List<StartupStep> getSteps(String name) {
+        List<StartupStep> result = new ArrayList<>();
+        for (StartupStep root : getRoots()) {
+            collect(root, name, result);
+        }
+        return result;
+    }
+
+    /**
+     * 생성 시간이 긴 빈 순서의 리포트
+     *
+     * 빈 자신의 시간 = bean.create 단계 - 그 안에서 함께 생성된 의존 빈의 bean.create 단계
+     * (생성자, 주입, @PostConstruct, 의존성 해결 자체의 비용만 남음)
+     *
+     * @param limit 최대 항목 수
+     * @return 빈 자신의 경과 시간 내림차순
+     */
+    public List<BeanStartupTime> getSlowestBeans(int limit) {
+        List<BeanStartupTime> beans = new ArrayList<>();
+        for (StartupStep step : getSteps(BEAN_CREATE)) {
+            beans.add(BeanStartupTime.of(step));
+        }
+        beans.sort(Comparator.comparingLong(BeanStartupTime::getOwnWallNanos).reversed());
+        return beans.size() > limit ? List.copyOf(beans.subList(0, limit)) : beans;
+    }
+
+    /**
+     * @return 들여쓰기 된 단계 트리 (끝난 단계만)
+     */
+    public String format() {
+        StringBuilder text = new StringBuilder();
+        for (StartupStep root : getRoots()) {
+            format(root, 0, text);
+        }
+        return text.toString();
+    }
+
+    @Override
+    public String toString() {
+        return format();
+    }
+
+    private static void collect(StartupStep step, String name, List<StartupStep> result) {
+        if (step.isEnded() && step.getName().equals(name)) {
+            result.add(step);
+        }
+        for (StartupStep child : step.getChildren()) {
+            collect(child, name, result);
+        }
+    }
+
+    private static void format(StartupStep step, int depth, StringBuilder text) {
+        if (!step.isEnded()) {
+            return;
+        }
+        text.append("  ".repeat(depth)).append(step).append(System.lineSeparator());
+        for (StartupStep child : step.getChildren()) {
+            format(child, depth + 1, text);
+        }
+    }
+}
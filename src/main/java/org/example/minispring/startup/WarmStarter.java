@@ -0,0 +1,151 @@
+package org.example.minispring.startup;
+
+import org.example.minispring.bean.BeanDefinition;
+import org.example.minispring.container.BeanFactory;
+import org.example.minispring.log.ContainerLogger;
+import org.example.minispring.log.ContainerLogging;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 시작 프로파일에 기록된 빈을 기록된 순서대로 백그라운드에서 미리 생성
+ *
+ * 역할:
+ *   - 지난 실행에서 시작 / 초기 트래픽 구간에 쓰인 빈만 미리 생성
+ *     → 첫 요청 전에 트래픽에 필요한 빈이 준비됨
+ *     → 한 번도 쓰이지 않은 빈은 계속 지연 생성
+ *
+ * 동작 흐름:
+ *   1. 프로파일 항목 중 지금도 등록되어 있는 singleton만 선택
+ *   2. 데몬 스레드 풀(최대 parallelism개)에 기록된 순서대로 getBean() 제출
+ *   3. 모든 작업이 끝나면 반환된 future 완료 + 스레드 풀 종료
+ *
+ * 실패 처리:
+ *   미리 생성하다 실패한 빈은 건너뜀 (실제 요청 시 getBean()이 같은 예외를 다시 보고)
+ *
+ * 중단 (컨테이너 종료 시 stop()):
+ *   - 아직 시작하지 않은 작업은 건너뛰고, 생성 중인 빈은 끝날 때까지 기다림
+ *   → 정리 중인 컨테이너에 새 singleton을 만들지 않음
+ */
+public final class WarmStarter {
+
+    private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+    private static final ContainerLogger LOG = ContainerLogging.getLogger();
+
+    private final ExecutorService executor;
+    private final CompletableFuture<Void> completion;
+    private volatile boolean stopped;
+
+    private WarmStarter(ExecutorService executor, CompletableFuture<Void> completion) {
+        this.executor = executor;
+        this.completion = completion;
+    }
+
+    /**
+     * 백그라운드 미리 생성 시작 (기다리지 않음)
+     *
+     * @param beanFactory 빈을 생성할 팩토리
+     * @param profile 지난 실행의 시작 프로파일
+     * @param parallelism 동시에 생성할 최대 빈 개수
+     * @return 진행 중인 웜 스타트 (완료 future 조회 / 중단)
+     */
+    public static WarmStarter start(BeanFactory beanFactory, StartupProfile profile, int parallelism) {
+        // ================================================================
+        // 1단계: 대상 선택 (삭제되었거나 singleton이 아닌 빈 제외)
+        // ================================================================
+        List<String> targets = new ArrayList<>();
+        for (String beanName : profile.getBeanNames()) {
+            if (beanFactory.containsBean(beanName)) {
+                BeanDefinition definition = beanFactory.getBeanDefinition(beanName);
+                if (definition.isSingleton()) {
+                    targets.add(beanName);
+                }
+            }
+        }
+        if (targets.isEmpty()) {
+            return new WarmStarter(null, CompletableFuture.completedFuture(null));
+        }
+
+        // ================================================================
+        // 2단계: 기록된 순서대로 제출
+        // ================================================================
+        ExecutorService executor = Executors.newFixedThreadPool(
+            Math.min(parallelism, targets.size()), WarmStartThread::new
+        );
+        CompletableFuture<?>[] tasks = new CompletableFuture<?>[targets.size()];
+        CompletableFuture<Void> completion = new CompletableFuture<>();
+        WarmStarter warmStarter = new WarmStarter(executor, completion);
+        for (int i = 0; i < targets.size(); i++) {
+            String beanName = targets.get(i);
+            tasks[i] = CompletableFuture.runAsync(() -> warmStarter.warm(beanFactory, beanName), executor);
+        }
+
+        // ================================================================
+        // 3단계: 완료 후 스레드 풀 정리
+        // ================================================================
+        CompletableFuture.allOf(tasks).whenComplete((done, error) -> {
+            executor.shutdown();
+            completion.complete(null);
+        });
+        return warmStarter;
+    }
+
+    /**
+     * @return 모든 미리 생성 작업이 끝나면(또는 중단 후 남은 작업을 건너뛰면) 완료되는 future
+     */
+    public CompletableFuture<Void> getCompletion() {
+        return completion;
+    }
+
+    /**
+     * 웜 스타트 중단: 남은 작업은 건너뛰고 생성 중인 빈이 끝나기를 기다림
+     *
+     * @param timeout 최대 대기 시간
+     * @return 제한 시간 안에 모든 작업 스레드가 끝났으면 true
+     */
+    public boolean stop(Duration timeout) {
+        stopped = true;
+        if (executor == null) {
+            return true;
+        }
+        executor.shutdown();
+        try {
+            return executor.awaitTermination(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * @return 현재 스레드가 미리 생성 작업 스레드면 true
+     */
+    static boolean isWarmStartThread() {
+        return Thread.currentThread() instanceof WarmStartThread;
+    }
+
+    private void warm(BeanFactory beanFactory, String beanName) {
+        if (stopped) {
+            return;  // 컨테이너 종료 중 → 새로 만들지 않음
+        }
+        try {
+            beanFactory.getBean(beanName);
+        } catch (RuntimeException e) {
+            LOG.warn("Warm start skipped bean '{}': {}", beanName, e.getMessage());
+        }
+    }
+
+    private static final class WarmStartThread extends Thread {
+        WarmStartThread(Runnable runnable) {
+            super(runnable, "minispring-warm-start-" + THREAD_COUNTER.incrementAndGet());
+            setDaemon(true);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package org.example.minispring.startup;
+
+import java.time.Duration;
+
+/**
+ * @WarmUp 메서드 하나의 실행 결과 (시작 리포트 항목)
+ */
+public final class WarmUpResult {
+
+    private final String beanName;
+    private final String methodName;
+    private final int requestedIterations;
+    private final int completedIterations;
+    private final long elapsedNanos;
+    private final String failure;
+
+    public WarmUpResult(String beanName, String methodName, int requestedIterations,
+                        int completedIterations, long elapsedNanos, String failure) {
+        this.beanName = beanName;
+        this.methodName = methodName;
+        this.requestedIterations = requestedIterations;
+        this.completedIterations = completedIterations;
+        this.elapsedNanos = elapsedNanos;
+        this.failure = failure;
+    }
+
+    public String getBeanName() {
+        return beanName;
+    }
+
+    public String getMethodName() {
+        return methodName;
+    }
+
+    public int getRequestedIterations() {
+        return requestedIterations;
+    }
+
+    /**
+     * @return 실제로 끝난 반복 횟수 (시간 예산 초과 / 실패 시 요청보다 적음)
+     */
+    public int getCompletedIterations() {
+        return completedIterations;
+    }
+
+    public Duration getElapsed() {
+        return Duration.ofNanos(elapsedNanos);
+    }
+
+    /**
+     * @return 요청한 횟수를 모두 실행했으면 true
+     */
+    public boolean isCompleted() {
+        return completedIterations == requestedIterations;
+    }
+
+    /**
+     * @return 실패 메시지 (실패하지 않았으면 null)
+     */
+    public String getFailure() {
+        return failure;
+    }
+
+    @Override
+    public String toString() {
+        return beanName + "." + methodName + "() " + completedIterations + "/" + requestedIterations
+            + " iterations in " + elapsedNanos / 1_000_000 + "ms"
+            + (failure != null ? " (failed: " + failure + ")" : "");
+    }
+}
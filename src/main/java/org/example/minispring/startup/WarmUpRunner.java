@@ -0,0 +1,225 @@
+package org.example.minispring.startup;
+
+import org.example.minispring.annotation.WarmUp;
+import org.example.minispring.bean.BeanDefinition;
+import org.example.minispring.bean.ClassMetadata;
+import org.example.minispring.container.BeanFactory;
+import org.example.minispring.log.ContainerLogger;
+import org.example.minispring.log.ContainerLogging;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * @WarmUp 메서드를 빈별로 병렬 실행해 JIT 컴파일을 유도
+ *
+ * 동작 흐름:
+ *   1. @Lazy가 아닌 singleton 중 @WarmUp 메서드가 있는 빈 선택 (메서드 형태 검증)
+ *   2. 빈마다 작업 하나를 스레드 풀(최대 parallelism개)에 제출
+ *      → 빈 조회(필요하면 생성) 후 @WarmUp 메서드를 차례로 iterations번 호출
+ *   3. 시간 예산(deadline)까지 완료를 기다림
+ *      → 예산을 넘기면 각 작업은 다음 반복 전에 멈추고, 끝나지 않은 작업은 인터럽트
+ *   4. 메서드별 결과(반복 횟수, 소요 시간, 실패) 반환
+ *
+ * 성능 포인트:
+ *   - 호출은 빈에 바인딩된 MethodHandle.invokeExact() → 리플렉션 오버헤드 없이
+ *     실제 호출과 같은 코드 경로가 컴파일됨
+ */
+public final class WarmUpRunner {
+
+    private static final MethodType WARM_UP_TYPE = MethodType.methodType(void.class);
+    private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+    private static final ContainerLogger LOG = ContainerLogging.getLogger();
+
+    private WarmUpRunner() {
+    }
+
+    /**
+     * 모든 @WarmUp 메서드 실행 (시간 예산까지 대기)
+     *
+     * @param beanFactory 빈을 조회할 팩토리
+     * @param budget 전체 웜업 시간 예산
+     * @param parallelism 동시에 웜업할 최대 빈 개수
+     * @return 메서드별 실행 결과 (@WarmUp 메서드가 없으면 빈 리스트)
+     * @throws IllegalStateException @WarmUp 메서드에 파라미터가 있거나 static인 경우
+     */
+    public static List<WarmUpResult> run(BeanFactory beanFactory, Duration budget, int parallelism) {
+        // ================================================================
+        // 1단계: 대상 빈과 메서드 수집
+        // ================================================================
+        List<BeanWarmUp> targets = new ArrayList<>();
+        for (String beanName : beanFactory.getBeanNamesForType(Object.class)) {
+            BeanDefinition definition = beanFactory.getBeanDefinition(beanName);
+            if (!definition.isSingleton() || definition.isLazyInit()) {
+                continue;
+            }
+            List<Method> methods = ClassMetadata.forClass(definition.getBeanClass()).getWarmUpMethods();
+            if (!methods.isEmpty()) {
+                targets.add(new BeanWarmUp(beanName, methods));
+            }
+        }
+        if (targets.isEmpty()) {
+            return List.of();
+        }
+
+        // ================================================================
+        // 2단계: 빈별 작업 제출
+        // ================================================================
+        long deadline = System.nanoTime() + budget.toNanos();
+        ExecutorService executor = Executors.newFixedThreadPool(
+            Math.min(parallelism, targets.size()),
+            runnable -> {
+                Thread thread = new Thread(runnable, "minispring-warm-up-" + THREAD_COUNTER.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }
+        );
+        CompletableFuture<?>[] tasks = new CompletableFuture<?>[targets.size()];
+        for (int i = 0; i < targets.size(); i++) {
+            BeanWarmUp target = targets.get(i);
+            tasks[i] = CompletableFuture.runAsync(() -> target.run(beanFactory, deadline), executor);
+        }
+
+        // ================================================================
+        // 3단계: 시간 예산까지 대기
+        // ================================================================
+        try {
+            CompletableFuture.allOf(tasks).get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException | ExecutionException e) {
+            // 작업 내부에서 실패를 기록하므로 여기서는 시간 초과만 의미 있음
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // ================================================================
+        // 4단계: 결과 수집
+        // ================================================================
+        List<WarmUpResult> results = new ArrayList<>();
+        for (BeanWarmUp target : targets) {
+            target.collect(results);
+        }
+        return results;
+    }
+
+    /**
+     * 빈 하나의 웜업 작업 (진행 상황은 다른 스레드에서 읽으므로 volatile)
+     */
+    private static final class BeanWarmUp {
+        private final String beanName;
+        private final List<Method> methods;
+        private final int[] iterations;
+        private final MethodHandle[] handles;
+
+        // 메서드별 결과는 currentMethod(volatile)를 넘기기 전에 기록 → 읽는 쪽은 currentMethod를 먼저 읽음
+        private final int[] completed;
+        private final long[] elapsedNanos;
+        private final String[] failures;
+
+        // 실행 중인 메서드 인덱스 (-1: 시작 전, methods.size(): 모두 끝남)
+        private volatile int currentMethod = -1;
+        private volatile int currentCompleted;
+        private volatile long currentStartNanos;
+
+        BeanWarmUp(String beanName, List<Method> methods) {
+            this.beanName = beanName;
+            this.methods = methods;
+            this.iterations = new int[methods.size()];
+            this.handles = new MethodHandle[methods.size()];
+            this.completed = new int[methods.size()];
+            this.elapsedNanos = new long[methods.size()];
+            this.failures = new String[methods.size()];
+            for (int i = 0; i < methods.size(); i++) {
+                Method method = methods.get(i);
+                if (method.getParameterCount() != 0 || Modifier.isStatic(method.getModifiers())) {
+                    throw new IllegalStateException(
+                        "@WarmUp method must be a non-static method without parameters: " + method
+                    );
+                }
+                iterations[i] = method.getAnnotation(WarmUp.class).iterations();
+            }
+        }
+
+        void run(BeanFactory beanFactory, long deadline) {
+            Object bean;
+            try {
+                bean = beanFactory.getBean(beanName);
+                for (int i = 0; i < methods.size(); i++) {
+                    handles[i] = MethodHandles.privateLookupIn(methods.get(i).getDeclaringClass(), MethodHandles.lookup())
+                        .unreflect(methods.get(i))
+                        .bindTo(bean)
+                        .asType(WARM_UP_TYPE);
+                }
+            } catch (RuntimeException | IllegalAccessException e) {
+                Arrays.fill(failures, e.toString());
+                LOG.warn("Warm-up skipped bean '{}'", beanName, e);
+                currentMethod = methods.size();
+                return;
+            }
+
+            for (int i = 0; i < methods.size(); i++) {
+                currentStartNanos = System.nanoTime();
+                currentCompleted = 0;
+                currentMethod = i;
+                int done = 0;
+                try {
+                    MethodHandle handle = handles[i];
+                    while (done < iterations[i] && System.nanoTime() < deadline) {
+                        handle.invokeExact();
+                        currentCompleted = ++done;
+                    }
+                } catch (InterruptedException e) {
+                    // 예산 초과로 shutdownNow()가 인터럽트 → 실패가 아닌 시간 초과 (completed < iterations)
+                    Thread.currentThread().interrupt();
+                    if (System.nanoTime() < deadline) {
+                        failures[i] = e.toString();
+                    }
+                } catch (Throwable e) {
+                    failures[i] = e.toString();
+                    LOG.warn("Warm-up failed: {}.{}()", beanName, methods.get(i).getName(), e);
+                }
+                completed[i] = done;
+                elapsedNanos[i] = System.nanoTime() - currentStartNanos;
+            }
+            currentMethod = methods.size();
+        }
+
+        void collect(List<WarmUpResult> results) {
+            int finished = currentMethod;
+            for (int i = 0; i < methods.size(); i++) {
+                int done;
+                long elapsed;
+                if (i < finished) {
+                    done = completed[i];
+                    elapsed = elapsedNanos[i];
+                } else if (i == finished) {
+                    done = currentCompleted;  // 시간 예산을 넘겨 아직 실행 중인 메서드
+                    elapsed = System.nanoTime() - currentStartNanos;
+                } else {
+                    done = 0;
+                    elapsed = 0;
+                }
+                // 끝나지 않은 메서드의 실패는 예산 초과로 인한 인터럽트 → 실패가 아닌 시간 초과로 보고
+                String failure = i < finished ? failures[i] : null;
+                results.add(new WarmUpResult(
+                    beanName, methods.get(i).getName(), iterations[i], done, elapsed, failure
+                ));
+            }
+        }
+    }
+}
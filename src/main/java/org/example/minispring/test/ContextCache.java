@@ -0,0 +1,247 @@
+package org.example.minispring.test;
+
+import org.example.minispring.container.AnnotationConfigApplicationContext;
+import org.example.minispring.log.ContainerLogger;
+import org.example.minispring.log.ContainerLogging;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * 테스트 실행 전체가 공유하는 컨텍스트 캐시 (LRU)
+ *
+ * 문제:
+ *   - 테스트 클래스마다 new AnnotationConfigApplicationContext(...) → 같은 스캔 / 빈 생성을 반복
+ *
+ * 해결:
+ *   - ContextKey(설정)별로 컨텍스트를 하나만 만들고 이후 테스트 클래스는 재사용
+ *   - 최대 개수를 넘으면 가장 오래 사용하지 않은 컨텍스트를 닫고 제거
+ *   - 테스트 실행이 끝나면(JUnit 루트 Store 정리) 남은 컨텍스트를 모두 닫음
+ *
+ * 스레드 안전:
+ *   - 키마다 CompletableFuture 하나를 computeIfAbsent로 등록 → 키당 컨텍스트 1개
+ *   - 컨텍스트 생성은 어떤 락도 잡지 않고 수행 (다른 키의 생성 / 조회를 막지 않음)
+ *   - 같은 키를 동시에 조회한 스레드는 먼저 등록한 스레드의 생성 결과를 기다림
+ *   - 생성이 실패하면 future를 지우고 예외를 다시 던짐 (다음 조회에서 재시도)
+ *   - LRU 순서만 짧은 동기화 블록으로 갱신, 제거된 컨텍스트는 락 밖에서 닫음
+ */
+final class ContextCache implements ExtensionContext.Store.CloseableResource {
+
+    /**
+     * 최대 캐시 개수를 지정하는 시스템 프로퍼티 (기본값: 32)
+     */
+    static final String MAX_SIZE_PROPERTY = "minispring.test.context-cache.max-size";
+
+    private static final int DEFAULT_MAX_SIZE = 32;
+    private static final ContainerLogger LOG = ContainerLogging.getLogger();
+
+    private final int maxSize;
+    private final Function<ContextKey, AnnotationConfigApplicationContext> factory;
+
+    // 생성 중이거나 생성된 컨텍스트 (키당 future 1개)
+    private final ConcurrentHashMap<ContextKey, CompletableFuture<AnnotationConfigApplicationContext>> contexts =
+        new ConcurrentHashMap<>();
+
+    // 생성이 끝난 키의 사용 순서 (synchronized(recency)로 보호)
+    // accessOrder = true → 조회할 때마다 맨 뒤로 이동, 맨 앞이 가장 오래 사용하지 않은 항목
+    private final LinkedHashMap<ContextKey, Boolean> recency = new LinkedHashMap<>(16, 0.75f, true);
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+
+    /**
+     * @param maxSize 최대 캐시 개수
+     * @param factory 캐시에 없을 때 컨텍스트를 만드는 함수
+     * @throws IllegalArgumentException maxSize가 1보다 작은 경우
+     */
+    ContextCache(int maxSize, Function<ContextKey, AnnotationConfigApplicationContext> factory) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("context cache max size must be positive: " + maxSize);
+        }
+        this.maxSize = maxSize;
+        this.factory = factory;
+    }
+
+    /**
+     * @return 시스템 프로퍼티의 최대 개수, 설정이 없으면 기본값을 쓰는 캐시
+     */
+    static ContextCache fromSystemProperties() {
+        int maxSize = Integer.getInteger(MAX_SIZE_PROPERTY, DEFAULT_MAX_SIZE);
+        return new ContextCache(maxSize, key -> new AnnotationConfigApplicationContext(
+            key.getBasePackage(), key.toOptions()
+        ));
+    }
+
+    /**
+     * 캐시된 컨텍스트 조회 (없으면 생성)
+     *
+     * @param key 컨텍스트 설정
+     * @return 같은 설정의 테스트가 공유하는 컨텍스트
+     */
+    AnnotationConfigApplicationContext get(ContextKey key) {
+        while (true) {
+            // ================================================================
+            // 1단계: 키의 future 확보 (처음 등록한 스레드만 생성 담당)
+            // ================================================================
+            CompletableFuture<AnnotationConfigApplicationContext> created = new CompletableFuture<>();
+            CompletableFuture<AnnotationConfigApplicationContext> future = contexts.computeIfAbsent(key, k -> created);
+            if (future == created) {
+                missCount.increment();
+                return create(key, created);
+            }
+
+            // ================================================================
+            // 2단계: 다른 스레드가 만든(또는 만드는 중인) 컨텍스트 사용
+            // ================================================================
+            AnnotationConfigApplicationContext context = await(future);
+            // 기다리는 사이 제거(@DirtiesContext / LRU)되었으면 새로 조회
+            if (touch(key, future)) {
+                hitCount.increment();
+                return context;
+            }
+        }
+    }
+
+    /**
+     * 락 없이 컨텍스트 생성 → future 완료 → LRU 반영
+     */
+    private AnnotationConfigApplicationContext create(ContextKey key,
+                                                      CompletableFuture<AnnotationConfigApplicationContext> future) {
+        AnnotationConfigApplicationContext context;
+        long start = System.nanoTime();
+        try {
+            context = factory.apply(key);
+        } catch (RuntimeException | Error e) {
+            contexts.remove(key, future);
+            future.completeExceptionally(e);
+            throw e;
+        }
+        LOG.debug("Test context created for {} in {} ms", key, (System.nanoTime() - start) / 1_000_000);
+        future.complete(context);
+
+        // ================================================================
+        // LRU 제거 (새 항목 추가 후 최대 개수를 넘은 만큼)
+        // ================================================================
+        List<AnnotationConfigApplicationContext> evicted = new ArrayList<>();
+        synchronized (recency) {
+            if (contexts.get(key) == future) {  // 생성 중에 제거되지 않았으면
+                recency.put(key, Boolean.TRUE);
+            }
+            Iterator<ContextKey> eldest = recency.keySet().iterator();
+            while (recency.size() > maxSize) {
+                ContextKey victim = eldest.next();
+                eldest.remove();
+                CompletableFuture<AnnotationConfigApplicationContext> removed = contexts.remove(victim);
+                if (removed != null) {
+                    LOG.debug("Evicting test context {} (max size {})", victim, maxSize);
+                    evicted.add(removed.join());  // recency에 있는 키는 생성이 끝난 키
+                }
+            }
+        }
+        for (AnnotationConfigApplicationContext victim : evicted) {
+            victim.close();
+        }
+        return context;
+    }
+
+    /**
+     * 사용 순서 갱신
+     *
+     * @return future가 아직 캐시에 있으면 true
+     */
+    private boolean touch(ContextKey key, CompletableFuture<AnnotationConfigApplicationContext> future) {
+        synchronized (recency) {
+            if (contexts.get(key) != future) {
+                return false;
+            }
+            recency.put(key, Boolean.TRUE);
+            return true;
+        }
+    }
+
+    /**
+     * 다른 스레드의 생성 완료 대기 (생성 실패는 원래 예외로 다시 던짐)
+     */
+    private static AnnotationConfigApplicationContext await(
+            CompletableFuture<AnnotationConfigApplicationContext> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 컨텍스트를 닫고 캐시에서 제거 (@DirtiesContext)
+     *
+     * @param key 컨텍스트 설정
+     * @return 제거한 컨텍스트가 있으면 true
+     */
+    boolean remove(ContextKey key) {
+        CompletableFuture<AnnotationConfigApplicationContext> future;
+        synchronized (recency) {
+            future = contexts.remove(key);
+            recency.remove(key);
+        }
+        if (future == null) {
+            return false;
+        }
+        AnnotationConfigApplicationContext context = future.exceptionally(e -> null).join();
+        if (context == null) {
+            return false;  // 생성이 실패한 키
+        }
+        context.close();
+        return true;
+    }
+
+    boolean contains(ContextKey key) {
+        return contexts.containsKey(key);
+    }
+
+    int size() {
+        return contexts.size();
+    }
+
+    long getHitCount() {
+        return hitCount.sum();
+    }
+
+    long getMissCount() {
+        return missCount.sum();
+    }
+
+    /**
+     * 남은 컨텍스트를 모두 닫음 (테스트 실행 종료 시 JUnit이 호출)
+     */
+    @Override
+    public void close() {
+        List<CompletableFuture<AnnotationConfigApplicationContext>> open;
+        synchronized (recency) {
+            open = new ArrayList<>(contexts.values());
+            contexts.clear();
+            recency.clear();
+        }
+        LOG.debug("Closing {} cached test contexts ({} cache hits)", open.size(), hitCount.sum());
+        for (CompletableFuture<AnnotationConfigApplicationContext> future : open) {
+            AnnotationConfigApplicationContext context = future.exceptionally(e -> null).join();
+            if (context != null) {
+                context.close();
+            }
+        }
+    }
+}
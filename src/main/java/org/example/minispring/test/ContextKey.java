@@ -0,0 +1,87 @@
+package org.example.minispring.test;
+
+import org.example.minispring.container.ContextOptions;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * 컨텍스트 캐시의 키 (컨텍스트 설정이 같으면 같은 키)
+ *
+ * 프로퍼티는 이름순으로 정렬 → 선언 순서가 달라도 같은 키
+ */
+final class ContextKey {
+
+    private final String basePackage;
+    private final List<String> activeProfiles;
+    private final Map<String, String> properties;
+    private final boolean preInstantiateSingletons;
+
+    ContextKey(String basePackage, List<String> activeProfiles, Map<String, String> properties,
+               boolean preInstantiateSingletons) {
+        this.basePackage = basePackage;
+        this.activeProfiles = List.copyOf(activeProfiles);
+        this.properties = new TreeMap<>(properties);
+        this.preInstantiateSingletons = preInstantiateSingletons;
+    }
+
+    /**
+     * @throws IllegalStateException 프로퍼티가 "이름=값" 형식이 아닌 경우
+     */
+    static ContextKey of(MiniSpringTest annotation) {
+        Map<String, String> properties = new TreeMap<>();
+        for (String property : annotation.properties()) {
+            int separator = property.indexOf('=');
+            if (separator <= 0) {
+                throw new IllegalStateException("@MiniSpringTest property must be 'name=value': " + property);
+            }
+            properties.put(property.substring(0, separator).trim(), property.substring(separator + 1).trim());
+        }
+        return new ContextKey(
+            annotation.value(), List.of(annotation.activeProfiles()), properties,
+            annotation.preInstantiateSingletons()
+        );
+    }
+
+    String getBasePackage() {
+        return basePackage;
+    }
+
+    /**
+     * @return 이 키의 설정으로 만든 컨텍스트 시작 옵션
+     */
+    ContextOptions toOptions() {
+        ContextOptions.Builder builder = ContextOptions.builder()
+            .preInstantiateSingletons(preInstantiateSingletons)
+            .activeProfiles(activeProfiles.toArray(new String[0]));
+        properties.forEach(builder::property);
+        return builder.build();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ContextKey)) {
+            return false;
+        }
+        ContextKey other = (ContextKey) o;
+        return preInstantiateSingletons == other.preInstantiateSingletons
+            && basePackage.equals(other.basePackage)
+            && activeProfiles.equals(other.activeProfiles)
+            && properties.equals(other.properties);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(basePackage, activeProfiles, properties, preInstantiateSingletons);
+    }
+
+    @Override
+    public String toString() {
+        return basePackage + activeProfiles + properties + (preInstantiateSingletons ? "[eager]" : "");
+    }
+}
@@ -0,0 +1,20 @@
+package org.example.minispring.test;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 테스트가 공유 컨텍스트의 상태를 바꾼다는 표시
+ *
+ * 적용 대상:
+ *   - 테스트 메서드: 메서드가 끝나면 컨텍스트를 닫고 캐시에서 제거
+ *   - 테스트 클래스: 클래스의 모든 테스트가 끝나면 컨텍스트를 닫고 캐시에서 제거
+ *
+ * 이후 같은 설정을 사용하는 테스트는 새 컨텍스트를 받음
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface DirtiesContext {
+}
@@ -0,0 +1,129 @@
+package org.example.minispring.test;
+
+import org.example.minispring.annotation.Autowired;
+import org.example.minispring.container.AnnotationConfigApplicationContext;
+import org.example.minispring.container.ApplicationContext;
+import org.junit.jupiter.api.extension.AfterAllCallback;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ParameterContext;
+import org.junit.jupiter.api.extension.ParameterResolver;
+import org.junit.jupiter.api.extension.TestInstancePostProcessor;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/**
+ * @MiniSpringTest 클래스에 캐시된 컨텍스트의 빈을 주입하는 JUnit 5 확장
+ *
+ * 동작 흐름:
+ *   1. 테스트 클래스(또는 @Nested의 바깥 클래스)의 @MiniSpringTest로 ContextKey 결정
+ *   2. 실행 전체가 공유하는 ContextCache에서 컨텍스트 조회 (없으면 생성)
+ *   3. 테스트 인스턴스의 @Autowired 필드 주입
+ *   4. 생성자 / 테스트 메서드 파라미터 주입 (ApplicationContext 또는 유일한 빈이 있는 타입)
+ *   5. @DirtiesContext 메서드 / 클래스가 끝나면 컨텍스트를 닫고 캐시에서 제거
+ *
+ * 캐시는 JUnit 루트 Store에 보관 → 같은 실행의 모든 테스트 클래스가 공유,
+ * 실행이 끝나면 남은 컨텍스트를 모두 닫음
+ */
+public class MiniSpringExtension
+    implements TestInstancePostProcessor, ParameterResolver, AfterEachCallback, AfterAllCallback {
+
+    private static final ExtensionContext.Namespace NAMESPACE =
+        ExtensionContext.Namespace.create(MiniSpringExtension.class);
+
+    @Override
+    public void postProcessTestInstance(Object testInstance, ExtensionContext context) {
+        ApplicationContext applicationContext = getApplicationContext(context);
+
+        // 부모 클래스에 선언된 @Autowired 필드도 주입
+        for (Class<?> type = testInstance.getClass(); type != null && type != Object.class; type = type.getSuperclass()) {
+            for (Field field : type.getDeclaredFields()) {
+                if (!field.isAnnotationPresent(Autowired.class)) {
+                    continue;
+                }
+                if (Modifier.isStatic(field.getModifiers()) || Modifier.isFinal(field.getModifiers())) {
+                    throw new IllegalStateException(
+                        "@Autowired test field must be non-static and non-final: " + field
+                    );
+                }
+                field.setAccessible(true);
+                try {
+                    field.set(testInstance, resolve(applicationContext, field.getType()));
+                } catch (IllegalAccessException e) {
+                    throw new IllegalStateException("Cannot inject test field: " + field, e);
+                }
+            }
+        }
+    }
+
+    @Override
+    public boolean supportsParameter(ParameterContext parameterContext, ExtensionContext context) {
+        Class<?> type = parameterContext.getParameter().getType();
+        if (ApplicationContext.class.isAssignableFrom(type)) {
+            return true;
+        }
+        // @TempDir, TestInfo 등 다른 확장의 파라미터와 겹치지 않도록 유일한 빈이 있는 타입만
+        // (빈 정의로만 판단 → 지원 여부를 묻는 것만으로 빈이 생성되지 않음)
+        return !type.isPrimitive() && getApplicationContext(context).getBeanProvider(type).isUnique();
+    }
+
+    @Override
+    public Object resolveParameter(ParameterContext parameterContext, ExtensionContext context) {
+        return resolve(getApplicationContext(context), parameterContext.getParameter().getType());
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        Method method = context.getRequiredTestMethod();
+        if (method.isAnnotationPresent(DirtiesContext.class)) {
+            getContextCache(context).remove(contextKey(context));
+        }
+    }
+
+    @Override
+    public void afterAll(ExtensionContext context) {
+        if (context.getRequiredTestClass().isAnnotationPresent(DirtiesContext.class)) {
+            getContextCache(context).remove(contextKey(context));
+        }
+    }
+
+    /**
+     * 테스트가 사용하는 컨텍스트 조회 (캐시에 없으면 생성)
+     *
+     * @param context 현재 테스트 클래스 / 메서드의 JUnit 컨텍스트
+     * @return 같은 설정의 테스트가 공유하는 컨텍스트
+     */
+    public static AnnotationConfigApplicationContext getApplicationContext(ExtensionContext context) {
+        return getContextCache(context).get(contextKey(context));
+    }
+
+    static ContextCache getContextCache(ExtensionContext context) {
+        return context.getRoot().getStore(NAMESPACE).getOrComputeIfAbsent(
+            ContextCache.class, type -> ContextCache.fromSystemProperties(), ContextCache.class
+        );
+    }
+
+    /**
+     * @throws IllegalStateException 테스트 클래스와 바깥 클래스 어디에도 @MiniSpringTest가 없는 경우
+     */
+    static ContextKey contextKey(ExtensionContext context) {
+        for (Class<?> type = context.getRequiredTestClass(); type != null; type = type.getEnclosingClass()) {
+            MiniSpringTest annotation = type.getAnnotation(MiniSpringTest.class);
+            if (annotation != null) {
+                return ContextKey.of(annotation);
+            }
+        }
+        throw new IllegalStateException(
+            "MiniSpringExtension requires @MiniSpringTest on " + context.getRequiredTestClass().getName()
+        );
+    }
+
+    private static Object resolve(ApplicationContext applicationContext, Class<?> type) {
+        if (type.isInstance(applicationContext)) {
+            return applicationContext;
+        }
+        return applicationContext.getBean(type);
+    }
+}
@@ -0,0 +1,57 @@
+package org.example.minispring.test;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 테스트 클래스가 사용할 컨텍스트를 선언하는 어노테이션 (MiniSpringExtension 등록 포함)
+ *
+ * 같은 설정(기준 패키지, 프로파일, 프로퍼티, 사전 생성 여부)을 선언한 테스트 클래스는
+ * 컨텍스트 하나를 공유함 → 스캔 / 빈 생성은 설정마다 한 번만
+ *
+ * 주입:
+ *   - @Autowired 필드
+ *   - 생성자 / 테스트 메서드 파라미터 (ApplicationContext 또는 유일한 빈이 있는 타입)
+ *
+ * 사용 예시:
+ *   @MiniSpringTest(value = "org.example.demo", activeProfiles = "test",
+ *                   properties = "cache.enabled=false")
+ *   class OrderServiceTest {
+ *       @Autowired OrderService orderService;
+ *
+ *       @Test
+ *       @DirtiesContext   // 빈 상태를 바꾸는 테스트 → 끝나면 컨텍스트를 닫고 캐시에서 제거
+ *       void shouldCancelOrder(OrderRepository repository) { ... }
+ *   }
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Inherited
+@ExtendWith(MiniSpringExtension.class)
+public @interface MiniSpringTest {
+
+    /**
+     * 컴포넌트 스캔할 기준 패키지
+     */
+    String value();
+
+    /**
+     * 활성 프로파일 (비어 있으면 컨텍스트 기본값)
+     */
+    String[] activeProfiles() default {};
+
+    /**
+     * 조건 평가용 프로퍼티 ("이름=값" 형식)
+     */
+    String[] properties() default {};
+
+    /**
+     * true면 refresh 마지막에 singleton을 미리 생성
+     */
+    boolean preInstantiateSingletons() default false;
+}
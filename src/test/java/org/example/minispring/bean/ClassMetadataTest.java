@@ -0,0 +1,107 @@
+package org.example.minispring.bean;
+
+import org.example.minispring.annotation.Autowired;
+import org.example.minispring.annotation.Bean;
+import org.example.minispring.annotation.Component;
+import org.example.minispring.annotation.Configuration;
+import org.example.minispring.annotation.PostConstruct;
+import org.example.minispring.annotation.PreDestroy;
+import org.example.minispring.processor.ConfigurationClassEnhancer;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ClassMetadataTest {
+
+    @Component
+    static class CallbackBean {
+        CallbackBean() {
+        }
+
+        @Autowired
+        CallbackBean(String value) {
+        }
+
+        @PostConstruct
+        private void init() {
+        }
+
+        @PreDestroy
+        void cleanup() {
+        }
+    }
+
+    @Configuration
+    static class MetadataConfig {
+        @Bean
+        public String first() {
+            return "first";
+        }
+
+        @Bean
+        public Integer second() {
+            return 2;
+        }
+
+        public String notABean() {
+            return "plain";
+        }
+    }
+
+    @Test
+    void shouldReturnSameMetadataForSameClass() {
+        // When
+        ClassMetadata first = ClassMetadata.forClass(CallbackBean.class);
+        ClassMetadata second = ClassMetadata.forClass(CallbackBean.class);
+
+        // Then
+        assertSame(first, second);
+    }
+
+    @Test
+    void shouldCacheResolvedConstructor() {
+        // Given
+        ClassMetadata metadata = ClassMetadata.forClass(CallbackBean.class);
+
+        // When
+        var constructor = metadata.getConstructor();
+
+        // Then
+        assertSame(constructor, metadata.getConstructor());
+        assertEquals(1, constructor.getParameterCount());
+    }
+
+    @Test
+    void shouldExposeLifecycleMethodsAndAnnotations() {
+        // When
+        ClassMetadata metadata = ClassMetadata.forClass(CallbackBean.class);
+
+        // Then
+        assertEquals("init", metadata.getLifecycleMetadata().getPostConstructMethods().get(0).getName());
+        assertEquals("cleanup", metadata.getLifecycleMetadata().getPreDestroyMethods().get(0).getName());
+        assertTrue(metadata.isAnnotationPresent(Component.class));
+        assertNull(metadata.getAnnotation(Configuration.class));
+    }
+
+    @Test
+    void shouldCollectOnlyBeanMethods() {
+        // When
+        ClassMetadata metadata = ClassMetadata.forClass(MetadataConfig.class);
+
+        // Then
+        assertEquals(2, metadata.getBeanMethods().size());
+    }
+
+    @Test
+    void shouldResolveUserClassForEnhancedInstance() throws Exception {
+        // Given
+        Object enhanced = ConfigurationClassEnhancer.enhance(MetadataConfig.class)
+            .getDeclaredConstructor().newInstance();
+
+        // When
+        ClassMetadata metadata = ClassMetadata.forInstance(enhanced);
+
+        // Then
+        assertSame(MetadataConfig.class, metadata.getType());
+    }
+}
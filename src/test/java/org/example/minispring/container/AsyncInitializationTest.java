@@ -0,0 +1,121 @@
+package org.example.minispring.container;
+
+import org.example.minispring.container.async.AsyncGate;
+import org.example.minispring.container.async.CatalogConfig;
+import org.example.minispring.container.async.FeedClient;
+import org.example.minispring.container.async.HealthEndpoint;
+import org.example.minispring.container.async.PriceCache;
+import org.example.minispring.container.async.RankingIndex;
+import org.example.minispring.container.async.SearchCatalog;
+import org.example.minispring.container.async.SearchFacade;
+import org.example.minispring.exception.BeanInitializationException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AsyncInitializationTest {
+
+    private AnnotationConfigApplicationContext context;
+
+    @BeforeEach
+    void setUp() {
+        AsyncGate.reset();
+        CatalogConfig.catalogLoads.set(0);
+        CatalogConfig.indexAttempts.set(0);
+        context = new AnnotationConfigApplicationContext("org.example.minispring.container.async");
+    }
+
+    @AfterEach
+    void tearDown() {
+        AsyncGate.reset();
+    }
+
+    @Test
+    void shouldStartAsyncInitializationDuringRefresh() {
+        // Then: refresh가 끝나기 전에 두 초기화가 모두 시작됨 (완료는 기다리지 않음)
+        assertEquals(1, CatalogConfig.catalogLoads.get());
+        assertFalse(context.getBeanAsync(SearchCatalog.class).isDone());
+        assertFalse(context.getBeanAsync(PriceCache.class).isDone());
+    }
+
+    @Test
+    void shouldNotBlockUnrelatedBeans() {
+        // When: 비동기 초기화가 모두 진행 중인 상태
+        HealthEndpoint endpoint = context.getBean(HealthEndpoint.class);
+
+        // Then
+        assertEquals("UP", endpoint.status());
+    }
+
+    @Test
+    void shouldCompleteDependentOnlyAfterItsOwnDependency() throws Exception {
+        // Given
+        CompletableFuture<SearchFacade> facade = context.getBeanAsync(SearchFacade.class);
+        assertFalse(facade.isDone());
+
+        // When: 의존하는 catalog만 완료 (prices는 계속 진행 중)
+        AsyncGate.catalog.countDown();
+
+        // Then
+        assertEquals(42, facade.get(5, TimeUnit.SECONDS).catalogSize());
+        assertSame(context.getBean(SearchFacade.class), facade.get());
+        assertEquals(1, CatalogConfig.catalogLoads.get());
+        assertFalse(context.getBeanAsync(PriceCache.class).isDone());
+    }
+
+    @Test
+    void shouldBlockGetBeanUntilAsyncPostConstructCompletes() {
+        // Given
+        new Thread(() -> {
+            sleep(100);
+            AsyncGate.prices.countDown();
+        }).start();
+
+        // When
+        PriceCache cache = context.getBean(PriceCache.class);
+
+        // Then
+        assertTrue(cache.isLoadStarted());
+        assertTrue(cache.isLoaded());
+    }
+
+    @Test
+    void shouldReportFailedAsyncInitialization() {
+        // When & Then
+        BeanInitializationException e = assertThrows(BeanInitializationException.class,
+            () -> context.getBean(FeedClient.class));
+        assertEquals("feed unavailable", e.getCause().getMessage());
+
+        ExecutionException async = assertThrows(ExecutionException.class,
+            () -> context.getBeanAsync(FeedClient.class).get(5, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalStateException.class, async.getCause());
+    }
+
+    @Test
+    void shouldRetryAsyncInitializationAfterFailure() throws Exception {
+        // Given: refresh 중 시작된 첫 초기화가 실패
+        assertEquals(1, CatalogConfig.indexAttempts.get());
+
+        // When
+        RankingIndex index = context.getBean(RankingIndex.class);
+
+        // Then: 실패한 future를 다시 돌려주지 않고 새로 생성
+        assertNotNull(index);
+        assertEquals(2, CatalogConfig.indexAttempts.get());
+        assertSame(index, context.getBeanAsync(RankingIndex.class).get(5, TimeUnit.SECONDS));
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
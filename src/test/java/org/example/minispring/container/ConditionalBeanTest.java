@@ -0,0 +1,188 @@
+package org.example.minispring.container;
+
+import org.example.minispring.annotation.ConditionalOnClass;
+import org.example.minispring.annotation.Profile;
+import org.example.minispring.condition.ConditionEvaluator;
+import org.example.minispring.container.conditional.LoadTracker;
+import org.example.minispring.container.conditional.PriceCache;
+import org.example.minispring.container.conditional.TimeSource;
+import org.example.minispring.scanner.ClassFileMetadata;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConditionalBeanTest {
+
+    private static final String BASE_PACKAGE = "org.example.minispring.container.conditional";
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void shouldSkipInactiveProfileWithoutLoadingClass() {
+        // When: 기본 프로파일
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(BASE_PACKAGE);
+
+        // Then: "!dev"는 등록, "cloud" / "dev"는 제외
+        assertTrue(context.containsBean("smtpMailSender"));
+        assertFalse(context.containsBean("devMailSender"));
+        assertFalse(context.containsBean("cloudMailSender"));
+
+        // 제외된 클래스와 그 중첩 클래스는 로드(초기화)되지 않음
+        assertFalse(LoadTracker.INITIALIZED.contains("CloudMailSender"));
+        assertFalse(LoadTracker.INITIALIZED.contains("CloudMailSender$Settings"));
+        context.close();
+    }
+
+    @Test
+    void shouldRegisterComponentsOfActiveProfile() {
+        // Given
+        ContextOptions options = ContextOptions.builder().activeProfiles("dev").build();
+
+        // When
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(BASE_PACKAGE, options);
+
+        // Then
+        assertTrue(context.containsBean("devMailSender"));
+        assertFalse(context.containsBean("smtpMailSender"));
+        context.close();
+    }
+
+    @Test
+    void shouldEvaluatePropertyConditions() {
+        // Given
+        ContextOptions enabled = ContextOptions.builder()
+            .property("metrics.enabled", "true")
+            .property("audit.enabled", "false")
+            .build();
+
+        // When
+        AnnotationConfigApplicationContext defaults = new AnnotationConfigApplicationContext(BASE_PACKAGE);
+        AnnotationConfigApplicationContext configured = new AnnotationConfigApplicationContext(BASE_PACKAGE, enabled);
+
+        // Then: havingValue는 값이 같아야, matchIfMissing은 프로퍼티가 없을 때만 등록
+        assertFalse(defaults.containsBean("metricsExporter"));
+        assertTrue(defaults.containsBean("auditLog"));
+        assertTrue(configured.containsBean("metricsExporter"));
+        assertFalse(configured.containsBean("auditLog"));
+        defaults.close();
+        configured.close();
+    }
+
+    @Test
+    void shouldSkipComponentWhenRequiredClassIsMissing() {
+        // When
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(BASE_PACKAGE);
+
+        // Then
+        assertTrue(context.containsBean("base64Codec"));
+        assertFalse(context.containsBean("kafkaPublisher"));
+        assertFalse(LoadTracker.INITIALIZED.contains("KafkaPublisher"));
+        context.close();
+    }
+
+    @Test
+    void shouldRegisterFallbackComponentOnlyWhenTypeIsMissing() {
+        // When
+        AnnotationConfigApplicationContext fallback = new AnnotationConfigApplicationContext(BASE_PACKAGE);
+        AnnotationConfigApplicationContext redis = new AnnotationConfigApplicationContext(
+            BASE_PACKAGE, ContextOptions.builder().activeProfiles("redis").build()
+        );
+
+        // Then
+        assertEquals("in-memory", fallback.getBean(PriceCache.class).backend());
+        assertEquals("redis", redis.getBean(PriceCache.class).backend());
+        assertFalse(redis.containsBean("inMemoryPriceCache"));
+        fallback.close();
+        redis.close();
+    }
+
+    @Test
+    void shouldSkipFallbackComponentWhenBeanMethodProvidesType() {
+        // When: PriceCache를 컴포넌트가 아닌 @Bean 메서드가 제공
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(
+            BASE_PACKAGE, ContextOptions.builder().activeProfiles("remote-cache").build()
+        );
+
+        // Then: 대체 컴포넌트는 등록되지 않음 → 타입 조회가 모호하지 않음
+        assertFalse(context.containsBean("inMemoryPriceCache"));
+        assertEquals("remote", context.getBean(PriceCache.class).backend());
+        context.close();
+    }
+
+    @Test
+    void shouldRegisterFallbackBeanMethodOnlyWhenTypeIsMissing() {
+        // When
+        AnnotationConfigApplicationContext fallback = new AnnotationConfigApplicationContext(BASE_PACKAGE);
+        AnnotationConfigApplicationContext fixed = new AnnotationConfigApplicationContext(
+            BASE_PACKAGE, ContextOptions.builder().activeProfiles("test").build()
+        );
+        AnnotationConfigApplicationContext utc = new AnnotationConfigApplicationContext(
+            BASE_PACKAGE, ContextOptions.builder().property("clock.utc", "true").build()
+        );
+
+        // Then: 다른 설정 클래스 / 같은 설정 클래스의 @Bean이 있으면 기본 @Bean은 등록되지 않음
+        assertEquals("system", fallback.getBean(TimeSource.class).getName());
+        assertEquals("fixed", fixed.getBean(TimeSource.class).getName());
+        assertFalse(fixed.containsBean("timeSource"));
+        assertEquals("utc", utc.getBean(TimeSource.class).getName());
+        assertFalse(utc.containsBean("timeSource"));
+        fallback.close();
+        fixed.close();
+        utc.close();
+    }
+
+    @Test
+    void shouldReadConditionAttributesFromClassFile() throws IOException {
+        // Given: 클래스를 로드하지 않고 .class 파일만 읽음
+        ClassFileMetadata cloud = readClassFile("CloudMailSender");
+        ClassFileMetadata kafka = readClassFile("KafkaPublisher");
+
+        // Then
+        assertEquals(BASE_PACKAGE + ".CloudMailSender", cloud.getClassName());
+        assertTrue(cloud.isConcrete());
+        assertEquals(Map.of("value", List.of("cloud")), cloud.getAnnotationAttributes(Profile.class.getName()));
+        assertEquals(
+            List.of("org.apache.kafka.clients.producer.KafkaProducer"),
+            kafka.getAnnotationAttributes(ConditionalOnClass.class.getName()).get("value")
+        );
+        assertFalse(LoadTracker.INITIALIZED.contains("CloudMailSender"));
+    }
+
+    @Test
+    void shouldIgnoreSnapshotWhenConditionInputsChange() {
+        // Given: metrics.enabled=true로 스냅숏 저장
+        Path snapshotFile = tempDir.resolve("context.snapshot");
+        ContextOptions options = ContextOptions.builder()
+            .snapshot(snapshotFile)
+            .property("metrics.enabled", "true")
+            .build();
+        new AnnotationConfigApplicationContext(BASE_PACKAGE, options).close();
+
+        // When
+        ConditionEvaluator same = new ConditionEvaluator(
+            Map.of("metrics.enabled", "true"), List.of(), getClass().getClassLoader()
+        );
+        ConditionEvaluator changed = new ConditionEvaluator(
+            Map.of("metrics.enabled", "false"), List.of(), getClass().getClassLoader()
+        );
+
+        // Then
+        assertNotNull(ContextSnapshot.read(snapshotFile, BASE_PACKAGE, same));
+        assertNull(ContextSnapshot.read(snapshotFile, BASE_PACKAGE, changed));
+    }
+
+    private ClassFileMetadata readClassFile(String simpleName) throws IOException {
+        String resource = "/" + BASE_PACKAGE.replace('.', '/') + "/" + simpleName + ".class";
+        try (InputStream in = getClass().getResourceAsStream(resource)) {
+            return ClassFileMetadata.read(in);
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package org.example.minispring.container;
+
+import org.example.minispring.container.snapshot.FareCalculator;
+import org.example.minispring.container.snapshot.TariffTable;
+import org.example.minispring.container.snapshot.TicketPrinter;
+import org.example.minispring.container.snapshotfail.SessionCache;
+import org.example.minispring.container.snapshotref.RouteIndex;
+import org.example.minispring.container.snapshotref.ZoneRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ContextSnapshotTest {
+
+    private static final String BASE_PACKAGE = "org.example.minispring.container.snapshot";
+
+    @TempDir
+    Path tempDir;
+
+    private Path snapshotFile;
+    private ContextOptions options;
+
+    @BeforeEach
+    void setUp() {
+        snapshotFile = tempDir.resolve("context.snapshot");
+        options = ContextOptions.builder().snapshot(snapshotFile).build();
+        TariffTable.constructed.set(0);
+        TariffTable.initialized.set(0);
+        TariffTable.restored.set(0);
+        FareCalculator.constructed.set(0);
+        TicketPrinter.constructed.set(0);
+        ZoneRegistry.constructed.set(0);
+    }
+
+    @Test
+    void shouldWriteSnapshotOnFirstRefresh() {
+        // When
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(BASE_PACKAGE, options);
+
+        // Then: 스냅숏 대상 빈만 생성되어 저장됨
+        assertTrue(Files.isRegularFile(snapshotFile));
+        assertTrue(context.getRestoredSingletons().isEmpty());
+        assertEquals(1, TariffTable.constructed.get());
+        assertEquals(0, TicketPrinter.constructed.get());
+
+        ContextSnapshot snapshot = ContextSnapshot.read(snapshotFile, BASE_PACKAGE);
+        assertNotNull(snapshot);
+        assertEquals(Set.of("tariffTable", "fareCalculator"), Set.copyOf(snapshot.getSingletonNames()));
+        assertEquals(3, snapshot.getDefinitionCount());
+        context.close();
+    }
+
+    @Test
+    void shouldRestoreWithoutRunningConstructorsOrPostConstruct() {
+        // Given
+        new AnnotationConfigApplicationContext(BASE_PACKAGE, options).close();
+
+        // When
+        AnnotationConfigApplicationContext restored = new AnnotationConfigApplicationContext(BASE_PACKAGE, options);
+
+        // Then: 생성자 / @PostConstruct는 첫 실행의 1번뿐, @AfterRestore만 호출됨
+        assertEquals(Set.of("tariffTable", "fareCalculator"), Set.copyOf(restored.getRestoredSingletons()));
+        assertEquals(1, TariffTable.constructed.get());
+        assertEquals(1, TariffTable.initialized.get());
+        assertEquals(1, FareCalculator.constructed.get());
+        assertEquals(1, TariffTable.restored.get());
+
+        // 상태와 참조 관계가 복원됨
+        FareCalculator calculator = restored.getBean(FareCalculator.class);
+        TariffTable tariffTable = restored.getBean(TariffTable.class);
+        assertSame(tariffTable, calculator.getTariffTable());
+        assertEquals(3_700, calculator.fare("zone-2", 2));
+        assertEquals("restored", tariffTable.getAuditTrail());
+        restored.close();
+    }
+
+    @Test
+    void shouldCreateNonSnapshotBeansOnDemandAfterRestore() {
+        // Given
+        new AnnotationConfigApplicationContext(BASE_PACKAGE, options).close();
+
+        // When
+        AnnotationConfigApplicationContext restored = new AnnotationConfigApplicationContext(BASE_PACKAGE, options);
+        TicketPrinter printer = restored.getBean(TicketPrinter.class);
+
+        // Then: 대상이 아닌 빈은 평소처럼 생성되고 복원된 빈을 주입받음
+        assertEquals(1, TicketPrinter.constructed.get());
+        assertSame(restored.getBean(FareCalculator.class), printer.getFareCalculator());
+        restored.close();
+    }
+
+    @Test
+    void shouldFallBackToRefreshWhenSnapshotIsCorrupt() throws IOException {
+        // Given
+        Files.write(snapshotFile, new byte[]{1, 2, 3, 4});
+
+        // When
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(BASE_PACKAGE, options);
+
+        // Then: 일반 refresh 후 올바른 스냅숏으로 교체됨
+        assertTrue(context.getRestoredSingletons().isEmpty());
+        assertEquals(1, TariffTable.initialized.get());
+        assertEquals(0, TariffTable.restored.get());
+        assertNotNull(ContextSnapshot.read(snapshotFile, BASE_PACKAGE));
+        context.close();
+    }
+
+    @Test
+    void shouldFallBackToRefreshWhenClasspathChanged() throws IOException {
+        // Given
+        new AnnotationConfigApplicationContext(BASE_PACKAGE, options).close();
+        Path extraEntry = Files.writeString(tempDir.resolve("extra.jar"), "changed");
+        String classpath = System.getProperty("java.class.path");
+        System.setProperty("java.class.path", classpath + File.pathSeparator + extraEntry);
+
+        try {
+            // When
+            AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(BASE_PACKAGE, options);
+
+            // Then
+            assertTrue(context.getRestoredSingletons().isEmpty());
+            assertEquals(2, TariffTable.constructed.get());
+            assertEquals(0, TariffTable.restored.get());
+            context.close();
+        } finally {
+            System.setProperty("java.class.path", classpath);
+        }
+    }
+
+    @Test
+    void shouldIgnoreSnapshotOfAnotherPackage() {
+        // Given
+        new AnnotationConfigApplicationContext(BASE_PACKAGE, options).close();
+
+        // When / Then
+        assertNull(ContextSnapshot.read(snapshotFile, "org.example.other"));
+    }
+
+    @Test
+    void shouldExcludeBeansReferencingNonSnapshotSingletons() {
+        // Given: RouteIndex(@SnapshotSafe) → ZoneRegistry(대상 아님)
+        String basePackage = "org.example.minispring.container.snapshotref";
+        new AnnotationConfigApplicationContext(basePackage, options).close();
+
+        // When
+        AnnotationConfigApplicationContext restored = new AnnotationConfigApplicationContext(basePackage, options);
+
+        // Then: RouteIndex는 저장되지 않고 복원 후 컨테이너의 ZoneRegistry를 주입받아 새로 생성됨
+        assertEquals(List.of("holidayCalendar"), restored.getRestoredSingletons());
+        RouteIndex routeIndex = restored.getBean(RouteIndex.class);
+        assertSame(restored.getBean(ZoneRegistry.class), routeIndex.getZoneRegistry());
+        assertEquals(2, ZoneRegistry.constructed.get());
+        restored.close();
+    }
+
+    @Test
+    void shouldKeepRefreshingWhenSnapshotWriteFails() {
+        // When: @SnapshotSafe 빈이 Serializable이 아님
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(
+            "org.example.minispring.container.snapshotfail", options
+        );
+
+        // Then: 경고만 남기고 컨텍스트는 정상 사용 가능, 스냅숏 파일은 남지 않음
+        assertNotNull(context.getBean(SessionCache.class));
+        assertFalse(Files.exists(snapshotFile));
+        context.close();
+    }
+
+    @Test
+    void shouldRejectClassesNotRecordedInSnapshot() throws IOException {
+        // Given: 기록된 클래스 목록에서 Integer를 지운 스냅숏 (구간에는 TariffTable의 Integer 값이 남아 있음)
+        new AnnotationConfigApplicationContext(BASE_PACKAGE, options).close();
+        byte[] bytes = Files.readAllBytes(snapshotFile);
+        byte[] recorded = "java.lang.Integer".getBytes(StandardCharsets.UTF_8);
+        int at = indexOf(bytes, recorded);
+        assertTrue(at >= 0);
+        bytes[at + recorded.length - 1] = 'q';
+        Files.write(snapshotFile, bytes);
+
+        // When / Then: 기록되지 않은 클래스는 역직렬화하지 않음 → 무효한 스냅숏
+        assertNull(ContextSnapshot.read(snapshotFile, BASE_PACKAGE));
+    }
+
+    private static int indexOf(byte[] bytes, byte[] target) {
+        for (int i = 0; i + target.length <= bytes.length; i++) {
+            if (Arrays.equals(bytes, i, i + target.length, target, 0, target.length)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
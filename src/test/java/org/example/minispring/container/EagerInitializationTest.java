@@ -0,0 +1,123 @@
+package org.example.minispring.container;
+
+import org.example.minispring.bean.BeanDefinition;
+import org.example.minispring.container.crossthread.CreationBarrier;
+import org.example.minispring.container.crossthread.GateA;
+import org.example.minispring.container.crossthread.GateB;
+import org.example.minispring.container.crossthread.LedgerA;
+import org.example.minispring.container.crossthread.LedgerB;
+import org.example.minispring.container.eager.ArchiveExporter;
+import org.example.minispring.container.eager.CatalogService;
+import org.example.minispring.container.eager.InventoryClient;
+import org.example.minispring.container.eager.PricingClient;
+import org.example.minispring.container.eager.StartupBarrier;
+import org.example.minispring.exception.CircularDependencyException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EagerInitializationTest {
+
+    private static final String BASE_PACKAGE = "org.example.minispring.container.eager";
+
+    @BeforeEach
+    void setUp() {
+        StartupBarrier.reset();
+        CreationBarrier.reset();
+        ArchiveExporter.created.set(0);
+        CatalogService.created.set(0);
+    }
+
+    @Test
+    void shouldInitializeIndependentBeansConcurrently() {
+        // Given
+        ContextOptions options = ContextOptions.builder()
+            .preInstantiateSingletons(true)
+            .parallelism(4)
+            .build();
+
+        // When: InventoryClient와 PricingClient의 @PostConstruct가 서로를 기다림
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(BASE_PACKAGE, options);
+
+        // Then
+        assertEquals(1, CatalogService.created.get());
+        assertTrue(context.getBean(CatalogService.class).isDependenciesReady());
+        assertEquals(0, ArchiveExporter.created.get());
+    }
+
+    @Test
+    void shouldGroupBeansIntoDependencyWaves() {
+        // Given
+        SimpleBeanFactory beanFactory = new SimpleBeanFactory();
+        beanFactory.registerBeanDefinition(new BeanDefinition("inventoryClient", InventoryClient.class));
+        beanFactory.registerBeanDefinition(new BeanDefinition("pricingClient", PricingClient.class));
+        beanFactory.registerBeanDefinition(new BeanDefinition("catalogService", CatalogService.class));
+
+        // When
+        List<List<String>> waves = beanFactory.preInstantiateSingletons(2);
+
+        // Then
+        assertEquals(2, waves.size());
+        assertEquals(Set.of("inventoryClient", "pricingClient"), Set.copyOf(waves.get(0)));
+        assertEquals(List.of("catalogService"), waves.get(1));
+    }
+
+    @Test
+    void shouldReportCycleInsteadOfDeadlockingAcrossThreads() throws Exception {
+        // Given: LedgerA ↔ LedgerB, 두 스레드가 각자 한쪽 락을 잡은 뒤 상대를 요청
+        SimpleBeanFactory beanFactory = new SimpleBeanFactory();
+        beanFactory.registerBeanDefinition(new BeanDefinition("gateA", GateA.class));
+        beanFactory.registerBeanDefinition(new BeanDefinition("gateB", GateB.class));
+        beanFactory.registerBeanDefinition(new BeanDefinition("ledgerA", LedgerA.class));
+        beanFactory.registerBeanDefinition(new BeanDefinition("ledgerB", LedgerB.class));
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            // When
+            Future<?> first = executor.submit(() -> beanFactory.getBean(LedgerA.class));
+            Future<?> second = executor.submit(() -> beanFactory.getBean(LedgerB.class));
+
+            // Then: 교착 없이 두 스레드 모두 순환 참조로 실패
+            for (Future<?> future : List.of(first, second)) {
+                ExecutionException failure = assertThrows(
+                    ExecutionException.class, () -> future.get(10, TimeUnit.SECONDS)
+                );
+                assertInstanceOf(CircularDependencyException.class, rootCause(failure));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static Throwable rootCause(Throwable error) {
+        Throwable cause = error;
+        while (cause.getCause() != null && !(cause instanceof CircularDependencyException)) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+
+    @Test
+    void shouldStayLazyByDefault() {
+        // When
+        new AnnotationConfigApplicationContext(BASE_PACKAGE);
+
+        // Then: 옵션 없이 만들면 getBean() 전까지 아무것도 생성하지 않음
+        assertEquals(0, CatalogService.created.get());
+    }
+
+    @Test
+    void shouldRejectInvalidParallelism() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> ContextOptions.builder().parallelism(0));
+    }
+}
@@ -0,0 +1,145 @@
+package org.example.minispring.container;
+
+import org.example.minispring.container.evictable.LookupTable;
+import org.example.minispring.container.evictable.RuleSet;
+import org.example.minispring.container.evictable.SoftTable;
+import org.example.minispring.container.evictable.TableUser;
+import org.example.minispring.container.evictable.TemplateCache;
+import org.example.minispring.scope.EvictableScope;
+import org.example.minispring.scope.EvictionMetrics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EvictableScopeTest {
+
+    private AnnotationConfigApplicationContext context;
+    private EvictableScope scope;
+
+    @BeforeEach
+    void setUp() {
+        LookupTable.destroyed.clear();
+        TemplateCache.destroyed.clear();
+        RuleSet.destroyed.clear();
+        context = new AnnotationConfigApplicationContext("org.example.minispring.container.evictable");
+        scope = context.getEvictableScope();
+        scope.setBudgetBytes(1000);
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedBeanWhenBudgetIsExceeded() {
+        // Given: 400 + 400 = 800 (예산 이내)
+        LookupTable table = context.getBean(LookupTable.class);
+        context.getBean(TemplateCache.class);
+        context.getBean(LookupTable.class);  // LookupTable이 더 최근에 사용됨
+
+        // When: 세 번째 빈 생성 → 1200 > 1000
+        context.getBean(RuleSet.class);
+
+        // Then: 가장 오래 사용하지 않은 TemplateCache가 제거됨
+        assertEquals(1, TemplateCache.destroyed.size());
+        assertTrue(LookupTable.destroyed.isEmpty());
+        assertSame(table, context.getBean(LookupTable.class));
+
+        EvictionMetrics metrics = scope.getMetrics();
+        assertEquals(1, metrics.getEvictions());
+        assertEquals(800, metrics.getResidentBytes());
+    }
+
+    @Test
+    void shouldRecreateEvictedBeanOnNextAccess() {
+        // Given
+        LookupTable first = context.getBean(LookupTable.class);
+
+        // When
+        assertTrue(scope.evict("lookupTable"));
+        LookupTable second = context.getBean(LookupTable.class);
+
+        // Then
+        assertNotSame(first, second);
+        assertSame(first, LookupTable.destroyed.get(0));
+        assertEquals(1, scope.getMetrics("lookupTable").getEvictions());
+        assertEquals(1, scope.getMetrics("lookupTable").getRecreations());
+    }
+
+    @Test
+    void shouldRouteProxyToRecreatedInstance() {
+        // Given
+        TableUser user = context.getBean(TableUser.class);
+        LookupTable before = user.currentTable();
+
+        // When
+        scope.evict("lookupTable");
+
+        // Then: 싱글톤은 프록시만 들고 있으므로 재생성된 인스턴스를 자동으로 사용
+        LookupTable after = user.currentTable();
+        assertNotSame(before, after);
+        assertSame(after, context.getBean(LookupTable.class));
+    }
+
+    @Test
+    void shouldDeferDestroyUntilInFlightProxyCallReturns() throws Exception {
+        // Given: 프록시 호출 하나가 대상 메서드 안에서 대기 중
+        TableUser user = context.getBean(TableUser.class);
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch proceed = new CountDownLatch(1);
+        AtomicBoolean destroyedDuringCall = new AtomicBoolean(true);
+        Thread caller = new Thread(() -> {
+            try {
+                destroyedDuringCall.set(user.holdTable(entered, proceed));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        caller.start();
+        entered.await();
+
+        // When: 호출 도중 제거
+        assertTrue(scope.evict("lookupTable"));
+
+        // Then: 호출이 끝날 때까지 @PreDestroy 보류, 새 조회는 새 인스턴스
+        LookupTable fresh = user.currentTable();
+        assertTrue(LookupTable.destroyed.isEmpty());
+        proceed.countDown();
+        caller.join();
+        assertFalse(destroyedDuringCall.get());
+        assertEquals(1, LookupTable.destroyed.size());
+        assertNotSame(fresh, LookupTable.destroyed.get(0));
+        assertSame(fresh, context.getBean(LookupTable.class));
+    }
+
+    @Test
+    void shouldHoldSoftReferencedBeanUntilEvicted() {
+        // Given
+        SoftTable first = context.getBean(SoftTable.class);
+
+        // When
+        SoftTable same = context.getBean(SoftTable.class);
+        scope.evict("softTable");
+        SoftTable recreated = context.getBean(SoftTable.class);
+
+        // Then
+        assertSame(first, same);
+        assertNotSame(first, recreated);
+        assertEquals(1, scope.getMetrics("softTable").getRecreations());
+        assertEquals(0, scope.getMetrics().getResidentBytes());
+    }
+
+    @Test
+    void shouldDestroyResidentBeansOnClose() {
+        // Given
+        context.getBean(LookupTable.class);
+        context.getBean(TemplateCache.class);
+
+        // When
+        context.close();
+
+        // Then
+        assertEquals(1, LookupTable.destroyed.size());
+        assertEquals(1, TemplateCache.destroyed.size());
+    }
+}
@@ -0,0 +1,118 @@
+package org.example.minispring.container;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.example.minispring.container.jfr.CatalogService;
+import org.example.minispring.container.jfr.SlowRepository;
+import org.example.minispring.jfr.BeanCreationEvent;
+import org.example.minispring.jfr.BeanLookupEvent;
+import org.example.minispring.jfr.LifecycleCallbackEvent;
+import org.example.minispring.jfr.SingletonLockWaitEvent;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FlightRecorderEventsTest {
+
+    private static final String BASE_PACKAGE = "org.example.minispring.container.jfr";
+
+    @TempDir
+    static Path tempDir;
+
+    private static List<RecordedEvent> events;
+
+    @BeforeAll
+    static void record() throws Exception {
+        // Given: 컨테이너 이벤트를 켠 녹화
+        Path file = tempDir.resolve("container.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(BeanCreationEvent.NAME);
+            recording.enable(BeanLookupEvent.NAME);
+            recording.enable(SingletonLockWaitEvent.NAME).withThreshold(Duration.ofMillis(10));
+            recording.enable(LifecycleCallbackEvent.NAME);
+            recording.start();
+
+            // When: 느린 빈을 두 스레드가 동시에 요청 → 한 스레드는 생성 락에서 대기
+            SlowRepository.constructing = new CountDownLatch(1);
+            AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(BASE_PACKAGE);
+            ExecutorService executor = Executors.newSingleThreadExecutor();
+            try {
+                Future<Object> creator = executor.submit(() -> context.getBean(SlowRepository.class));
+                SlowRepository.constructing.await();
+                Object waited = context.getBean(SlowRepository.class);
+                assertSame(creator.get(), waited);
+            } finally {
+                executor.shutdown();
+            }
+            assertTrue(context.getBean(CatalogService.class).isLoaded());
+            context.getBean(CatalogService.class);  // 빠른 캐시 히트
+            context.close();
+
+            recording.stop();
+            recording.dump(file);
+        }
+        events = RecordingFile.readAllEvents(file);
+    }
+
+    private static List<RecordedEvent> events(String name, String beanName) {
+        return events.stream()
+            .filter(event -> event.getEventType().getName().equals(name))
+            .filter(event -> beanName.equals(event.getString("beanName")))
+            .collect(Collectors.toList());
+    }
+
+    @Test
+    void shouldRecordBeanCreationWithClassDurationAndStackTrace() {
+        // Then
+        List<RecordedEvent> creations = events(BeanCreationEvent.NAME, "slowRepository");
+        assertEquals(1, creations.size());
+        RecordedEvent creation = creations.get(0);
+        assertEquals(SlowRepository.class.getName(), creation.getClass("beanClass").getName());
+        assertEquals("singleton", creation.getString("scope"));
+        assertTrue(creation.getDuration().toMillis() >= SlowRepository.CONSTRUCTION_MILLIS);
+        assertNotNull(creation.getThread());
+        assertNotNull(creation.getStackTrace());
+    }
+
+    @Test
+    void shouldRecordCacheMissesButNotFastHits() {
+        // Then: 생성을 일으킨 조회만 미스로 기록
+        List<RecordedEvent> lookups = events(BeanLookupEvent.NAME, "catalogService");
+        assertEquals(1, lookups.size());
+        assertFalse(lookups.get(0).getBoolean("cacheHit"));
+    }
+
+    @Test
+    void shouldRecordTimeSpentWaitingForSingletonLock() {
+        // Then: 두 번째 스레드가 생성이 끝날 때까지 기다린 시간
+        List<RecordedEvent> waits = events(SingletonLockWaitEvent.NAME, "slowRepository");
+        assertEquals(1, waits.size());
+        assertTrue(waits.get(0).getDuration().toMillis() >= 10);
+        assertNotNull(waits.get(0).getStackTrace());
+    }
+
+    @Test
+    void shouldRecordLifecycleCallbacks() {
+        // Then
+        List<String> callbacks = events.stream()
+            .filter(event -> event.getEventType().getName().equals(LifecycleCallbackEvent.NAME))
+            .filter(event -> event.getClass("beanClass").getName().equals(CatalogService.class.getName()))
+            .sorted(Comparator.comparing(RecordedEvent::getStartTime))
+            .map(event -> event.getString("callbackType") + ":" + event.getString("method"))
+            .collect(Collectors.toList());
+        assertEquals(List.of("PostConstruct:loadCatalog", "PreDestroy:flushCatalog"), callbacks);
+    }
+}
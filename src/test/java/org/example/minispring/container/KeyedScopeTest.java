@@ -0,0 +1,134 @@
+package org.example.minispring.container;
+
+import org.example.minispring.container.keyed.ApiGateway;
+import org.example.minispring.container.keyed.TenantKeyResolver;
+import org.example.minispring.container.keyed.TenantRateLimiter;
+import org.example.minispring.scope.KeyedBeans;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KeyedScopeTest {
+
+    private AnnotationConfigApplicationContext context;
+
+    @BeforeEach
+    void setUp() {
+        TenantRateLimiter.destroyed.clear();
+        context = new AnnotationConfigApplicationContext("org.example.minispring.container.keyed");
+    }
+
+    @AfterEach
+    void tearDown() {
+        TenantKeyResolver.clear();
+    }
+
+    @Test
+    void shouldRouteProxyToInstanceOfCurrentKey() {
+        // Given
+        ApiGateway gateway = context.getBean(ApiGateway.class);
+
+        // When
+        TenantKeyResolver.setTenant("acme");
+        gateway.handle();
+        int acme = gateway.handle();
+        TenantKeyResolver.setTenant("globex");
+        int globex = gateway.handle();
+
+        // Then: 테넌트마다 독립된 인스턴스
+        assertEquals(2, acme);
+        assertEquals(1, globex);
+        assertEquals(2, context.getKeyedBeans(TenantRateLimiter.class).size());
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedKeyWhenFull() {
+        // Given: maxSize = 2
+        KeyedBeans<TenantRateLimiter> limiters = context.getKeyedBeans(TenantRateLimiter.class);
+        TenantRateLimiter acme = limiters.get("acme");
+        TenantRateLimiter globex = limiters.get("globex");
+        limiters.get("acme");  // acme가 더 최근에 사용됨
+
+        // When
+        limiters.get("initech");
+
+        // Then
+        assertEquals(2, limiters.size());
+        assertEquals(1, limiters.getEvictionCount());
+        assertSame(globex, TenantRateLimiter.destroyed.get(0));
+        assertSame(acme, limiters.get("acme"));
+    }
+
+    @Test
+    void shouldDeferDestroyOfEvictedKeyUntilInFlightCallReturns() throws Exception {
+        // Given: acme 테넌트의 프록시 호출 하나가 대기 중
+        ApiGateway gateway = context.getBean(ApiGateway.class);
+        KeyedBeans<TenantRateLimiter> limiters = context.getKeyedBeans(TenantRateLimiter.class);
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch proceed = new CountDownLatch(1);
+        AtomicBoolean destroyedDuringCall = new AtomicBoolean(true);
+        Thread caller = new Thread(() -> {
+            TenantKeyResolver.setTenant("acme");
+            try {
+                destroyedDuringCall.set(gateway.hold(entered, proceed));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        caller.start();
+        entered.await();
+
+        // When: 호출 도중 키 제거
+        assertTrue(limiters.evict("acme"));
+
+        // Then: 호출이 끝난 뒤에 @PreDestroy
+        assertTrue(TenantRateLimiter.destroyed.isEmpty());
+        proceed.countDown();
+        caller.join();
+        assertFalse(destroyedDuringCall.get());
+        assertEquals(1, TenantRateLimiter.destroyed.size());
+        assertEquals(0, limiters.size());
+    }
+
+    @Test
+    void shouldKeepSizeBoundedForManyTenants() {
+        // Given
+        KeyedBeans<TenantRateLimiter> limiters = context.getKeyedBeans(TenantRateLimiter.class);
+
+        // When
+        for (int i = 0; i < 500; i++) {
+            limiters.get("tenant-" + i);
+        }
+
+        // Then: 테넌트가 늘어나도 보관 개수는 한도에서 유지
+        assertEquals(2, limiters.size());
+        assertEquals(500, limiters.getCreationCount());
+        assertEquals(498, TenantRateLimiter.destroyed.size());
+    }
+
+    @Test
+    void shouldFailWithoutCurrentKey() {
+        // When & Then
+        assertThrows(IllegalStateException.class, () -> context.getBean(ApiGateway.class).handle());
+    }
+
+    @Test
+    void shouldDestroyAllKeysOnClose() {
+        // Given
+        KeyedBeans<TenantRateLimiter> limiters = context.getKeyedBeans(TenantRateLimiter.class);
+        limiters.get("acme");
+        limiters.get("globex");
+
+        // When
+        context.close();
+
+        // Then
+        assertEquals(2, TenantRateLimiter.destroyed.size());
+        assertEquals(0, limiters.size());
+    }
+}
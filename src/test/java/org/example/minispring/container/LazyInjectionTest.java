@@ -0,0 +1,76 @@
+package org.example.minispring.container;
+
+import org.example.minispring.container.lazy.EagerSearchService;
+import org.example.minispring.container.lazy.OrderWorkflow;
+import org.example.minispring.container.lazy.ReportController;
+import org.example.minispring.container.lazy.ReportEngine;
+import org.example.minispring.container.lazy.SearchIndex;
+import org.example.minispring.container.lazy.SearchService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LazyInjectionTest {
+
+    private AnnotationConfigApplicationContext context;
+
+    @BeforeEach
+    void setUp() {
+        ReportEngine.created.set(0);
+        SearchIndex.created.set(0);
+        context = new AnnotationConfigApplicationContext("org.example.minispring.container.lazy");
+    }
+
+    @Test
+    void shouldDeferLazyConstructorParameterUntilFirstCall() {
+        // Given
+        ReportController controller = context.getBean(ReportController.class);
+        assertEquals(0, ReportEngine.created.get());
+
+        // When
+        String first = controller.download("sales");
+        String second = controller.download("stock");
+
+        // Then: 첫 호출 때 한 번만 생성
+        assertEquals("report:sales", first);
+        assertEquals("report:stock", second);
+        assertEquals(1, ReportEngine.created.get());
+        assertNotSame(context.getBean(ReportEngine.class), controller.getReportEngine());
+        assertEquals(1, ReportEngine.created.get());
+    }
+
+    @Test
+    void shouldInjectLazyProxyForLazyClass() {
+        // Given
+        SearchService service = context.getBean(SearchService.class);
+        assertEquals(0, SearchIndex.created.get());
+        assertNotSame(SearchIndex.class, service.getSearchIndex().getClass());
+
+        // When
+        int result = service.search("spring");
+
+        // Then
+        assertEquals(6, result);
+        assertEquals(1, SearchIndex.created.get());
+    }
+
+    @Test
+    void shouldInjectTargetDirectlyWhenInjectionPointOptsOut() {
+        // When
+        EagerSearchService service = context.getBean(EagerSearchService.class);
+
+        // Then: @Lazy(false)가 클래스 수준 @Lazy보다 우선
+        assertEquals(1, SearchIndex.created.get());
+        assertSame(context.getBean(SearchIndex.class), service.getSearchIndex());
+    }
+
+    @Test
+    void shouldBreakConstructorCycleWithLazyParameter() {
+        // When
+        OrderWorkflow workflow = context.getBean(OrderWorkflow.class);
+
+        // Then
+        assertEquals("placed+charged(open)", workflow.place());
+    }
+}
@@ -0,0 +1,92 @@
+package org.example.minispring.container;
+
+import org.example.minispring.container.phased.HttpServer;
+import org.example.minispring.container.phased.OrderConsumer;
+import org.example.minispring.container.phased.PhaseLog;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LifecyclePhaseTest {
+
+    private static final String BASE_PACKAGE = "org.example.minispring.container.phased";
+
+    @BeforeEach
+    void setUp() {
+        PhaseLog.reset();
+    }
+
+    @AfterEach
+    void tearDown() {
+        HttpServer.stuck = false;
+    }
+
+    @Test
+    void shouldStartPhasesInAscendingOrderAfterRefresh() {
+        // When: 같은 단계(100)의 두 소비자는 서로를 기다림 → 병렬로 시작되어야 통과
+        AnnotationConfigApplicationContext context = newContext(Duration.ofSeconds(5));
+
+        // Then
+        List<String> events = List.copyOf(PhaseLog.events);
+        assertEquals("start:broker", events.get(0));
+        assertTrue(events.subList(1, 3).containsAll(List.of("start:order", "start:payment")));
+        assertEquals("start:server", events.get(3));
+        assertTrue(context.getBean(OrderConsumer.class).isRunning());
+    }
+
+    @Test
+    void shouldNotAutoStartWhenDisabled() {
+        // When
+        AnnotationConfigApplicationContext context = newContext(Duration.ofSeconds(5));
+
+        // Then
+        assertFalse(PhaseLog.events.contains("start:reindexer"));
+        context.close();
+    }
+
+    @Test
+    void shouldStopPhasesInDescendingOrderBeforeDestroy() {
+        // Given
+        AnnotationConfigApplicationContext context = newContext(Duration.ofSeconds(5));
+        PhaseLog.events.clear();
+
+        // When
+        context.close();
+
+        // Then: 서버 → 소비자(비동기 콜백 대기) → 브로커 → @PreDestroy
+        List<String> events = List.copyOf(PhaseLog.events);
+        assertEquals("stop:server", events.get(0));
+        assertTrue(events.subList(1, 3).containsAll(List.of("stop:order", "stop:payment")));
+        assertEquals("stop:broker", events.get(3));
+        assertEquals("destroy:server", events.get(4));
+    }
+
+    @Test
+    void shouldContinueShutdownWhenStopCallbackNeverArrives() {
+        // Given
+        HttpServer.stuck = true;
+        AnnotationConfigApplicationContext context = newContext(Duration.ofMillis(200));
+
+        // When
+        long start = System.nanoTime();
+        context.close();
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        // Then: 단계 제한 시간 후 다음 단계 진행
+        assertTrue(elapsed.compareTo(Duration.ofSeconds(3)) < 0, "close took " + elapsed);
+        assertTrue(PhaseLog.events.contains("stop:broker"));
+    }
+
+    private static AnnotationConfigApplicationContext newContext(Duration stopTimeout) {
+        ContextOptions options = ContextOptions.builder()
+            .parallelism(4)
+            .lifecycleStopTimeout(stopTimeout)
+            .build();
+        return new AnnotationConfigApplicationContext(BASE_PACKAGE, options);
+    }
+}
@@ -0,0 +1,125 @@
+package org.example.minispring.container;
+
+import org.example.minispring.container.provider.AuditLog;
+import org.example.minispring.container.provider.AuditReporter;
+import org.example.minispring.container.provider.DeliveryAttempt;
+import org.example.minispring.container.provider.MaskFilter;
+import org.example.minispring.container.provider.MessageFilter;
+import org.example.minispring.container.provider.NotificationService;
+import org.example.minispring.container.provider.SmsSender;
+import org.example.minispring.container.provider.TrimFilter;
+import org.example.minispring.container.provider.UpperCaseFilter;
+import org.example.minispring.exception.NoSuchBeanException;
+import org.example.minispring.exception.NoUniqueBeanException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ObjectProviderTest {
+
+    private AnnotationConfigApplicationContext context;
+
+    @BeforeEach
+    void setUp() {
+        AuditLog.created.set(0);
+        context = new AnnotationConfigApplicationContext("org.example.minispring.container.provider");
+    }
+
+    @Test
+    void shouldResolveSingletonOnDemand() {
+        // Given
+        NotificationService service = context.getBean(NotificationService.class);
+        assertEquals(0, AuditLog.created.get());
+
+        // When
+        AuditLog first = service.getAuditLog().get();
+        AuditLog second = service.getAuditLog().getIfAvailable();
+
+        // Then
+        assertSame(first, second);
+        assertSame(context.getBean(AuditLog.class), first);
+        assertEquals(1, AuditLog.created.get());
+    }
+
+    @Test
+    void shouldCreateNewPrototypeOnEachGet() {
+        // Given
+        NotificationService service = context.getBean(NotificationService.class);
+
+        // When
+        DeliveryAttempt first = service.newAttempt();
+        DeliveryAttempt second = service.newAttempt();
+
+        // Then
+        assertNotSame(first, second);
+    }
+
+    @Test
+    void shouldStreamAllCandidatesInOrder() {
+        // Given
+        NotificationService service = context.getBean(NotificationService.class);
+
+        // When
+        List<Class<?>> ordered = service.getFilters().orderedStream()
+            .map(Object::getClass)
+            .collect(Collectors.toList());
+
+        // Then: @Order(1) → @Order(2) → @Order 없음
+        assertEquals(List.of(TrimFilter.class, MaskFilter.class, UpperCaseFilter.class), ordered);
+        assertEquals(3, service.getFilters().stream().count());
+        assertEquals("CARD ****", service.filter("  card 1234 "));
+        assertNull(service.getFilters().getIfUnique());
+        assertThrows(NoUniqueBeanException.class, () -> service.getFilters().getIfAvailable());
+    }
+
+    @Test
+    void shouldHandleMissingOptionalDependency() {
+        // Given
+        NotificationService service = context.getBean(NotificationService.class);
+        SmsSender fallback = message -> { };
+
+        // When & Then
+        assertNull(service.getSmsSender().getIfAvailable());
+        assertSame(fallback, service.getSmsSender().getIfAvailable(() -> fallback));
+        assertEquals(0, service.getSmsSender().stream().count());
+        assertThrows(NoSuchBeanException.class, () -> service.getSmsSender().get());
+    }
+
+    @Test
+    void shouldInjectProviderIntoBeanMethodParameter() {
+        // When
+        AuditReporter reporter = context.getBean(AuditReporter.class);
+
+        // Then
+        assertEquals(0, AuditLog.created.get());
+        assertSame(context.getBean(AuditLog.class), reporter.getAuditLog());
+    }
+
+    @Test
+    void shouldExposeProviderFromContext() {
+        // When
+        List<MessageFilter> filters = context.getBeanProvider(MessageFilter.class)
+            .orderedStream()
+            .collect(Collectors.toList());
+
+        // Then
+        assertEquals(3, filters.size());
+        assertSame(context.getBean(TrimFilter.class), filters.get(0));
+    }
+
+    @Test
+    void shouldCheckUniquenessWithoutCreatingBean() {
+        // When
+        boolean auditLogUnique = context.getBeanProvider(AuditLog.class).isUnique();
+        boolean filterUnique = context.getBeanProvider(MessageFilter.class).isUnique();
+
+        // Then: 빈 정의만 확인 → 아직 만들어지지 않은 빈은 그대로
+        assertTrue(auditLogUnique);
+        assertFalse(filterUnique);
+        assertEquals(0, AuditLog.created.get());
+    }
+}
@@ -0,0 +1,204 @@
+package org.example.minispring.container;
+
+import org.example.minispring.container.pooled.PooledConnection;
+import org.example.minispring.container.pooled.PooledParser;
+import org.example.minispring.exception.BeanPoolExhaustedException;
+import org.example.minispring.pool.BeanPool;
+import org.example.minispring.pool.PoolMetrics;
+import org.example.minispring.pool.PooledBean;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PooledScopeTest {
+
+    private AnnotationConfigApplicationContext context;
+
+    @BeforeEach
+    void setUp() {
+        PooledParser.initialized.set(0);
+        PooledParser.destroyed.set(0);
+        context = new AnnotationConfigApplicationContext("org.example.minispring.container.pooled");
+    }
+
+    @Test
+    void shouldReuseReturnedInstance() {
+        // Given
+        BeanPool<PooledParser> pool = context.getBeanPool(PooledParser.class);
+
+        // When
+        PooledParser first;
+        try (PooledBean<PooledParser> parser = pool.borrow()) {
+            first = parser.get();
+        }
+        PooledParser second;
+        try (PooledBean<PooledParser> parser = pool.borrow()) {
+            second = parser.get();
+        }
+
+        // Then
+        assertSame(first, second);
+        assertEquals(1, PooledParser.initialized.get());
+
+        PoolMetrics metrics = pool.getMetrics();
+        assertEquals(1, metrics.getMisses());
+        assertEquals(1, metrics.getHits());
+        assertEquals(1, metrics.getThreadLocalHits());
+        assertEquals(0, metrics.getActive());
+        assertEquals(1, metrics.getSize());
+    }
+
+    @Test
+    void shouldDestroyInvalidatedInstance() {
+        // Given
+        BeanPool<PooledParser> pool = context.getBeanPool(PooledParser.class);
+
+        // When
+        PooledParser first;
+        try (PooledBean<PooledParser> parser = pool.borrow()) {
+            first = parser.get();
+            parser.invalidate();
+        }
+        PooledParser second;
+        try (PooledBean<PooledParser> parser = pool.borrow()) {
+            second = parser.get();
+        }
+
+        // Then
+        assertNotSame(first, second);
+        assertEquals(1, PooledParser.destroyed.get());
+        assertEquals(2, PooledParser.initialized.get());
+    }
+
+    @Test
+    void shouldTimeOutWhenPoolIsExhausted() {
+        // Given
+        BeanPool<PooledParser> pool = context.getBeanPool(PooledParser.class);
+        PooledBean<PooledParser> first = pool.borrow();
+        PooledBean<PooledParser> second = pool.borrow();
+
+        // When & Then
+        assertThrows(BeanPoolExhaustedException.class, pool::borrow);
+        assertEquals(1, pool.getMetrics().getWaits());
+        assertEquals(1, pool.getMetrics().getTimeouts());
+
+        first.close();
+        second.close();
+        assertEquals(0, pool.getMetrics().getActive());
+    }
+
+    @Test
+    void shouldRejectPlainLookupOfPooledBean() {
+        // When & Then
+        assertThrows(IllegalStateException.class, () -> context.getBean(PooledParser.class));
+    }
+
+    @Test
+    void shouldDestroyIdleInstancesOnClose() {
+        // Given
+        BeanPool<PooledParser> pool = context.getBeanPool(PooledParser.class);
+        PooledBean<PooledParser> first = pool.borrow();
+        PooledBean<PooledParser> second = pool.borrow();
+        first.close();
+
+        // When
+        context.close();
+
+        // Then: 유휴 인스턴스는 즉시, 대여 중인 인스턴스는 반납 시 폐기
+        assertEquals(1, PooledParser.destroyed.get());
+        second.close();
+        assertEquals(2, PooledParser.destroyed.get());
+    }
+
+    @Test
+    void shouldEvictIdleInstancesInBackgroundRatherThanOnReturn() throws Exception {
+        // Given: 유휴 유지 시간 100ms인 풀이 최대 크기까지 늘어남
+        List<Object> destroyedBeans = new CopyOnWriteArrayList<>();
+        List<Thread> destroyingThreads = new CopyOnWriteArrayList<>();
+        BeanPool<Object> pool = new BeanPool<>("buffer", Object::new, bean -> {
+            destroyedBeans.add(bean);
+            destroyingThreads.add(Thread.currentThread());
+        }, 2, 50, 100);
+        PooledBean<Object> first = pool.borrow();
+        PooledBean<Object> second = pool.borrow();
+        List<Object> instances = List.of(first.get(), second.get());
+
+        // When: 모두 반납한 뒤 더 이상 대여하지 않음
+        first.close();
+        second.close();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (destroyedBeans.size() < 2 && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+
+        // Then: 정리 스레드가 풀을 줄임 (반납한 스레드는 폐기를 수행하지 않음)
+        assertEquals(Set.copyOf(instances), Set.copyOf(destroyedBeans));
+        assertFalse(destroyingThreads.contains(Thread.currentThread()));
+        assertEquals(0, pool.getMetrics().getSize());
+        pool.close();
+    }
+
+    @Test
+    void shouldDestroyInstanceThatFailsValidationOnBorrow() {
+        // Given
+        PooledConnection.destroyed.set(0);
+        BeanPool<PooledConnection> pool = context.getBeanPool(PooledConnection.class);
+        PooledConnection broken;
+        try (PooledBean<PooledConnection> connection = pool.borrow()) {
+            broken = connection.get();
+            broken.disconnect();
+        }
+
+        // When
+        PooledConnection next;
+        try (PooledBean<PooledConnection> connection = pool.borrow()) {
+            next = connection.get();
+        }
+
+        // Then: 검증에 실패한 인스턴스는 빌려주지 않고 @PreDestroy 후 폐기
+        assertNotSame(broken, next);
+        assertEquals(1, PooledConnection.destroyed.get());
+        assertEquals(2, pool.getMetrics().getMisses());
+        assertEquals(1, pool.getMetrics().getSize());
+    }
+
+    @Test
+    void shouldNeverShareInstanceBetweenThreads() throws Exception {
+        // Given
+        BeanPool<PooledParser> pool = context.getBeanPool(PooledParser.class);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        // When
+        List<Future<Boolean>> results = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            results.add(executor.submit(() -> {
+                boolean ok = true;
+                for (int j = 0; j < 500; j++) {
+                    try (PooledBean<PooledParser> parser = pool.borrow()) {
+                        ok &= parser.get().parse();
+                    } catch (BeanPoolExhaustedException e) {
+                        // 대기 시간이 짧아 실패할 수 있음 - 공유 여부만 검증
+                    }
+                }
+                return ok;
+            }));
+        }
+
+        // Then
+        for (Future<Boolean> result : results) {
+            assertTrue(result.get());
+        }
+        executor.shutdown();
+        assertTrue(pool.getMetrics().getSize() <= 2);
+    }
+}
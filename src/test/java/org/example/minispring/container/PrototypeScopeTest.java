@@ -0,0 +1,95 @@
+package org.example.minispring.container;
+
+import org.example.minispring.container.prototype.CommandHolder;
+import org.example.minispring.container.prototype.DraftEditor;
+import org.example.minispring.container.prototype.PrototypeCommand;
+import org.example.minispring.container.prototype.PrototypeConfig;
+import org.example.minispring.container.prototype.PrototypeTicket;
+import org.example.minispring.container.prototype.SharedRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PrototypeScopeTest {
+
+    private ApplicationContext context;
+
+    @BeforeEach
+    void setUp() {
+        context = new AnnotationConfigApplicationContext("org.example.minispring.container.prototype");
+    }
+
+    @Test
+    void shouldCreateNewInstanceOnEveryLookup() {
+        // When
+        PrototypeCommand first = context.getBean(PrototypeCommand.class);
+        PrototypeCommand second = context.getBean(PrototypeCommand.class);
+
+        // Then
+        assertNotSame(first, second);
+        assertTrue(first.isInitialized());
+        assertTrue(second.isInitialized());
+    }
+
+    @Test
+    void shouldShareSingletonDependencyAcrossPrototypes() {
+        // When
+        PrototypeCommand first = context.getBean(PrototypeCommand.class);
+        PrototypeCommand second = context.getBean(PrototypeCommand.class);
+
+        // Then
+        assertSame(context.getBean(SharedRepository.class), first.getRepository());
+        assertSame(first.getRepository(), second.getRepository());
+    }
+
+    @Test
+    void shouldCreateFreshPrototypeDependencyForEachInstance() {
+        // When
+        PrototypeCommand first = context.getBean(PrototypeCommand.class);
+        PrototypeCommand second = context.getBean(PrototypeCommand.class);
+
+        // Then: @Bean @Scope("prototype") 의존성도 인스턴스마다 새로 생성
+        assertNotNull(first.getTicket());
+        assertNotSame(first.getTicket(), second.getTicket());
+    }
+
+    @Test
+    void shouldCreateNewInstanceFromPrototypeBeanMethod() {
+        // When
+        PrototypeTicket first = context.getBean(PrototypeTicket.class);
+        PrototypeTicket second = context.getBean(PrototypeTicket.class);
+
+        // Then
+        assertNotSame(first, second);
+        assertNotNull(context.getBean(PrototypeConfig.class));
+    }
+
+    @Test
+    void shouldCreateLazyProxyForEachPrototypeInstance() {
+        // Given
+        DraftEditor first = context.getBean(DraftEditor.class);
+        DraftEditor second = context.getBean(DraftEditor.class);
+
+        // When: 각 지연 프록시가 처음 호출될 때 대상을 조회
+        first.getPage().append("first");
+        second.getPage().append("second");
+
+        // Then: 인스턴스마다 별도의 지연 프록시 → 별도의 prototype 대상
+        assertNotSame(first.getPage(), second.getPage());
+        assertEquals(List.of("first"), first.getPage().getLines());
+        assertEquals(List.of("second"), second.getPage().getLines());
+    }
+
+    @Test
+    void shouldInjectPrototypeOnceIntoSingleton() {
+        // When
+        CommandHolder holder = context.getBean(CommandHolder.class);
+
+        // Then: 싱글톤은 한 번만 생성되므로 주입된 prototype도 고정됨
+        assertSame(holder.getCommand(), context.getBean(CommandHolder.class).getCommand());
+        assertNotSame(holder.getCommand(), context.getBean(PrototypeCommand.class));
+    }
+}
@@ -0,0 +1,179 @@
+package org.example.minispring.container;
+
+import org.example.minispring.container.scoped.RequestContext;
+import org.example.minispring.container.scoped.ScopedConsumer;
+import org.example.minispring.container.scoped.TaskState;
+import org.example.minispring.proxy.ProxyObject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScopedBeanTest {
+
+    private AnnotationConfigApplicationContext context;
+
+    @BeforeEach
+    void setUp() {
+        RequestContext.destroyed.set(0);
+        TaskState.destroyed.set(0);
+        context = new AnnotationConfigApplicationContext("org.example.minispring.container.scoped");
+    }
+
+    @Test
+    void shouldBindThreadScopedBeanToThread() throws Exception {
+        // Given
+        RequestContext mine = context.getBean(RequestContext.class);
+
+        // When
+        AtomicReference<RequestContext> other = new AtomicReference<>();
+        Thread thread = new Thread(() -> other.set(context.getBean(RequestContext.class)));
+        thread.start();
+        thread.join();
+
+        // Then
+        assertSame(mine, context.getBean(RequestContext.class));
+        assertNotSame(mine, other.get());
+    }
+
+    @Test
+    void shouldInjectScopedProxyIntoSingleton() throws Exception {
+        // Given
+        ScopedConsumer consumer = context.getBean(ScopedConsumer.class);
+        RequestContext proxy = consumer.getRequestContext();
+
+        // When
+        AtomicReference<RequestContext> otherTarget = new AtomicReference<>();
+        Thread thread = new Thread(() -> otherTarget.set(proxy.self()));
+        thread.start();
+        thread.join();
+
+        // Then: 프록시 호출은 현재 스레드의 인스턴스로 위임됨
+        assertInstanceOf(ProxyObject.class, proxy);
+        assertSame(context.getBean(RequestContext.class), proxy.self());
+        assertEquals(Thread.currentThread().getName(), proxy.getThreadName());
+        assertNotSame(proxy.self(), otherTarget.get());
+    }
+
+    @Test
+    void shouldDestroyThreadScopedBeanWhenScopeEnds() {
+        // Given
+        RequestContext first = context.getBean(RequestContext.class);
+
+        // When
+        context.getThreadScope().end();
+
+        // Then
+        assertEquals(1, RequestContext.destroyed.get());
+        assertNotSame(first, context.getBean(RequestContext.class));
+    }
+
+    @Test
+    void shouldCleanUpAfterEachWrappedPoolTask() throws Exception {
+        // Given
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        ScopedConsumer consumer = context.getBean(ScopedConsumer.class);
+
+        // When
+        for (int i = 0; i < 3; i++) {
+            executor.submit(context.getThreadScope().wrap(() -> consumer.getRequestContext().getThreadName())).get();
+        }
+        executor.shutdown();
+
+        // Then: 풀 스레드는 재사용되지만 작업마다 인스턴스가 정리됨
+        assertEquals(3, RequestContext.destroyed.get());
+    }
+
+    @Test
+    void shouldScopeTaskBeanToRunBlock() throws Exception {
+        // Given
+        ScopedConsumer consumer = context.getBean(ScopedConsumer.class);
+
+        // When
+        int count = context.getTaskScope().call(() -> {
+            consumer.getTaskState().increment();
+            return consumer.getTaskState().increment();
+        });
+        int nested = context.getTaskScope().call(() -> {
+            consumer.getTaskState().increment();
+            return context.getTaskScope().call(() -> consumer.getTaskState().increment());
+        });
+
+        // Then
+        assertEquals(2, count);
+        assertEquals(1, nested);
+        assertEquals(3, TaskState.destroyed.get());
+        assertFalse(context.getTaskScope().isActive());
+        assertThrows(IllegalStateException.class, () -> consumer.getTaskState().increment());
+    }
+
+    @Test
+    void shouldDestroyRemainingThreadScopedBeansOnClose() throws Exception {
+        // Given
+        context.getBean(RequestContext.class);
+        Thread thread = new Thread(() -> context.getBean(RequestContext.class));
+        thread.start();
+        thread.join();
+
+        // When
+        context.close();
+
+        // Then
+        assertEquals(2, RequestContext.destroyed.get());
+    }
+
+    @Test
+    void shouldDestroyBeansOfThreadThatDiedWithoutEnd() throws Exception {
+        // Given: end() 없이 끝난 스레드
+        Thread thread = new Thread(() -> context.getBean(RequestContext.class));
+        thread.start();
+        thread.join();
+        assertEquals(0, RequestContext.destroyed.get());
+
+        // When: 다른 스레드가 처음 조회 (저장소 생성 경로)
+        context.getBean(RequestContext.class);
+
+        // Then: 죽은 스레드의 인스턴스는 @PreDestroy 후 정리됨, 종료 시 다시 폐기되지 않음
+        assertEquals(1, RequestContext.destroyed.get());
+        context.close();
+        assertEquals(2, RequestContext.destroyed.get());
+    }
+
+    @Test
+    void shouldRejectThreadScopedLookupAfterClose() throws Exception {
+        // Given: 다른 스레드가 스코프 빈을 사용 중
+        ScopedConsumer consumer = context.getBean(ScopedConsumer.class);
+        RequestContext proxy = consumer.getRequestContext();
+        CountDownLatch used = new CountDownLatch(1);
+        CountDownLatch closed = new CountDownLatch(1);
+        AtomicReference<Throwable> afterClose = new AtomicReference<>();
+        Thread worker = new Thread(() -> {
+            proxy.self();
+            used.countDown();
+            try {
+                closed.await();
+                proxy.self();
+            } catch (Throwable e) {
+                afterClose.set(e);
+            }
+        });
+        worker.start();
+        used.await();
+
+        // When
+        context.close();
+        closed.countDown();
+        worker.join();
+
+        // Then: 폐기된 스레드도, 처음 조회하는 스레드도 새 인스턴스를 만들지 않음
+        assertEquals(1, RequestContext.destroyed.get());
+        assertInstanceOf(IllegalStateException.class, afterClose.get());
+        assertThrows(IllegalStateException.class, proxy::self);
+        assertEquals(1, RequestContext.destroyed.get());
+    }
+}
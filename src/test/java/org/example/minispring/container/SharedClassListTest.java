@@ -0,0 +1,161 @@
+package org.example.minispring.container;
+
+import org.example.minispring.container.cds.CdsProbe;
+import org.example.minispring.container.cds.InvoiceService;
+import org.example.minispring.startup.SharedClassList;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SharedClassListTest {
+
+    private static final String BASE_PACKAGE = "org.example.minispring.container.cds";
+    private static final String PREFIX = "org/example/minispring/container/cds/";
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void shouldWriteClassListAfterTrainingRefresh() throws IOException {
+        // Given
+        Path classList = tempDir.resolve("app.classlist");
+        ContextOptions options = ContextOptions.builder()
+            .preInstantiateSingletons(true)
+            .sharedClassList(classList)
+            .build();
+
+        // When
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(BASE_PACKAGE, options);
+
+        // Then: 스캔 후보, 빈 클래스, @Bean 반환 타입, 주입 타입이 내부 이름으로 기록됨
+        List<String> lines = Files.readAllLines(classList);
+        assertTrue(lines.get(0).startsWith("#"));
+        assertTrue(lines.contains(PREFIX + "InvoiceService"));
+        assertTrue(lines.contains(PREFIX + "JdbcInvoiceStore"));
+        assertTrue(lines.contains(PREFIX + "InvoiceNumberFormat"));
+        assertTrue(lines.contains(PREFIX + "BillingConfig"));
+        assertTrue(lines.contains(PREFIX + "TaxPolicy"));
+        assertTrue(lines.contains("org/example/minispring/annotation/Repository"));
+        context.close();
+    }
+
+    @Test
+    void shouldListSupertypesFirstAndSkipGeneratedClasses() throws IOException {
+        // Given
+        Path classList = tempDir.resolve("app.classlist");
+        ContextOptions options = ContextOptions.builder().sharedClassList(classList).build();
+
+        // When
+        new AnnotationConfigApplicationContext(BASE_PACKAGE, options).close();
+
+        // Then
+        List<String> lines = Files.readAllLines(classList);
+        assertTrue(lines.indexOf(PREFIX + "InvoiceStore") < lines.indexOf(PREFIX + "JdbcInvoiceStore"));
+        assertTrue(lines.stream().noneMatch(line -> line.contains("$$")));
+        assertTrue(lines.stream().noneMatch(line -> line.startsWith("java/")));
+        assertEquals(lines.size(), lines.stream().distinct().count());
+    }
+
+    @Test
+    void shouldNotWriteClassListByDefault() {
+        // When
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(BASE_PACKAGE);
+
+        // Then
+        assertNotNull(context.getBean(InvoiceService.class));
+        try (var files = Files.list(tempDir)) {
+            assertEquals(0, files.count());
+        } catch (IOException e) {
+            fail(e);
+        }
+        context.close();
+    }
+
+    @Test
+    void shouldCreateArchiveFromClassList() throws IOException {
+        // Given
+        Path classList = tempDir.resolve("app.classlist");
+        Path archive = tempDir.resolve("app.jsa");
+        new AnnotationConfigApplicationContext(
+            BASE_PACKAGE, ContextOptions.builder().sharedClassList(classList).build()
+        ).close();
+        String classpath = jarClassDirectories(tempDir.resolve("app.jar"));
+
+        // When
+        SharedClassList.createArchive(classList, archive, classpath, Duration.ofMinutes(2));
+
+        // Then
+        assertTrue(Files.size(archive) > 0);
+        assertEquals(
+            List.of("-Xshare:dump", "-XX:SharedClassListFile=" + classList.toAbsolutePath(),
+                "-XX:SharedArchiveFile=" + archive.toAbsolutePath(), "-cp", classpath),
+            SharedClassList.archiveCommand(classList, archive, classpath).subList(1, 6)
+        );
+    }
+
+    @Test
+    void shouldMapArchiveForJdkAndApplicationClasses() throws Exception {
+        // Given
+        Path classList = tempDir.resolve("app.classlist");
+        Path archive = tempDir.resolve("app.jsa");
+        new AnnotationConfigApplicationContext(
+            BASE_PACKAGE, ContextOptions.builder().sharedClassList(classList).build()
+        ).close();
+        String classpath = jarClassDirectories(tempDir.resolve("app.jar"));
+        SharedClassList.createArchive(classList, archive, classpath, Duration.ofMinutes(2));
+
+        // When: -Xshare:on → 아카이브를 매핑하지 못하면 JVM이 시작되지 않음
+        Path java = Path.of(System.getProperty("java.home"), "bin", "java");
+        Process process = new ProcessBuilder(
+            java.toString(), "-Xshare:on", "-XX:SharedArchiveFile=" + archive,
+            "-Xlog:cds", "-Xlog:class+load=info", "-cp", classpath, CdsProbe.class.getName()
+        ).redirectErrorStream(true).start();
+        String output = new String(process.getInputStream().readAllBytes());
+
+        // Then: JDK 클래스(합친 JDK 목록)와 애플리케이션 클래스 모두 아카이브에서 로드
+        assertTrue(process.waitFor(2, TimeUnit.MINUTES));
+        assertEquals(0, process.exitValue(), output);
+        assertTrue(output.contains("java.lang.Object source: shared objects file"), output);
+        // JDK 목록 없이 덤프하면 기본 아카이브에만 있던 JDK 클래스(예: 종료 시 로드되는 Shutdown)가 jrt:/에서 로드됨
+        assertTrue(output.contains("java.lang.Shutdown source: shared objects file"), output);
+        assertTrue(output.contains(InvoiceService.class.getName() + " source: shared objects file"), output);
+    }
+
+    /**
+     * AppCDS는 디렉터리 클래스패스를 거부하므로 빌드 출력 디렉터리를 jar 하나로 묶음
+     */
+    private static String jarClassDirectories(Path jar) throws IOException {
+        List<String> classpath = new ArrayList<>();
+        classpath.add(jar.toString());
+        try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar))) {
+            for (String entry : System.getProperty("java.class.path").split(File.pathSeparator)) {
+                Path path = Path.of(entry);
+                if (!Files.isDirectory(path)) {
+                    classpath.add(entry);
+                    continue;
+                }
+                try (Stream<Path> files = Files.walk(path)) {
+                    for (Path file : files.filter(Files::isRegularFile).toList()) {
+                        out.putNextEntry(new JarEntry(path.relativize(file).toString().replace(File.separatorChar, '/')));
+                        Files.copy(file, out);
+                        out.closeEntry();
+                    }
+                }
+            }
+        }
+        return String.join(File.pathSeparator, classpath);
+    }
+}
@@ -0,0 +1,102 @@
+package org.example.minispring.container;
+
+import org.example.minispring.bean.BeanDefinition;
+import org.example.minispring.container.shutdown.ConnectionPool;
+import org.example.minispring.container.shutdown.HungClient;
+import org.example.minispring.container.shutdown.ShutdownLog;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ShutdownOrderTest {
+
+    private static final String BASE_PACKAGE = "org.example.minispring.container.shutdown";
+
+    @BeforeEach
+    void setUp() {
+        ShutdownLog.reset();
+    }
+
+    @AfterEach
+    void tearDown() {
+        HungClient.hang = false;
+    }
+
+    @Test
+    void shouldDestroyDependentsBeforeTheirDependencies() {
+        // Given
+        AnnotationConfigApplicationContext context = startedContext(Duration.ofSeconds(10));
+
+        // When
+        context.close();
+
+        // Then: OrderService → OrderRepository → ConnectionPool (HungClient도 ConnectionPool보다 먼저)
+        List<String> destroyed = List.copyOf(ShutdownLog.destroyed);
+        assertTrue(destroyed.indexOf("orderService") < destroyed.indexOf("orderRepository"));
+        assertTrue(destroyed.indexOf("orderRepository") < destroyed.indexOf("connectionPool"));
+        assertTrue(destroyed.indexOf("hungClient") < destroyed.indexOf("connectionPool"));
+    }
+
+    @Test
+    void shouldDestroyIndependentBeansConcurrently() {
+        // Given
+        AnnotationConfigApplicationContext context = startedContext(Duration.ofSeconds(10));
+
+        // When: MetricsExporter와 AuditFlusher의 @PreDestroy가 서로를 기다림
+        context.close();
+
+        // Then
+        assertTrue(ShutdownLog.destroyed.contains("metricsExporter"));
+        assertTrue(ShutdownLog.destroyed.contains("auditFlusher"));
+    }
+
+    @Test
+    void shouldNotLetHungPreDestroyStallShutdown() {
+        // Given
+        HungClient.hang = true;
+        AnnotationConfigApplicationContext context = startedContext(Duration.ofMillis(300));
+
+        // When
+        long start = System.nanoTime();
+        context.close();
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        // Then: 멈춘 빈은 제한 시간 후 건너뛰고, 그 빈이 의존하던 ConnectionPool도 정리됨
+        assertTrue(elapsed.compareTo(Duration.ofSeconds(5)) < 0, "shutdown took " + elapsed);
+        assertFalse(ShutdownLog.destroyed.contains("hungClient"));
+        assertTrue(ShutdownLog.destroyed.contains("connectionPool"));
+        assertTrue(ShutdownLog.destroyed.contains("orderService"));
+    }
+
+    @Test
+    void shouldReportBeansNotDestroyedWithinDeadline() {
+        // Given
+        HungClient.hang = true;
+        SimpleBeanFactory beanFactory = new SimpleBeanFactory();
+        beanFactory.registerBeanDefinition(new BeanDefinition("connectionPool", ConnectionPool.class));
+        beanFactory.registerBeanDefinition(new BeanDefinition("hungClient", HungClient.class));
+        beanFactory.getBean("hungClient");
+
+        // When: 전체 제한 시간이 빈별 제한 시간보다 짧음
+        List<String> notDestroyed = beanFactory.destroySingletons(
+            Duration.ofMillis(200), Duration.ofSeconds(10), 2
+        );
+
+        // Then: HungClient는 실행 중, ConnectionPool은 HungClient를 기다리다 건너뜀
+        assertEquals(List.of("connectionPool", "hungClient"), notDestroyed.stream().sorted().toList());
+    }
+
+    private static AnnotationConfigApplicationContext startedContext(Duration destroyTimeout) {
+        ContextOptions options = ContextOptions.builder()
+            .preInstantiateSingletons(true)
+            .parallelism(4)
+            .shutdownTimeout(Duration.ofSeconds(10), destroyTimeout)
+            .build();
+        return new AnnotationConfigApplicationContext(BASE_PACKAGE, options);
+    }
+}
@@ -0,0 +1,167 @@
+package org.example.minispring.container;
+
+import org.example.minispring.container.warmstart.CartRepository;
+import org.example.minispring.container.warmstart.CheckoutService;
+import org.example.minispring.container.warmstart.ReportingJob;
+import org.example.minispring.container.warmstart.SlowCatalog;
+import org.example.minispring.startup.StartupProfile;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StartupProfileTest {
+
+    private static final String BASE_PACKAGE = "org.example.minispring.container.warmstart";
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeEach
+    void setUp() {
+        CartRepository.created.set(0);
+        CheckoutService.created.set(0);
+        ReportingJob.created.set(0);
+        SlowCatalog.reset();
+    }
+
+    @Test
+    void shouldRecordRequestOrderAndCreationTime() {
+        // Given
+        Path file = tempDir.resolve("startup.profile");
+        ContextOptions options = ContextOptions.builder()
+            .recordStartupProfile(file, Duration.ofMinutes(1))
+            .build();
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(BASE_PACKAGE, options);
+
+        // When: 트래픽 구간에 CheckoutService만 사용 후 종료 (구간 종료 전 → close()에서 저장)
+        context.getBean(CheckoutService.class);
+        context.getBean(CheckoutService.class);
+        context.close();
+
+        // Then: 처음 요청된 순서대로 한 번씩만 기록, 쓰이지 않은 빈은 없음
+        StartupProfile profile = StartupProfile.read(file);
+        assertEquals(List.of("checkoutService", "cartRepository"), profile.getBeanNames());
+        for (StartupProfile.Entry entry : profile.getEntries()) {
+            assertTrue(entry.getCreationMicros() >= 0, entry.getBeanName());
+        }
+    }
+
+    @Test
+    void shouldPreCreateOnlyProfiledBeansOnNextStart() throws Exception {
+        // Given: 지난 실행의 프로파일
+        Path file = tempDir.resolve("startup.profile");
+        new StartupProfile(List.of(
+            new StartupProfile.Entry("checkoutService", 1200),
+            new StartupProfile.Entry("cartRepository", 300)
+        )).write(file);
+
+        // When
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(
+            BASE_PACKAGE, ContextOptions.builder().warmStartProfile(file).build()
+        );
+        context.getWarmStart().get(5, TimeUnit.SECONDS);
+
+        // Then: 기록된 빈은 첫 요청 전에 준비, 쓰이지 않은 빈은 지연 생성 유지
+        assertEquals(1, CheckoutService.created.get());
+        assertEquals(1, CartRepository.created.get());
+        assertEquals(0, ReportingJob.created.get());
+
+        CheckoutService service = context.getBean(CheckoutService.class);
+        assertSame(context.getBean(CartRepository.class), service.getCartRepository());
+        assertEquals(1, CheckoutService.created.get());
+    }
+
+    @Test
+    void shouldSkipWarmStartWhenProfileMissing() {
+        // When
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(
+            BASE_PACKAGE, ContextOptions.builder().warmStartProfile(tempDir.resolve("missing.profile")).build()
+        );
+
+        // Then: 첫 실행은 기존처럼 지연 생성
+        assertTrue(context.getWarmStart().isDone());
+        assertEquals(0, CheckoutService.created.get());
+    }
+
+    @Test
+    void shouldIgnoreStaleEntriesAndNotRecordWarmStartRequests() throws Exception {
+        // Given: 지금은 없는 빈이 섞인 프로파일
+        Path previous = tempDir.resolve("previous.profile");
+        Path next = tempDir.resolve("next.profile");
+        new StartupProfile(List.of(
+            new StartupProfile.Entry("removedBean", 50),
+            new StartupProfile.Entry("reportingJob", -1)
+        )).write(previous);
+
+        // When: 웜 스타트와 기록을 함께 사용, 애플리케이션 요청은 없음
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(
+            BASE_PACKAGE,
+            ContextOptions.builder()
+                .warmStartProfile(previous)
+                .recordStartupProfile(next, Duration.ofMinutes(1))
+                .build()
+        );
+        context.getWarmStart().get(5, TimeUnit.SECONDS);
+        context.close();
+
+        // Then: 없는 빈은 건너뛰고, 웜 스타트의 요청은 새 프로파일에 남지 않음
+        assertEquals(1, ReportingJob.created.get());
+        assertTrue(StartupProfile.read(next).isEmpty());
+    }
+
+    @Test
+    void shouldStopWarmStartAndDestroyInFlightBeanOnClose() throws Exception {
+        // Given: slowCatalog 생성 도중인 웜 스타트 (작업 스레드 1개, reportingJob은 대기 중)
+        Path file = tempDir.resolve("startup.profile");
+        new StartupProfile(List.of(
+            new StartupProfile.Entry("slowCatalog", 5000),
+            new StartupProfile.Entry("reportingJob", 100)
+        )).write(file);
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(
+            BASE_PACKAGE, ContextOptions.builder().warmStartProfile(file).parallelism(1).build()
+        );
+        SlowCatalog.entered.await(5, TimeUnit.SECONDS);
+
+        // When: 생성 도중 종료 → 웜 스타트 중단을 기다리는 동안 생성 완료
+        Thread closer = new Thread(context::close);
+        closer.start();
+        while (closer.getState() != Thread.State.TIMED_WAITING && closer.isAlive()) {
+            Thread.onSpinWait();
+        }
+        SlowCatalog.release.countDown();
+        closer.join(TimeUnit.SECONDS.toMillis(10));
+
+        // Then: 생성 중이던 빈도 정리되고, 남은 작업은 건너뛰며, 종료 후 새 singleton은 만들지 않음
+        assertFalse(closer.isAlive());
+        assertEquals(1, SlowCatalog.destroyed.get());
+        assertEquals(0, ReportingJob.created.get());
+        assertThrows(IllegalStateException.class, () -> context.getBean(ReportingJob.class));
+        assertTrue(context.getWarmStart().isDone());
+    }
+
+    @Test
+    void shouldRoundTripProfileFile() {
+        // Given
+        Path file = tempDir.resolve("nested/startup.profile");
+        StartupProfile profile = new StartupProfile(List.of(
+            new StartupProfile.Entry("checkoutService", 1200),
+            new StartupProfile.Entry("cartRepository", -1)
+        ));
+
+        // When
+        profile.write(file);
+        StartupProfile read = StartupProfile.read(file);
+
+        // Then
+        assertEquals(profile.getBeanNames(), read.getBeanNames());
+        assertEquals(1200, read.getEntries().get(0).getCreationMicros());
+        assertEquals(-1, read.getEntries().get(1).getCreationMicros());
+    }
+}
@@ -0,0 +1,142 @@
+package org.example.minispring.container;
+
+import org.example.minispring.container.steps.ReportController;
+import org.example.minispring.container.steps.ReportIndex;
+import org.example.minispring.startup.BeanStartupTime;
+import org.example.minispring.startup.StartupRecorder;
+import org.example.minispring.startup.StartupStep;
+import org.example.minispring.startup.StartupTimeline;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StartupStepTest {
+
+    private static final String BASE_PACKAGE = "org.example.minispring.container.steps";
+
+    @Test
+    void shouldRecordRefreshWithScanAndConfigurationSteps() {
+        // Given
+        ContextOptions options = ContextOptions.builder().recordStartupSteps(true).build();
+
+        // When
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(BASE_PACKAGE, options);
+
+        // Then
+        StartupTimeline timeline = context.getStartupTimeline();
+        assertNotNull(timeline);
+        StartupStep refresh = timeline.getRoots().get(0);
+        assertEquals(StartupRecorder.REFRESH, refresh.getName());
+        assertEquals(BASE_PACKAGE, refresh.getTag());
+        assertTrue(refresh.isEnded());
+        assertEquals(
+            List.of(StartupRecorder.SCAN, StartupRecorder.CONFIGURATION_CLASSES),
+            refresh.getChildren().stream().map(StartupStep::getName).collect(Collectors.toList())
+        );
+        for (StartupStep child : refresh.getChildren()) {
+            assertTrue(child.getWallNanos() <= refresh.getWallNanos());
+        }
+        context.close();
+    }
+
+    @Test
+    void shouldNestDependencyCreationInsideDependentBean() {
+        // Given: 지연 생성 컨텍스트
+        ContextOptions options = ContextOptions.builder().recordStartupSteps(true).build();
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(BASE_PACKAGE, options);
+
+        // When
+        context.getBean(ReportController.class);
+
+        // Then: bean.create → bean.dependencies → bean.create ... → bean.post-construct
+        StartupStep controller = context.getStartupTimeline().getRoots().get(1);
+        assertEquals(StartupRecorder.BEAN_CREATE, controller.getName());
+        assertEquals("reportController", controller.getTag());
+
+        StartupStep dependencies = controller.getChildren().get(0);
+        assertEquals(StartupRecorder.BEAN_DEPENDENCIES, dependencies.getName());
+        StartupStep service = dependencies.getChildren().get(0);
+        assertEquals("reportService", service.getTag());
+
+        StartupStep index = service.getChildren().get(0).getChildren().get(0);
+        assertEquals("reportIndex", index.getTag());
+        assertEquals(
+            List.of(StartupRecorder.BEAN_DEPENDENCIES, StartupRecorder.BEAN_POST_CONSTRUCT),
+            index.getChildren().stream().map(StartupStep::getName).collect(Collectors.toList())
+        );
+
+        // 할당 / CPU 측정 (@PostConstruct의 큰 배열이 포함됨)
+        StartupStep postConstruct = index.getChildren().get(1);
+        assertTrue(postConstruct.getAllocatedBytes() >= ReportIndex.INDEX_BYTES);
+        assertTrue(index.getAllocatedBytes() >= postConstruct.getAllocatedBytes());
+        assertTrue(controller.getAllocatedBytes() >= index.getAllocatedBytes());
+        assertTrue(postConstruct.getCpuNanos() > 0);
+        context.close();
+    }
+
+    @Test
+    void shouldReportSlowestBeansExcludingNestedCreation() {
+        // Given
+        ContextOptions options = ContextOptions.builder().recordStartupSteps(true).build();
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(BASE_PACKAGE, options);
+        context.getBean(ReportController.class);
+
+        // When
+        List<BeanStartupTime> slowest = context.getStartupTimeline().getSlowestBeans(2);
+
+        // Then: 의존 빈을 함께 만든 reportController가 아니라 무거운 초기화를 한 reportIndex가 1위
+        assertEquals(2, slowest.size());
+        assertEquals("reportIndex", slowest.get(0).getBeanName());
+        assertTrue(slowest.get(0).getOwnAllocatedBytes() >= ReportIndex.INDEX_BYTES);
+
+        BeanStartupTime controller = context.getStartupTimeline().getSlowestBeans(10).stream()
+            .filter(bean -> bean.getBeanName().equals("reportController"))
+            .findFirst().orElseThrow();
+        assertTrue(controller.getTotalWallNanos() >= slowest.get(0).getOwnWallNanos());
+        assertTrue(controller.getOwnAllocatedBytes() < ReportIndex.INDEX_BYTES);
+        context.close();
+    }
+
+    @Test
+    void shouldAttachBeansCreatedOnWorkerThreadsToRefresh() {
+        // Given
+        ContextOptions options = ContextOptions.builder()
+            .recordStartupSteps(true)
+            .preInstantiateSingletons(true)
+            .parallelism(4)
+            .build();
+
+        // When
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(BASE_PACKAGE, options);
+
+        // Then: 모든 빈 생성이 refresh 트리 안에 기록됨
+        StartupTimeline timeline = context.getStartupTimeline();
+        assertEquals(1, timeline.getRoots().size());
+        Set<String> created = timeline.getSteps(StartupRecorder.BEAN_CREATE).stream()
+            .map(StartupStep::getTag)
+            .collect(Collectors.toSet());
+        assertEquals(Set.of("reportIndex", "reportService", "reportController"), created);
+        assertTrue(timeline.format().startsWith(StartupRecorder.REFRESH));
+        context.close();
+    }
+
+    @Test
+    void shouldNotRecordWhenDisabled() {
+        // When
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(BASE_PACKAGE);
+        context.getBean(ReportController.class);
+
+        // Then: 기록기 없음, NONE은 공유 단계만 반환
+        assertNull(context.getStartupTimeline());
+        StartupStep first = StartupRecorder.NONE.start(StartupRecorder.BEAN_CREATE, "a");
+        StartupStep second = StartupRecorder.NONE.start(StartupRecorder.BEAN_CREATE, "b");
+        assertSame(first, second);
+        first.end();
+        assertFalse(first.isEnded());
+        context.close();
+    }
+}
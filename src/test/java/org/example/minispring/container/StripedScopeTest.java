@@ -0,0 +1,84 @@
+package org.example.minispring.container;
+
+import org.example.minispring.container.striped.HitCounter;
+import org.example.minispring.container.striped.HitRecorder;
+import org.example.minispring.scope.StripedBeans;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StripedScopeTest {
+
+    private AnnotationConfigApplicationContext context;
+
+    @BeforeEach
+    void setUp() {
+        HitCounter.destroyed.set(0);
+        context = new AnnotationConfigApplicationContext("org.example.minispring.container.striped");
+    }
+
+    @Test
+    void shouldUseConfiguredStripeCount() {
+        // When
+        StripedBeans<HitCounter> stripes = context.getStripedBeans(HitCounter.class);
+
+        // Then
+        assertEquals(4, stripes.size());
+    }
+
+    @Test
+    void shouldReturnSameStripeForSameThread() {
+        // When
+        HitCounter first = context.getBean(HitCounter.class);
+        HitCounter second = context.getBean(HitCounter.class);
+
+        // Then
+        assertSame(first, second);
+        assertSame(first, context.getStripedBeans(HitCounter.class).current());
+    }
+
+    @Test
+    void shouldCombineWritesFromAllStripes() throws Exception {
+        // Given
+        HitRecorder recorder = context.getBean(HitRecorder.class);
+        List<Thread> threads = new ArrayList<>();
+
+        // When: 여러 스레드가 프록시를 통해 각자의 스트라이프에 기록
+        for (int i = 0; i < 8; i++) {
+            Thread thread = new Thread(() -> {
+                for (int j = 0; j < 1000; j++) {
+                    recorder.record();
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        // Then
+        long total = context.getStripedBeans(HitCounter.class)
+            .reduce(0L, (sum, counter) -> sum + counter.getHits());
+        assertEquals(8000, total);
+    }
+
+    @Test
+    void shouldDestroyCreatedStripesOnClose() {
+        // Given
+        context.getBean(HitCounter.class);
+        AtomicInteger created = new AtomicInteger();
+        context.getStripedBeans(HitCounter.class).forEach(counter -> created.incrementAndGet());
+
+        // When
+        context.close();
+
+        // Then
+        assertEquals(created.get(), HitCounter.destroyed.get());
+    }
+}
@@ -0,0 +1,89 @@
+package org.example.minispring.container;
+
+import org.example.minispring.container.warmup.LazyReportRenderer;
+import org.example.minispring.container.warmup.PriceCalculator;
+import org.example.minispring.container.warmup.SlowIndexer;
+import org.example.minispring.startup.StartupReport;
+import org.example.minispring.startup.WarmUpResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WarmUpTest {
+
+    private static final String BASE_PACKAGE = "org.example.minispring.container.warmup";
+
+    @BeforeEach
+    void setUp() {
+        PriceCalculator.warmUpCalls.set(0);
+        LazyReportRenderer.created.set(0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SlowIndexer.slow = false;
+    }
+
+    @Test
+    void shouldRunWarmUpMethodsBeforeContextIsReady() {
+        // When
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(BASE_PACKAGE);
+
+        // Then: 생성자가 반환될 때 이미 모든 반복이 끝남
+        assertEquals(500, PriceCalculator.warmUpCalls.get());
+
+        List<WarmUpResult> results = context.getStartupReport().getWarmUps("priceCalculator");
+        assertEquals(1, results.size());
+        assertTrue(results.get(0).isCompleted());
+        assertEquals(500, results.get(0).getCompletedIterations());
+        assertFalse(context.getStartupReport().isWarmUpBudgetExceeded());
+    }
+
+    @Test
+    void shouldNotWarmUpLazyBeans() {
+        // When
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(BASE_PACKAGE);
+
+        // Then
+        assertEquals(0, LazyReportRenderer.created.get());
+        assertTrue(context.getStartupReport().getWarmUps("lazyReportRenderer").isEmpty());
+    }
+
+    @Test
+    void shouldStopWhenBudgetIsExhausted() {
+        // Given
+        SlowIndexer.slow = true;
+        ContextOptions options = ContextOptions.builder()
+            .warmUpBudget(Duration.ofMillis(200))
+            .parallelism(4)
+            .build();
+
+        // When
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(BASE_PACKAGE, options);
+
+        // Then: 느린 웜업은 예산에서 잘리고, 나머지 빈의 웜업은 끝까지 실행됨
+        StartupReport report = context.getStartupReport();
+        assertTrue(report.isWarmUpBudgetExceeded());
+        WarmUpResult slow = report.getWarmUps("slowIndexer").get(0);
+        assertFalse(slow.isCompleted());
+        assertTrue(slow.getCompletedIterations() < slow.getRequestedIterations());
+        assertTrue(report.getRefreshTime().compareTo(Duration.ofSeconds(10)) < 0);
+        assertEquals(500, PriceCalculator.warmUpCalls.get());
+    }
+
+    @Test
+    void shouldReportFailureWithoutFailingStartup() {
+        // When
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(BASE_PACKAGE);
+
+        // Then
+        WarmUpResult broken = context.getStartupReport().getWarmUps("brokenFormatter").get(0);
+        assertEquals(0, broken.getCompletedIterations());
+        assertTrue(broken.getFailure().contains("template missing"));
+    }
+}
@@ -0,0 +1,41 @@
+package org.example.minispring.container.async;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+// 테스트가 비동기 초기화의 완료 시점을 제어하기 위한 게이트
+public final class AsyncGate {
+    // 공용 풀 크기와 무관하게 두 초기화가 동시에 대기할 수 있도록 별도 실행기 사용
+    static final Executor EXECUTOR = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "async-init");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public static volatile CountDownLatch catalog = new CountDownLatch(1);
+    public static volatile CountDownLatch prices = new CountDownLatch(1);
+
+    private AsyncGate() {
+    }
+
+    public static void reset() {
+        // 이전 테스트에서 대기 중인 초기화 작업을 풀어줌
+        catalog.countDown();
+        prices.countDown();
+        catalog = new CountDownLatch(1);
+        prices = new CountDownLatch(1);
+    }
+
+    static void await(CountDownLatch latch) {
+        try {
+            if (!latch.await(5, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("Gate was never opened");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
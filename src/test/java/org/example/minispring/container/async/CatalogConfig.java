@@ -0,0 +1,36 @@
+package org.example.minispring.container.async;
+
+import org.example.minispring.annotation.Bean;
+import org.example.minispring.annotation.Configuration;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Configuration
+public class CatalogConfig {
+    public static final AtomicInteger catalogLoads = new AtomicInteger();
+    public static final AtomicInteger indexAttempts = new AtomicInteger();
+
+    @Bean
+    public CompletableFuture<SearchCatalog> searchCatalog() {
+        catalogLoads.incrementAndGet();
+        return CompletableFuture.supplyAsync(() -> {
+            AsyncGate.await(AsyncGate.catalog);
+            return new SearchCatalog();
+        }, AsyncGate.EXECUTOR);
+    }
+
+    @Bean
+    public CompletableFuture<FeedClient> feedClient() {
+        return CompletableFuture.failedFuture(new IllegalStateException("feed unavailable"));
+    }
+
+    @Bean
+    public CompletableFuture<RankingIndex> rankingIndex() {
+        // 첫 시도(refresh 중)만 실패
+        if (indexAttempts.incrementAndGet() == 1) {
+            return CompletableFuture.failedFuture(new IllegalStateException("index not built yet"));
+        }
+        return CompletableFuture.completedFuture(new RankingIndex());
+    }
+}
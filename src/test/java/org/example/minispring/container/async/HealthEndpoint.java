@@ -0,0 +1,10 @@
+package org.example.minispring.container.async;
+
+import org.example.minispring.annotation.Component;
+
+@Component
+public class HealthEndpoint {
+    public String status() {
+        return "UP";
+    }
+}
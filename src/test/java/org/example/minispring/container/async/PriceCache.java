@@ -0,0 +1,29 @@
+package org.example.minispring.container.async;
+
+import org.example.minispring.annotation.Component;
+import org.example.minispring.annotation.PostConstruct;
+
+import java.util.concurrent.CompletableFuture;
+
+@Component
+public class PriceCache {
+    private volatile boolean loadStarted;
+    private volatile boolean loaded;
+
+    @PostConstruct
+    public CompletableFuture<Void> load() {
+        loadStarted = true;
+        return CompletableFuture.runAsync(() -> {
+            AsyncGate.await(AsyncGate.prices);
+            loaded = true;
+        }, AsyncGate.EXECUTOR);
+    }
+
+    public boolean isLoadStarted() {
+        return loadStarted;
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+}
@@ -0,0 +1,4 @@
+package org.example.minispring.container.async;
+
+public class RankingIndex {
+}
@@ -0,0 +1,7 @@
+package org.example.minispring.container.async;
+
+public class SearchCatalog {
+    public int size() {
+        return 42;
+    }
+}
@@ -0,0 +1,16 @@
+package org.example.minispring.container.async;
+
+import org.example.minispring.annotation.Service;
+
+@Service
+public class SearchFacade {
+    private final SearchCatalog searchCatalog;
+
+    public SearchFacade(SearchCatalog searchCatalog) {
+        this.searchCatalog = searchCatalog;
+    }
+
+    public int catalogSize() {
+        return searchCatalog.size();
+    }
+}
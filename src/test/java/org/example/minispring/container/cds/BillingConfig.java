@@ -0,0 +1,13 @@
+package org.example.minispring.container.cds;
+
+import org.example.minispring.annotation.Bean;
+import org.example.minispring.annotation.Configuration;
+
+@Configuration
+public class BillingConfig {
+
+    @Bean
+    public TaxPolicy taxPolicy() {
+        return new TaxPolicy(10);
+    }
+}
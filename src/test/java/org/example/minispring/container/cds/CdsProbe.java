@@ -0,0 +1,14 @@
+package org.example.minispring.container.cds;
+
+/**
+ * 아카이브 매핑 확인용 실행 클래스 (별도 JVM에서 빈 클래스를 로드만 함)
+ */
+public final class CdsProbe {
+
+    private CdsProbe() {
+    }
+
+    public static void main(String[] args) throws ClassNotFoundException {
+        Class.forName(InvoiceService.class.getName());
+    }
+}
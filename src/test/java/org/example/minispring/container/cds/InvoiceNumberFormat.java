@@ -0,0 +1,11 @@
+package org.example.minispring.container.cds;
+
+public final class InvoiceNumberFormat {
+
+    private InvoiceNumberFormat() {
+    }
+
+    public static String format(String number) {
+        return number.toUpperCase();
+    }
+}
@@ -0,0 +1,18 @@
+package org.example.minispring.container.cds;
+
+import org.example.minispring.annotation.Service;
+
+@Service
+public class InvoiceService {
+    private final InvoiceStore invoiceStore;
+    private final TaxPolicy taxPolicy;
+
+    public InvoiceService(JdbcInvoiceStore jdbcInvoiceStore, TaxPolicy taxPolicy) {
+        this.invoiceStore = jdbcInvoiceStore;
+        this.taxPolicy = taxPolicy;
+    }
+
+    public String describe(long id, long amount) {
+        return InvoiceNumberFormat.format(invoiceStore.find(id)) + " " + taxPolicy.apply(amount);
+    }
+}
@@ -0,0 +1,5 @@
+package org.example.minispring.container.cds;
+
+public interface InvoiceStore {
+    String find(long id);
+}
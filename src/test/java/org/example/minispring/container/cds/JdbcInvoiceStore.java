@@ -0,0 +1,12 @@
+package org.example.minispring.container.cds;
+
+import org.example.minispring.annotation.Repository;
+
+@Repository
+public class JdbcInvoiceStore implements InvoiceStore {
+
+    @Override
+    public String find(long id) {
+        return "invoice-" + id;
+    }
+}
@@ -0,0 +1,13 @@
+package org.example.minispring.container.cds;
+
+public class TaxPolicy {
+    private final int percent;
+
+    public TaxPolicy(int percent) {
+        this.percent = percent;
+    }
+
+    public long apply(long amount) {
+        return amount * (100 + percent) / 100;
+    }
+}
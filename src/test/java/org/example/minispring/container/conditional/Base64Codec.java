@@ -0,0 +1,9 @@
+package org.example.minispring.container.conditional;
+
+import org.example.minispring.annotation.Component;
+import org.example.minispring.annotation.ConditionalOnClass;
+
+@Component
+@ConditionalOnClass("java.util.Base64")
+public class Base64Codec {
+}
@@ -0,0 +1,22 @@
+package org.example.minispring.container.conditional;
+
+import org.example.minispring.annotation.Bean;
+import org.example.minispring.annotation.ConditionalOnMissingBean;
+import org.example.minispring.annotation.ConditionalOnProperty;
+import org.example.minispring.annotation.Configuration;
+
+@Configuration
+public class ClockConfig {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public TimeSource timeSource() {
+        return new TimeSource("system");
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "clock.utc", havingValue = "true")
+    public TimeSource utcTimeSource() {
+        return new TimeSource("utc");
+    }
+}
@@ -0,0 +1,19 @@
+package org.example.minispring.container.conditional;
+
+import org.example.minispring.annotation.Component;
+import org.example.minispring.annotation.Profile;
+
+@Component
+@Profile("cloud")
+public class CloudMailSender {
+
+    static {
+        LoadTracker.INITIALIZED.add("CloudMailSender");
+    }
+
+    public static class Settings {
+        static {
+            LoadTracker.INITIALIZED.add("CloudMailSender$Settings");
+        }
+    }
+}
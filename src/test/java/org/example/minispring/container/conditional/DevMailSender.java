@@ -0,0 +1,9 @@
+package org.example.minispring.container.conditional;
+
+import org.example.minispring.annotation.Component;
+import org.example.minispring.annotation.Profile;
+
+@Component
+@Profile("dev")
+public class DevMailSender {
+}
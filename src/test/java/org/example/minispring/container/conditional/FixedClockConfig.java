@@ -0,0 +1,15 @@
+package org.example.minispring.container.conditional;
+
+import org.example.minispring.annotation.Bean;
+import org.example.minispring.annotation.Configuration;
+import org.example.minispring.annotation.Profile;
+
+@Configuration
+@Profile("test")
+public class FixedClockConfig {
+
+    @Bean
+    public TimeSource fixedTimeSource() {
+        return new TimeSource("fixed");
+    }
+}
@@ -0,0 +1,14 @@
+package org.example.minispring.container.conditional;
+
+import org.example.minispring.annotation.Component;
+import org.example.minispring.annotation.ConditionalOnMissingBean;
+
+@Component
+@ConditionalOnMissingBean(PriceCache.class)
+public class InMemoryPriceCache implements PriceCache {
+
+    @Override
+    public String backend() {
+        return "in-memory";
+    }
+}
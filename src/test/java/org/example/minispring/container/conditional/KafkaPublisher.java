@@ -0,0 +1,13 @@
+package org.example.minispring.container.conditional;
+
+import org.example.minispring.annotation.Component;
+import org.example.minispring.annotation.ConditionalOnClass;
+
+@Component
+@ConditionalOnClass("org.apache.kafka.clients.producer.KafkaProducer")
+public class KafkaPublisher {
+
+    static {
+        LoadTracker.INITIALIZED.add("KafkaPublisher");
+    }
+}
@@ -0,0 +1,15 @@
+package org.example.minispring.container.conditional;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 조건부 클래스의 static 초기화 기록 (컴포넌트 아님)
+ */
+public final class LoadTracker {
+
+    public static final Set<String> INITIALIZED = ConcurrentHashMap.newKeySet();
+
+    private LoadTracker() {
+    }
+}
@@ -0,0 +1,9 @@
+package org.example.minispring.container.conditional;
+
+import org.example.minispring.annotation.Component;
+import org.example.minispring.annotation.ConditionalOnProperty;
+
+@Component
+@ConditionalOnProperty(name = "metrics.enabled", havingValue = "true")
+public class MetricsExporter {
+}
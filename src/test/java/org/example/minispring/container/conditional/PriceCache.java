@@ -0,0 +1,6 @@
+package org.example.minispring.container.conditional;
+
+public interface PriceCache {
+
+    String backend();
+}
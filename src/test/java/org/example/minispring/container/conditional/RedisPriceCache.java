@@ -0,0 +1,14 @@
+package org.example.minispring.container.conditional;
+
+import org.example.minispring.annotation.Component;
+import org.example.minispring.annotation.Profile;
+
+@Component
+@Profile("redis")
+public class RedisPriceCache implements PriceCache {
+
+    @Override
+    public String backend() {
+        return "redis";
+    }
+}
@@ -0,0 +1,15 @@
+package org.example.minispring.container.conditional;
+
+import org.example.minispring.annotation.Bean;
+import org.example.minispring.annotation.Configuration;
+import org.example.minispring.annotation.Profile;
+
+@Configuration
+@Profile("remote-cache")
+public class RemotePriceCacheConfig {
+
+    @Bean
+    public PriceCache remotePriceCache() {
+        return () -> "remote";
+    }
+}
@@ -0,0 +1,14 @@
+package org.example.minispring.container.conditional;
+
+public class TimeSource {
+
+    private final String name;
+
+    public TimeSource(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+}
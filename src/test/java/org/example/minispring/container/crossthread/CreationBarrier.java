@@ -0,0 +1,24 @@
+package org.example.minispring.container.crossthread;
+
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+
+// 두 스레드가 각자 A / B의 생성 락을 잡은 뒤에야 통과하는 장벽
+public final class CreationBarrier {
+    private static volatile CyclicBarrier barrier = new CyclicBarrier(2);
+
+    private CreationBarrier() {
+    }
+
+    public static void reset() {
+        barrier = new CyclicBarrier(2);
+    }
+
+    public static void await() {
+        try {
+            barrier.await(5, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            throw new IllegalStateException("Beans were not created concurrently", e);
+        }
+    }
+}
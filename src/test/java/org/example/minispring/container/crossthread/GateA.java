@@ -0,0 +1,10 @@
+package org.example.minispring.container.crossthread;
+
+import org.example.minispring.annotation.Component;
+
+@Component
+public class GateA {
+    public GateA() {
+        CreationBarrier.await();
+    }
+}
@@ -0,0 +1,10 @@
+package org.example.minispring.container.crossthread;
+
+import org.example.minispring.annotation.Component;
+
+// GateA를 먼저 만든 뒤(LedgerA 락을 잡은 채 장벽 대기) LedgerB를 요청
+@Component
+public class LedgerA {
+    public LedgerA(GateA gate, LedgerB other) {
+    }
+}
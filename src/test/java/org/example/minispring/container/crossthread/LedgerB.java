@@ -0,0 +1,10 @@
+package org.example.minispring.container.crossthread;
+
+import org.example.minispring.annotation.Component;
+
+// GateB를 먼저 만든 뒤(LedgerB 락을 잡은 채 장벽 대기) LedgerA를 요청
+@Component
+public class LedgerB {
+    public LedgerB(GateB gate, LedgerA other) {
+    }
+}
@@ -0,0 +1,16 @@
+package org.example.minispring.container.eager;
+
+import org.example.minispring.annotation.Component;
+import org.example.minispring.annotation.Lazy;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Component
+@Lazy
+public class ArchiveExporter {
+    public static final AtomicInteger created = new AtomicInteger();
+
+    public ArchiveExporter() {
+        created.incrementAndGet();
+    }
+}
@@ -0,0 +1,21 @@
+package org.example.minispring.container.eager;
+
+import org.example.minispring.annotation.Service;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Service
+public class CatalogService {
+    public static final AtomicInteger created = new AtomicInteger();
+
+    private final boolean dependenciesReady;
+
+    public CatalogService(InventoryClient inventoryClient, PricingClient pricingClient) {
+        created.incrementAndGet();
+        this.dependenciesReady = inventoryClient.isConnected() && pricingClient.isConnected();
+    }
+
+    public boolean isDependenciesReady() {
+        return dependenciesReady;
+    }
+}
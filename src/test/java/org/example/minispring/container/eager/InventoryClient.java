@@ -0,0 +1,19 @@
+package org.example.minispring.container.eager;
+
+import org.example.minispring.annotation.Component;
+import org.example.minispring.annotation.PostConstruct;
+
+@Component
+public class InventoryClient {
+    private volatile boolean connected;
+
+    @PostConstruct
+    public void connect() {
+        StartupBarrier.await();
+        connected = true;
+    }
+
+    public boolean isConnected() {
+        return connected;
+    }
+}
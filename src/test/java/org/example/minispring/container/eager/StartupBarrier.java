@@ -0,0 +1,24 @@
+package org.example.minispring.container.eager;
+
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+
+// 두 빈의 @PostConstruct가 동시에 실행되어야만 통과하는 장벽
+public final class StartupBarrier {
+    private static volatile CyclicBarrier barrier = new CyclicBarrier(2);
+
+    private StartupBarrier() {
+    }
+
+    public static void reset() {
+        barrier = new CyclicBarrier(2);
+    }
+
+    public static void await() {
+        try {
+            barrier.await(5, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            throw new IllegalStateException("Beans were not initialized concurrently", e);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package org.example.minispring.container.evictable;
+
+import org.example.minispring.annotation.Component;
+import org.example.minispring.annotation.Evictable;
+import org.example.minispring.annotation.PreDestroy;
+import org.example.minispring.annotation.Scope;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+@Component
+@Scope("evictable")
+@Evictable(sizeBytes = 400)
+public class LookupTable {
+    public static final List<LookupTable> destroyed = new ArrayList<>();
+
+    public LookupTable self() {
+        return this;
+    }
+
+    /**
+     * 호출 도중 제거 테스트용: entered를 알리고 proceed까지 대기
+     */
+    public boolean hold(CountDownLatch entered, CountDownLatch proceed) throws InterruptedException {
+        entered.countDown();
+        proceed.await();
+        return destroyed.contains(this);
+    }
+
+    @PreDestroy
+    public void destroy() {
+        destroyed.add(this);
+    }
+}
@@ -0,0 +1,14 @@
+package org.example.minispring.container.evictable;
+
+import org.example.minispring.annotation.Component;
+import org.example.minispring.annotation.Scope;
+
+@Component
+@Scope("evictable")
+public class SoftTable {
+    private final int[] rows = new int[1024];
+
+    public int size() {
+        return rows.length;
+    }
+}
@@ -0,0 +1,22 @@
+package org.example.minispring.container.evictable;
+
+import org.example.minispring.annotation.Service;
+
+import java.util.concurrent.CountDownLatch;
+
+@Service
+public class TableUser {
+    private final LookupTable table;
+
+    public TableUser(LookupTable table) {
+        this.table = table;
+    }
+
+    public LookupTable currentTable() {
+        return table.self();
+    }
+
+    public boolean holdTable(CountDownLatch entered, CountDownLatch proceed) throws InterruptedException {
+        return table.hold(entered, proceed);
+    }
+}
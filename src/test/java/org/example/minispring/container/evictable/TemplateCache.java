@@ -0,0 +1,25 @@
+package org.example.minispring.container.evictable;
+
+import org.example.minispring.annotation.Component;
+import org.example.minispring.annotation.Evictable;
+import org.example.minispring.annotation.PreDestroy;
+import org.example.minispring.annotation.Scope;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+@Scope("evictable")
+@Evictable(sizeBytes = 400)
+public class TemplateCache {
+    public static final List<TemplateCache> destroyed = new ArrayList<>();
+
+    public TemplateCache self() {
+        return this;
+    }
+
+    @PreDestroy
+    public void destroy() {
+        destroyed.add(this);
+    }
+}
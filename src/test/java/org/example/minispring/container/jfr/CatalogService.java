@@ -0,0 +1,33 @@
+package org.example.minispring.container.jfr;
+
+import org.example.minispring.annotation.PostConstruct;
+import org.example.minispring.annotation.PreDestroy;
+import org.example.minispring.annotation.Service;
+
+@Service
+public class CatalogService {
+    private final SlowRepository slowRepository;
+    private boolean loaded;
+
+    public CatalogService(SlowRepository slowRepository) {
+        this.slowRepository = slowRepository;
+    }
+
+    @PostConstruct
+    void loadCatalog() {
+        loaded = true;
+    }
+
+    @PreDestroy
+    void flushCatalog() {
+        loaded = false;
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    public SlowRepository getSlowRepository() {
+        return slowRepository;
+    }
+}
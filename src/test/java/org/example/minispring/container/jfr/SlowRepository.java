@@ -0,0 +1,16 @@
+package org.example.minispring.container.jfr;
+
+import org.example.minispring.annotation.Repository;
+
+import java.util.concurrent.CountDownLatch;
+
+@Repository
+public class SlowRepository {
+    public static final long CONSTRUCTION_MILLIS = 100;
+    public static volatile CountDownLatch constructing = new CountDownLatch(1);
+
+    public SlowRepository() throws InterruptedException {
+        constructing.countDown();
+        Thread.sleep(CONSTRUCTION_MILLIS);  // 커넥션 풀 준비 등 느린 생성
+    }
+}
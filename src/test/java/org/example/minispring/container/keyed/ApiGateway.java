@@ -0,0 +1,22 @@
+package org.example.minispring.container.keyed;
+
+import org.example.minispring.annotation.Service;
+
+import java.util.concurrent.CountDownLatch;
+
+@Service
+public class ApiGateway {
+    private final TenantRateLimiter rateLimiter;
+
+    public ApiGateway(TenantRateLimiter rateLimiter) {
+        this.rateLimiter = rateLimiter;
+    }
+
+    public int handle() {
+        return rateLimiter.acquire();
+    }
+
+    public boolean hold(CountDownLatch entered, CountDownLatch proceed) throws InterruptedException {
+        return rateLimiter.hold(entered, proceed);
+    }
+}
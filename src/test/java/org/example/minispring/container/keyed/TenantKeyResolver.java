@@ -0,0 +1,22 @@
+package org.example.minispring.container.keyed;
+
+import org.example.minispring.annotation.Component;
+import org.example.minispring.scope.ScopeKeyResolver;
+
+@Component
+public class TenantKeyResolver implements ScopeKeyResolver {
+    private static final ThreadLocal<String> CURRENT_TENANT = new ThreadLocal<>();
+
+    public static void setTenant(String tenantId) {
+        CURRENT_TENANT.set(tenantId);
+    }
+
+    public static void clear() {
+        CURRENT_TENANT.remove();
+    }
+
+    @Override
+    public Object currentKey() {
+        return CURRENT_TENANT.get();
+    }
+}
@@ -0,0 +1,38 @@
+package org.example.minispring.container.keyed;
+
+import org.example.minispring.annotation.Component;
+import org.example.minispring.annotation.Keyed;
+import org.example.minispring.annotation.PreDestroy;
+import org.example.minispring.annotation.Scope;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+@Component
+@Scope("keyed")
+@Keyed(resolver = TenantKeyResolver.class, maxSize = 2)
+public class TenantRateLimiter {
+    public static final List<TenantRateLimiter> destroyed = Collections.synchronizedList(new ArrayList<>());
+
+    private int permitsUsed;
+
+    public synchronized int acquire() {
+        return ++permitsUsed;
+    }
+
+    /**
+     * 호출 도중 제거 테스트용: entered를 알리고 proceed까지 대기
+     */
+    public boolean hold(CountDownLatch entered, CountDownLatch proceed) throws InterruptedException {
+        entered.countDown();
+        proceed.await();
+        return destroyed.contains(this);
+    }
+
+    @PreDestroy
+    public void destroy() {
+        destroyed.add(this);
+    }
+}
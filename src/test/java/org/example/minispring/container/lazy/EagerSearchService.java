@@ -0,0 +1,17 @@
+package org.example.minispring.container.lazy;
+
+import org.example.minispring.annotation.Lazy;
+import org.example.minispring.annotation.Service;
+
+@Service
+public class EagerSearchService {
+    private final SearchIndex searchIndex;
+
+    public EagerSearchService(@Lazy(false) SearchIndex searchIndex) {
+        this.searchIndex = searchIndex;
+    }
+
+    public SearchIndex getSearchIndex() {
+        return searchIndex;
+    }
+}
@@ -0,0 +1,21 @@
+package org.example.minispring.container.lazy;
+
+import org.example.minispring.annotation.Component;
+import org.example.minispring.annotation.Lazy;
+
+@Component
+public class OrderWorkflow {
+    private final PaymentWorkflow paymentWorkflow;
+
+    public OrderWorkflow(@Lazy PaymentWorkflow paymentWorkflow) {
+        this.paymentWorkflow = paymentWorkflow;
+    }
+
+    public String place() {
+        return "placed+" + paymentWorkflow.charge();
+    }
+
+    public String status() {
+        return "open";
+    }
+}
@@ -0,0 +1,16 @@
+package org.example.minispring.container.lazy;
+
+import org.example.minispring.annotation.Component;
+
+@Component
+public class PaymentWorkflow {
+    private final OrderWorkflow orderWorkflow;
+
+    public PaymentWorkflow(OrderWorkflow orderWorkflow) {
+        this.orderWorkflow = orderWorkflow;
+    }
+
+    public String charge() {
+        return "charged(" + orderWorkflow.status() + ")";
+    }
+}
@@ -0,0 +1,21 @@
+package org.example.minispring.container.lazy;
+
+import org.example.minispring.annotation.Controller;
+import org.example.minispring.annotation.Lazy;
+
+@Controller
+public class ReportController {
+    private final ReportEngine reportEngine;
+
+    public ReportController(@Lazy ReportEngine reportEngine) {
+        this.reportEngine = reportEngine;
+    }
+
+    public ReportEngine getReportEngine() {
+        return reportEngine;
+    }
+
+    public String download(String name) {
+        return reportEngine.render(name);
+    }
+}
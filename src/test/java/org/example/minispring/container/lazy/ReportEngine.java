@@ -0,0 +1,18 @@
+package org.example.minispring.container.lazy;
+
+import org.example.minispring.annotation.Component;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Component
+public class ReportEngine {
+    public static final AtomicInteger created = new AtomicInteger();
+
+    public ReportEngine() {
+        created.incrementAndGet();
+    }
+
+    public String render(String name) {
+        return "report:" + name;
+    }
+}
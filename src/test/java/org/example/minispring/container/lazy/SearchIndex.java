@@ -0,0 +1,20 @@
+package org.example.minispring.container.lazy;
+
+import org.example.minispring.annotation.Component;
+import org.example.minispring.annotation.Lazy;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Component
+@Lazy
+public class SearchIndex {
+    public static final AtomicInteger created = new AtomicInteger();
+
+    public SearchIndex() {
+        created.incrementAndGet();
+    }
+
+    public int lookup(String term) {
+        return term.length();
+    }
+}
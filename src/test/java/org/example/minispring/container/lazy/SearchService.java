@@ -0,0 +1,18 @@
+package org.example.minispring.container.lazy;
+
+import org.example.minispring.annotation.Autowired;
+import org.example.minispring.annotation.Service;
+
+@Service
+public class SearchService {
+    @Autowired
+    private SearchIndex searchIndex;
+
+    public SearchIndex getSearchIndex() {
+        return searchIndex;
+    }
+
+    public int search(String term) {
+        return searchIndex.lookup(term);
+    }
+}
@@ -0,0 +1,47 @@
+package org.example.minispring.container.phased;
+
+import org.example.minispring.annotation.Component;
+import org.example.minispring.annotation.PreDestroy;
+import org.example.minispring.lifecycle.SmartLifecycle;
+
+@Component
+public class HttpServer implements SmartLifecycle {
+    public static volatile boolean stuck;
+
+    private volatile boolean running;
+
+    @Override
+    public int getPhase() {
+        return 200;
+    }
+
+    @Override
+    public void start() {
+        PhaseLog.record("start:server");
+        running = true;
+    }
+
+    @Override
+    public void stop(Runnable callback) {
+        running = false;
+        PhaseLog.record("stop:server");
+        if (!stuck) {
+            callback.run();  // stuck이면 완료를 알리지 않음 → 단계 제한 시간까지 대기
+        }
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @PreDestroy
+    public void release() {
+        PhaseLog.record("destroy:server");
+    }
+}
@@ -0,0 +1,30 @@
+package org.example.minispring.container.phased;
+
+import org.example.minispring.annotation.Component;
+import org.example.minispring.lifecycle.SmartLifecycle;
+
+@Component
+public class ManualReindexer implements SmartLifecycle {
+    private volatile boolean running;
+
+    @Override
+    public boolean isAutoStartup() {
+        return false;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        PhaseLog.record("start:reindexer");
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+}
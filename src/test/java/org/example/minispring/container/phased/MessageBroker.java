@@ -0,0 +1,26 @@
+package org.example.minispring.container.phased;
+
+import org.example.minispring.annotation.Component;
+import org.example.minispring.lifecycle.SmartLifecycle;
+
+@Component
+public class MessageBroker implements SmartLifecycle {
+    private volatile boolean running;
+
+    @Override
+    public void start() {
+        PhaseLog.record("start:broker");
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        PhaseLog.record("stop:broker");
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+}
@@ -0,0 +1,47 @@
+package org.example.minispring.container.phased;
+
+import org.example.minispring.annotation.Component;
+import org.example.minispring.lifecycle.SmartLifecycle;
+
+@Component
+public class OrderConsumer implements SmartLifecycle {
+    private final MessageBroker broker;
+    private volatile boolean running;
+
+    public OrderConsumer(MessageBroker broker) {
+        this.broker = broker;
+    }
+
+    @Override
+    public int getPhase() {
+        return 100;
+    }
+
+    @Override
+    public void start() {
+        PhaseLog.awaitPeer();
+        running = broker.isRunning();
+        PhaseLog.record("start:order");
+    }
+
+    @Override
+    public void stop(Runnable callback) {
+        // 처리 중인 메시지를 다른 스레드에서 비운 뒤 완료 알림
+        running = false;
+        Thread drain = new Thread(() -> {
+            PhaseLog.record("stop:order");
+            callback.run();
+        });
+        drain.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+}
@@ -0,0 +1,34 @@
+package org.example.minispring.container.phased;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+
+// start / stop / @PreDestroy 호출 순서 기록 + 같은 단계의 두 빈이 동시에 시작되어야만 통과하는 장벽
+public final class PhaseLog {
+    public static final List<String> events = Collections.synchronizedList(new ArrayList<>());
+
+    private static volatile CyclicBarrier barrier = new CyclicBarrier(2);
+
+    private PhaseLog() {
+    }
+
+    public static void reset() {
+        events.clear();
+        barrier = new CyclicBarrier(2);
+    }
+
+    public static void record(String event) {
+        events.add(event);
+    }
+
+    public static void awaitPeer() {
+        try {
+            barrier.await(5, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            throw new IllegalStateException("Consumers were not started concurrently", e);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package org.example.minispring.container.pooled;
+
+import org.example.minispring.annotation.Component;
+import org.example.minispring.annotation.PreDestroy;
+import org.example.minispring.annotation.Pooled;
+import org.example.minispring.annotation.Scope;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Component
+@Scope("pooled")
+@Pooled(maxSize = 2, maxWaitMillis = 50, validate = "isOpen")
+public class PooledConnection {
+    public static final AtomicInteger destroyed = new AtomicInteger();
+
+    private boolean open = true;
+
+    public void disconnect() {
+        open = false;
+    }
+
+    private boolean isOpen() {
+        return open;
+    }
+
+    @PreDestroy
+    public void destroy() {
+        destroyed.incrementAndGet();
+    }
+}
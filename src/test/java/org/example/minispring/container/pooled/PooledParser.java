@@ -0,0 +1,42 @@
+package org.example.minispring.container.pooled;
+
+import org.example.minispring.annotation.Component;
+import org.example.minispring.annotation.PostConstruct;
+import org.example.minispring.annotation.PreDestroy;
+import org.example.minispring.annotation.Pooled;
+import org.example.minispring.annotation.Scope;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Component
+@Scope("pooled")
+@Pooled(maxSize = 2, maxWaitMillis = 50)
+public class PooledParser {
+    public static final AtomicInteger initialized = new AtomicInteger();
+    public static final AtomicInteger destroyed = new AtomicInteger();
+
+    private final AtomicBoolean inUse = new AtomicBoolean();
+
+    @PostConstruct
+    public void init() {
+        initialized.incrementAndGet();
+    }
+
+    @PreDestroy
+    public void destroy() {
+        destroyed.incrementAndGet();
+    }
+
+    /**
+     * 두 스레드가 동시에 사용하면 false 반환 (스레드 안전하지 않은 객체 흉내)
+     */
+    public boolean parse() {
+        if (!inUse.compareAndSet(false, true)) {
+            return false;
+        }
+        Thread.yield();
+        inUse.set(false);
+        return true;
+    }
+}
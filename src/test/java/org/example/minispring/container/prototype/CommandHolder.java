@@ -0,0 +1,16 @@
+package org.example.minispring.container.prototype;
+
+import org.example.minispring.annotation.Service;
+
+@Service
+public class CommandHolder {
+    private final PrototypeCommand command;
+
+    public CommandHolder(PrototypeCommand command) {
+        this.command = command;
+    }
+
+    public PrototypeCommand getCommand() {
+        return command;
+    }
+}
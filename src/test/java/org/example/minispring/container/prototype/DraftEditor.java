@@ -0,0 +1,19 @@
+package org.example.minispring.container.prototype;
+
+import org.example.minispring.annotation.Component;
+import org.example.minispring.annotation.Lazy;
+import org.example.minispring.annotation.Scope;
+
+@Component
+@Scope("prototype")
+public class DraftEditor {
+    private final DraftPage page;
+
+    public DraftEditor(@Lazy DraftPage page) {
+        this.page = page;
+    }
+
+    public DraftPage getPage() {
+        return page;
+    }
+}
@@ -0,0 +1,21 @@
+package org.example.minispring.container.prototype;
+
+import org.example.minispring.annotation.Component;
+import org.example.minispring.annotation.Scope;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+@Scope("prototype")
+public class DraftPage {
+    private final List<String> lines = new ArrayList<>();
+
+    public void append(String line) {
+        lines.add(line);
+    }
+
+    public List<String> getLines() {
+        return lines;
+    }
+}
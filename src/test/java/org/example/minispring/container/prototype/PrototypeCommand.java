@@ -0,0 +1,38 @@
+package org.example.minispring.container.prototype;
+
+import org.example.minispring.annotation.Autowired;
+import org.example.minispring.annotation.Component;
+import org.example.minispring.annotation.PostConstruct;
+import org.example.minispring.annotation.Scope;
+
+@Component
+@Scope("prototype")
+public class PrototypeCommand {
+    private final SharedRepository repository;
+
+    @Autowired
+    private PrototypeTicket ticket;
+
+    private boolean initialized;
+
+    public PrototypeCommand(SharedRepository repository) {
+        this.repository = repository;
+    }
+
+    @PostConstruct
+    public void init() {
+        initialized = true;
+    }
+
+    public SharedRepository getRepository() {
+        return repository;
+    }
+
+    public PrototypeTicket getTicket() {
+        return ticket;
+    }
+
+    public boolean isInitialized() {
+        return initialized;
+    }
+}
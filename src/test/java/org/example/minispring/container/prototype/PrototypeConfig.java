@@ -0,0 +1,15 @@
+package org.example.minispring.container.prototype;
+
+import org.example.minispring.annotation.Bean;
+import org.example.minispring.annotation.Configuration;
+import org.example.minispring.annotation.Scope;
+
+@Configuration
+public class PrototypeConfig {
+
+    @Bean
+    @Scope("prototype")
+    public PrototypeTicket prototypeTicket() {
+        return new PrototypeTicket();
+    }
+}
@@ -0,0 +1,4 @@
+package org.example.minispring.container.prototype;
+
+public class PrototypeTicket {
+}
@@ -0,0 +1,7 @@
+package org.example.minispring.container.prototype;
+
+import org.example.minispring.annotation.Repository;
+
+@Repository
+public class SharedRepository {
+}
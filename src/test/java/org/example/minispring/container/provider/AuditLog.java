@@ -0,0 +1,14 @@
+package org.example.minispring.container.provider;
+
+import org.example.minispring.annotation.Component;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Component
+public class AuditLog {
+    public static final AtomicInteger created = new AtomicInteger();
+
+    public AuditLog() {
+        created.incrementAndGet();
+    }
+}
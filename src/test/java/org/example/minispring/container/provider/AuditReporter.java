@@ -0,0 +1,15 @@
+package org.example.minispring.container.provider;
+
+import org.example.minispring.container.ObjectProvider;
+
+public class AuditReporter {
+    private final ObjectProvider<AuditLog> auditLog;
+
+    public AuditReporter(ObjectProvider<AuditLog> auditLog) {
+        this.auditLog = auditLog;
+    }
+
+    public AuditLog getAuditLog() {
+        return auditLog.get();
+    }
+}
@@ -0,0 +1,9 @@
+package org.example.minispring.container.provider;
+
+import org.example.minispring.annotation.Component;
+import org.example.minispring.annotation.Scope;
+
+@Component
+@Scope("prototype")
+public class DeliveryAttempt {
+}
@@ -0,0 +1,5 @@
+package org.example.minispring.container.provider;
+
+public interface MessageFilter {
+    String apply(String message);
+}
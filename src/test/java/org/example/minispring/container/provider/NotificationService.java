@@ -0,0 +1,49 @@
+package org.example.minispring.container.provider;
+
+import org.example.minispring.annotation.Service;
+import org.example.minispring.container.ObjectProvider;
+import org.example.minispring.container.Provider;
+
+import java.util.stream.Collectors;
+
+@Service
+public class NotificationService {
+    private final ObjectProvider<AuditLog> auditLog;
+    private final ObjectProvider<MessageFilter> filters;
+    private final ObjectProvider<SmsSender> smsSender;
+    private final Provider<DeliveryAttempt> attempts;
+
+    public NotificationService(ObjectProvider<AuditLog> auditLog,
+                               ObjectProvider<MessageFilter> filters,
+                               ObjectProvider<SmsSender> smsSender,
+                               Provider<DeliveryAttempt> attempts) {
+        this.auditLog = auditLog;
+        this.filters = filters;
+        this.smsSender = smsSender;
+        this.attempts = attempts;
+    }
+
+    public ObjectProvider<AuditLog> getAuditLog() {
+        return auditLog;
+    }
+
+    public ObjectProvider<MessageFilter> getFilters() {
+        return filters;
+    }
+
+    public ObjectProvider<SmsSender> getSmsSender() {
+        return smsSender;
+    }
+
+    public DeliveryAttempt newAttempt() {
+        return attempts.get();
+    }
+
+    public String filter(String message) {
+        String result = message;
+        for (MessageFilter filter : filters.orderedStream().collect(Collectors.toList())) {
+            result = filter.apply(result);
+        }
+        return result;
+    }
+}
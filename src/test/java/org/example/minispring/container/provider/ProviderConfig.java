@@ -0,0 +1,14 @@
+package org.example.minispring.container.provider;
+
+import org.example.minispring.annotation.Bean;
+import org.example.minispring.annotation.Configuration;
+import org.example.minispring.container.ObjectProvider;
+
+@Configuration
+public class ProviderConfig {
+
+    @Bean
+    public AuditReporter auditReporter(ObjectProvider<AuditLog> auditLog) {
+        return new AuditReporter(auditLog);
+    }
+}
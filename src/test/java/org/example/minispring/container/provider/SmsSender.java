@@ -0,0 +1,6 @@
+package org.example.minispring.container.provider;
+
+// 구현 빈이 없는 선택적 의존성
+public interface SmsSender {
+    void send(String message);
+}
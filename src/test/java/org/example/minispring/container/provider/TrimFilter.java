@@ -0,0 +1,13 @@
+package org.example.minispring.container.provider;
+
+import org.example.minispring.annotation.Component;
+import org.example.minispring.annotation.Order;
+
+@Component
+@Order(1)
+public class TrimFilter implements MessageFilter {
+    @Override
+    public String apply(String message) {
+        return message.trim();
+    }
+}
@@ -0,0 +1,11 @@
+package org.example.minispring.container.provider;
+
+import org.example.minispring.annotation.Component;
+
+@Component
+public class UpperCaseFilter implements MessageFilter {
+    @Override
+    public String apply(String message) {
+        return message.toUpperCase();
+    }
+}
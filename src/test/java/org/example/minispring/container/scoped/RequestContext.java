@@ -0,0 +1,28 @@
+package org.example.minispring.container.scoped;
+
+import org.example.minispring.annotation.Component;
+import org.example.minispring.annotation.PreDestroy;
+import org.example.minispring.annotation.Scope;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Component
+@Scope("thread")
+public class RequestContext {
+    public static final AtomicInteger destroyed = new AtomicInteger();
+
+    private final String threadName = Thread.currentThread().getName();
+
+    public String getThreadName() {
+        return threadName;
+    }
+
+    public RequestContext self() {
+        return this;
+    }
+
+    @PreDestroy
+    public void destroy() {
+        destroyed.incrementAndGet();
+    }
+}
@@ -0,0 +1,22 @@
+package org.example.minispring.container.scoped;
+
+import org.example.minispring.annotation.Service;
+
+@Service
+public class ScopedConsumer {
+    private final RequestContext requestContext;
+    private final TaskState taskState;
+
+    public ScopedConsumer(RequestContext requestContext, TaskState taskState) {
+        this.requestContext = requestContext;
+        this.taskState = taskState;
+    }
+
+    public RequestContext getRequestContext() {
+        return requestContext;
+    }
+
+    public TaskState getTaskState() {
+        return taskState;
+    }
+}
@@ -0,0 +1,24 @@
+package org.example.minispring.container.scoped;
+
+import org.example.minispring.annotation.Component;
+import org.example.minispring.annotation.PreDestroy;
+import org.example.minispring.annotation.Scope;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Component
+@Scope("task")
+public class TaskState {
+    public static final AtomicInteger destroyed = new AtomicInteger();
+
+    private int count;
+
+    public int increment() {
+        return ++count;
+    }
+
+    @PreDestroy
+    public void destroy() {
+        destroyed.incrementAndGet();
+    }
+}
@@ -0,0 +1,23 @@
+package org.example.minispring.container.shutdown;
+
+import org.example.minispring.annotation.Component;
+import org.example.minispring.annotation.PreDestroy;
+
+@Component
+public class HungClient {
+    public static volatile boolean hang;
+
+    private final ConnectionPool connectionPool;
+
+    public HungClient(ConnectionPool connectionPool) {
+        this.connectionPool = connectionPool;
+    }
+
+    @PreDestroy
+    public void disconnect() throws InterruptedException {
+        if (hang) {
+            Thread.sleep(60_000);
+        }
+        ShutdownLog.record("hungClient");
+    }
+}
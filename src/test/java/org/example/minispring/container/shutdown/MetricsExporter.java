@@ -0,0 +1,13 @@
+package org.example.minispring.container.shutdown;
+
+import org.example.minispring.annotation.Component;
+import org.example.minispring.annotation.PreDestroy;
+
+@Component
+public class MetricsExporter {
+
+    @PreDestroy
+    public void flush() {
+        ShutdownLog.record(ShutdownLog.awaitPeer() ? "metricsExporter" : "metricsExporter (sequential)");
+    }
+}
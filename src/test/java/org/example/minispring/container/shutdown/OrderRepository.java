@@ -0,0 +1,18 @@
+package org.example.minispring.container.shutdown;
+
+import org.example.minispring.annotation.PreDestroy;
+import org.example.minispring.annotation.Repository;
+
+@Repository
+public class OrderRepository {
+    private final ConnectionPool connectionPool;
+
+    public OrderRepository(ConnectionPool connectionPool) {
+        this.connectionPool = connectionPool;
+    }
+
+    @PreDestroy
+    public void flush() {
+        ShutdownLog.record("orderRepository");
+    }
+}
@@ -0,0 +1,18 @@
+package org.example.minispring.container.shutdown;
+
+import org.example.minispring.annotation.PreDestroy;
+import org.example.minispring.annotation.Service;
+
+@Service
+public class OrderService {
+    private final OrderRepository orderRepository;
+
+    public OrderService(OrderRepository orderRepository) {
+        this.orderRepository = orderRepository;
+    }
+
+    @PreDestroy
+    public void drain() {
+        ShutdownLog.record("orderService");
+    }
+}
@@ -0,0 +1,35 @@
+package org.example.minispring.container.shutdown;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+
+// @PreDestroy 호출 순서 기록 + 두 빈의 정리가 동시에 실행되어야만 통과하는 장벽
+public final class ShutdownLog {
+    public static final List<String> destroyed = Collections.synchronizedList(new ArrayList<>());
+
+    private static volatile CyclicBarrier barrier = new CyclicBarrier(2);
+
+    private ShutdownLog() {
+    }
+
+    public static void reset() {
+        destroyed.clear();
+        barrier = new CyclicBarrier(2);
+    }
+
+    public static void record(String beanName) {
+        destroyed.add(beanName);
+    }
+
+    public static boolean awaitPeer() {
+        try {
+            barrier.await(5, TimeUnit.SECONDS);
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package org.example.minispring.container.snapshot;
+
+import org.example.minispring.annotation.Service;
+import org.example.minispring.annotation.SnapshotSafe;
+
+import java.io.Serializable;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Service
+@SnapshotSafe
+public class FareCalculator implements Serializable {
+    public static final AtomicInteger constructed = new AtomicInteger();
+
+    private final TariffTable tariffTable;
+
+    public FareCalculator(TariffTable tariffTable) {
+        constructed.incrementAndGet();
+        this.tariffTable = tariffTable;
+    }
+
+    public int fare(String zone, int passengers) {
+        return tariffTable.rate(zone) * passengers;
+    }
+
+    public TariffTable getTariffTable() {
+        return tariffTable;
+    }
+}
@@ -0,0 +1,48 @@
+package org.example.minispring.container.snapshot;
+
+import org.example.minispring.annotation.AfterRestore;
+import org.example.minispring.annotation.Component;
+import org.example.minispring.annotation.PostConstruct;
+import org.example.minispring.annotation.SnapshotSafe;
+
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Component
+@SnapshotSafe
+public class TariffTable implements Serializable {
+    public static final AtomicInteger constructed = new AtomicInteger();
+    public static final AtomicInteger initialized = new AtomicInteger();
+    public static final AtomicInteger restored = new AtomicInteger();
+
+    private final Map<String, Integer> rates = new HashMap<>();
+    private transient StringBuilder auditTrail;
+
+    public TariffTable() {
+        constructed.incrementAndGet();
+    }
+
+    @PostConstruct
+    void load() {
+        initialized.incrementAndGet();
+        rates.put("zone-1", 1_250);
+        rates.put("zone-2", 1_850);
+        auditTrail = new StringBuilder("loaded");
+    }
+
+    @AfterRestore
+    void reconnect() {
+        restored.incrementAndGet();
+        auditTrail = new StringBuilder("restored");
+    }
+
+    public int rate(String zone) {
+        return rates.get(zone);
+    }
+
+    public String getAuditTrail() {
+        return auditTrail.toString();
+    }
+}
@@ -0,0 +1,21 @@
+package org.example.minispring.container.snapshot;
+
+import org.example.minispring.annotation.Service;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Service
+public class TicketPrinter {
+    public static final AtomicInteger constructed = new AtomicInteger();
+
+    private final FareCalculator fareCalculator;
+
+    public TicketPrinter(FareCalculator fareCalculator) {
+        constructed.incrementAndGet();
+        this.fareCalculator = fareCalculator;
+    }
+
+    public FareCalculator getFareCalculator() {
+        return fareCalculator;
+    }
+}
@@ -0,0 +1,10 @@
+package org.example.minispring.container.snapshotfail;
+
+import org.example.minispring.annotation.Component;
+import org.example.minispring.annotation.SnapshotSafe;
+
+// Serializable이 아닌 @SnapshotSafe 빈 → 스냅숏 쓰기 실패
+@Component
+@SnapshotSafe
+public class SessionCache {
+}
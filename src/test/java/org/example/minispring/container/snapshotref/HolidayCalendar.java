@@ -0,0 +1,11 @@
+package org.example.minispring.container.snapshotref;
+
+import org.example.minispring.annotation.Component;
+import org.example.minispring.annotation.SnapshotSafe;
+
+import java.io.Serializable;
+
+@Component
+@SnapshotSafe
+public class HolidayCalendar implements Serializable {
+}
@@ -0,0 +1,21 @@
+package org.example.minispring.container.snapshotref;
+
+import org.example.minispring.annotation.Component;
+import org.example.minispring.annotation.SnapshotSafe;
+
+import java.io.Serializable;
+
+// 스냅숏 밖의 ZoneRegistry를 참조 → 저장에서 제외되어야 함
+@Component
+@SnapshotSafe
+public class RouteIndex implements Serializable {
+    private final ZoneRegistry zoneRegistry;
+
+    public RouteIndex(ZoneRegistry zoneRegistry) {
+        this.zoneRegistry = zoneRegistry;
+    }
+
+    public ZoneRegistry getZoneRegistry() {
+        return zoneRegistry;
+    }
+}
@@ -0,0 +1,16 @@
+package org.example.minispring.container.snapshotref;
+
+import org.example.minispring.annotation.Component;
+
+import java.io.Serializable;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 직렬화는 가능하지만 스냅숏 대상이 아닌 singleton
+@Component
+public class ZoneRegistry implements Serializable {
+    public static final AtomicInteger constructed = new AtomicInteger();
+
+    public ZoneRegistry() {
+        constructed.incrementAndGet();
+    }
+}
@@ -0,0 +1,16 @@
+package org.example.minispring.container.steps;
+
+import org.example.minispring.annotation.Component;
+
+@Component
+public class ReportController {
+    private final ReportService reportService;
+
+    public ReportController(ReportService reportService) {
+        this.reportService = reportService;
+    }
+
+    public ReportService getReportService() {
+        return reportService;
+    }
+}
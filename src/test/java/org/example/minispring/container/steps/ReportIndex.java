@@ -0,0 +1,26 @@
+package org.example.minispring.container.steps;
+
+import org.example.minispring.annotation.Component;
+import org.example.minispring.annotation.PostConstruct;
+
+@Component
+public class ReportIndex {
+    public static final int INDEX_BYTES = 8 * 1024 * 1024;
+
+    private byte[] index;
+    private long checksum;
+
+    @PostConstruct
+    void build() {
+        // 무거운 초기화: 큰 할당 + CPU 계산
+        index = new byte[INDEX_BYTES];
+        for (int i = 0; i < index.length; i++) {
+            index[i] = (byte) (i * 31);
+            checksum += index[i];
+        }
+    }
+
+    public long getChecksum() {
+        return checksum;
+    }
+}
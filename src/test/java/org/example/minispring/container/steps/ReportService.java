@@ -0,0 +1,16 @@
+package org.example.minispring.container.steps;
+
+import org.example.minispring.annotation.Service;
+
+@Service
+public class ReportService {
+    private final ReportIndex reportIndex;
+
+    public ReportService(ReportIndex reportIndex) {
+        this.reportIndex = reportIndex;
+    }
+
+    public ReportIndex getReportIndex() {
+        return reportIndex;
+    }
+}
@@ -0,0 +1,30 @@
+package org.example.minispring.container.striped;
+
+import org.example.minispring.annotation.Component;
+import org.example.minispring.annotation.PreDestroy;
+import org.example.minispring.annotation.Scope;
+import org.example.minispring.annotation.Striped;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Component
+@Scope("striped")
+@Striped(stripes = 4)
+public class HitCounter {
+    public static final AtomicInteger destroyed = new AtomicInteger();
+
+    private long hits;
+
+    public synchronized void hit() {
+        hits++;
+    }
+
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    @PreDestroy
+    public void destroy() {
+        destroyed.incrementAndGet();
+    }
+}
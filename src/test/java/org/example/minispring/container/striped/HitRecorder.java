@@ -0,0 +1,16 @@
+package org.example.minispring.container.striped;
+
+import org.example.minispring.annotation.Service;
+
+@Service
+public class HitRecorder {
+    private final HitCounter counter;
+
+    public HitRecorder(HitCounter counter) {
+        this.counter = counter;
+    }
+
+    public void record() {
+        counter.hit();
+    }
+}
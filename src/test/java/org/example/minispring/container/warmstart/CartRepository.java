@@ -0,0 +1,14 @@
+package org.example.minispring.container.warmstart;
+
+import org.example.minispring.annotation.Repository;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Repository
+public class CartRepository {
+    public static final AtomicInteger created = new AtomicInteger();
+
+    public CartRepository() {
+        created.incrementAndGet();
+    }
+}
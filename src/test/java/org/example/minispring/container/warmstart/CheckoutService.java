@@ -0,0 +1,21 @@
+package org.example.minispring.container.warmstart;
+
+import org.example.minispring.annotation.Service;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Service
+public class CheckoutService {
+    public static final AtomicInteger created = new AtomicInteger();
+
+    private final CartRepository cartRepository;
+
+    public CheckoutService(CartRepository cartRepository) {
+        created.incrementAndGet();
+        this.cartRepository = cartRepository;
+    }
+
+    public CartRepository getCartRepository() {
+        return cartRepository;
+    }
+}
@@ -0,0 +1,14 @@
+package org.example.minispring.container.warmstart;
+
+import org.example.minispring.annotation.Component;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Component
+public class ReportingJob {
+    public static final AtomicInteger created = new AtomicInteger();
+
+    public ReportingJob() {
+        created.incrementAndGet();
+    }
+}
@@ -0,0 +1,32 @@
+package org.example.minispring.container.warmstart;
+
+import org.example.minispring.annotation.Component;
+import org.example.minispring.annotation.PreDestroy;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 생성자가 release 전까지 끝나지 않는 빈 (웜 스타트 도중 종료 테스트용)
+@Component
+public class SlowCatalog {
+    public static final AtomicInteger destroyed = new AtomicInteger();
+    public static volatile CountDownLatch entered = new CountDownLatch(1);
+    public static volatile CountDownLatch release = new CountDownLatch(1);
+
+    public SlowCatalog() throws InterruptedException {
+        entered.countDown();
+        release.await(5, TimeUnit.SECONDS);
+    }
+
+    public static void reset() {
+        destroyed.set(0);
+        entered = new CountDownLatch(1);
+        release = new CountDownLatch(1);
+    }
+
+    @PreDestroy
+    public void destroy() {
+        destroyed.incrementAndGet();
+    }
+}
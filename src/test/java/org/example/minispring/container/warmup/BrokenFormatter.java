@@ -0,0 +1,13 @@
+package org.example.minispring.container.warmup;
+
+import org.example.minispring.annotation.Component;
+import org.example.minispring.annotation.WarmUp;
+
+@Component
+public class BrokenFormatter {
+
+    @WarmUp(iterations = 100)
+    void warmUp() {
+        throw new IllegalStateException("template missing");
+    }
+}
@@ -0,0 +1,21 @@
+package org.example.minispring.container.warmup;
+
+import org.example.minispring.annotation.Component;
+import org.example.minispring.annotation.Lazy;
+import org.example.minispring.annotation.WarmUp;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Lazy
+@Component
+public class LazyReportRenderer {
+    public static final AtomicInteger created = new AtomicInteger();
+
+    public LazyReportRenderer() {
+        created.incrementAndGet();
+    }
+
+    @WarmUp(iterations = 10)
+    void warmUp() {
+    }
+}
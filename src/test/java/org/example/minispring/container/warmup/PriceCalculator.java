@@ -0,0 +1,21 @@
+package org.example.minispring.container.warmup;
+
+import org.example.minispring.annotation.Service;
+import org.example.minispring.annotation.WarmUp;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Service
+public class PriceCalculator {
+    public static final AtomicInteger warmUpCalls = new AtomicInteger();
+
+    public long calculate(long amount, int quantity) {
+        return amount * quantity * 110 / 100;
+    }
+
+    @WarmUp(iterations = 500)
+    void warmUp() {
+        warmUpCalls.incrementAndGet();
+        calculate(1_000, 3);
+    }
+}
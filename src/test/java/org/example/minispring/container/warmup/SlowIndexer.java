@@ -0,0 +1,16 @@
+package org.example.minispring.container.warmup;
+
+import org.example.minispring.annotation.Component;
+import org.example.minispring.annotation.WarmUp;
+
+@Component
+public class SlowIndexer {
+    public static volatile boolean slow;
+
+    @WarmUp(iterations = 1_000_000)
+    void warmUp() throws InterruptedException {
+        if (slow) {
+            Thread.sleep(1);
+        }
+    }
+}
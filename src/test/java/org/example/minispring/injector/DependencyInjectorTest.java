@@ -1,11 +1,15 @@
 package org.example.minispring.injector;
 
+import org.example.minispring.annotation.Autowired;
 import org.example.minispring.bean.BeanDefinition;
 import org.example.minispring.container.BeanFactory;
 import org.example.minispring.container.SimpleBeanFactory;
 import org.example.minispring.exception.CircularDependencyException;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class DependencyInjectorTest {
@@ -42,6 +46,66 @@ class DependencyInjectorTest {
         }
     }
 
+    static class FieldInjectedClass {
+        @Autowired
+        private DependencyClass dependency;
+
+        public DependencyClass getDependency() {
+            return dependency;
+        }
+    }
+
+    static class SetterInjectedClass {
+        private DependencyClass dependency;
+
+        @Autowired
+        void setDependency(DependencyClass dependency) {
+            this.dependency = dependency;
+        }
+
+        public DependencyClass getDependency() {
+            return dependency;
+        }
+    }
+
+    static class ChildOfFieldInjectedClass extends FieldInjectedClass {
+        @Autowired
+        private NoDependencyClass other;
+
+        public NoDependencyClass getOther() {
+            return other;
+        }
+    }
+
+    static class AutowiredSetterParent {
+        final List<String> calls = new ArrayList<>();
+
+        @Autowired
+        void setDependency(DependencyClass dependency) {
+            calls.add("parent");
+        }
+    }
+
+    static class AutowiredOverrideChild extends AutowiredSetterParent {
+        @Autowired
+        @Override
+        void setDependency(DependencyClass dependency) {
+            calls.add("child");
+        }
+    }
+
+    static class PlainOverrideChild extends AutowiredSetterParent {
+        @Override
+        void setDependency(DependencyClass dependency) {
+            calls.add("child");
+        }
+    }
+
+    static class FinalFieldInjectedClass {
+        @Autowired
+        private final DependencyClass dependency = null;
+    }
+
     @Test
     void shouldCreateBeanWithNoDependencies() {
         // Given
@@ -92,4 +156,102 @@ class DependencyInjectorTest {
             injector.createBean(definition);
         });
     }
+
+    @Test
+    void shouldInjectAutowiredPrivateField() {
+        // Given
+        BeanFactory beanFactory = new SimpleBeanFactory();
+        beanFactory.registerBeanDefinition(new BeanDefinition("dependencyClass", DependencyClass.class));
+
+        DependencyInjector injector = new DependencyInjector(beanFactory);
+
+        // When
+        FieldInjectedClass bean = (FieldInjectedClass) injector.createBean(
+            new BeanDefinition("fieldInjectedClass", FieldInjectedClass.class)
+        );
+
+        // Then
+        assertSame(beanFactory.getBean("dependencyClass"), bean.getDependency());
+    }
+
+    @Test
+    void shouldInjectAutowiredSetterMethod() {
+        // Given
+        BeanFactory beanFactory = new SimpleBeanFactory();
+        beanFactory.registerBeanDefinition(new BeanDefinition("dependencyClass", DependencyClass.class));
+
+        DependencyInjector injector = new DependencyInjector(beanFactory);
+
+        // When
+        SetterInjectedClass bean = (SetterInjectedClass) injector.createBean(
+            new BeanDefinition("setterInjectedClass", SetterInjectedClass.class)
+        );
+
+        // Then
+        assertSame(beanFactory.getBean("dependencyClass"), bean.getDependency());
+    }
+
+    @Test
+    void shouldInjectFieldsDeclaredInSuperclass() {
+        // Given
+        BeanFactory beanFactory = new SimpleBeanFactory();
+        beanFactory.registerBeanDefinition(new BeanDefinition("dependencyClass", DependencyClass.class));
+        beanFactory.registerBeanDefinition(new BeanDefinition("noDependencyClass", NoDependencyClass.class));
+
+        DependencyInjector injector = new DependencyInjector(beanFactory);
+
+        // When
+        ChildOfFieldInjectedClass bean = (ChildOfFieldInjectedClass) injector.createBean(
+            new BeanDefinition("childOfFieldInjectedClass", ChildOfFieldInjectedClass.class)
+        );
+
+        // Then
+        assertNotNull(bean.getDependency());
+        assertNotNull(bean.getOther());
+    }
+
+    @Test
+    void shouldRejectAutowiredFinalField() {
+        // Given
+        DependencyInjector injector = new DependencyInjector(new SimpleBeanFactory());
+        BeanDefinition definition = new BeanDefinition("finalFieldInjectedClass", FinalFieldInjectedClass.class);
+
+        // When & Then
+        RuntimeException e = assertThrows(RuntimeException.class, () -> injector.createBean(definition));
+        assertInstanceOf(IllegalStateException.class, e.getCause());
+    }
+
+    @Test
+    void shouldInjectOverriddenAutowiredMethodOnce() {
+        // Given
+        BeanFactory beanFactory = new SimpleBeanFactory();
+        beanFactory.registerBeanDefinition(new BeanDefinition("dependencyClass", DependencyClass.class));
+        DependencyInjector injector = new DependencyInjector(beanFactory);
+
+        // When: 부모 / 자식 모두 @Autowired
+        AutowiredOverrideChild bean = (AutowiredOverrideChild) injector.createBean(
+            new BeanDefinition("autowiredOverrideChild", AutowiredOverrideChild.class)
+        );
+
+        // Then: 자식 구현이 한 번만 실행됨
+        assertEquals(List.of("child"), bean.calls);
+        assertEquals(1, InjectionMetadata.forClass(AutowiredOverrideChild.class).getDependencyTypes().length);
+    }
+
+    @Test
+    void shouldSkipAutowiredMethodOverriddenWithoutAnnotation() {
+        // Given
+        BeanFactory beanFactory = new SimpleBeanFactory();
+        beanFactory.registerBeanDefinition(new BeanDefinition("dependencyClass", DependencyClass.class));
+        DependencyInjector injector = new DependencyInjector(beanFactory);
+
+        // When: 자식이 @Autowired 없이 오버라이드
+        PlainOverrideChild bean = (PlainOverrideChild) injector.createBean(
+            new BeanDefinition("plainOverrideChild", PlainOverrideChild.class)
+        );
+
+        // Then: 주입 지점 아님 (Spring과 동일)
+        assertEquals(List.of(), bean.calls);
+        assertTrue(InjectionMetadata.forClass(PlainOverrideChild.class).isEmpty());
+    }
 }
@@ -0,0 +1,123 @@
+package org.example.minispring.lifecycle;
+
+import org.example.minispring.annotation.PostConstruct;
+import org.example.minispring.annotation.PreDestroy;
+import org.example.minispring.bean.ClassMetadata;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LifecycleMetadataTest {
+
+    // 컴포넌트 스캔 대상이 아니도록 @Component 없이 선언
+    static class BaseResource {
+        final List<String> calls = new ArrayList<>();
+
+        @PostConstruct
+        private void openBase() {
+            calls.add("base:open");
+        }
+
+        @PostConstruct
+        void register() {
+            calls.add("base:register");
+        }
+
+        @PreDestroy
+        private void closeBase() {
+            calls.add("base:close");
+        }
+    }
+
+    static class ChildResource extends BaseResource {
+
+        @PostConstruct
+        private void openChild() {
+            calls.add("child:open");
+        }
+
+        // 부모 콜백 오버라이드 → 한 번만 호출 (자식 구현)
+        @Override
+        void register() {
+            calls.add("child:register");
+        }
+
+        @PreDestroy
+        private void closeChild() {
+            calls.add("child:close");
+        }
+
+        @PreDestroy
+        void failingClose() {
+            throw new IllegalStateException("close failed");
+        }
+    }
+
+    static class PlainValue {
+    }
+
+    static class InvalidCallback {
+        @PostConstruct
+        void init(String argument) {
+        }
+    }
+
+    @Test
+    void shouldInvokeCallbacksParentFirstAcrossHierarchy() throws Throwable {
+        // Given
+        ChildResource resource = new ChildResource();
+        LifecycleMetadata metadata = ClassMetadata.forClass(ChildResource.class).getLifecycleMetadata();
+
+        // When
+        metadata.invokePostConstruct(resource);
+
+        // Then: 부모 private → 부모 register(자식 구현) → 자식 private
+        assertEquals(3, resource.calls.size());
+        assertTrue(resource.calls.indexOf("base:open") < resource.calls.indexOf("child:open"));
+        assertTrue(resource.calls.contains("child:register"));
+        assertFalse(resource.calls.contains("base:register"));
+    }
+
+    @Test
+    void shouldInvokeRemainingPreDestroyCallbacksWhenOneFails() {
+        // Given
+        ChildResource resource = new ChildResource();
+        LifecycleMetadata metadata = ClassMetadata.forClass(ChildResource.class).getLifecycleMetadata();
+
+        // When
+        List<Throwable> failures = metadata.invokePreDestroy(resource);
+
+        // Then
+        assertEquals(1, failures.size());
+        assertTrue(resource.calls.indexOf("base:close") < resource.calls.indexOf("child:close"));
+    }
+
+    @Test
+    void shouldShareEmptyMetadataForClassesWithoutCallbacks() {
+        // When
+        LifecycleMetadata plain = LifecycleMetadata.forClass(PlainValue.class);
+
+        // Then
+        assertFalse(plain.hasPostConstruct());
+        assertFalse(plain.hasPreDestroy());
+        assertSame(plain, LifecycleMetadata.forClass(String.class));
+    }
+
+    @Test
+    void shouldRejectCallbacksWithParameters() {
+        // When & Then
+        assertThrows(IllegalStateException.class, () -> LifecycleMetadata.forClass(InvalidCallback.class));
+    }
+
+    @Test
+    void shouldCacheMetadataPerClass() {
+        // When
+        ClassMetadata metadata = ClassMetadata.forClass(ChildResource.class);
+
+        // Then
+        assertSame(metadata.getLifecycleMetadata(), metadata.getLifecycleMetadata());
+    }
+}
@@ -0,0 +1,145 @@
+package org.example.minispring.log;
+
+import org.example.minispring.annotation.PreDestroy;
+import org.example.minispring.lifecycle.BeanLifecycleManager;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AsyncContainerLoggerTest {
+
+    @Test
+    void shouldFormatParameterizedMessagesOnWriterThread() {
+        // Given
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        AsyncContainerLogger logger = new AsyncContainerLogger(LogLevel.INFO, 16, new PrintStream(buffer, true));
+
+        // When
+        logger.info("Bean {} created in {}ms", "orderService", 12);
+        logger.warn("Shutdown failed for {}", "cache", new IllegalStateException("boom"));
+        assertTrue(logger.flush(Duration.ofSeconds(5)));
+
+        // Then
+        String output = buffer.toString(StandardCharsets.UTF_8);
+        assertTrue(output.contains("INFO  [" + Thread.currentThread().getName() + "] Bean orderService created in 12ms"));
+        assertTrue(output.contains("WARN  [" + Thread.currentThread().getName() + "] Shutdown failed for cache"));
+        assertTrue(output.contains("java.lang.IllegalStateException: boom"));
+    }
+
+    @Test
+    void shouldNotFormatDisabledMessages() {
+        // Given
+        AsyncContainerLogger logger = new AsyncContainerLogger(LogLevel.INFO, 16, new PrintStream(OutputStream.nullOutputStream()));
+        CountingArgument argument = new CountingArgument();
+
+        // When
+        logger.debug("created {}", argument);
+        logger.info("created {}", argument);
+        logger.flush(Duration.ofSeconds(5));
+
+        // Then: DEBUG 메시지는 버퍼에 들어가지도, 포맷되지도 않음
+        assertFalse(logger.isEnabled(LogLevel.DEBUG));
+        assertEquals(1, argument.formatted.get());
+    }
+
+    @Test
+    void shouldDropInsteadOfBlockingWhenBufferIsFull() throws InterruptedException {
+        // Given: 출력 스레드가 첫 메시지 출력에서 멈춤
+        CountDownLatch release = new CountDownLatch(1);
+        PrintStream blocked = new PrintStream(new OutputStream() {
+            @Override
+            public void write(int b) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        });
+        AsyncContainerLogger logger = new AsyncContainerLogger(LogLevel.INFO, 4, blocked);
+
+        // When
+        long start = System.nanoTime();
+        for (int i = 0; i < 100; i++) {
+            logger.info("message {}", i);
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // Then: 호출 스레드는 기다리지 않고, 넘친 메시지는 버려짐
+        assertTrue(elapsedMillis < 1_000, "logging blocked for " + elapsedMillis + "ms");
+        assertTrue(logger.getDroppedCount() >= 100 - 2 * logger.getCapacity());
+        release.countDown();
+        assertTrue(logger.flush(Duration.ofSeconds(5)));
+    }
+
+    @Test
+    void shouldRouteContainerDiagnosticsThroughPluggedLogger() {
+        // Given
+        RecordingLogger recording = new RecordingLogger();
+        ContainerLogger previous = ContainerLogging.setLogger(recording);
+
+        try {
+            // When
+            new BeanLifecycleManager().invokePreDestroy(new FailingResource());
+
+            // Then
+            assertEquals(List.of("DEBUG @PreDestroy called: {}", "ERROR {}"), recording.messages);
+            assertInstanceOf(IllegalStateException.class, recording.failures.get(0));
+        } finally {
+            ContainerLogging.setLogger(previous);
+        }
+    }
+
+    @Test
+    void shouldFormatPlaceholdersInOrder() {
+        assertEquals("a=1, b=2", MessageFormatter.format("a={}, b={}", 1, 2));
+        assertEquals("a=1, b={}", MessageFormatter.format("a={}, b={}", 1));
+        assertEquals("no args", MessageFormatter.format("no args", "extra"));
+    }
+
+    private static final class CountingArgument {
+        private final AtomicInteger formatted = new AtomicInteger();
+
+        @Override
+        public String toString() {
+            formatted.incrementAndGet();
+            return "argument";
+        }
+    }
+
+    private static final class FailingResource {
+        @PreDestroy
+        void close() {
+            throw new IllegalStateException("cannot close");
+        }
+    }
+
+    private static final class RecordingLogger implements ContainerLogger {
+        private final List<String> messages = new ArrayList<>();
+        private final List<Throwable> failures = new ArrayList<>();
+
+        @Override
+        public boolean isEnabled(LogLevel level) {
+            return true;
+        }
+
+        @Override
+        public synchronized void log(LogLevel level, String pattern, Object[] args, Throwable failure) {
+            messages.add(level + " " + pattern);
+            if (failure != null) {
+                failures.add(failure);
+            }
+        }
+    }
+}
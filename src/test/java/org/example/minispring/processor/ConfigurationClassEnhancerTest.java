@@ -0,0 +1,103 @@
+package org.example.minispring.processor;
+
+import org.example.minispring.container.AnnotationConfigApplicationContext;
+import org.example.minispring.container.ApplicationContext;
+import org.example.minispring.processor.testdata.early.EarlyCallConfig;
+import org.example.minispring.processor.testdata.early.Registry;
+import org.example.minispring.processor.testdata.full.ConnectionPool;
+import org.example.minispring.processor.testdata.full.FullModeConfig;
+import org.example.minispring.processor.testdata.full.PoolClient;
+import org.example.minispring.processor.testdata.lite.LiteModeConfig;
+import org.example.minispring.processor.testdata.lite.LitePool;
+import org.example.minispring.processor.testdata.lite.LitePoolClient;
+import org.example.minispring.proxy.ProxyObject;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConfigurationClassEnhancerTest {
+
+    @Test
+    void shouldReturnContainerSingletonForInterBeanMethodCall() {
+        // Given
+        ApplicationContext context = new AnnotationConfigApplicationContext(
+            "org.example.minispring.processor.testdata.full"
+        );
+
+        // When
+        PoolClient client = context.getBean(PoolClient.class);
+        ConnectionPool pool = context.getBean(ConnectionPool.class);
+
+        // Then
+        assertSame(pool, client.getPool());
+    }
+
+    @Test
+    void shouldRouteDirectCallOnConfigurationInstanceToContainer() {
+        // Given
+        ApplicationContext context = new AnnotationConfigApplicationContext(
+            "org.example.minispring.processor.testdata.full"
+        );
+
+        // When
+        FullModeConfig config = context.getBean(FullModeConfig.class);
+
+        // Then
+        assertInstanceOf(ProxyObject.class, config);
+        assertSame(context.getBean(ConnectionPool.class), config.connectionPool());
+    }
+
+    @Test
+    void shouldShareEnhancedClassAcrossContexts() {
+        // Given
+        ApplicationContext first = new AnnotationConfigApplicationContext(
+            "org.example.minispring.processor.testdata.full"
+        );
+        ApplicationContext second = new AnnotationConfigApplicationContext(
+            "org.example.minispring.processor.testdata.full"
+        );
+
+        // When
+        FullModeConfig firstConfig = first.getBean(FullModeConfig.class);
+        FullModeConfig secondConfig = second.getBean(FullModeConfig.class);
+
+        // Then
+        assertSame(firstConfig.getClass(), secondConfig.getClass());
+        assertNotSame(firstConfig.connectionPool(), secondConfig.connectionPool());
+    }
+
+    @Test
+    void shouldRunOriginalBodyForCallsBeforeBinding() {
+        // Given: 생성자와 @Autowired 메서드에서 @Bean 메서드를 호출하는 설정 클래스
+        ApplicationContext context = new AnnotationConfigApplicationContext(
+            "org.example.minispring.processor.testdata.early"
+        );
+
+        // When
+        EarlyCallConfig config = context.getBean(EarlyCallConfig.class);
+        Registry registry = context.getBean(Registry.class);
+
+        // Then: 연결 전 호출은 캐시되지 않은 인스턴스, 연결 후 호출은 컨테이너 싱글톤
+        assertNotNull(config.getConstructed());
+        assertNotNull(config.getInjected());
+        assertNotSame(registry, config.getConstructed());
+        assertNotSame(registry, config.getInjected());
+        assertSame(registry, config.registry());
+    }
+
+    @Test
+    void shouldSkipEnhancementInLiteMode() {
+        // Given
+        ApplicationContext context = new AnnotationConfigApplicationContext(
+            "org.example.minispring.processor.testdata.lite"
+        );
+
+        // When
+        LiteModeConfig config = context.getBean(LiteModeConfig.class);
+        LitePoolClient client = context.getBean(LitePoolClient.class);
+
+        // Then
+        assertSame(LiteModeConfig.class, config.getClass());
+        assertNotSame(context.getBean(LitePool.class), client.getPool());
+    }
+}
@@ -0,0 +1,7 @@
+package org.example.minispring.processor.testdata.early;
+
+import org.example.minispring.annotation.Component;
+
+@Component
+public class Clock {
+}
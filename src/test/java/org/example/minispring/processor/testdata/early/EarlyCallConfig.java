@@ -0,0 +1,34 @@
+package org.example.minispring.processor.testdata.early;
+
+import org.example.minispring.annotation.Autowired;
+import org.example.minispring.annotation.Bean;
+import org.example.minispring.annotation.Configuration;
+
+@Configuration
+public class EarlyCallConfig {
+
+    private final Registry constructed;
+    private Registry injected;
+
+    public EarlyCallConfig() {
+        this.constructed = registry();
+    }
+
+    @Autowired
+    public void setClock(Clock clock) {
+        this.injected = registry();
+    }
+
+    @Bean
+    public Registry registry() {
+        return new Registry();
+    }
+
+    public Registry getConstructed() {
+        return constructed;
+    }
+
+    public Registry getInjected() {
+        return injected;
+    }
+}
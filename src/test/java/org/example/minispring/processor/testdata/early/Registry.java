@@ -0,0 +1,4 @@
+package org.example.minispring.processor.testdata.early;
+
+public class Registry {
+}
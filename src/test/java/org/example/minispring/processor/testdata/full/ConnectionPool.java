@@ -0,0 +1,4 @@
+package org.example.minispring.processor.testdata.full;
+
+public class ConnectionPool {
+}
@@ -0,0 +1,18 @@
+package org.example.minispring.processor.testdata.full;
+
+import org.example.minispring.annotation.Bean;
+import org.example.minispring.annotation.Configuration;
+
+@Configuration
+public class FullModeConfig {
+
+    @Bean
+    public ConnectionPool connectionPool() {
+        return new ConnectionPool();
+    }
+
+    @Bean
+    public PoolClient poolClient() {
+        return new PoolClient(connectionPool());
+    }
+}
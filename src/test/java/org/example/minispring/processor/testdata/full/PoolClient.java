@@ -0,0 +1,13 @@
+package org.example.minispring.processor.testdata.full;
+
+public class PoolClient {
+    private final ConnectionPool pool;
+
+    public PoolClient(ConnectionPool pool) {
+        this.pool = pool;
+    }
+
+    public ConnectionPool getPool() {
+        return pool;
+    }
+}
@@ -0,0 +1,18 @@
+package org.example.minispring.processor.testdata.lite;
+
+import org.example.minispring.annotation.Bean;
+import org.example.minispring.annotation.Configuration;
+
+@Configuration(proxyBeanMethods = false)
+public class LiteModeConfig {
+
+    @Bean
+    public LitePool litePool() {
+        return new LitePool();
+    }
+
+    @Bean
+    public LitePoolClient litePoolClient() {
+        return new LitePoolClient(litePool());
+    }
+}
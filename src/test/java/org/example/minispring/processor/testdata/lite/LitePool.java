@@ -0,0 +1,4 @@
+package org.example.minispring.processor.testdata.lite;
+
+public class LitePool {
+}
@@ -0,0 +1,13 @@
+package org.example.minispring.processor.testdata.lite;
+
+public class LitePoolClient {
+    private final LitePool pool;
+
+    public LitePoolClient(LitePool pool) {
+        this.pool = pool;
+    }
+
+    public LitePool getPool() {
+        return pool;
+    }
+}
@@ -4,6 +4,7 @@ import org.example.minispring.bean.BeanDefinition;
 import org.junit.jupiter.api.Test;
 
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -44,6 +45,26 @@ class ComponentScannerTest {
                 .anyMatch(bd -> bd.getBeanName().equals("serviceClass")));
     }
 
+    @Test
+    void shouldSeparateComponentsFromOtherLoadedClasses() {
+        // Given
+        ComponentScanner scanner = new ComponentScanner();
+        String basePackage = "org.example.minispring.scanner.testdata";
+
+        // When
+        ComponentScanner.Candidates candidates = scanner.findCandidates(basePackage);
+
+        // Then: 컴포넌트 여부는 클래스 파일 메타데이터로 미리 판별됨
+        Set<String> loaded = candidates.getClasses().stream()
+                .map(Class::getSimpleName)
+                .collect(Collectors.toSet());
+        Set<String> components = candidates.getComponents().stream()
+                .map(Class::getSimpleName)
+                .collect(Collectors.toSet());
+        assertTrue(loaded.contains("PlainClass"));
+        assertEquals(Set.of("ComponentClass", "ServiceClass"), components);
+    }
+
     @Test
     void shouldReturnEmptySetForNonComponentPackage() {
         // Given
@@ -0,0 +1,180 @@
+package org.example.minispring.test;
+
+import org.example.minispring.container.AnnotationConfigApplicationContext;
+import org.example.minispring.container.ContextOptions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ContextCacheTest {
+
+    private static final String BASE_PACKAGE = "org.example.minispring.container.testdata";
+
+    private final AtomicInteger created = new AtomicInteger();
+
+    private ContextCache newCache(int maxSize) {
+        return new ContextCache(maxSize, key -> {
+            created.incrementAndGet();
+            return new AnnotationConfigApplicationContext(key.getBasePackage(), key.toOptions());
+        });
+    }
+
+    private static ContextKey key(String... profiles) {
+        return new ContextKey(BASE_PACKAGE, List.of(profiles), Map.of(), false);
+    }
+
+    @Test
+    void shouldReuseContextForSameKey() {
+        // Given
+        ContextCache cache = newCache(4);
+
+        // When
+        AnnotationConfigApplicationContext first = cache.get(key("a"));
+        AnnotationConfigApplicationContext second = cache.get(key("a"));
+
+        // Then
+        assertSame(first, second);
+        assertEquals(1, created.get());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+        cache.close();
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedContext() {
+        // Given
+        ContextCache cache = newCache(2);
+        cache.get(key("a"));
+        cache.get(key("b"));
+        cache.get(key("a"));  // "a"가 최근 사용 → "b"가 가장 오래됨
+
+        // When
+        cache.get(key("c"));
+
+        // Then
+        assertEquals(2, cache.size());
+        assertTrue(cache.contains(key("a")));
+        assertFalse(cache.contains(key("b")));
+        assertTrue(cache.contains(key("c")));
+        cache.close();
+    }
+
+    @Test
+    void shouldRecreateContextAfterRemove() {
+        // Given
+        ContextCache cache = newCache(4);
+        AnnotationConfigApplicationContext dirty = cache.get(key());
+
+        // When
+        assertTrue(cache.remove(key()));
+        AnnotationConfigApplicationContext fresh = cache.get(key());
+
+        // Then
+        assertNotSame(dirty, fresh);
+        assertEquals(2, created.get());
+        assertFalse(cache.remove(key("unknown")));
+        cache.close();
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void shouldNotBlockOtherKeysWhileCreatingContext() throws Exception {
+        // Given: "slow" 키의 생성이 latch에서 멈춰 있음
+        CountDownLatch slowStarted = new CountDownLatch(1);
+        CountDownLatch releaseSlow = new CountDownLatch(1);
+        ContextCache cache = new ContextCache(4, key -> {
+            created.incrementAndGet();
+            if (key.equals(key("slow"))) {
+                slowStarted.countDown();
+                await(releaseSlow);
+            }
+            return new AnnotationConfigApplicationContext(key.getBasePackage(), key.toOptions());
+        });
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<AnnotationConfigApplicationContext> slow = executor.submit(() -> cache.get(key("slow")));
+            assertTrue(slowStarted.await(5, TimeUnit.SECONDS));
+            Future<AnnotationConfigApplicationContext> waiter = executor.submit(() -> cache.get(key("slow")));
+
+            // When: 다른 키는 생성 중인 키를 기다리지 않음
+            AnnotationConfigApplicationContext other = cache.get(key("a"));
+
+            // Then
+            assertNotNull(other);
+            assertFalse(slow.isDone());
+            releaseSlow.countDown();
+            assertSame(slow.get(5, TimeUnit.SECONDS), waiter.get(5, TimeUnit.SECONDS));
+            assertEquals(2, created.get());  // 같은 키를 동시에 조회해도 한 번만 생성
+            assertEquals(1, cache.getHitCount());
+        } finally {
+            releaseSlow.countDown();
+            executor.shutdownNow();
+            cache.close();
+        }
+    }
+
+    @Test
+    void shouldRetryCreationAfterFailure() {
+        // Given: 첫 생성만 실패
+        ContextCache cache = new ContextCache(4, key -> {
+            if (created.incrementAndGet() == 1) {
+                throw new IllegalStateException("boom");
+            }
+            return new AnnotationConfigApplicationContext(key.getBasePackage(), key.toOptions());
+        });
+
+        // When
+        assertThrows(IllegalStateException.class, () -> cache.get(key("a")));
+        AnnotationConfigApplicationContext context = cache.get(key("a"));
+
+        // Then: 실패한 future는 남지 않음
+        assertNotNull(context);
+        assertEquals(2, created.get());
+        assertEquals(1, cache.size());
+        cache.close();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Test
+    void shouldBuildEqualKeysFromEquivalentAnnotations() {
+        // Given: 프로퍼티 선언 순서만 다름
+        ContextKey first = ContextKey.of(Annotated.class.getAnnotation(MiniSpringTest.class));
+        ContextKey second = ContextKey.of(Reordered.class.getAnnotation(MiniSpringTest.class));
+
+        // Then
+        assertEquals(first, second);
+        assertEquals(first.hashCode(), second.hashCode());
+        ContextOptions options = first.toOptions();
+        assertEquals(Map.of("x", "1", "y", "2"), options.getProperties());
+        assertEquals(List.of("dev"), options.getActiveProfiles());
+    }
+
+    @Test
+    void shouldRejectInvalidMaxSize() {
+        assertThrows(IllegalArgumentException.class, () -> newCache(0));
+    }
+
+    @MiniSpringTest(value = BASE_PACKAGE, activeProfiles = "dev", properties = {"x=1", "y=2"})
+    private static class Annotated {
+    }
+
+    @MiniSpringTest(value = BASE_PACKAGE, activeProfiles = "dev", properties = {"y = 2", "x=1"})
+    private static class Reordered {
+    }
+}
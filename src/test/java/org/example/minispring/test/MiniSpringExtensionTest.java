@@ -0,0 +1,75 @@
+package org.example.minispring.test;
+
+import org.example.minispring.annotation.Autowired;
+import org.example.minispring.container.ApplicationContext;
+import org.example.minispring.container.testdata.DependentService;
+import org.example.minispring.container.testdata.TestService;
+import org.example.minispring.container.testdata.UserDao;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@MiniSpringTest("org.example.minispring.container.testdata")
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class MiniSpringExtensionTest {
+
+    private static final AtomicReference<ApplicationContext> firstContext = new AtomicReference<>();
+
+    @Autowired
+    private TestService testService;
+
+    private final DependentService dependentService;
+
+    MiniSpringExtensionTest(DependentService dependentService) {
+        this.dependentService = dependentService;
+    }
+
+    @Test
+    @Order(1)
+    void shouldInjectFieldsAndConstructorParameters(ApplicationContext context) {
+        // Then: 필드 / 생성자 / 메서드 파라미터 모두 같은 컨텍스트의 빈
+        firstContext.set(context);
+        assertSame(context.getBean(TestService.class), testService);
+        assertSame(context.getBean(DependentService.class), dependentService);
+        assertSame(testService, dependentService.getTestService());
+    }
+
+    @Test
+    @Order(2)
+    @DirtiesContext
+    void shouldReuseCachedContextAcrossTestInstances(ApplicationContext context, UserDao userDao, TestInfo info) {
+        // Then: 테스트 인스턴스는 새로 만들어지지만 컨텍스트는 재사용
+        assertSame(firstContext.get(), context);
+        assertSame(context.getBean(UserDao.class), userDao);
+        assertNotNull(info.getDisplayName());  // 다른 확장의 파라미터와 함께 사용 가능
+    }
+
+    @Test
+    @Order(3)
+    void shouldCreateNewContextAfterDirtiesContext(ApplicationContext context) {
+        // Then: 이전 테스트의 @DirtiesContext로 컨텍스트가 교체됨
+        assertNotSame(firstContext.get(), context);
+        assertNotSame(firstContext.get().getBean(TestService.class), testService);
+    }
+
+    @Nested
+    class NestedTest {
+
+        @Autowired
+        private TestService nestedService;
+
+        @Test
+        void shouldShareContextOfEnclosingClass(ApplicationContext context) {
+            // Then: 바깥 클래스의 @MiniSpringTest 설정을 사용
+            assertSame(context.getBean(TestService.class), nestedService);
+            assertSame(nestedService, testService);
+        }
+    }
+}